@@ -0,0 +1,176 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.stats.Stats;
+import io.opencensus.trace.Tracing;
+import io.opencensus.trace.config.TraceConfig;
+import io.opencensus.trace.samplers.Samplers;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Tuple;
+
+/**
+ * Compares the cost of the commands of {@link OcWrapJedis} with those of a plain {@link Jedis},
+ * against an {@link EmbeddedRedisServer}.
+ *
+ * <p>Run with {@code ./gradlew jmh} for the opencensus-impl backend and {@code ./gradlew jmhNoop}
+ * for the no-op one. With opencensus-impl, every span is sampled and every view is registered, so
+ * the numbers are those of fully instrumented calls.
+ *
+ * <p>The {@code ocjedis-aggregated} client enables striped aggregation, see {@link
+ * Observability#enableStripedAggregation}, so its numbers are those of the calling thread when the
+ * recording of successful calls is left to the background flusher.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class OcWrapJedisBenchmark {
+  private static final String STRING_KEY = "string";
+  private static final String HASH_KEY = "hash";
+  private static final String ZSET_KEY = "zset";
+  private static final String[] KEYS = {"string0", "string1", "string2", "string3", "string4"};
+
+  /** The server and its data, shared by the benchmark threads. */
+  @State(Scope.Benchmark)
+  public static class Server {
+    @Param({"64"})
+    public int valueSize;
+
+    @Param({"16"})
+    public int collectionSize;
+
+    EmbeddedRedisServer server;
+    String value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      TraceConfig traceConfig = Tracing.getTraceConfig();
+      traceConfig.updateActiveTraceParams(
+          traceConfig
+              .getActiveTraceParams()
+              .toBuilder()
+              .setSampler(Samplers.alwaysSample())
+              .build());
+      Observability.registerAllViews(Stats.getViewManager());
+      server = new EmbeddedRedisServer();
+
+      char[] chars = new char[valueSize];
+      Arrays.fill(chars, 'v');
+      value = new String(chars);
+      try (Jedis jedis = new Jedis(server.getHost(), server.getPort())) {
+        jedis.set(STRING_KEY, value);
+        for (String key : KEYS) {
+          jedis.set(key, value);
+        }
+        for (int i = 0; i < collectionSize; i++) {
+          jedis.hset(HASH_KEY, "field" + i, value);
+          jedis.zadd(ZSET_KEY, i, "member" + i);
+        }
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      server.close();
+    }
+  }
+
+  /** The striped aggregation shared by the benchmark threads, enabled by the first of them. */
+  @State(Scope.Benchmark)
+  public static class Aggregation {
+    private boolean enabled;
+
+    synchronized void enable() {
+      if (enabled) return;
+      Observability.enableStripedAggregation(1, TimeUnit.SECONDS);
+      enabled = true;
+    }
+
+    @TearDown(Level.Trial)
+    public synchronized void tearDown() {
+      if (enabled) Observability.disableStripedAggregation();
+      enabled = false;
+    }
+  }
+
+  /** A connection per benchmark thread, plain, instrumented, or instrumented and aggregated. */
+  @State(Scope.Thread)
+  public static class Client {
+    @Param({"jedis", "ocjedis", "ocjedis-aggregated"})
+    public String client;
+
+    Jedis jedis;
+
+    @Setup(Level.Trial)
+    public void setUp(Server server, Aggregation aggregation) {
+      String host = server.server.getHost();
+      int port = server.server.getPort();
+      if (client.equals("ocjedis-aggregated")) aggregation.enable();
+      jedis = client.startsWith("ocjedis") ? new OcWrapJedis(host, port) : new Jedis(host, port);
+      jedis.connect();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      jedis.close();
+    }
+  }
+
+  @Benchmark
+  public String get(Client client) {
+    return client.jedis.get(STRING_KEY);
+  }
+
+  @Benchmark
+  public String set(Server server, Client client) {
+    return client.jedis.set(STRING_KEY, server.value);
+  }
+
+  @Benchmark
+  public List<String> mget(Client client) {
+    return client.jedis.mget(KEYS);
+  }
+
+  @Benchmark
+  public Map<String, String> hgetAll(Client client) {
+    return client.jedis.hgetAll(HASH_KEY);
+  }
+
+  @Benchmark
+  public Set<Tuple> zrangeWithScores(Client client) {
+    return client.jedis.zrangeWithScores(ZSET_KEY, 0, -1);
+  }
+}
@@ -0,0 +1,78 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts the {@code COUNT} hint of the pages of an {@link OcScanIterator} so that each page takes
+ * about a target latency.
+ *
+ * <p>After every page, the count is scaled by the ratio of the target latency to the latency of the
+ * page, as measured for the {@code SCAN} call, so that a scan makes as few round trips as the
+ * target allows without holding the server up much longer than that per page. The count changes by
+ * a factor of 2 at most from one page to the next, which damps the outliers, and stays between
+ * {@code minCount} and {@code maxCount}. The iteration starts from the count of its {@code
+ * ScanParams}, or else from {@code minCount}.
+ */
+public final class AdaptiveScanCount {
+  private static final int DEFAULT_MIN_COUNT = 10;
+  private static final int DEFAULT_MAX_COUNT = 10000;
+  private static final double MAX_STEP = 2;
+  // Latencies within this fraction of the target keep the count as it is.
+  private static final double TOLERANCE = 0.1;
+
+  private final long targetLatencyNs;
+  private final int minCount;
+  private final int maxCount;
+
+  private AdaptiveScanCount(long targetLatencyNs, int minCount, int maxCount) {
+    this.targetLatencyNs = targetLatencyNs;
+    this.minCount = minCount;
+    this.maxCount = maxCount;
+  }
+
+  /** Targets pages of about targetLatency each, with a count from 10 to 10000. */
+  public static AdaptiveScanCount create(long targetLatency, TimeUnit unit) {
+    return create(targetLatency, unit, DEFAULT_MIN_COUNT, DEFAULT_MAX_COUNT);
+  }
+
+  /** Targets pages of about targetLatency each, with a count from minCount to maxCount. */
+  public static AdaptiveScanCount create(
+      long targetLatency, TimeUnit unit, int minCount, int maxCount) {
+    if (targetLatency <= 0) throw new IllegalArgumentException("targetLatency must be positive");
+    if (minCount < 1 || maxCount < minCount) {
+      throw new IllegalArgumentException("counts must satisfy 1 <= minCount <= maxCount");
+    }
+    return new AdaptiveScanCount(unit.toNanos(targetLatency), minCount, maxCount);
+  }
+
+  // Returns the count of the first page, given the count of the ScanParams, 0 if it had none.
+  int initialCount(int requested) {
+    return clamp(requested > 0 ? requested : minCount);
+  }
+
+  // Returns the count of the next page, given that a page requested with count took latencyNs.
+  int adjust(int count, long latencyNs) {
+    double ratio = (double) targetLatencyNs / Math.max(1, latencyNs);
+    if (Math.abs(ratio - 1) <= TOLERANCE) return count;
+    ratio = Math.max(1 / MAX_STEP, Math.min(MAX_STEP, ratio));
+    return clamp((int) Math.round(count * ratio));
+  }
+
+  private int clamp(int count) {
+    return Math.max(minCount, Math.min(maxCount, count));
+  }
+}
@@ -0,0 +1,130 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import javax.annotation.Nullable;
+
+// CommandDescriptor is the immutable, per-command state that every call of a wrapped method shares:
+// the span name, the METHOD tag value, the metadata of the Redis command it sends, the tag contexts
+// recorded for successful calls and for the bytes they transfer, and the span sampling of the
+// command. They are resolved once instead of on every call.
+final class CommandDescriptor {
+  private final String method;
+  private final TagValue methodTagValue;
+  private final CommandMetadata metadata;
+
+  // Lazily built and then shared; racing threads build equivalent contexts so the race is benign.
+  @Nullable private volatile CachedTagContexts tagContexts;
+  @Nullable private volatile SpanSampling.CommandSampling sampling;
+
+  private CommandDescriptor(String method) {
+    this.method = method;
+    this.methodTagValue = TagValue.create(method);
+    this.metadata = CommandMetadata.forMethod(method);
+  }
+
+  static CommandDescriptor create(String method) {
+    return new CommandDescriptor(method);
+  }
+
+  // The span name and the value of the METHOD tag.
+  String getMethod() {
+    return method;
+  }
+
+  TagValue getMethodTagValue() {
+    return methodTagValue;
+  }
+
+  // The metadata of the Redis command sent by the method, CommandMetadata.OTHER if it sends none.
+  CommandMetadata getMetadata() {
+    return metadata;
+  }
+
+  // Returns the tag context, METHOD, COMMAND_KIND and STATUS=OK, recorded against successful calls.
+  TagContext okTagContext(Tagger tagger) {
+    return tagContexts(tagger).ok;
+  }
+
+  // Returns the tag context, METHOD, COMMAND_KIND and DIRECTION=write, of the bytes written by
+  // calls.
+  TagContext writeTagContext(Tagger tagger) {
+    return tagContexts(tagger).write;
+  }
+
+  // Returns the tag context, METHOD, COMMAND_KIND and DIRECTION=read, of the bytes read by calls.
+  TagContext readTagContext(Tagger tagger) {
+    return tagContexts(tagger).read;
+  }
+
+  private CachedTagContexts tagContexts(Tagger tagger) {
+    CachedTagContexts cached = tagContexts;
+    if (cached == null || cached.tagger != tagger) {
+      cached = new CachedTagContexts(tagger, methodTagValue, metadata.getKindTagValue());
+      tagContexts = cached;
+    }
+    return cached;
+  }
+
+  // Returns the sampling of this command under spanSampling.
+  SpanSampling.CommandSampling sampling(SpanSampling spanSampling) {
+    SpanSampling.CommandSampling cached = sampling;
+    if (cached == null || cached.getOwner() != spanSampling) {
+      cached = spanSampling.resolve(method);
+      sampling = cached;
+    }
+    return cached;
+  }
+
+  @Override
+  public String toString() {
+    return method;
+  }
+
+  private static final class CachedTagContexts {
+    private final Tagger tagger;
+    private final TagContext ok;
+    private final TagContext write;
+    private final TagContext read;
+
+    private CachedTagContexts(Tagger tagger, TagValue methodTagValue, TagValue kindTagValue) {
+      this.tagger = tagger;
+      this.ok =
+          tagger
+              .emptyBuilder()
+              .put(Observability.METHOD, methodTagValue)
+              .put(Observability.COMMAND_KIND, kindTagValue)
+              .put(Observability.STATUS, Observability.VALUE_OK)
+              .build();
+      this.write =
+          tagger
+              .emptyBuilder()
+              .put(Observability.METHOD, methodTagValue)
+              .put(Observability.COMMAND_KIND, kindTagValue)
+              .put(Observability.DIRECTION, Observability.VALUE_WRITE)
+              .build();
+      this.read =
+          tagger
+              .emptyBuilder()
+              .put(Observability.METHOD, methodTagValue)
+              .put(Observability.COMMAND_KIND, kindTagValue)
+              .put(Observability.DIRECTION, Observability.VALUE_READ)
+              .build();
+    }
+  }
+}
@@ -0,0 +1,419 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// CommandMetadata describes a Redis command: whether it only reads data, writes it, administers the
+// server or blocks the connection until data arrives, and where its keys are among its arguments.
+// The table below covers every command that a wrapped method sends, and resolves the methods by
+// their name, e.g. Jedis.zrangeByScoreWithScores to ZRANGEBYSCORE, so that the tags, routing and
+// caching decisions of a command all read the same description.
+//
+// Key positions follow the key specifications of Redis's COMMAND: the first and the last key, 1
+// being the first argument and -1 the last one, and the step between keys. Commands whose keys
+// depend on their arguments, e.g. EVAL with its numkeys, only declare their fixed keys and are
+// marked as having movable keys.
+final class CommandMetadata {
+  static final TagValue VALUE_READ = TagValue.create("read");
+  static final TagValue VALUE_WRITE = TagValue.create("write");
+  static final TagValue VALUE_ADMIN = TagValue.create("admin");
+  static final TagValue VALUE_BLOCKING = TagValue.create("blocking");
+  static final TagValue VALUE_OTHER = TagValue.create("other");
+
+  // The metadata of the methods that send no command of their own, or many different ones.
+  static final CommandMetadata OTHER =
+      new CommandMetadata(null, VALUE_OTHER, false, 0, 0, 0, false);
+
+  private static final Map<String, CommandMetadata> COMMANDS =
+      new HashMap<String, CommandMetadata>();
+
+  // The prefixes of the methods named after the command they send.
+  private static final String[] METHOD_PREFIXES = {
+    "redis.clients.jedis.Jedis.",
+    "redis.clients.jedis.BinaryJedis.",
+    "io.orijtech.integrations.ocjedis.OcAsyncJedis.",
+    "io.orijtech.integrations.ocjedis.OcNearCache.",
+    "io.orijtech.integrations.ocjedis.OcJedisCluster.",
+    "io.orijtech.integrations.ocjedis.OcScanIterator."
+  };
+
+  // The pipelined commands are named after the Redis command itself, unlike the methods of the
+  // Pipeline, e.g. Pipeline.sync.
+  private static final String PIPELINE_PREFIX = "redis.clients.jedis.Pipeline.";
+
+  // The command families whose subcommands are separate methods, e.g. Jedis.clusterNodes.
+  private static final String[] FAMILIES = {
+    "client",
+    "cluster",
+    "config",
+    "debug",
+    "memory",
+    "module",
+    "object",
+    "pubsub",
+    "script",
+    "sentinel",
+    "slowlog"
+  };
+
+  static {
+    // Strings.
+    read("GET", 1, 1, 1);
+    read("GETBIT", 1, 1, 1);
+    read("GETRANGE", 1, 1, 1);
+    read("SUBSTR", 1, 1, 1);
+    read("STRLEN", 1, 1, 1);
+    read("MGET", 1, -1, 1);
+    read("BITCOUNT", 1, 1, 1);
+    read("BITPOS", 1, 1, 1);
+    write("SET", 1, 1, 1);
+    write("SETNX", 1, 1, 1);
+    write("SETEX", 1, 1, 1);
+    write("PSETEX", 1, 1, 1);
+    write("SETRANGE", 1, 1, 1);
+    write("SETBIT", 1, 1, 1);
+    write("GETSET", 1, 1, 1);
+    write("APPEND", 1, 1, 1);
+    write("INCR", 1, 1, 1);
+    write("INCRBY", 1, 1, 1);
+    write("INCRBYFLOAT", 1, 1, 1);
+    write("DECR", 1, 1, 1);
+    write("DECRBY", 1, 1, 1);
+    write("MSET", 1, -1, 2);
+    write("MSETNX", 1, -1, 2);
+    write("BITOP", 2, -1, 1);
+    write("BITFIELD", 1, 1, 1);
+
+    // Keys.
+    read("EXISTS", 1, -1, 1);
+    read("TYPE", 1, 1, 1);
+    read("TTL", 1, 1, 1);
+    read("PTTL", 1, 1, 1);
+    read("DUMP", 1, 1, 1);
+    read("TOUCH", 1, -1, 1);
+    read("OBJECT", 2, 2, 1);
+    read("KEYS", 0, 0, 0);
+    read("SCAN", 0, 0, 0);
+    read("RANDOMKEY", 0, 0, 0);
+    read("DBSIZE", 0, 0, 0);
+    write("DEL", 1, -1, 1);
+    write("UNLINK", 1, -1, 1);
+    write("EXPIRE", 1, 1, 1);
+    write("EXPIREAT", 1, 1, 1);
+    write("PEXPIRE", 1, 1, 1);
+    write("PEXPIREAT", 1, 1, 1);
+    write("PERSIST", 1, 1, 1);
+    write("RENAME", 1, 2, 1);
+    write("RENAMENX", 1, 2, 1);
+    write("MOVE", 1, 1, 1);
+    write("RESTORE", 1, 1, 1);
+    movable(VALUE_WRITE, "MIGRATE", 3, 3, 1);
+    // SORT writes when given STORE.
+    movable(VALUE_WRITE, "SORT", 1, 1, 1);
+
+    // Hashes.
+    read("HGET", 1, 1, 1);
+    read("HMGET", 1, 1, 1);
+    read("HGETALL", 1, 1, 1);
+    read("HKEYS", 1, 1, 1);
+    read("HVALS", 1, 1, 1);
+    read("HLEN", 1, 1, 1);
+    read("HEXISTS", 1, 1, 1);
+    read("HSTRLEN", 1, 1, 1);
+    read("HSCAN", 1, 1, 1);
+    write("HSET", 1, 1, 1);
+    write("HSETNX", 1, 1, 1);
+    write("HMSET", 1, 1, 1);
+    write("HDEL", 1, 1, 1);
+    write("HINCRBY", 1, 1, 1);
+    write("HINCRBYFLOAT", 1, 1, 1);
+
+    // Lists.
+    read("LRANGE", 1, 1, 1);
+    read("LINDEX", 1, 1, 1);
+    read("LLEN", 1, 1, 1);
+    write("LPUSH", 1, 1, 1);
+    write("RPUSH", 1, 1, 1);
+    write("LPUSHX", 1, 1, 1);
+    write("RPUSHX", 1, 1, 1);
+    write("LPOP", 1, 1, 1);
+    write("RPOP", 1, 1, 1);
+    write("LSET", 1, 1, 1);
+    write("LREM", 1, 1, 1);
+    write("LTRIM", 1, 1, 1);
+    write("LINSERT", 1, 1, 1);
+    write("RPOPLPUSH", 1, 2, 1);
+    blocking("BLPOP", 1, -2, 1);
+    blocking("BRPOP", 1, -2, 1);
+    blocking("BRPOPLPUSH", 1, 2, 1);
+
+    // Sets.
+    read("SMEMBERS", 1, 1, 1);
+    read("SISMEMBER", 1, 1, 1);
+    read("SCARD", 1, 1, 1);
+    read("SRANDMEMBER", 1, 1, 1);
+    read("SSCAN", 1, 1, 1);
+    read("SINTER", 1, -1, 1);
+    read("SUNION", 1, -1, 1);
+    read("SDIFF", 1, -1, 1);
+    write("SADD", 1, 1, 1);
+    write("SREM", 1, 1, 1);
+    write("SPOP", 1, 1, 1);
+    write("SMOVE", 1, 2, 1);
+    write("SINTERSTORE", 1, -1, 1);
+    write("SUNIONSTORE", 1, -1, 1);
+    write("SDIFFSTORE", 1, -1, 1);
+
+    // Sorted sets.
+    read("ZRANGE", 1, 1, 1);
+    read("ZREVRANGE", 1, 1, 1);
+    read("ZRANGEBYSCORE", 1, 1, 1);
+    read("ZREVRANGEBYSCORE", 1, 1, 1);
+    read("ZRANGEBYLEX", 1, 1, 1);
+    read("ZREVRANGEBYLEX", 1, 1, 1);
+    read("ZCARD", 1, 1, 1);
+    read("ZSCORE", 1, 1, 1);
+    read("ZRANK", 1, 1, 1);
+    read("ZREVRANK", 1, 1, 1);
+    read("ZCOUNT", 1, 1, 1);
+    read("ZLEXCOUNT", 1, 1, 1);
+    read("ZSCAN", 1, 1, 1);
+    write("ZADD", 1, 1, 1);
+    write("ZINCRBY", 1, 1, 1);
+    write("ZREM", 1, 1, 1);
+    write("ZREMRANGEBYRANK", 1, 1, 1);
+    write("ZREMRANGEBYSCORE", 1, 1, 1);
+    write("ZREMRANGEBYLEX", 1, 1, 1);
+    // The source keys follow their count.
+    movable(VALUE_WRITE, "ZUNIONSTORE", 1, 1, 1);
+    movable(VALUE_WRITE, "ZINTERSTORE", 1, 1, 1);
+
+    // HyperLogLogs and geo indexes.
+    read("PFCOUNT", 1, -1, 1);
+    write("PFADD", 1, 1, 1);
+    write("PFMERGE", 1, -1, 1);
+    read("GEODIST", 1, 1, 1);
+    read("GEOHASH", 1, 1, 1);
+    read("GEOPOS", 1, 1, 1);
+    read("GEORADIUS_RO", 1, 1, 1);
+    read("GEORADIUSBYMEMBER_RO", 1, 1, 1);
+    write("GEOADD", 1, 1, 1);
+    // GEORADIUS and GEORADIUSBYMEMBER write when given STORE.
+    movable(VALUE_WRITE, "GEORADIUS", 1, 1, 1);
+    movable(VALUE_WRITE, "GEORADIUSBYMEMBER", 1, 1, 1);
+
+    // Scripts, whose keys follow their count, may write.
+    movable(VALUE_WRITE, "EVAL", 0, 0, 0);
+    movable(VALUE_WRITE, "EVALSHA", 0, 0, 0);
+
+    // Administration.
+    admin("CLIENT");
+    admin("CLUSTER");
+    admin("CONFIG");
+    admin("DEBUG");
+    admin("MEMORY");
+    admin("MODULE");
+    admin("SCRIPT");
+    admin("SENTINEL");
+    admin("SLOWLOG");
+    admin("INFO");
+    admin("FLUSHDB");
+    admin("FLUSHALL");
+    admin("SAVE");
+    admin("BGSAVE");
+    admin("BGREWRITEAOF");
+    admin("LASTSAVE");
+    admin("SHUTDOWN");
+    admin("SLAVEOF");
+    admin("REPLICAOF");
+    admin("ROLE");
+    admin("SYNC");
+    admin("PSYNC");
+    admin("MONITOR");
+    admin("SWAPDB");
+
+    // Connections, transactions and pub/sub.
+    other("PING");
+    other("ECHO");
+    other("AUTH");
+    other("SELECT");
+    other("QUIT");
+    other("TIME");
+    other("READONLY");
+    other("READWRITE");
+    other("ASKING");
+    other("MULTI");
+    other("EXEC");
+    other("DISCARD");
+    other("UNWATCH");
+    add("WATCH", new CommandMetadata("WATCH", VALUE_OTHER, false, 1, -1, 1, false));
+    other("PUBLISH");
+    other("PUBSUB");
+    other("SUBSCRIBE");
+    other("PSUBSCRIBE");
+    other("UNSUBSCRIBE");
+    other("PUNSUBSCRIBE");
+    add("WAIT", new CommandMetadata("WAIT", VALUE_ADMIN, true, 0, 0, 0, false));
+  }
+
+  private final String name;
+  private final TagValue kind;
+  private final boolean blocking;
+  private final int firstKey;
+  private final int lastKey;
+  private final int keyStep;
+  private final boolean movableKeys;
+
+  private CommandMetadata(
+      String name,
+      TagValue kind,
+      boolean blocking,
+      int firstKey,
+      int lastKey,
+      int keyStep,
+      boolean movableKeys) {
+    this.name = name;
+    this.kind = kind;
+    this.blocking = blocking;
+    this.firstKey = firstKey;
+    this.lastKey = lastKey;
+    this.keyStep = keyStep;
+    this.movableKeys = movableKeys;
+  }
+
+  // Returns the metadata of the command sent by method, as named by its CommandDescriptor, or OTHER
+  // when it sends none or isn't known.
+  static CommandMetadata forMethod(String method) {
+    if (method.startsWith(PIPELINE_PREFIX)) {
+      String command = method.substring(PIPELINE_PREFIX.length());
+      CommandMetadata metadata =
+          command.equals(command.toUpperCase(Locale.ROOT)) ? COMMANDS.get(command) : null;
+      return metadata != null ? metadata : OTHER;
+    }
+    for (String prefix : METHOD_PREFIXES) {
+      if (method.startsWith(prefix)) {
+        CommandMetadata metadata = forName(method.substring(prefix.length()));
+        return metadata != null ? metadata : OTHER;
+      }
+    }
+    return OTHER;
+  }
+
+  // Returns the metadata of the Redis command, e.g. ZRANGEBYSCORE, or null if it isn't known.
+  static CommandMetadata forCommand(String command) {
+    return COMMANDS.get(command.toUpperCase(Locale.ROOT));
+  }
+
+  private static CommandMetadata forName(String name) {
+    if (name.endsWith("WithScores")) {
+      name = name.substring(0, name.length() - "WithScores".length());
+    } else if (name.endsWith("Readonly")) {
+      name = name.substring(0, name.length() - "Readonly".length()) + "_RO";
+    } else if (name.endsWith("Replace")) {
+      // e.g. restoreReplace, RESTORE with the REPLACE option.
+      name = name.substring(0, name.length() - "Replace".length());
+    }
+    for (String family : FAMILIES) {
+      if (name.startsWith(family) && name.length() > family.length()) {
+        if (Character.isUpperCase(name.charAt(family.length()))) name = family;
+        break;
+      }
+    }
+    return COMMANDS.get(name.toUpperCase(Locale.ROOT));
+  }
+
+  // Returns the Redis command, null for OTHER.
+  String getName() {
+    return name;
+  }
+
+  // Returns whether the command only reads data, so that a replica can serve it.
+  boolean isReadOnly() {
+    return kind == VALUE_READ;
+  }
+
+  // Returns whether the command may block its connection until data arrives.
+  boolean isBlocking() {
+    return blocking;
+  }
+
+  // Returns the value of the COMMAND_KIND tag: read, write, admin or other, or blocking for the
+  // commands that block, whose latency includes waiting for data.
+  TagValue getKindTagValue() {
+    return blocking ? VALUE_BLOCKING : kind;
+  }
+
+  // Returns whether the command takes more than one key.
+  boolean isMultiKey() {
+    return movableKeys || (firstKey > 0 && lastKey != firstKey);
+  }
+
+  // Returns whether the keys of the command depend on its arguments, beyond those returned by keys.
+  boolean hasMovableKeys() {
+    return movableKeys;
+  }
+
+  // Returns the step between the keys among the arguments, e.g. 2 for MSET's keys and values, or 0
+  // if the command has no fixed keys.
+  int getKeyStep() {
+    return keyStep;
+  }
+
+  // Returns the keys among arguments, the arguments of the command without its name.
+  <T> List<T> keys(List<T> arguments) {
+    if (firstKey == 0 || arguments.size() < firstKey) return Collections.emptyList();
+    int last = lastKey < 0 ? arguments.size() + lastKey + 1 : Math.min(lastKey, arguments.size());
+    List<T> keys = new ArrayList<T>();
+    for (int position = firstKey; position <= last; position += keyStep) {
+      keys.add(arguments.get(position - 1));
+    }
+    return keys;
+  }
+
+  private static void read(String name, int firstKey, int lastKey, int keyStep) {
+    add(name, new CommandMetadata(name, VALUE_READ, false, firstKey, lastKey, keyStep, false));
+  }
+
+  private static void write(String name, int firstKey, int lastKey, int keyStep) {
+    add(name, new CommandMetadata(name, VALUE_WRITE, false, firstKey, lastKey, keyStep, false));
+  }
+
+  private static void blocking(String name, int firstKey, int lastKey, int keyStep) {
+    add(name, new CommandMetadata(name, VALUE_WRITE, true, firstKey, lastKey, keyStep, false));
+  }
+
+  private static void movable(TagValue kind, String name, int firstKey, int lastKey, int keyStep) {
+    add(name, new CommandMetadata(name, kind, false, firstKey, lastKey, keyStep, true));
+  }
+
+  private static void admin(String name) {
+    add(name, new CommandMetadata(name, VALUE_ADMIN, false, 0, 0, 0, false));
+  }
+
+  private static void other(String name) {
+    add(name, new CommandMetadata(name, VALUE_OTHER, false, 0, 0, 0, false));
+  }
+
+  private static void add(String name, CommandMetadata metadata) {
+    COMMANDS.put(name, metadata);
+  }
+}
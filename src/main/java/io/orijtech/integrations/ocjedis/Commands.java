@@ -0,0 +1,470 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+// Commands holds the descriptor of every method wrapped by OcWrapJedis. The descriptors are created
+// once, when this class is initialized, so that a call only has to reference a constant.
+final class Commands {
+  private Commands() {}
+
+  private static final String JEDIS_PREFIX = "redis.clients.jedis.Jedis.";
+  private static final String BINARY_JEDIS_PREFIX = "redis.clients.jedis.BinaryJedis.";
+  private static final String TRANSACTION_PREFIX = "redis.clients.jedis.Transaction.";
+  private static final String PIPELINE_PREFIX = "redis.clients.jedis.Pipeline.";
+  private static final String ASYNC_JEDIS_PREFIX = "io.orijtech.integrations.ocjedis.OcAsyncJedis.";
+  private static final String NEAR_CACHE_PREFIX = "io.orijtech.integrations.ocjedis.OcNearCache.";
+  private static final String CLUSTER_PREFIX = "io.orijtech.integrations.ocjedis.OcJedisCluster.";
+  private static final String SCAN_ITERATOR_PREFIX =
+      "io.orijtech.integrations.ocjedis.OcScanIterator.";
+
+  private static CommandDescriptor jedis(String method) {
+    return CommandDescriptor.create(JEDIS_PREFIX + method);
+  }
+
+  private static CommandDescriptor binaryJedis(String method) {
+    return CommandDescriptor.create(BINARY_JEDIS_PREFIX + method);
+  }
+
+  private static CommandDescriptor transaction(String method) {
+    return CommandDescriptor.create(TRANSACTION_PREFIX + method);
+  }
+
+  private static CommandDescriptor nearCache(String method) {
+    return CommandDescriptor.create(NEAR_CACHE_PREFIX + method);
+  }
+
+  private static CommandDescriptor cluster(String method) {
+    return CommandDescriptor.create(CLUSTER_PREFIX + method);
+  }
+
+  private static CommandDescriptor scanIterator(String method) {
+    return CommandDescriptor.create(SCAN_ITERATOR_PREFIX + method);
+  }
+
+  private static CommandDescriptor asyncJedis(String method) {
+    return CommandDescriptor.create(ASYNC_JEDIS_PREFIX + method);
+  }
+
+  private static final ConcurrentMap<String, CommandDescriptor> pipelinedCommands =
+      new ConcurrentHashMap<String, CommandDescriptor>();
+
+  // Returns the descriptor of a Redis command sent through a pipeline on behalf of a caller, named
+  // after the command itself, e.g. redis.clients.jedis.Pipeline.GET.
+  static CommandDescriptor pipelined(ProtocolCommand command) {
+    String name = SafeEncoder.encode(command.getRaw());
+    CommandDescriptor descriptor = pipelinedCommands.get(name);
+    if (descriptor == null) {
+      CommandDescriptor created = CommandDescriptor.create(PIPELINE_PREFIX + name);
+      descriptor = pipelinedCommands.putIfAbsent(name, created);
+      if (descriptor == null) descriptor = created;
+    }
+    return descriptor;
+  }
+
+  static final CommandDescriptor APPEND = jedis("append");
+  static final CommandDescriptor BITCOUNT = jedis("bitcount");
+  static final CommandDescriptor BITFIELD = jedis("bitfield");
+  static final CommandDescriptor BITOP = jedis("bitop");
+  static final CommandDescriptor BITPOS = jedis("bitpos");
+  static final CommandDescriptor BLPOP = jedis("blpop");
+  static final CommandDescriptor BRPOP = jedis("brpop");
+  static final CommandDescriptor BRPOPLPUSH = jedis("brpoplpush");
+  static final CommandDescriptor CLIENT_KILL = jedis("clientKill");
+  static final CommandDescriptor CLIENT_SETNAME = jedis("clientSetname");
+  static final CommandDescriptor CLOSE = jedis("close");
+  static final CommandDescriptor CLUSTER_ADD_SLOTS = jedis("clusterAddSlots");
+  static final CommandDescriptor CLUSTER_COUNT_KEYS_IN_SLOT = jedis("clusterCountKeysInSlot");
+  static final CommandDescriptor CLUSTER_DEL_SLOTS = jedis("clusterDelSlots");
+  static final CommandDescriptor CLUSTER_FAILOVER = jedis("clusterFailover");
+  static final CommandDescriptor CLUSTER_FLUSH_SLOTS = jedis("clusterFlushSlots");
+  static final CommandDescriptor CLUSTER_FORGET = jedis("clusterForget");
+  static final CommandDescriptor CLUSTER_GET_KEYS_IN_SLOT = jedis("clusterGetKeysInSlot");
+  static final CommandDescriptor CLUSTER_INFO = jedis("clusterInfo");
+  static final CommandDescriptor CLUSTER_KEY_SLOT = jedis("clusterKeySlot");
+  static final CommandDescriptor CLUSTER_MEET = jedis("clusterMeet");
+  static final CommandDescriptor CLUSTER_NODES = jedis("clusterNodes");
+  static final CommandDescriptor CLUSTER_REPLICATE = jedis("clusterReplicate");
+  static final CommandDescriptor CLUSTER_RESET = jedis("clusterReset");
+  static final CommandDescriptor CLUSTER_SAVE_CONFIG = jedis("clusterSaveConfig");
+  static final CommandDescriptor CLUSTER_SET_SLOT_IMPORTING = jedis("clusterSetSlotImporting");
+  static final CommandDescriptor CLUSTER_SET_SLOT_MIGRATING = jedis("clusterSetSlotMigrating");
+  static final CommandDescriptor CLUSTER_SET_SLOT_NODE = jedis("clusterSetSlotNode");
+  static final CommandDescriptor CLUSTER_SET_SLOT_STABLE = jedis("clusterSetSlotStable");
+  static final CommandDescriptor CLUSTER_SLAVES = jedis("clusterSlaves");
+  static final CommandDescriptor CLUSTER_SLOTS = jedis("clusterSlots");
+  static final CommandDescriptor CONFIG_GET = jedis("configGet");
+  static final CommandDescriptor CONFIG_SET = jedis("configSet");
+  static final CommandDescriptor DECR = jedis("decr");
+  static final CommandDescriptor DECR_BY = jedis("decrBy");
+  static final CommandDescriptor DEL = jedis("del");
+  static final CommandDescriptor DUMP = jedis("dump");
+  static final CommandDescriptor ECHO = jedis("echo");
+  static final CommandDescriptor EVAL = jedis("eval");
+  static final CommandDescriptor EVALSHA = jedis("evalsha");
+  static final CommandDescriptor EXISTS = jedis("exists");
+  static final CommandDescriptor EXPIRE = jedis("expire");
+  static final CommandDescriptor EXPIRE_AT = jedis("expireAt");
+  static final CommandDescriptor GEOADD = jedis("geoadd");
+  static final CommandDescriptor GEODIST = jedis("geodist");
+  static final CommandDescriptor GEOHASH = jedis("geohash");
+  static final CommandDescriptor GEOPOS = jedis("geopos");
+  static final CommandDescriptor GEORADIUS = jedis("georadius");
+  static final CommandDescriptor GEORADIUS_BY_MEMBER = jedis("georadiusByMember");
+  static final CommandDescriptor GET = jedis("get");
+  static final CommandDescriptor GETBIT = jedis("getbit");
+  static final CommandDescriptor GETRANGE = jedis("getrange");
+  static final CommandDescriptor GET_SET = jedis("getSet");
+  static final CommandDescriptor HDEL = jedis("hdel");
+  static final CommandDescriptor HEXISTS = jedis("hexists");
+  static final CommandDescriptor HGET = jedis("hget");
+  static final CommandDescriptor HGET_ALL = jedis("hgetAll");
+  static final CommandDescriptor HINCR_BY = jedis("hincrBy");
+  static final CommandDescriptor HINCR_BY_FLOAT = jedis("hincrByFloat");
+  static final CommandDescriptor HKEYS = jedis("hkeys");
+  static final CommandDescriptor HLEN = jedis("hlen");
+  static final CommandDescriptor HMGET = jedis("hmget");
+  static final CommandDescriptor HSCAN = jedis("hscan");
+  static final CommandDescriptor HSET = jedis("hset");
+  static final CommandDescriptor HSETNX = jedis("hsetnx");
+  static final CommandDescriptor HVALS = jedis("hvals");
+  static final CommandDescriptor INCR = jedis("incr");
+  static final CommandDescriptor INCR_BY = jedis("incrBy");
+  static final CommandDescriptor INCR_BY_FLOAT = jedis("incrByFloat");
+  static final CommandDescriptor KEYS = jedis("keys");
+  static final CommandDescriptor LINDEX = jedis("lindex");
+  static final CommandDescriptor LINSERT = jedis("linsert");
+  static final CommandDescriptor LLEN = jedis("llen");
+  static final CommandDescriptor LPOP = jedis("lpop");
+  static final CommandDescriptor LPUSH = jedis("lpush");
+  static final CommandDescriptor LPUSHX = jedis("lpushx");
+  static final CommandDescriptor LRANGE = jedis("lrange");
+  static final CommandDescriptor LREM = jedis("lrem");
+  static final CommandDescriptor LSET = jedis("lset");
+  static final CommandDescriptor LTRIM = jedis("ltrim");
+  static final CommandDescriptor MGET = jedis("mget");
+  static final CommandDescriptor MIGRATE = jedis("migrate");
+  static final CommandDescriptor MOVE = jedis("move");
+  static final CommandDescriptor MSET = jedis("mset");
+  static final CommandDescriptor MSETNX = jedis("msetnx");
+  static final CommandDescriptor MULTI = jedis("multi");
+  static final CommandDescriptor OBJECT_ENCODING = jedis("objectEncoding");
+  static final CommandDescriptor OBJECT_IDLETIME = jedis("objectIdletime");
+  static final CommandDescriptor OBJECT_REFCOUNT = jedis("objectRefcount");
+  static final CommandDescriptor PERSIST = jedis("persist");
+  static final CommandDescriptor PEXPIRE = jedis("pexpire");
+  static final CommandDescriptor PEXPIRE_AT = jedis("pexpireAt");
+  static final CommandDescriptor PFADD = jedis("pfadd");
+  static final CommandDescriptor PFCOUNT = jedis("pfcount");
+  static final CommandDescriptor PFMERGE = jedis("pfmerge");
+  static final CommandDescriptor PSETEX = jedis("psetex");
+  static final CommandDescriptor PSUBSCRIBE = jedis("psubscribe");
+  static final CommandDescriptor PTTL = jedis("pttl");
+  static final CommandDescriptor PUBLISH = jedis("publish");
+  static final CommandDescriptor PUBSUB_CHANNELS = jedis("pubsubChannels");
+  static final CommandDescriptor PUBSUB_NUM_PAT = jedis("pubsubNumPat");
+  static final CommandDescriptor PUBSUB_NUM_SUB = jedis("pubsubNumSub");
+  static final CommandDescriptor RANDOM_KEY = jedis("randomKey");
+  static final CommandDescriptor READONLY = jedis("readonly");
+  static final CommandDescriptor RENAME = jedis("rename");
+  static final CommandDescriptor RENAMENX = jedis("renamenx");
+  static final CommandDescriptor RESTORE = jedis("restore");
+  static final CommandDescriptor RPOPLPUSH = jedis("rpoplpush");
+  static final CommandDescriptor RPUSH = jedis("rpush");
+  static final CommandDescriptor RPUSHX = jedis("rpushx");
+  static final CommandDescriptor SADD = jedis("sadd");
+  static final CommandDescriptor SCAN = jedis("scan");
+  static final CommandDescriptor SCARD = jedis("scard");
+  static final CommandDescriptor SCRIPT_EXISTS = jedis("scriptExists");
+  static final CommandDescriptor SCRIPT_LOAD = jedis("scriptLoad");
+  static final CommandDescriptor SDIFF = jedis("sdiff");
+  static final CommandDescriptor SDIFFSTORE = jedis("sdiffstore");
+  static final CommandDescriptor SENTINEL_FAILOVER = jedis("sentinelFailover");
+  static final CommandDescriptor SENTINEL_GET_MASTER_ADDR_BY_NAME =
+      jedis("sentinelGetMasterAddrByName");
+  static final CommandDescriptor SENTINEL_MASTERS = jedis("sentinelMasters");
+  static final CommandDescriptor SENTINEL_MONITOR = jedis("sentinelMonitor");
+  static final CommandDescriptor SENTINEL_REMOVE = jedis("sentinelRemove");
+  static final CommandDescriptor SENTINEL_RESET = jedis("sentinelReset");
+  static final CommandDescriptor SENTINEL_SET = jedis("sentinelSet");
+  static final CommandDescriptor SENTINEL_SLAVES = jedis("sentinelSlaves");
+  static final CommandDescriptor SET = jedis("set");
+  static final CommandDescriptor SETBIT = jedis("setbit");
+  static final CommandDescriptor SET_DATA_SOURCE = jedis("setDataSource");
+  static final CommandDescriptor SETEX = jedis("setex");
+  static final CommandDescriptor SETNX = jedis("setnx");
+  static final CommandDescriptor SETRANGE = jedis("setrange");
+  static final CommandDescriptor SINTER = jedis("sinter");
+  static final CommandDescriptor SINTERSTORE = jedis("sinterstore");
+  static final CommandDescriptor SISMEMBER = jedis("sismember");
+  static final CommandDescriptor SLOWLOG_GET = jedis("slowlogGet");
+  static final CommandDescriptor SMEMBERS = jedis("smembers");
+  static final CommandDescriptor SMOVE = jedis("smove");
+  static final CommandDescriptor SORT = jedis("sort");
+  static final CommandDescriptor SPOP = jedis("spop");
+  static final CommandDescriptor SRANDMEMBER = jedis("srandmember");
+  static final CommandDescriptor SREM = jedis("srem");
+  static final CommandDescriptor SSCAN = jedis("sscan");
+  static final CommandDescriptor STRLEN = jedis("strlen");
+  static final CommandDescriptor SUBSCRIBE = jedis("subscribe");
+  static final CommandDescriptor SUBSTR = jedis("substr");
+  static final CommandDescriptor SUNION = jedis("sunion");
+  static final CommandDescriptor SUNIONSTORE = jedis("sunionstore");
+  static final CommandDescriptor TTL = jedis("ttl");
+  static final CommandDescriptor TYPE = jedis("type");
+  static final CommandDescriptor WATCH = jedis("watch");
+  static final CommandDescriptor ZADD = jedis("zadd");
+  static final CommandDescriptor ZCARD = jedis("zcard");
+  static final CommandDescriptor ZCOUNT = jedis("zcount");
+  static final CommandDescriptor ZINCRBY = jedis("zincrby");
+  static final CommandDescriptor ZINTERSTORE = jedis("zinterstore");
+  static final CommandDescriptor ZLEXCOUNT = jedis("zlexcount");
+  static final CommandDescriptor ZRANGE = jedis("zrange");
+  static final CommandDescriptor ZRANGE_BY_LEX = jedis("zrangeByLex");
+  static final CommandDescriptor ZRANGE_BY_SCORE = jedis("zrangeByScore");
+  static final CommandDescriptor ZRANGE_BY_SCORE_WITH_SCORES = jedis("zrangeByScoreWithScores");
+  static final CommandDescriptor ZRANGE_WITH_SCORES = jedis("zrangeWithScores");
+  static final CommandDescriptor ZRANK = jedis("zrank");
+  static final CommandDescriptor ZREM = jedis("zrem");
+  static final CommandDescriptor ZREMRANGE_BY_LEX = jedis("zremrangeByLex");
+  static final CommandDescriptor ZREMRANGE_BY_RANK = jedis("zremrangeByRank");
+  static final CommandDescriptor ZREMRANGE_BY_SCORE = jedis("zremrangeByScore");
+  static final CommandDescriptor ZREVRANGE = jedis("zrevrange");
+  static final CommandDescriptor ZREVRANGE_BY_LEX = jedis("zrevrangeByLex");
+  static final CommandDescriptor ZREVRANGE_BY_SCORE = jedis("zrevrangeByScore");
+  static final CommandDescriptor ZREVRANGE_BY_SCORE_WITH_SCORES =
+      jedis("zrevrangeByScoreWithScores");
+  static final CommandDescriptor ZREVRANGE_WITH_SCORES = jedis("zrevrangeWithScores");
+  static final CommandDescriptor ZREVRANK = jedis("zrevrank");
+  static final CommandDescriptor ZSCAN = jedis("zscan");
+  static final CommandDescriptor ZSCORE = jedis("zscore");
+  static final CommandDescriptor ZUNIONSTORE = jedis("zunionstore");
+
+  static final CommandDescriptor BINARY_APPEND = binaryJedis("append");
+  static final CommandDescriptor BINARY_BITCOUNT = binaryJedis("bitcount");
+  static final CommandDescriptor BINARY_BITFIELD = binaryJedis("bitfield");
+  static final CommandDescriptor BINARY_BITOP = binaryJedis("bitop");
+  static final CommandDescriptor BINARY_BITPOS = binaryJedis("bitpos");
+  static final CommandDescriptor BINARY_BLPOP = binaryJedis("blpop");
+  static final CommandDescriptor BINARY_BRPOP = binaryJedis("brpop");
+  static final CommandDescriptor BINARY_BRPOPLPUSH = binaryJedis("brpoplpush");
+  static final CommandDescriptor BINARY_CLIENT_KILL = binaryJedis("clientKill");
+  static final CommandDescriptor BINARY_CLIENT_SETNAME = binaryJedis("clientSetname");
+  static final CommandDescriptor BINARY_CONFIG_GET = binaryJedis("configGet");
+  static final CommandDescriptor BINARY_CONFIG_SET = binaryJedis("configSet");
+  static final CommandDescriptor BINARY_DECR = binaryJedis("decr");
+  static final CommandDescriptor BINARY_DECR_BY = binaryJedis("decrBy");
+  static final CommandDescriptor BINARY_DEL = binaryJedis("del");
+  static final CommandDescriptor BINARY_DUMP = binaryJedis("dump");
+  static final CommandDescriptor BINARY_ECHO = binaryJedis("echo");
+  static final CommandDescriptor BINARY_EVAL = binaryJedis("eval");
+  static final CommandDescriptor BINARY_EVALSHA = binaryJedis("evalsha");
+  static final CommandDescriptor BINARY_EXISTS = binaryJedis("exists");
+  static final CommandDescriptor BINARY_EXPIRE = binaryJedis("expire");
+  static final CommandDescriptor BINARY_EXPIRE_AT = binaryJedis("expireAt");
+  static final CommandDescriptor BINARY_GEOADD = binaryJedis("geoadd");
+  static final CommandDescriptor BINARY_GEODIST = binaryJedis("geodist");
+  static final CommandDescriptor BINARY_GEOHASH = binaryJedis("geohash");
+  static final CommandDescriptor BINARY_GEOPOS = binaryJedis("geopos");
+  static final CommandDescriptor BINARY_GEORADIUS = binaryJedis("georadius");
+  static final CommandDescriptor BINARY_GEORADIUS_BY_MEMBER = binaryJedis("georadiusByMember");
+  static final CommandDescriptor BINARY_GEORADIUS_BY_MEMBER_READONLY =
+      binaryJedis("georadiusByMemberReadonly");
+  static final CommandDescriptor BINARY_GEORADIUS_READONLY = binaryJedis("georadiusReadonly");
+  static final CommandDescriptor BINARY_GET = binaryJedis("get");
+  static final CommandDescriptor BINARY_GETBIT = binaryJedis("getbit");
+  static final CommandDescriptor BINARY_GETRANGE = binaryJedis("getrange");
+  static final CommandDescriptor BINARY_GET_SET = binaryJedis("getSet");
+  static final CommandDescriptor BINARY_HDEL = binaryJedis("hdel");
+  static final CommandDescriptor BINARY_HEXISTS = binaryJedis("hexists");
+  static final CommandDescriptor BINARY_HGET = binaryJedis("hget");
+  static final CommandDescriptor BINARY_HGET_ALL = binaryJedis("hgetAll");
+  static final CommandDescriptor BINARY_HINCR_BY = binaryJedis("hincrBy");
+  static final CommandDescriptor BINARY_HINCR_BY_FLOAT = binaryJedis("hincrByFloat");
+  static final CommandDescriptor BINARY_HKEYS = binaryJedis("hkeys");
+  static final CommandDescriptor BINARY_HLEN = binaryJedis("hlen");
+  static final CommandDescriptor BINARY_HMGET = binaryJedis("hmget");
+  static final CommandDescriptor BINARY_HMSET = binaryJedis("hmset");
+  static final CommandDescriptor BINARY_HSCAN = binaryJedis("hscan");
+  static final CommandDescriptor BINARY_HSET = binaryJedis("hset");
+  static final CommandDescriptor BINARY_HSETNX = binaryJedis("hsetnx");
+  static final CommandDescriptor BINARY_HSTRLEN = binaryJedis("hstrlen");
+  static final CommandDescriptor BINARY_HVALS = binaryJedis("hvals");
+  static final CommandDescriptor BINARY_INCR = binaryJedis("incr");
+  static final CommandDescriptor BINARY_INCR_BY = binaryJedis("incrBy");
+  static final CommandDescriptor BINARY_INCR_BY_FLOAT = binaryJedis("incrByFloat");
+  static final CommandDescriptor BINARY_KEYS = binaryJedis("keys");
+  static final CommandDescriptor BINARY_LINDEX = binaryJedis("lindex");
+  static final CommandDescriptor BINARY_LINSERT = binaryJedis("linsert");
+  static final CommandDescriptor BINARY_LLEN = binaryJedis("llen");
+  static final CommandDescriptor BINARY_LPOP = binaryJedis("lpop");
+  static final CommandDescriptor BINARY_LPUSH = binaryJedis("lpush");
+  static final CommandDescriptor BINARY_LPUSHX = binaryJedis("lpushx");
+  static final CommandDescriptor BINARY_LRANGE = binaryJedis("lrange");
+  static final CommandDescriptor BINARY_LREM = binaryJedis("lrem");
+  static final CommandDescriptor BINARY_LSET = binaryJedis("lset");
+  static final CommandDescriptor BINARY_LTRIM = binaryJedis("ltrim");
+  static final CommandDescriptor BINARY_MGET = binaryJedis("mget");
+  static final CommandDescriptor BINARY_MIGRATE = binaryJedis("migrate");
+  static final CommandDescriptor BINARY_MOVE = binaryJedis("move");
+  static final CommandDescriptor BINARY_MSET = binaryJedis("mset");
+  static final CommandDescriptor BINARY_MSETNX = binaryJedis("msetnx");
+  static final CommandDescriptor BINARY_OBJECT_ENCODING = binaryJedis("objectEncoding");
+  static final CommandDescriptor BINARY_OBJECT_IDLETIME = binaryJedis("objectIdletime");
+  static final CommandDescriptor BINARY_OBJECT_REFCOUNT = binaryJedis("objectRefcount");
+  static final CommandDescriptor BINARY_PERSIST = binaryJedis("persist");
+  static final CommandDescriptor BINARY_PEXPIRE = binaryJedis("pexpire");
+  static final CommandDescriptor BINARY_PEXPIRE_AT = binaryJedis("pexpireAt");
+  static final CommandDescriptor BINARY_PFADD = binaryJedis("pfadd");
+  static final CommandDescriptor BINARY_PFCOUNT = binaryJedis("pfcount");
+  static final CommandDescriptor BINARY_PFMERGE = binaryJedis("pfmerge");
+  static final CommandDescriptor BINARY_PING = binaryJedis("ping");
+  static final CommandDescriptor BINARY_PSETEX = binaryJedis("psetex");
+  static final CommandDescriptor BINARY_PSUBSCRIBE = binaryJedis("psubscribe");
+  static final CommandDescriptor BINARY_PTTL = binaryJedis("pttl");
+  static final CommandDescriptor BINARY_PUBLISH = binaryJedis("publish");
+  static final CommandDescriptor BINARY_RENAME = binaryJedis("rename");
+  static final CommandDescriptor BINARY_RENAMENX = binaryJedis("renamenx");
+  static final CommandDescriptor BINARY_RESTORE = binaryJedis("restore");
+  static final CommandDescriptor BINARY_RESTORE_REPLACE = binaryJedis("restoreReplace");
+  static final CommandDescriptor BINARY_RPOP = binaryJedis("rpop");
+  static final CommandDescriptor BINARY_RPOPLPUSH = binaryJedis("rpoplpush");
+  static final CommandDescriptor BINARY_RPUSH = binaryJedis("rpush");
+  static final CommandDescriptor BINARY_RPUSHX = binaryJedis("rpushx");
+  static final CommandDescriptor BINARY_SADD = binaryJedis("sadd");
+  static final CommandDescriptor BINARY_SCAN = binaryJedis("scan");
+  static final CommandDescriptor BINARY_SCARD = binaryJedis("scard");
+  static final CommandDescriptor BINARY_SCRIPT_EXISTS = binaryJedis("scriptExists");
+  static final CommandDescriptor BINARY_SCRIPT_LOAD = binaryJedis("scriptLoad");
+  static final CommandDescriptor BINARY_SDIFF = binaryJedis("sdiff");
+  static final CommandDescriptor BINARY_SDIFFSTORE = binaryJedis("sdiffstore");
+  static final CommandDescriptor BINARY_SET = binaryJedis("set");
+  static final CommandDescriptor BINARY_SETBIT = binaryJedis("setbit");
+  static final CommandDescriptor BINARY_SETEX = binaryJedis("setex");
+  static final CommandDescriptor BINARY_SETNX = binaryJedis("setnx");
+  static final CommandDescriptor BINARY_SETRANGE = binaryJedis("setrange");
+  static final CommandDescriptor BINARY_SINTER = binaryJedis("sinter");
+  static final CommandDescriptor BINARY_SINTERSTORE = binaryJedis("sinterstore");
+  static final CommandDescriptor BINARY_SISMEMBER = binaryJedis("sismember");
+  static final CommandDescriptor BINARY_SMEMBERS = binaryJedis("smembers");
+  static final CommandDescriptor BINARY_SMOVE = binaryJedis("smove");
+  static final CommandDescriptor BINARY_SORT = binaryJedis("sort");
+  static final CommandDescriptor BINARY_SPOP = binaryJedis("spop");
+  static final CommandDescriptor BINARY_SRANDMEMBER = binaryJedis("srandmember");
+  static final CommandDescriptor BINARY_SREM = binaryJedis("srem");
+  static final CommandDescriptor BINARY_SSCAN = binaryJedis("sscan");
+  static final CommandDescriptor BINARY_STRLEN = binaryJedis("strlen");
+  static final CommandDescriptor BINARY_SUBSCRIBE = binaryJedis("subscribe");
+  static final CommandDescriptor BINARY_SUBSTR = binaryJedis("substr");
+  static final CommandDescriptor BINARY_SUNION = binaryJedis("sunion");
+  static final CommandDescriptor BINARY_SUNIONSTORE = binaryJedis("sunionstore");
+  static final CommandDescriptor BINARY_TOUCH = binaryJedis("touch");
+  static final CommandDescriptor BINARY_TTL = binaryJedis("ttl");
+  static final CommandDescriptor BINARY_TYPE = binaryJedis("type");
+  static final CommandDescriptor BINARY_UNLINK = binaryJedis("unlink");
+  static final CommandDescriptor BINARY_WATCH = binaryJedis("watch");
+  static final CommandDescriptor BINARY_ZADD = binaryJedis("zadd");
+  static final CommandDescriptor BINARY_ZCARD = binaryJedis("zcard");
+  static final CommandDescriptor BINARY_ZCOUNT = binaryJedis("zcount");
+  static final CommandDescriptor BINARY_ZINCRBY = binaryJedis("zincrby");
+  static final CommandDescriptor BINARY_ZINTERSTORE = binaryJedis("zinterstore");
+  static final CommandDescriptor BINARY_ZLEXCOUNT = binaryJedis("zlexcount");
+  static final CommandDescriptor BINARY_ZRANGE = binaryJedis("zrange");
+  static final CommandDescriptor BINARY_ZRANGE_BY_LEX = binaryJedis("zrangeByLex");
+  static final CommandDescriptor BINARY_ZRANGE_BY_SCORE = binaryJedis("zrangeByScore");
+  static final CommandDescriptor BINARY_ZRANGE_BY_SCORE_WITH_SCORES =
+      binaryJedis("zrangeByScoreWithScores");
+  static final CommandDescriptor BINARY_ZRANGE_WITH_SCORES = binaryJedis("zrangeWithScores");
+  static final CommandDescriptor BINARY_ZRANK = binaryJedis("zrank");
+  static final CommandDescriptor BINARY_ZREM = binaryJedis("zrem");
+  static final CommandDescriptor BINARY_ZREMRANGE_BY_LEX = binaryJedis("zremrangeByLex");
+  static final CommandDescriptor BINARY_ZREMRANGE_BY_RANK = binaryJedis("zremrangeByRank");
+  static final CommandDescriptor BINARY_ZREMRANGE_BY_SCORE = binaryJedis("zremrangeByScore");
+  static final CommandDescriptor BINARY_ZREVRANGE = binaryJedis("zrevrange");
+  static final CommandDescriptor BINARY_ZREVRANGE_BY_LEX = binaryJedis("zrevrangeByLex");
+  static final CommandDescriptor BINARY_ZREVRANGE_BY_SCORE = binaryJedis("zrevrangeByScore");
+  static final CommandDescriptor BINARY_ZREVRANGE_BY_SCORE_WITH_SCORES =
+      binaryJedis("zrevrangeByScoreWithScores");
+  static final CommandDescriptor BINARY_ZREVRANGE_WITH_SCORES = binaryJedis("zrevrangeWithScores");
+  static final CommandDescriptor BINARY_ZREVRANK = binaryJedis("zrevrank");
+  static final CommandDescriptor BINARY_ZSCAN = binaryJedis("zscan");
+  static final CommandDescriptor BINARY_ZSCORE = binaryJedis("zscore");
+  static final CommandDescriptor BINARY_ZUNIONSTORE = binaryJedis("zunionstore");
+
+  // The batches of commands queued on a pipeline, from the first command to the sync, and the
+  // commands queued on behalf of callers whose Redis command isn't known.
+  static final CommandDescriptor PIPELINE_COMMAND =
+      CommandDescriptor.create("redis.clients.jedis.Pipeline.command");
+  static final CommandDescriptor PIPELINE_SYNC =
+      CommandDescriptor.create("redis.clients.jedis.Pipeline.sync");
+
+  static final CommandDescriptor TRANSACTION_DISCARD = transaction("discard");
+  static final CommandDescriptor TRANSACTION_EXEC = transaction("exec");
+  static final CommandDescriptor TRANSACTION_EXEC_GET_RESPONSE = transaction("execGetResponse");
+
+  // The connections created and destroyed by an OcJedisPool, named after JedisFactory's methods.
+  static final CommandDescriptor POOL_MAKE_OBJECT =
+      CommandDescriptor.create("redis.clients.jedis.JedisFactory.makeObject");
+  static final CommandDescriptor POOL_DESTROY_OBJECT =
+      CommandDescriptor.create("redis.clients.jedis.JedisFactory.destroyObject");
+
+  static final CommandDescriptor ASYNC_AUTH = asyncJedis("auth");
+  static final CommandDescriptor ASYNC_DEL = asyncJedis("del");
+  static final CommandDescriptor ASYNC_EXISTS = asyncJedis("exists");
+  static final CommandDescriptor ASYNC_EXPIRE = asyncJedis("expire");
+  static final CommandDescriptor ASYNC_GET = asyncJedis("get");
+  static final CommandDescriptor ASYNC_HGET = asyncJedis("hget");
+  static final CommandDescriptor ASYNC_HGET_ALL = asyncJedis("hgetAll");
+  static final CommandDescriptor ASYNC_HSET = asyncJedis("hset");
+  static final CommandDescriptor ASYNC_INCR = asyncJedis("incr");
+  static final CommandDescriptor ASYNC_LPUSH = asyncJedis("lpush");
+  static final CommandDescriptor ASYNC_LRANGE = asyncJedis("lrange");
+  static final CommandDescriptor ASYNC_MGET = asyncJedis("mget");
+  static final CommandDescriptor ASYNC_PING = asyncJedis("ping");
+  static final CommandDescriptor ASYNC_RPUSH = asyncJedis("rpush");
+  static final CommandDescriptor ASYNC_SADD = asyncJedis("sadd");
+  static final CommandDescriptor ASYNC_SELECT = asyncJedis("select");
+  static final CommandDescriptor ASYNC_SEND_COMMAND = asyncJedis("sendCommand");
+  static final CommandDescriptor ASYNC_SET = asyncJedis("set");
+  static final CommandDescriptor ASYNC_SMEMBERS = asyncJedis("smembers");
+  static final CommandDescriptor ASYNC_ZADD = asyncJedis("zadd");
+  static final CommandDescriptor ASYNC_ZRANGE_WITH_SCORES = asyncJedis("zrangeWithScores");
+
+  static final CommandDescriptor NEAR_CACHE_GET = nearCache("get");
+  static final CommandDescriptor NEAR_CACHE_HGET = nearCache("hget");
+  static final CommandDescriptor NEAR_CACHE_HGET_ALL = nearCache("hgetAll");
+
+  static final CommandDescriptor JEDIS_CLUSTER_DEL = cluster("del");
+  static final CommandDescriptor JEDIS_CLUSTER_GET = cluster("get");
+  static final CommandDescriptor JEDIS_CLUSTER_MGET = cluster("mget");
+  static final CommandDescriptor JEDIS_CLUSTER_MSET = cluster("mset");
+  static final CommandDescriptor JEDIS_CLUSTER_SET = cluster("set");
+  // The part of a multi-key call sent to a single node of the cluster.
+  static final CommandDescriptor JEDIS_CLUSTER_NODE_BATCH = cluster("nodeBatch");
+
+  // The loading of the scripts of a script registry by a new connection.
+  static final CommandDescriptor SCRIPT_REGISTRY_PRELOAD =
+      CommandDescriptor.create("io.orijtech.integrations.ocjedis.OcScriptRegistry.preload");
+
+  // The iterations over all the pages of a scan, from the first page to the last.
+  static final CommandDescriptor SCAN_ITERATOR_HSCAN = scanIterator("hscan");
+  static final CommandDescriptor SCAN_ITERATOR_SCAN = scanIterator("scan");
+  static final CommandDescriptor SCAN_ITERATOR_SSCAN = scanIterator("sscan");
+  static final CommandDescriptor SCAN_ITERATOR_ZSCAN = scanIterator("zscan");
+}
@@ -0,0 +1,77 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagValue;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import javax.annotation.Nullable;
+import redis.clients.jedis.exceptions.JedisBusyException;
+import redis.clients.jedis.exceptions.JedisClusterMaxAttemptsException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisExhaustedPoolException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+
+// ErrorKind classifies the exceptions of failed calls into the fixed set of values of the ERROR
+// tag. Their messages hold host names, keys and the like, which would make the cardinality of the
+// tag unbounded, so they are only kept on the spans.
+final class ErrorKind {
+  static final TagValue CONNECTION_REFUSED = TagValue.create("connection_refused");
+  static final TagValue CONNECTION = TagValue.create("connection");
+  static final TagValue TIMEOUT = TagValue.create("timeout");
+  static final TagValue REDIRECT = TagValue.create("redirect");
+  static final TagValue OOM = TagValue.create("oom");
+  static final TagValue WRONGTYPE = TagValue.create("wrongtype");
+  static final TagValue NOSCRIPT = TagValue.create("noscript");
+  static final TagValue BUSY = TagValue.create("busy");
+  static final TagValue POOL_EXHAUSTED = TagValue.create("pool_exhausted");
+  static final TagValue OTHER = TagValue.create("other");
+
+  // Bounds the walk down the causes, which may form a cycle.
+  private static final int MAX_CAUSES = 8;
+
+  private ErrorKind() {}
+
+  static TagValue of(Throwable e) {
+    if (e instanceof JedisExhaustedPoolException) return POOL_EXHAUSTED;
+    if (e instanceof JedisRedirectionException) return REDIRECT;
+    if (e instanceof JedisClusterMaxAttemptsException) return REDIRECT;
+    if (e instanceof JedisNoScriptException) return NOSCRIPT;
+    if (e instanceof JedisBusyException) return BUSY;
+    if (e instanceof JedisDataException) return ofReply(e.getMessage());
+
+    // Connection failures wrap the exception of the socket.
+    Throwable cause = e;
+    for (int i = 0; i < MAX_CAUSES && cause != null; i++) {
+      if (cause instanceof SocketTimeoutException) return TIMEOUT;
+      if (cause instanceof ConnectException) return CONNECTION_REFUSED;
+      cause = cause.getCause();
+    }
+    return e instanceof JedisConnectionException ? CONNECTION : OTHER;
+  }
+
+  // Classifies an error reply by its prefix, as Redis sends it.
+  private static TagValue ofReply(@Nullable String message) {
+    if (message == null) return OTHER;
+    if (message.startsWith("OOM")) return OOM;
+    if (message.startsWith("WRONGTYPE")) return WRONGTYPE;
+    if (message.startsWith("NOSCRIPT")) return NOSCRIPT;
+    if (message.startsWith("BUSY")) return BUSY;
+    if (message.startsWith("MOVED") || message.startsWith("ASK")) return REDIRECT;
+    return OTHER;
+  }
+}
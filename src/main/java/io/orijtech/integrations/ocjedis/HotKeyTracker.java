@@ -0,0 +1,331 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Finds the keys that the wrapped commands use the most, as set by {@link
+ * Observability#setHotKeyTracker}.
+ *
+ * <p>The keys of every command are counted, along with the bytes their calls transferred, in a
+ * count-min sketch per method whose size doesn't depend on the number of keys. The keys estimated
+ * as the most used are kept as candidates in a small table per method. Both are updated without
+ * locks. Every {@code interval}, the top {@code topK} keys of each method are exported, with their
+ * estimated rate of calls and of bytes, to the listener and to {@link #getHotKeys}, and counting
+ * starts over. Estimates can only exceed the actual counts, by a small fraction of the calls of the
+ * method.
+ *
+ * <p>Methods are named like the spans and the {@code method} tag, e.g. {@code
+ * redis.clients.jedis.Jedis.get}.
+ */
+public final class HotKeyTracker implements Closeable {
+  private static final int DEPTH = 4;
+  private static final int WIDTH = 1024;
+  private static final int CANDIDATES_PER_KEY = 8;
+
+  private static final Comparator<HotKey> BY_CALLS_DESCENDING =
+      new Comparator<HotKey>() {
+        @Override
+        public int compare(HotKey a, HotKey b) {
+          return Double.compare(b.callsPerSecond, a.callsPerSecond);
+        }
+      };
+
+  /** Receives the hot keys found over every interval. */
+  public interface Listener {
+    void onHotKeys(List<HotKey> hotKeys);
+  }
+
+  private final int topK;
+  @Nullable private final Listener listener;
+  private final ScheduledExecutorService exporter;
+  private volatile Window window = new Window(System.nanoTime());
+  private volatile List<HotKey> hotKeys = Collections.emptyList();
+
+  private HotKeyTracker(int topK, long intervalNs, @Nullable Listener listener) {
+    this.topK = topK;
+    this.listener = listener;
+    this.exporter =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "ocjedis-hot-keys");
+                thread.setDaemon(true);
+                return thread;
+              }
+            });
+    this.exporter.scheduleWithFixedDelay(
+        new Runnable() {
+          @Override
+          public void run() {
+            export();
+          }
+        },
+        intervalNs,
+        intervalNs,
+        TimeUnit.NANOSECONDS);
+  }
+
+  /** Exports the top topK keys of each method every interval, to listener if it isn't null. */
+  public static HotKeyTracker create(
+      int topK, long interval, TimeUnit unit, @Nullable Listener listener) {
+    if (topK < 1) throw new IllegalArgumentException("topK must be positive");
+    if (interval <= 0) throw new IllegalArgumentException("interval must be positive");
+    return new HotKeyTracker(topK, unit.toNanos(interval), listener);
+  }
+
+  /**
+   * Returns the hot keys of the last interval, up to topK per method, from the most to the least
+   * called.
+   */
+  public List<HotKey> getHotKeys() {
+    return hotKeys;
+  }
+
+  /** Stops exporting the hot keys. */
+  @Override
+  public void close() {
+    exporter.shutdown();
+  }
+
+  // Counts a call of command on key, which transferred bytes.
+  void record(CommandDescriptor command, Object key, long bytes) {
+    Window current = window;
+    Sketch sketch = current.sketches.get(command);
+    if (sketch == null) {
+      Sketch created = new Sketch(topK);
+      sketch = current.sketches.putIfAbsent(command, created);
+      if (sketch == null) sketch = created;
+    }
+    sketch.add(key, bytes);
+  }
+
+  // Starts a new interval and exports the hot keys of the one that ended.
+  // VisibleForTesting
+  List<HotKey> export() {
+    long nowNs = System.nanoTime();
+    Window ended = window;
+    window = new Window(nowNs);
+    double seconds = Math.max(1, nowNs - ended.startNs) / 1e9;
+
+    List<HotKey> exported = new ArrayList<HotKey>();
+    for (Map.Entry<CommandDescriptor, Sketch> entry : ended.sketches.entrySet()) {
+      exported.addAll(entry.getValue().top(entry.getKey().getMethod(), topK, seconds));
+    }
+    Collections.sort(exported, BY_CALLS_DESCENDING);
+    hotKeys = Collections.unmodifiableList(exported);
+    if (listener != null) listener.onHotKeys(hotKeys);
+    return hotKeys;
+  }
+
+  /** A key that was among the most used by a method over an interval. */
+  public static final class HotKey {
+    private final String method;
+    private final String key;
+    private final double callsPerSecond;
+    private final double bytesPerSecond;
+
+    private HotKey(String method, String key, double callsPerSecond, double bytesPerSecond) {
+      this.method = method;
+      this.key = key;
+      this.callsPerSecond = callsPerSecond;
+      this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    /** Returns the key, decoded as UTF-8 when it was binary. */
+    public String getKey() {
+      return key;
+    }
+
+    /** Returns the estimated calls per second of the method on the key. */
+    public double getCallsPerSecond() {
+      return callsPerSecond;
+    }
+
+    /** Returns the estimated bytes per second that these calls transferred. */
+    public double getBytesPerSecond() {
+      return bytesPerSecond;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "HotKey{method=%s, key=%s, callsPerSecond=%.1f, bytesPerSecond=%.1f}",
+          method, key, callsPerSecond, bytesPerSecond);
+    }
+  }
+
+  // Window holds the sketches of an interval. Starting a new interval replaces the window as a
+  // whole, so that the ended one is read while the new one is updated.
+  private static final class Window {
+    private final long startNs;
+    private final ConcurrentMap<CommandDescriptor, Sketch> sketches =
+        new ConcurrentHashMap<CommandDescriptor, Sketch>();
+
+    private Window(long startNs) {
+      this.startNs = startNs;
+    }
+  }
+
+  // Sketch counts the calls and bytes of the keys of a method in DEPTH rows of WIDTH counters,
+  // each row indexing keys with its own hash. The estimate of a key is the smallest of its
+  // counters. Candidates are kept in a table where each key can take one of two slots, replacing
+  // the coldest of the two once it is estimated as hotter.
+  private static final class Sketch {
+    private final AtomicLongArray calls = new AtomicLongArray(DEPTH * WIDTH);
+    private final AtomicLongArray bytes = new AtomicLongArray(DEPTH * WIDTH);
+    private final AtomicReferenceArray<Candidate> candidates;
+    private final int candidateMask;
+
+    private Sketch(int topK) {
+      int size = Integer.highestOneBit(topK * CANDIDATES_PER_KEY * 2 - 1);
+      this.candidates = new AtomicReferenceArray<Candidate>(size);
+      this.candidateMask = size - 1;
+    }
+
+    private void add(Object key, long keyBytes) {
+      long hash = hash(key);
+      long estimate = Long.MAX_VALUE;
+      for (int row = 0; row < DEPTH; row++) {
+        int index = index(hash, row);
+        estimate = Math.min(estimate, calls.incrementAndGet(index));
+        bytes.addAndGet(index, keyBytes);
+      }
+
+      int first = (int) hash & candidateMask;
+      int second = (int) (hash >>> 40) & candidateMask;
+      Candidate a = candidates.get(first);
+      if (a != null && a.matches(key, hash)) {
+        a.estimate = estimate;
+        return;
+      }
+      Candidate b = candidates.get(second);
+      if (b != null && b.matches(key, hash)) {
+        b.estimate = estimate;
+        return;
+      }
+      int slot = first;
+      Candidate coldest = a;
+      if (a != null && (b == null || b.estimate < a.estimate)) {
+        slot = second;
+        coldest = b;
+      }
+      if (coldest == null || coldest.estimate < estimate) {
+        candidates.compareAndSet(slot, coldest, new Candidate(copyOf(key), hash, estimate));
+      }
+    }
+
+    private List<HotKey> top(String method, int topK, double seconds) {
+      List<HotKey> top = new ArrayList<HotKey>();
+      Set<String> seen = new HashSet<String>();
+      for (int i = 0; i < candidates.length(); i++) {
+        Candidate candidate = candidates.get(i);
+        if (candidate == null) continue;
+        String key = candidate.displayKey();
+        // Racing threads may have put the same key in both of its slots.
+        if (!seen.add(key)) continue;
+        top.add(
+            new HotKey(
+                method,
+                key,
+                estimate(calls, candidate.hash) / seconds,
+                estimate(bytes, candidate.hash) / seconds));
+      }
+      Collections.sort(top, BY_CALLS_DESCENDING);
+      return top.size() > topK ? new ArrayList<HotKey>(top.subList(0, topK)) : top;
+    }
+
+    private static long estimate(AtomicLongArray counters, long hash) {
+      long estimate = Long.MAX_VALUE;
+      for (int row = 0; row < DEPTH; row++) {
+        estimate = Math.min(estimate, counters.get(index(hash, row)));
+      }
+      return estimate;
+    }
+
+    // The rows index keys with h1 + row * h2, the two halves of the hash of the key.
+    private static int index(long hash, int row) {
+      int h1 = (int) hash;
+      int h2 = (int) (hash >>> 32) | 1;
+      return row * WIDTH + ((h1 + row * h2) & (WIDTH - 1));
+    }
+
+    private static long hash(Object key) {
+      long h = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+      // The finalizer of MurmurHash3, which spreads the bits of the hash code over 64 bits.
+      h *= 0x9e3779b97f4a7c15L;
+      h ^= h >>> 33;
+      h *= 0xff51afd7ed558ccdL;
+      h ^= h >>> 33;
+      h *= 0xc4ceb9fe1a85ec53L;
+      h ^= h >>> 33;
+      return h;
+    }
+
+    // Binary keys are copied since callers may reuse their arrays.
+    private static Object copyOf(Object key) {
+      return key instanceof byte[] ? ((byte[]) key).clone() : key;
+    }
+  }
+
+  private static final class Candidate {
+    private final Object key;
+    private final long hash;
+    // Updated racily, it only orders the candidates competing for a slot.
+    private volatile long estimate;
+
+    private Candidate(Object key, long hash, long estimate) {
+      this.key = key;
+      this.hash = hash;
+      this.estimate = estimate;
+    }
+
+    private boolean matches(Object other, long otherHash) {
+      if (hash != otherHash) return false;
+      if (key instanceof byte[]) {
+        return other instanceof byte[] && Arrays.equals((byte[]) key, (byte[]) other);
+      }
+      return key.equals(other);
+    }
+
+    private String displayKey() {
+      return key instanceof byte[] ? SafeEncoder.encode((byte[]) key) : (String) key;
+    }
+  }
+}
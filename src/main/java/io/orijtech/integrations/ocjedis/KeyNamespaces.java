@@ -0,0 +1,161 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagValue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Derives the {@code key_namespace} tag of the latency, calls and data transferred of commands from
+ * their first key, as set by {@link Observability#setKeyNamespaces}.
+ *
+ * <p>A key that starts with one of the prefixes added with {@link Builder#addPrefix} is in the
+ * namespace of the longest of them. Otherwise, once a delimiter is set, a key is in the namespace
+ * of what precedes its first delimiter, e.g. {@code session} for {@code session:1234} with {@code
+ * ':'}. The other keys are in the {@code other} namespace.
+ *
+ * <p>The namespaces derived from delimiters are capped at {@code maxNamespaces}, 100 by default.
+ * Beyond that, keys are in the {@code overflow} namespace, so that unexpected keys can't blow up
+ * the number of time series. Commands without keys aren't tagged, including those whose arguments
+ * aren't keys, such as the script of {@code EVAL} or the channel of {@code PUBLISH}.
+ */
+public final class KeyNamespaces {
+  private static final int DEFAULT_MAX_NAMESPACES = 100;
+
+  // The prefixes, longest first, with their encoding for binary keys.
+  private final List<String> prefixes;
+  private final List<byte[]> binaryPrefixes;
+  private final List<TagValue> prefixNamespaces;
+  private final int delimiter;
+  private final int maxNamespaces;
+  private final ConcurrentMap<String, TagValue> delimitedNamespaces =
+      new ConcurrentHashMap<String, TagValue>();
+
+  private KeyNamespaces(Builder builder) {
+    List<String> sorted = new ArrayList<String>(builder.prefixes);
+    Collections.sort(
+        sorted,
+        new Comparator<String>() {
+          @Override
+          public int compare(String a, String b) {
+            return Integer.compare(b.length(), a.length());
+          }
+        });
+    this.prefixes = Collections.unmodifiableList(sorted);
+    List<byte[]> binaryPrefixes = new ArrayList<byte[]>(sorted.size());
+    List<TagValue> prefixNamespaces = new ArrayList<TagValue>(sorted.size());
+    for (String prefix : sorted) {
+      binaryPrefixes.add(SafeEncoder.encode(prefix));
+      prefixNamespaces.add(Observability.sanitizedTagValue(prefix));
+    }
+    this.binaryPrefixes = Collections.unmodifiableList(binaryPrefixes);
+    this.prefixNamespaces = Collections.unmodifiableList(prefixNamespaces);
+    this.delimiter = builder.delimiter;
+    this.maxNamespaces = builder.maxNamespaces;
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  // Returns the namespace of key, a String or a byte[].
+  TagValue namespaceOf(Object key) {
+    return key instanceof byte[] ? namespaceOf((byte[]) key) : namespaceOf((String) key);
+  }
+
+  private TagValue namespaceOf(String key) {
+    for (int i = 0; i < prefixes.size(); i++) {
+      if (key.startsWith(prefixes.get(i))) return prefixNamespaces.get(i);
+    }
+    if (delimiter < 0) return Observability.VALUE_OTHER;
+    int end = key.indexOf(delimiter);
+    return end > 0 ? delimitedNamespace(key.substring(0, end)) : Observability.VALUE_OTHER;
+  }
+
+  private TagValue namespaceOf(byte[] key) {
+    for (int i = 0; i < binaryPrefixes.size(); i++) {
+      if (startsWith(key, binaryPrefixes.get(i))) return prefixNamespaces.get(i);
+    }
+    if (delimiter < 0) return Observability.VALUE_OTHER;
+    for (int end = 1; end < key.length; end++) {
+      if (key[end] == delimiter) {
+        return delimitedNamespace(new String(key, 0, end, StandardCharsets.UTF_8));
+      }
+    }
+    return Observability.VALUE_OTHER;
+  }
+
+  private TagValue delimitedNamespace(String namespace) {
+    TagValue value = delimitedNamespaces.get(namespace);
+    if (value != null) return value;
+    // Racing threads may take the count a few namespaces over the cap, which is harmless.
+    if (delimitedNamespaces.size() >= maxNamespaces) return Observability.VALUE_OVERFLOW;
+    TagValue created = Observability.sanitizedTagValue(namespace);
+    value = delimitedNamespaces.putIfAbsent(namespace, created);
+    return value == null ? created : value;
+  }
+
+  private static boolean startsWith(byte[] key, byte[] prefix) {
+    if (key.length < prefix.length) return false;
+    for (int i = 0; i < prefix.length; i++) {
+      if (key[i] != prefix[i]) return false;
+    }
+    return true;
+  }
+
+  /** A builder of {@link KeyNamespaces}. */
+  public static final class Builder {
+    private final List<String> prefixes = new ArrayList<String>();
+    private int delimiter = -1;
+    private int maxNamespaces = DEFAULT_MAX_NAMESPACES;
+
+    private Builder() {}
+
+    /** Puts the keys that start with prefix in the namespace named after it. */
+    public Builder addPrefix(String prefix) {
+      if (prefix.isEmpty()) throw new IllegalArgumentException("prefix must not be empty");
+      prefixes.add(prefix);
+      return this;
+    }
+
+    /**
+     * Puts the keys that match no prefix in the namespace of what precedes their first delimiter,
+     * an ASCII character.
+     */
+    public Builder setDelimiter(char delimiter) {
+      if (delimiter >= 0x80) throw new IllegalArgumentException("delimiter must be ASCII");
+      this.delimiter = delimiter;
+      return this;
+    }
+
+    /** Sets the maximum number of namespaces derived from delimiters. */
+    public Builder setMaxNamespaces(int maxNamespaces) {
+      if (maxNamespaces < 1) throw new IllegalArgumentException("maxNamespaces must be positive");
+      this.maxNamespaces = maxNamespaces;
+      return this;
+    }
+
+    public KeyNamespaces build() {
+      return new KeyNamespaces(this);
+    }
+  }
+}
@@ -25,16 +25,34 @@ import io.opencensus.stats.StatsRecorder;
 import io.opencensus.stats.View;
 import io.opencensus.stats.View.Name;
 import io.opencensus.stats.ViewManager;
+import io.opencensus.tags.TagContext;
 import io.opencensus.tags.TagContextBuilder;
 import io.opencensus.tags.TagKey;
 import io.opencensus.tags.TagValue;
 import io.opencensus.tags.Tagger;
 import io.opencensus.tags.Tags;
+import io.opencensus.trace.AttributeValue;
+import io.opencensus.trace.BlankSpan;
 import io.opencensus.trace.Span;
 import io.opencensus.trace.Status;
 import io.opencensus.trace.Tracer;
 import io.opencensus.trace.Tracing;
+import io.opencensus.trace.samplers.Samplers;
+import io.orijtech.integrations.ocjedis.OcClient.WireCounter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import redis.clients.jedis.exceptions.JedisExhaustedPoolException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
 
 public class Observability {
 
@@ -47,16 +65,47 @@ public class Observability {
   // Units of measurement
   private static final String MILLISECONDS = "ms";
   private static final String BYTES = "By";
+  private static final String DIMENSIONLESS = "1";
+  private static final String PER_SECOND = "1/s";
 
   // Tag keys
   static final TagKey METHOD = TagKey.create("method");
   static final TagKey ERROR = TagKey.create("error");
   static final TagKey STATUS = TagKey.create("status");
   static final TagKey DIRECTION = TagKey.create("type"); // DIRECTION be either of "read" or "write"
+  static final TagKey OUTCOME = TagKey.create("outcome"); // OUTCOME of an EXEC or cache lookup
+  static final TagKey REASON = TagKey.create("reason"); // REASON an entry left the near cache
+  static final TagKey CHANNEL = TagKey.create("channel"); // CHANNEL or pattern of a pub/sub message
+  static final TagKey KEY_NAMESPACE = TagKey.create("key_namespace"); // see KeyNamespaces
+  static final TagKey POOL = TagKey.create("pool"); // POOL, the host:port of an OcJedisPool
+  // COMMAND_KIND of the Redis command sent: "read", "write", "admin", "blocking" or "other".
+  static final TagKey COMMAND_KIND = TagKey.create("command_kind");
+
+  // Span attributes
+  private static final String ATTRIBUTE_PIPELINE_DEPTH = "redis.pipeline.depth";
+  private static final String ATTRIBUTE_TRANSACTION_SIZE = "redis.transaction.size";
+  private static final String ATTRIBUTE_LATENCY_NS = "redis.latency_ns";
+  private static final String ATTRIBUTE_CLUSTER_FAN_OUT = "redis.cluster.fan_out";
+  private static final String ATTRIBUTE_CLUSTER_NODE = "redis.cluster.node";
+  private static final String ATTRIBUTE_CLUSTER_KEYS = "redis.cluster.keys";
 
   // Tag values
   static final TagValue VALUE_OK = TagValue.create("OK");
   static final TagValue VALUE_ERROR = TagValue.create("ERROR");
+  static final TagValue VALUE_WRITE = TagValue.create("write");
+  static final TagValue VALUE_READ = TagValue.create("read");
+  static final TagValue VALUE_COMMITTED = TagValue.create("committed");
+  static final TagValue VALUE_ABORTED = TagValue.create("aborted");
+  static final TagValue VALUE_HIT = TagValue.create("hit");
+  static final TagValue VALUE_MISS = TagValue.create("miss");
+  static final TagValue VALUE_SIZE = TagValue.create("size");
+  static final TagValue VALUE_EXPIRED = TagValue.create("expired");
+  static final TagValue VALUE_INVALIDATED = TagValue.create("invalidated");
+  static final TagValue VALUE_OTHER = TagValue.create("other");
+  static final TagValue VALUE_OVERFLOW = TagValue.create("overflow");
+  static final TagValue VALUE_PRIMARY = TagValue.create("primary");
+  static final TagValue VALUE_REPLICA = TagValue.create("replica");
+  static final TagValue VALUE_FALLBACK = TagValue.create("fallback");
 
   // Measures
   static final MeasureDouble MEASURE_LATENCY_MS =
@@ -65,6 +114,114 @@ public class Observability {
   static final MeasureLong MEASURE_DATA_TRANSFERRED =
       MeasureLong.create("jedis/data_transferred", "Measures the data transferred", BYTES);
 
+  static final MeasureLong MEASURE_PIPELINE_DEPTH =
+      MeasureLong.create(
+          "jedis/pipeline_depth",
+          "The number of commands sent in a pipelined batch",
+          DIMENSIONLESS);
+
+  static final MeasureLong MEASURE_TRANSACTION_SIZE =
+      MeasureLong.create(
+          "jedis/transaction_size",
+          "The number of commands queued in a transaction",
+          DIMENSIONLESS);
+
+  static final MeasureDouble MEASURE_POOL_WAIT_MS =
+      MeasureDouble.create(
+          "jedis/pool_wait", "The time spent borrowing a connection from a pool", MILLISECONDS);
+
+  static final MeasureLong MEASURE_POOL_EXHAUSTED =
+      MeasureLong.create(
+          "jedis/pool_exhausted",
+          "The borrows that failed because the pool was exhausted",
+          DIMENSIONLESS);
+
+  static final MeasureLong MEASURE_POOL_ACTIVE =
+      MeasureLong.create(
+          "jedis/pool_active", "The number of connections borrowed from a pool", DIMENSIONLESS);
+
+  static final MeasureLong MEASURE_POOL_IDLE =
+      MeasureLong.create(
+          "jedis/pool_idle", "The number of idle connections in a pool", DIMENSIONLESS);
+
+  static final MeasureDouble MEASURE_POOL_CONNECTION_LATENCY_MS =
+      MeasureDouble.create(
+          "jedis/pool_connection_latency",
+          "The latency of creating and destroying the connections of a pool",
+          MILLISECONDS);
+
+  static final MeasureDouble MEASURE_TRANSACTION_EXEC_LATENCY_MS =
+      MeasureDouble.create(
+          "jedis/transaction_exec_latency",
+          "The latency of the EXEC of transactions",
+          MILLISECONDS);
+
+  static final MeasureLong MEASURE_NEAR_CACHE_LOOKUPS =
+      MeasureLong.create(
+          "jedis/near_cache_lookups", "The lookups of the near cache", DIMENSIONLESS);
+
+  static final MeasureLong MEASURE_NEAR_CACHE_EVICTIONS =
+      MeasureLong.create(
+          "jedis/near_cache_evictions", "The entries removed from the near cache", DIMENSIONLESS);
+
+  static final MeasureLong MEASURE_NEAR_CACHE_SIZE =
+      MeasureLong.create(
+          "jedis/near_cache_size", "The number of keys in the near cache", DIMENSIONLESS);
+
+  static final MeasureLong MEASURE_SCAN_COUNT =
+      MeasureLong.create(
+          "jedis/scan_count", "The COUNT hint of the pages read by scan iterators", DIMENSIONLESS);
+
+  static final MeasureDouble MEASURE_SCAN_PAGE_RATE =
+      MeasureDouble.create(
+          "jedis/scan_page_rate", "The pages read per second by scan iterators", PER_SECOND);
+
+  static final MeasureDouble MEASURE_SCRIPT_LOAD_LATENCY_MS =
+      MeasureDouble.create(
+          "jedis/script_load_latency",
+          "The latency of loading scripts the server didn't know",
+          MILLISECONDS);
+
+  static final MeasureLong MEASURE_SCRIPT_MISSES =
+      MeasureLong.create(
+          "jedis/script_misses",
+          "The scripts that the server didn't know when they were evaluated or preloaded",
+          DIMENSIONLESS);
+
+  static final MeasureDouble MEASURE_COMPRESSION_RATIO =
+      MeasureDouble.create(
+          "jedis/compression_ratio",
+          "The size of the values compressed over their compressed size",
+          DIMENSIONLESS);
+
+  static final MeasureDouble MEASURE_COMPRESSION_TIME_MS =
+      MeasureDouble.create(
+          "jedis/compression_time",
+          "The time spent compressing and decompressing values",
+          MILLISECONDS);
+
+  static final MeasureLong MEASURE_COMPRESSION_BYTES_SAVED =
+      MeasureLong.create(
+          "jedis/compression_bytes_saved", "The bytes saved by compressing values", BYTES);
+
+  static final MeasureLong MEASURE_PUBSUB_MESSAGE_SIZE =
+      MeasureLong.create(
+          "jedis/pubsub_message_size", "The size of the pub/sub messages received", BYTES);
+
+  static final MeasureDouble MEASURE_PUBSUB_DISPATCH_LATENCY_MS =
+      MeasureDouble.create(
+          "jedis/pubsub_dispatch_latency",
+          "The time pub/sub messages waited for a worker to handle them",
+          MILLISECONDS);
+
+  static final MeasureDouble MEASURE_PUBSUB_HANDLER_LATENCY_MS =
+      MeasureDouble.create(
+          "jedis/pubsub_handler_latency", "The time spent handling pub/sub messages", MILLISECONDS);
+
+  static final MeasureLong MEASURE_ROUTED_CALLS =
+      MeasureLong.create(
+          "jedis/routed_calls", "The calls routed by an OcReplicaRouter", DIMENSIONLESS);
+
   // Visible for testing.
   static final Aggregation DEFAULT_MILLISECONDS_DISTRIBUTION =
       Aggregation.Distribution.create(
@@ -125,7 +282,38 @@ public class Observability {
                   1073741824.0,
                   4294967296.0)));
 
+  static final Aggregation DEFAULT_DEPTH_DISTRIBUTION =
+      Aggregation.Distribution.create(
+          BucketBoundaries.create(
+              Arrays.asList(
+                  // [0, 1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024, 2048, 4096, 8192, 16384]
+                  0.0,
+                  1.0,
+                  2.0,
+                  4.0,
+                  8.0,
+                  16.0,
+                  32.0,
+                  64.0,
+                  128.0,
+                  256.0,
+                  512.0,
+                  1024.0,
+                  2048.0,
+                  4096.0,
+                  8192.0,
+                  16384.0)));
+
+  static final Aggregation COMPRESSION_RATIO_DISTRIBUTION =
+      Aggregation.Distribution.create(
+          BucketBoundaries.create(
+              Arrays.asList(
+                  // [0, 1, 1.5, 2, 3, 4, 6, 8, 12, 16, 32]
+                  0.0, 1.0, 1.5, 2.0, 3.0, 4.0, 6.0, 8.0, 12.0, 16.0, 32.0)));
+
   static final Aggregation COUNT = Aggregation.Count.create();
+  static final Aggregation SUM = Aggregation.Sum.create();
+  static final Aggregation LAST_VALUE = Aggregation.LastValue.create();
 
   // And the for views
   static final View LATENCY_VIEW =
@@ -134,7 +322,7 @@ public class Observability {
           "The distribution of the various latencies of the various Jedis methods",
           MEASURE_LATENCY_MS,
           DEFAULT_MILLISECONDS_DISTRIBUTION,
-          Arrays.asList(METHOD, ERROR, STATUS));
+          Arrays.asList(METHOD, COMMAND_KIND, ERROR, STATUS, KEY_NAMESPACE));
 
   static final View CALLS_VIEW =
       View.create(
@@ -142,7 +330,7 @@ public class Observability {
           "The calls made by the various Jedis methods",
           MEASURE_LATENCY_MS,
           COUNT,
-          Arrays.asList(METHOD, ERROR, STATUS));
+          Arrays.asList(METHOD, COMMAND_KIND, ERROR, STATUS, KEY_NAMESPACE));
 
   static final View DATA_TRANSFER_VIEW =
       View.create(
@@ -150,81 +338,641 @@ public class Observability {
           "The amount of data transferred",
           MEASURE_DATA_TRANSFERRED,
           DEFAULT_BYTES_DISTRIBUTION,
+          Arrays.asList(METHOD, COMMAND_KIND, DIRECTION, KEY_NAMESPACE));
+
+  static final View PIPELINE_DEPTH_VIEW =
+      View.create(
+          Name.create("jedis/pipeline_depth"),
+          "The distribution of the number of commands sent in each pipelined batch",
+          MEASURE_PIPELINE_DEPTH,
+          DEFAULT_DEPTH_DISTRIBUTION,
+          Arrays.asList(METHOD));
+
+  static final View TRANSACTION_SIZE_VIEW =
+      View.create(
+          Name.create("jedis/transaction_size"),
+          "The distribution of the number of commands queued in each transaction",
+          MEASURE_TRANSACTION_SIZE,
+          DEFAULT_DEPTH_DISTRIBUTION,
+          Arrays.asList(METHOD, OUTCOME));
+
+  static final View TRANSACTION_EXEC_LATENCY_VIEW =
+      View.create(
+          Name.create("jedis/transaction_exec_latency"),
+          "The distribution of the latency of the EXEC of transactions",
+          MEASURE_TRANSACTION_EXEC_LATENCY_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
+          Arrays.asList(METHOD, OUTCOME));
+
+  // The ratio of the "aborted" to all outcomes is the rate of transactions aborted because a
+  // WATCHed key was modified.
+  static final View TRANSACTIONS_VIEW =
+      View.create(
+          Name.create("jedis/transactions"),
+          "The transactions executed, by whether they were committed or aborted",
+          MEASURE_TRANSACTION_SIZE,
+          COUNT,
+          Arrays.asList(METHOD, OUTCOME));
+
+  static final View POOL_WAIT_VIEW =
+      View.create(
+          Name.create("jedis/pool_wait"),
+          "The distribution of the time spent borrowing connections from pools",
+          MEASURE_POOL_WAIT_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
+          Arrays.asList(POOL, STATUS));
+
+  static final View POOL_EXHAUSTED_VIEW =
+      View.create(
+          Name.create("jedis/pool_exhausted"),
+          "The borrows that failed because the pool was exhausted",
+          MEASURE_POOL_EXHAUSTED,
+          COUNT,
+          Arrays.asList(POOL));
+
+  static final View POOL_ACTIVE_VIEW =
+      View.create(
+          Name.create("jedis/pool_active"),
+          "The number of connections borrowed from the pool",
+          MEASURE_POOL_ACTIVE,
+          LAST_VALUE,
+          Arrays.asList(POOL));
+
+  static final View POOL_IDLE_VIEW =
+      View.create(
+          Name.create("jedis/pool_idle"),
+          "The number of idle connections in the pool",
+          MEASURE_POOL_IDLE,
+          LAST_VALUE,
+          Arrays.asList(POOL));
+
+  static final View POOL_CONNECTION_LATENCY_VIEW =
+      View.create(
+          Name.create("jedis/pool_connection_latency"),
+          "The distribution of the latency of creating and destroying pooled connections",
+          MEASURE_POOL_CONNECTION_LATENCY_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
+          Arrays.asList(METHOD, STATUS, POOL));
+
+  // The ratio of the "hit" to all outcomes is the hit rate of the near cache.
+  static final View NEAR_CACHE_LOOKUPS_VIEW =
+      View.create(
+          Name.create("jedis/near_cache_lookups"),
+          "The lookups of the near cache, by whether they hit or missed",
+          MEASURE_NEAR_CACHE_LOOKUPS,
+          COUNT,
+          Arrays.asList(METHOD, OUTCOME));
+
+  static final View NEAR_CACHE_EVICTIONS_VIEW =
+      View.create(
+          Name.create("jedis/near_cache_evictions"),
+          "The entries removed from the near cache, by whether it was full, they expired or they"
+              + " were invalidated",
+          MEASURE_NEAR_CACHE_EVICTIONS,
+          SUM,
+          Arrays.asList(REASON));
+
+  static final View NEAR_CACHE_SIZE_VIEW =
+      View.create(
+          Name.create("jedis/near_cache_size"),
+          "The number of keys in the near cache",
+          MEASURE_NEAR_CACHE_SIZE,
+          LAST_VALUE,
+          Collections.<TagKey>emptyList());
+
+  static final View SCAN_COUNT_VIEW =
+      View.create(
+          Name.create("jedis/scan_count"),
+          "The distribution of the COUNT hint of the pages read by scan iterators",
+          MEASURE_SCAN_COUNT,
+          DEFAULT_DEPTH_DISTRIBUTION,
+          Arrays.asList(METHOD));
+
+  static final View SCAN_PAGE_RATE_VIEW =
+      View.create(
+          Name.create("jedis/scan_page_rate"),
+          "The pages read per second by scan iterators, since the start of their iteration",
+          MEASURE_SCAN_PAGE_RATE,
+          LAST_VALUE,
+          Arrays.asList(METHOD));
+
+  static final View SCRIPT_LOAD_LATENCY_VIEW =
+      View.create(
+          Name.create("jedis/script_load_latency"),
+          "The distribution of the latency of loading scripts the server didn't know",
+          MEASURE_SCRIPT_LOAD_LATENCY_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
+          Arrays.asList(METHOD));
+
+  // The misses of EVALSHA are the NOSCRIPT replies, those of the preloading of a script registry
+  // are the registered scripts that had to be loaded.
+  static final View SCRIPT_MISSES_VIEW =
+      View.create(
+          Name.create("jedis/script_misses"),
+          "The scripts that the server didn't know when they were evaluated or preloaded",
+          MEASURE_SCRIPT_MISSES,
+          SUM,
+          Arrays.asList(METHOD));
+
+  static final View COMPRESSION_RATIO_VIEW =
+      View.create(
+          Name.create("jedis/compression_ratio"),
+          "The distribution of the compression ratio of the values compressed",
+          MEASURE_COMPRESSION_RATIO,
+          COMPRESSION_RATIO_DISTRIBUTION,
+          Arrays.asList(METHOD));
+
+  // DIRECTION is "write" for compressing values and "read" for decompressing them.
+  static final View COMPRESSION_TIME_VIEW =
+      View.create(
+          Name.create("jedis/compression_time"),
+          "The distribution of the time spent compressing and decompressing values",
+          MEASURE_COMPRESSION_TIME_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
           Arrays.asList(METHOD, DIRECTION));
 
+  static final View COMPRESSION_BYTES_SAVED_VIEW =
+      View.create(
+          Name.create("jedis/compression_bytes_saved"),
+          "The bytes saved by compressing values",
+          MEASURE_COMPRESSION_BYTES_SAVED,
+          SUM,
+          Arrays.asList(METHOD));
+
+  static final View PUBSUB_MESSAGES_VIEW =
+      View.create(
+          Name.create("jedis/pubsub_messages"),
+          "The number of pub/sub messages received",
+          MEASURE_PUBSUB_MESSAGE_SIZE,
+          COUNT,
+          Arrays.asList(CHANNEL));
+
+  static final View PUBSUB_MESSAGE_SIZE_VIEW =
+      View.create(
+          Name.create("jedis/pubsub_message_size"),
+          "The distribution of the size of the pub/sub messages received",
+          MEASURE_PUBSUB_MESSAGE_SIZE,
+          DEFAULT_BYTES_DISTRIBUTION,
+          Arrays.asList(CHANNEL));
+
+  static final View PUBSUB_DISPATCH_LATENCY_VIEW =
+      View.create(
+          Name.create("jedis/pubsub_dispatch_latency"),
+          "The distribution of the time pub/sub messages waited for a worker to handle them",
+          MEASURE_PUBSUB_DISPATCH_LATENCY_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
+          Arrays.asList(CHANNEL));
+
+  static final View PUBSUB_HANDLER_LATENCY_VIEW =
+      View.create(
+          Name.create("jedis/pubsub_handler_latency"),
+          "The distribution of the time spent handling pub/sub messages",
+          MEASURE_PUBSUB_HANDLER_LATENCY_MS,
+          DEFAULT_MILLISECONDS_DISTRIBUTION,
+          Arrays.asList(CHANNEL, STATUS));
+
+  // OUTCOME is "replica" for the reads served by a replica, "fallback" for those served by the
+  // primary after their replica failed, and "primary" for the writes and the reads without
+  // replicas.
+  static final View ROUTED_CALLS_VIEW =
+      View.create(
+          Name.create("jedis/routed_calls"),
+          "The calls routed by an OcReplicaRouter, by the node that served them",
+          MEASURE_ROUTED_CALLS,
+          COUNT,
+          Arrays.asList(METHOD, OUTCOME));
+
   public static void registerAllViews() {
     registerAllViews(Stats.getViewManager());
   }
 
   static void registerAllViews(ViewManager manager) {
-    for (View v : Arrays.asList(LATENCY_VIEW, CALLS_VIEW, DATA_TRANSFER_VIEW)) {
+    for (View v :
+        Arrays.asList(
+            LATENCY_VIEW,
+            CALLS_VIEW,
+            DATA_TRANSFER_VIEW,
+            PIPELINE_DEPTH_VIEW,
+            TRANSACTION_SIZE_VIEW,
+            TRANSACTION_EXEC_LATENCY_VIEW,
+            TRANSACTIONS_VIEW,
+            POOL_WAIT_VIEW,
+            POOL_EXHAUSTED_VIEW,
+            POOL_ACTIVE_VIEW,
+            POOL_IDLE_VIEW,
+            POOL_CONNECTION_LATENCY_VIEW,
+            NEAR_CACHE_LOOKUPS_VIEW,
+            NEAR_CACHE_EVICTIONS_VIEW,
+            NEAR_CACHE_SIZE_VIEW,
+            SCAN_COUNT_VIEW,
+            SCAN_PAGE_RATE_VIEW,
+            SCRIPT_LOAD_LATENCY_VIEW,
+            SCRIPT_MISSES_VIEW,
+            COMPRESSION_RATIO_VIEW,
+            COMPRESSION_TIME_VIEW,
+            COMPRESSION_BYTES_SAVED_VIEW,
+            PUBSUB_MESSAGES_VIEW,
+            PUBSUB_MESSAGE_SIZE_VIEW,
+            PUBSUB_DISPATCH_LATENCY_VIEW,
+            PUBSUB_HANDLER_LATENCY_VIEW,
+            ROUTED_CALLS_VIEW)) {
       manager.registerView(v);
     }
   }
 
+  // Whether the tags of the caller's current TagContext are merged into the recorded stats.
+  private static volatile boolean propagateCurrentTags = true;
+
+  /**
+   * Controls whether the tags of the caller's current {@code TagContext} are merged into the stats
+   * recorded for every command, which is the default. When disabled, successful calls are recorded
+   * against a tag context that is built once per command and then reused, so that the per-call path
+   * doesn't allocate any tag state.
+   */
+  public static void setPropagateCurrentTags(boolean propagate) {
+    propagateCurrentTags = propagate;
+  }
+
+  // The aggregator that successful calls are recorded into, null when they are recorded directly.
+  @Nullable private static volatile StripedStatsAggregator aggregator;
+  @Nullable private static ScheduledExecutorService aggregatorFlusher;
+
+  /**
+   * Enables accumulating the latency and data transferred of successful calls into striped,
+   * per-thread histograms that are merged into the {@code StatsRecorder} every {@code
+   * flushInterval} by a background thread, instead of being recorded on the calling thread.
+   *
+   * <p>The aggregated calls are recorded with the METHOD, STATUS and {@code key_namespace} tags
+   * only, the tags of the caller's current {@code TagContext} are not propagated. Failed calls are
+   * still recorded synchronously.
+   *
+   * <p>This moves the cost of recording to the background thread rather than reducing it: every
+   * aggregated call is still recorded once per measure when it is flushed.
+   */
+  public static synchronized void enableStripedAggregation(long flushInterval, TimeUnit unit) {
+    disableStripedAggregation();
+    final StripedStatsAggregator newAggregator = new StripedStatsAggregator(statsRecorder, tagger);
+    aggregatorFlusher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "ocjedis-stats-flusher");
+                thread.setDaemon(true);
+                return thread;
+              }
+            });
+    aggregatorFlusher.scheduleWithFixedDelay(
+        new Runnable() {
+          @Override
+          public void run() {
+            newAggregator.flush();
+          }
+        },
+        flushInterval,
+        flushInterval,
+        unit);
+    aggregator = newAggregator;
+  }
+
+  /**
+   * Disables the striped aggregation enabled by {@link #enableStripedAggregation}, after flushing
+   * whatever was accumulated, so that calls are recorded on the calling thread again.
+   */
+  public static synchronized void disableStripedAggregation() {
+    StripedStatsAggregator oldAggregator = aggregator;
+    if (oldAggregator == null) return;
+
+    aggregator = null;
+    aggregatorFlusher.shutdown();
+    aggregatorFlusher = null;
+    oldAggregator.flush();
+  }
+
+  // The span sampling, null to start a span for every command and leave the sampling decision to
+  // OpenCensus.
+  @Nullable private static volatile SpanSampling spanSampling;
+
+  /**
+   * Sets which commands get a span, see {@link SpanSampling}. With null, which is the default,
+   * every command starts a span and OpenCensus's sampler decides which ones are exported.
+   */
+  public static void setSpanSampling(@Nullable SpanSampling sampling) {
+    spanSampling = sampling;
+  }
+
+  // The tracker of the keys used by commands, null when they aren't tracked.
+  @Nullable private static volatile HotKeyTracker hotKeyTracker;
+
+  /**
+   * Sets the tracker that the keys of every command are counted by, see {@link HotKeyTracker}. With
+   * null, which is the default, keys aren't tracked.
+   */
+  public static void setHotKeyTracker(@Nullable HotKeyTracker tracker) {
+    hotKeyTracker = tracker;
+  }
+
+  // The namespaces that keys are tagged with, null when they aren't tagged.
+  @Nullable private static volatile KeyNamespaces keyNamespaces;
+
+  /**
+   * Sets how the {@code key_namespace} tag is derived from the keys of commands, see {@link
+   * KeyNamespaces}. With null, which is the default, commands aren't tagged with it.
+   */
+  public static void setKeyNamespaces(@Nullable KeyNamespaces namespaces) {
+    keyNamespaces = namespaces;
+  }
+
+  private static final Scope NOOP_SCOPE =
+      new Scope() {
+        @Override
+        public void close() {}
+      };
+
   // TrackingOperation records both the metric latency in milliseconds, and the span created by
   // tracing the calling function.
   static final class TrackingOperation {
-    private final Span span;
-    private final long startTimeNs;
-    private final String method;
-    private final String[] keys;
-    private boolean closed;
-    private String recordedError;
-
     private final StatsRecorder statsRecorder;
     private final Tagger tagger;
     private final Tracer tracer;
+    // The stack that recycles this operation, null if the operation is used only once.
+    @Nullable private final OperationStack owner;
 
-    TrackingOperation(String method) {
-      this(method, Observability.statsRecorder, Observability.tagger, Observability.tracer);
-    }
-
-    TrackingOperation(String method, String... keys) {
-      this(method, Observability.statsRecorder, Observability.tagger, Observability.tracer, keys);
-    }
+    private CommandDescriptor command;
+    private Span span;
+    private long startTimeNs;
+    // The keys, either Strings or byte[]s, are kept in separate fields so that the common one and
+    // two key calls don't need to allocate a varargs array.
+    @Nullable private Object key;
+    @Nullable private Object secondKey;
+    @Nullable private Object[] keys;
+    private boolean closed;
+    // The exception of a failed call, its message is only built for the span.
+    @Nullable private Exception recordedException;
+    @Nullable private TagValue errorKind;
+    // The counter of the connection used by this operation and its values when attached.
+    @Nullable private WireCounter wireCounter;
+    private long startBytesWritten;
+    private long startBytesRead;
+    // Set when the span sampling left the operation without a span.
+    private boolean sampledOut;
+    // The current span when the operation started, only kept under span sampling.
+    @Nullable private Span parent;
+    // Set when the operation was sampled out but gets a span if it turns out to be slow, in which
+    // case what would have been recorded on its span is buffered until it ends.
+    @Nullable private SpanSampling.CommandSampling slowSampling;
+    @Nullable private List<String> deferredAnnotations;
+    @Nullable private Map<String, AttributeValue> deferredAttributes;
 
     // VisibleForTesting
     TrackingOperation(
         String method, StatsRecorder statsRecorder, Tagger tagger, Tracer tracer, String... keys) {
-      startTimeNs = System.nanoTime();
-      span = tracer.spanBuilder(method).startSpan();
-      this.method = method;
-      this.keys = keys;
+      this(statsRecorder, tagger, tracer, null);
+      start(CommandDescriptor.create(method), null, null, keys);
+    }
+
+    private TrackingOperation(
+        StatsRecorder statsRecorder, Tagger tagger, Tracer tracer, @Nullable OperationStack owner) {
       this.statsRecorder = statsRecorder;
       this.tagger = tagger;
       this.tracer = tracer;
+      this.owner = owner;
+    }
+
+    private void start(
+        CommandDescriptor command,
+        @Nullable Object key,
+        @Nullable Object secondKey,
+        @Nullable Object[] keys) {
+      reset(command, key, secondKey, keys);
+      startTimeNs = System.nanoTime();
+      SpanSampling sampling = spanSampling;
+      if (sampling == null) {
+        span = tracer.spanBuilder(command.getMethod()).startSpan();
+      } else {
+        startSampledSpan(sampling, tracer.getCurrentSpan());
+      }
+    }
+
+    // Starts the operation as if it had started at startTimeNs, with a span that is a child of
+    // parent rather than of the current span.
+    private void start(CommandDescriptor command, @Nullable Span parent, long startTimeNs) {
+      reset(command, null, null, null);
+      this.startTimeNs = startTimeNs;
+      SpanSampling sampling = spanSampling;
+      if (sampling == null) {
+        span = tracer.spanBuilderWithExplicitParent(command.getMethod(), parent).startSpan();
+      } else {
+        startSampledSpan(sampling, parent);
+      }
+    }
+
+    // Starts the span of the operation if the span sampling keeps it, or leaves it without one.
+    private void startSampledSpan(SpanSampling spanSampling, @Nullable Span parent) {
+      this.parent = parent;
+      SpanSampling.CommandSampling sampling = command.sampling(spanSampling);
+      boolean sampled;
+      if (spanSampling.isParentBased() && parent != null && parent.getContext().isValid()) {
+        sampled = parent.getContext().getTraceOptions().isSampled();
+      } else {
+        double probability = sampling.getProbability();
+        sampled =
+            probability >= 1
+                || (probability > 0 && ThreadLocalRandom.current().nextDouble() < probability);
+      }
+
+      if (sampled) {
+        span = startSampledSpan(parent);
+      } else {
+        span = BlankSpan.INSTANCE;
+        sampledOut = true;
+        if (sampling.keepsSlowCalls()) slowSampling = sampling;
+      }
+    }
+
+    // The span sampling has the final say, so its spans bypass the sampler of OpenCensus.
+    private Span startSampledSpan(@Nullable Span parent) {
+      return tracer
+          .spanBuilderWithExplicitParent(command.getMethod(), parent)
+          .setSampler(Samplers.alwaysSample())
+          .startSpan();
+    }
+
+    private void reset(
+        CommandDescriptor command,
+        @Nullable Object key,
+        @Nullable Object secondKey,
+        @Nullable Object[] keys) {
+      this.command = command;
+      this.key = key;
+      this.secondKey = secondKey;
+      this.keys = keys;
+      this.closed = false;
+      this.recordedException = null;
+      this.errorKind = null;
+      this.wireCounter = null;
+      this.sampledOut = false;
+      this.parent = null;
+      this.slowSampling = null;
+      this.deferredAnnotations = null;
+      this.deferredAttributes = null;
     }
 
     @SuppressWarnings("MustBeClosedChecker")
     Scope withSpan() {
-      return tracer.withSpan(span);
+      // Without a span of its own, the operation leaves the current span as it is.
+      return sampledOut ? NOOP_SCOPE : tracer.withSpan(span);
+    }
+
+    void addAnnotation(String description) {
+      if (slowSampling != null) {
+        if (deferredAnnotations == null) deferredAnnotations = new ArrayList<String>();
+        deferredAnnotations.add(description);
+      } else {
+        span.addAnnotation(description);
+      }
+    }
+
+    private void putAttribute(String key, AttributeValue value) {
+      if (slowSampling != null) {
+        if (deferredAttributes == null) deferredAttributes = new HashMap<String, AttributeValue>();
+        deferredAttributes.put(key, value);
+      } else {
+        span.putAttribute(key, value);
+      }
+    }
+
+    // Records the number of commands sent in a pipelined batch, on both the span and
+    // PIPELINE_DEPTH_VIEW.
+    void recordPipelineDepth(long depth) {
+      putAttribute(ATTRIBUTE_PIPELINE_DEPTH, AttributeValue.longAttributeValue(depth));
+      TagContext tagContext =
+          newTagContextBuilder().put(METHOD, command.getMethodTagValue()).build();
+      statsRecorder.newMeasureMap().put(MEASURE_PIPELINE_DEPTH, depth).record(tagContext);
+    }
+
+    // Records the number of nodes that a multi-key call on a cluster was split across.
+    void recordClusterFanOut(long nodes) {
+      putAttribute(ATTRIBUTE_CLUSTER_FAN_OUT, AttributeValue.longAttributeValue(nodes));
+    }
+
+    // Records the node, and the number of keys, of the part of a multi-key call sent to one node.
+    void recordClusterNode(String node, long keys) {
+      putAttribute(ATTRIBUTE_CLUSTER_NODE, AttributeValue.stringAttributeValue(node));
+      putAttribute(ATTRIBUTE_CLUSTER_KEYS, AttributeValue.longAttributeValue(keys));
+    }
+
+    // Records the latency so far of creating or destroying a pooled connection.
+    void recordConnectionLatency(TagValue pool) {
+      double latencyMs = ((double) (System.nanoTime() - startTimeNs)) / 1e6;
+      TagContext tagContext =
+          tagger
+              .emptyBuilder()
+              .put(METHOD, command.getMethodTagValue())
+              .put(STATUS, recordedException == null ? VALUE_OK : VALUE_ERROR)
+              .put(POOL, pool)
+              .build();
+      statsRecorder
+          .newMeasureMap()
+          .put(MEASURE_POOL_CONNECTION_LATENCY_MS, latencyMs)
+          .record(tagContext);
+    }
+
+    // Records the EXEC of a transaction that queued size commands, which returns no replies when
+    // the transaction was aborted because a WATCHed key was modified.
+    void recordTransaction(long size, boolean aborted) {
+      double execLatencyMs = ((double) (System.nanoTime() - startTimeNs)) / 1e6;
+      putAttribute(ATTRIBUTE_TRANSACTION_SIZE, AttributeValue.longAttributeValue(size));
+      if (aborted) addAnnotation("Transaction aborted, a watched key was modified");
+      TagContext tagContext =
+          newTagContextBuilder()
+              .put(METHOD, command.getMethodTagValue())
+              .put(OUTCOME, aborted ? VALUE_ABORTED : VALUE_COMMITTED)
+              .build();
+      statsRecorder
+          .newMeasureMap()
+          .put(MEASURE_TRANSACTION_SIZE, size)
+          .put(MEASURE_TRANSACTION_EXEC_LATENCY_MS, execLatencyMs)
+          .record(tagContext);
+    }
+
+    // Attaches the counter of the connection this operation talks to, the bytes it counts from
+    // now on are recorded as the data transferred by this operation.
+    void attachWireCounter(WireCounter wireCounter) {
+      if (this.wireCounter != null) return;
+      this.wireCounter = wireCounter;
+      this.startBytesWritten = wireCounter.getBytesWritten();
+      this.startBytesRead = wireCounter.getBytesRead();
     }
 
     void end() {
       if (closed) return;
 
+      long totalTimeNs = System.nanoTime() - this.startTimeNs;
       try {
+        long bytesWritten = 0;
+        long bytesRead = 0;
+        if (wireCounter != null) {
+          bytesWritten = wireCounter.getBytesWritten() - startBytesWritten;
+          bytesRead = wireCounter.getBytesRead() - startBytesRead;
+        }
+
+        HotKeyTracker hotKeyTracker = Observability.hotKeyTracker;
+        if (hotKeyTracker != null) trackKeys(hotKeyTracker, bytesWritten + bytesRead);
+
+        @Nullable TagValue namespace = keyNamespace();
+
+        StripedStatsAggregator aggregator = Observability.aggregator;
+        if (recordedException == null && aggregator != null) {
+          aggregator.recordLatency(command, namespace, totalTimeNs);
+          if (wireCounter != null) {
+            aggregator.recordBytesWritten(command, namespace, bytesWritten);
+            aggregator.recordBytesRead(command, namespace, bytesRead);
+          } else {
+            // Without the wire counts, the key lengths estimate the bytes written.
+            aggregateKeyLength(aggregator, namespace, key);
+            aggregateKeyLength(aggregator, namespace, secondKey);
+            if (keys != null) {
+              for (Object key : keys) {
+                aggregateKeyLength(aggregator, namespace, key);
+              }
+            }
+          }
+          return;
+        }
+
         // Finally record the latency of the entire call,
         // as well as "status": "OK" for non-error calls.
-        TagContextBuilder tagContextBuilder = tagger.currentBuilder();
-        tagContextBuilder.put(METHOD, TagValue.create(this.method));
-
-        if (recordedError == null) {
-          tagContextBuilder.put(STATUS, VALUE_OK);
+        TagContext tagContext;
+        if (recordedException == null && !propagateCurrentTags && namespace == null) {
+          tagContext = command.okTagContext(tagger);
         } else {
-          tagContextBuilder.put(ERROR, TagValue.create(recordedError));
-          tagContextBuilder.put(STATUS, VALUE_ERROR);
-        }
+          TagContextBuilder tagContextBuilder = newTagContextBuilder();
+          tagContextBuilder.put(METHOD, command.getMethodTagValue());
+          tagContextBuilder.put(COMMAND_KIND, command.getMetadata().getKindTagValue());
+          if (namespace != null) tagContextBuilder.put(KEY_NAMESPACE, namespace);
 
-        long totalTimeNs = System.nanoTime() - this.startTimeNs;
+          if (recordedException == null) {
+            tagContextBuilder.put(STATUS, VALUE_OK);
+          } else {
+            tagContextBuilder.put(ERROR, errorKind);
+            tagContextBuilder.put(STATUS, VALUE_ERROR);
+          }
+          tagContext = tagContextBuilder.build();
+        }
 
         // Create the measure map that we'll record the various metrics in.
         MeasureMap measureMap = statsRecorder.newMeasureMap();
 
-        // Record the key length if applicable.
-        for (String key : keys) {
-          if (key != null) measureMap.put(Observability.MEASURE_DATA_TRANSFERRED, key.length());
+        // Record the key length if applicable, unless the actual bytes on the wire were counted.
+        if (wireCounter == null) {
+          putKeyLength(measureMap, key);
+          putKeyLength(measureMap, secondKey);
+          if (keys != null) {
+            for (Object key : keys) {
+              putKeyLength(measureMap, key);
+            }
+          }
         }
 
         // Record the latency.
@@ -232,30 +980,454 @@ public class Observability {
         measureMap.put(Observability.MEASURE_LATENCY_MS, timeSpentMs);
 
         // Now finally record all the stats the same tags.
-        measureMap.record(tagContextBuilder.build());
+        measureMap.record(tagContext);
+
+        // The bytes on the wire are recorded separately since they are tagged by their direction.
+        if (wireCounter != null) {
+          recordDataTransferred(bytesWritten, VALUE_WRITE, namespace);
+          recordDataTransferred(bytesRead, VALUE_READ, namespace);
+        }
       } finally {
+        if (slowSampling != null && slowSampling.isSlow(totalTimeNs)) startSlowSpan(totalTimeNs);
         span.end();
         closed = true;
+        wireCounter = null;
+        recordedException = null;
+        if (owner != null) {
+          owner.lastLatencyNs = totalTimeNs;
+          owner.release(this);
+        }
       }
     }
 
-    // Annotates the underlying span with the description of the exception. The actual ending
-    // will be performed by end.
+    // Starts the span of an operation that was sampled out but turned out to be slow, with what was
+    // buffered for it. OpenCensus can't backdate the start of a span, so the latency of the
+    // operation is recorded as an attribute.
+    private void startSlowSpan(long latencyNs) {
+      span = startSampledSpan(parent);
+      span.putAttribute(ATTRIBUTE_LATENCY_NS, AttributeValue.longAttributeValue(latencyNs));
+      span.addAnnotation("Traced because it was slower than the sampling threshold");
+      if (deferredAttributes != null) span.putAttributes(deferredAttributes);
+      if (deferredAnnotations != null) {
+        for (String description : deferredAnnotations) {
+          span.addAnnotation(description);
+        }
+      }
+      if (recordedException != null) {
+        span.setStatus(Status.UNKNOWN.withDescription(recordedException.toString()));
+      }
+    }
+
+    private TagContextBuilder newTagContextBuilder() {
+      return propagateCurrentTags ? tagger.currentBuilder() : tagger.emptyBuilder();
+    }
+
+    private void recordDataTransferred(
+        long bytes, TagValue direction, @Nullable TagValue namespace) {
+      TagContext tagContext;
+      if (!propagateCurrentTags && namespace == null) {
+        tagContext =
+            direction == VALUE_WRITE
+                ? command.writeTagContext(tagger)
+                : command.readTagContext(tagger);
+      } else {
+        TagContextBuilder tagContextBuilder =
+            newTagContextBuilder()
+                .put(METHOD, command.getMethodTagValue())
+                .put(COMMAND_KIND, command.getMetadata().getKindTagValue())
+                .put(DIRECTION, direction);
+        if (namespace != null) tagContextBuilder.put(KEY_NAMESPACE, namespace);
+        tagContext = tagContextBuilder.build();
+      }
+      statsRecorder
+          .newMeasureMap()
+          .put(Observability.MEASURE_DATA_TRANSFERRED, bytes)
+          .record(tagContext);
+    }
+
+    // Returns the namespace of the first key of the operation, null if it has no key or keys aren't
+    // tagged with their namespace.
+    @Nullable
+    private TagValue keyNamespace() {
+      KeyNamespaces namespaces = keyNamespaces;
+      if (namespaces == null || !hasRedisKeys()) return null;
+      Object firstKey = key != null ? key : secondKey;
+      if (firstKey == null && keys != null && keys.length > 0) firstKey = keys[0];
+      return firstKey == null ? null : namespaces.namespaceOf(firstKey);
+    }
+
+    // Returns whether the keys of the operation are Redis keys. Those of a known command without
+    // fixed keys aren't, e.g. the SHA1 of an EVAL script or the channel of a PUBLISH.
+    private boolean hasRedisKeys() {
+      CommandMetadata metadata = command.getMetadata();
+      return metadata.getKeyStep() != 0 || metadata == CommandMetadata.OTHER;
+    }
+
+    // Counts the keys of the operation, which share the bytes it transferred or else are counted
+    // with their own length. Only every key step-th of the keys is one, e.g. MSET's keys but not
+    // its values.
+    private void trackKeys(HotKeyTracker tracker, long bytes) {
+      if (!hasRedisKeys()) return;
+      int step = Math.max(1, command.getMetadata().getKeyStep());
+      int count = (key != null ? 1 : 0) + (secondKey != null ? 1 : 0);
+      if (keys != null) count += (keys.length + step - 1) / step;
+      if (count == 0) return;
+      long bytesPerKey = bytes / count;
+      trackKey(tracker, key, bytesPerKey);
+      trackKey(tracker, secondKey, bytesPerKey);
+      if (keys != null) {
+        for (int i = 0; i < keys.length; i += step) {
+          trackKey(tracker, keys[i], bytesPerKey);
+        }
+      }
+    }
+
+    private void trackKey(HotKeyTracker tracker, @Nullable Object key, long bytes) {
+      if (key != null) tracker.record(command, key, wireCounter != null ? bytes : keyLength(key));
+    }
+
+    private void aggregateKeyLength(
+        StripedStatsAggregator aggregator, @Nullable TagValue namespace, @Nullable Object key) {
+      if (key != null) aggregator.recordBytesWritten(command, namespace, keyLength(key));
+    }
+
+    private static void putKeyLength(MeasureMap measureMap, @Nullable Object key) {
+      if (key != null) measureMap.put(Observability.MEASURE_DATA_TRANSFERRED, keyLength(key));
+    }
+
+    private static int keyLength(Object key) {
+      return key instanceof byte[] ? ((byte[]) key).length : ((String) key).length();
+    }
+
+    // Annotates the underlying span with the description of the exception, and classifies it for
+    // the ERROR tag. The actual ending will be performed by end.
     void recordException(Exception e) {
-      recordedError = e.toString();
-      span.setStatus(Status.UNKNOWN.withDescription(recordedError));
+      recordedException = e;
+      errorKind = ErrorKind.of(e);
+      // Sampled out operations only describe the exception if they turn out to be slow.
+      if (!sampledOut) span.setStatus(Status.UNKNOWN.withDescription(e.toString()));
+      if (e instanceof JedisNoScriptException) {
+        TagContext tagContext =
+            newTagContextBuilder().put(METHOD, command.getMethodTagValue()).build();
+        statsRecorder.newMeasureMap().put(MEASURE_SCRIPT_MISSES, 1).record(tagContext);
+      }
+    }
+  }
+
+  // OperationStack holds the TrackingOperations in flight on a thread. Entries above the depth have
+  // ended and are recycled by the next call made on the same thread, so that a call doesn't need to
+  // allocate its TrackingOperation while nested calls still get their own.
+  private static final class OperationStack {
+    private TrackingOperation[] operations = new TrackingOperation[4];
+    private int depth;
+    // The latency of the operation that ended last.
+    private long lastLatencyNs;
+
+    TrackingOperation acquire() {
+      if (depth == operations.length) {
+        operations = Arrays.copyOf(operations, depth * 2);
+      }
+      TrackingOperation operation = operations[depth];
+      if (operation == null) {
+        operation = new TrackingOperation(statsRecorder, tagger, tracer, this);
+        operations[depth] = operation;
+      }
+      depth++;
+      return operation;
+    }
+
+    @Nullable
+    TrackingOperation current() {
+      return depth == 0 ? null : operations[depth - 1];
     }
+
+    void release(TrackingOperation operation) {
+      int i = depth - 1;
+      while (i >= 0 && operations[i] != operation) {
+        i--;
+      }
+      if (i < 0) return;
+
+      // Operations normally end in the reverse order of their start, in which case this is a
+      // plain pop. Otherwise shift the ones above down to keep the stack ordered.
+      System.arraycopy(operations, i + 1, operations, i, depth - 1 - i);
+      depth--;
+      operations[depth] = operation;
+    }
+  }
+
+  private static final ThreadLocal<OperationStack> operationStacks =
+      new ThreadLocal<OperationStack>() {
+        @Override
+        protected OperationStack initialValue() {
+          return new OperationStack();
+        }
+      };
+
+  private static TrackingOperation startOperation(
+      CommandDescriptor command,
+      @Nullable Object key,
+      @Nullable Object secondKey,
+      @Nullable Object[] keys) {
+    OperationStack stack = operationStacks.get();
+    TrackingOperation operation = stack.acquire();
+    try {
+      operation.start(command, key, secondKey, keys);
+    } catch (RuntimeException e) {
+      stack.release(operation);
+      throw e;
+    }
+    return operation;
+  }
+
+  // Records a borrow from the pool tagged with pool that took waitNs, failed if error isn't null,
+  // and the number of connections of the pool after it.
+  static void recordPoolBorrow(
+      TagValue pool, long waitNs, @Nullable Exception error, int active, int idle) {
+    recordPoolBorrow(statsRecorder, tagger, pool, waitNs, error, active, idle);
+  }
+
+  // VisibleForTesting
+  static void recordPoolBorrow(
+      StatsRecorder statsRecorder,
+      Tagger tagger,
+      TagValue pool,
+      long waitNs,
+      @Nullable Exception error,
+      int active,
+      int idle) {
+    TagContext tagContext =
+        tagger
+            .emptyBuilder()
+            .put(POOL, pool)
+            .put(STATUS, error == null ? VALUE_OK : VALUE_ERROR)
+            .build();
+    MeasureMap measureMap =
+        statsRecorder.newMeasureMap().put(MEASURE_POOL_WAIT_MS, ((double) waitNs) / 1e6);
+    if (error instanceof JedisExhaustedPoolException) measureMap.put(MEASURE_POOL_EXHAUSTED, 1);
+    measureMap.record(tagContext);
+    recordPoolSize(statsRecorder, tagger, pool, active, idle);
+  }
+
+  // Records the number of borrowed and idle connections of the pool tagged with pool.
+  static void recordPoolSize(TagValue pool, int active, int idle) {
+    recordPoolSize(statsRecorder, tagger, pool, active, idle);
+  }
+
+  private static void recordPoolSize(
+      StatsRecorder statsRecorder, Tagger tagger, TagValue pool, int active, int idle) {
+    // A closed pool reports negative sizes.
+    if (active < 0 || idle < 0) return;
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_POOL_ACTIVE, active)
+        .put(MEASURE_POOL_IDLE, idle)
+        .record(tagger.emptyBuilder().put(POOL, pool).build());
+  }
+
+  // Returns the tag context of the lookups of a near cache command that hit or missed, which is
+  // built once by the cache rather than on every lookup.
+  static TagContext nearCacheLookupTagContext(CommandDescriptor command, boolean hit) {
+    return tagger
+        .emptyBuilder()
+        .put(METHOD, command.getMethodTagValue())
+        .put(OUTCOME, hit ? VALUE_HIT : VALUE_MISS)
+        .build();
+  }
+
+  static void recordNearCacheLookup(TagContext tagContext) {
+    statsRecorder.newMeasureMap().put(MEASURE_NEAR_CACHE_LOOKUPS, 1).record(tagContext);
+  }
+
+  // Records count entries removed from the near cache for reason, and the size it was left with.
+  static void recordNearCacheEvictions(TagValue reason, long count, long size) {
+    if (count > 0) {
+      statsRecorder
+          .newMeasureMap()
+          .put(MEASURE_NEAR_CACHE_EVICTIONS, count)
+          .record(tagger.emptyBuilder().put(REASON, reason).build());
+    }
+    recordNearCacheSize(size);
+  }
+
+  static void recordNearCacheSize(long size) {
+    statsRecorder.newMeasureMap().put(MEASURE_NEAR_CACHE_SIZE, size).record(tagger.empty());
+  }
+
+  // Records a page read by a scan iterator with the given COUNT hint, and the rate at which the
+  // iterator has read pages so far.
+  static void recordScanPage(CommandDescriptor command, long count, double pagesPerSecond) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_SCAN_COUNT, count)
+        .put(MEASURE_SCAN_PAGE_RATE, pagesPerSecond)
+        .record(tagger.emptyBuilder().put(METHOD, command.getMethodTagValue()).build());
+  }
+
+  // Records the loading of scripts that the server didn't know on behalf of command, which took
+  // latencyNs.
+  static void recordScriptLoad(CommandDescriptor command, long scripts, long latencyNs) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_SCRIPT_MISSES, scripts)
+        .put(MEASURE_SCRIPT_LOAD_LATENCY_MS, ((double) latencyNs) / 1e6)
+        .record(tagger.emptyBuilder().put(METHOD, command.getMethodTagValue()).build());
+  }
+
+  // Records a value of uncompressedBytes compressed by command into compressedBytes in elapsedNs,
+  // and the bytes it saved once written.
+  static void recordCompression(
+      CommandDescriptor command,
+      long uncompressedBytes,
+      long compressedBytes,
+      long savedBytes,
+      long elapsedNs) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_COMPRESSION_RATIO, ((double) uncompressedBytes) / Math.max(1, compressedBytes))
+        .put(MEASURE_COMPRESSION_BYTES_SAVED, savedBytes)
+        .record(tagger.emptyBuilder().put(METHOD, command.getMethodTagValue()).build());
+    recordCompressionTime(command, VALUE_WRITE, elapsedNs);
+  }
+
+  static void recordDecompression(CommandDescriptor command, long elapsedNs) {
+    recordCompressionTime(command, VALUE_READ, elapsedNs);
+  }
+
+  private static void recordCompressionTime(
+      CommandDescriptor command, TagValue direction, long elapsedNs) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_COMPRESSION_TIME_MS, ((double) elapsedNs) / 1e6)
+        .record(
+            tagger
+                .emptyBuilder()
+                .put(METHOD, command.getMethodTagValue())
+                .put(DIRECTION, direction)
+                .build());
+  }
+
+  // Returns the tag context of the pub/sub messages received on channel, a channel or a pattern,
+  // and of their handling when status isn't null.
+  static TagContext pubSubTagContext(TagValue channel, @Nullable TagValue status) {
+    TagContextBuilder builder = tagger.emptyBuilder().put(CHANNEL, channel);
+    if (status != null) builder.put(STATUS, status);
+    return builder.build();
+  }
+
+  static void recordPubSubMessage(TagContext tagContext, long bytes) {
+    statsRecorder.newMeasureMap().put(MEASURE_PUBSUB_MESSAGE_SIZE, bytes).record(tagContext);
+  }
+
+  static void recordPubSubDispatch(TagContext tagContext, long latencyNs) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_PUBSUB_DISPATCH_LATENCY_MS, ((double) latencyNs) / 1e6)
+        .record(tagContext);
+  }
+
+  static void recordPubSubHandler(TagContext tagContext, long latencyNs) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_PUBSUB_HANDLER_LATENCY_MS, ((double) latencyNs) / 1e6)
+        .record(tagContext);
+  }
+
+  // Records a call routed by an OcReplicaRouter to the node given by route.
+  static void recordRoutedCall(CommandDescriptor command, TagValue route) {
+    statsRecorder
+        .newMeasureMap()
+        .put(MEASURE_ROUTED_CALLS, 1)
+        .record(
+            tagger
+                .emptyBuilder()
+                .put(METHOD, command.getMethodTagValue())
+                .put(OUTCOME, route)
+                .build());
+  }
+
+  // Returns value as a tag value, truncated to the maximum length of tag values and with the
+  // characters they don't allow replaced by '?'.
+  static TagValue sanitizedTagValue(String value) {
+    int length = Math.min(value.length(), TagValue.MAX_LENGTH);
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      chars[i] = c >= ' ' && c <= '~' ? c : '?';
+    }
+    return TagValue.create(new String(chars));
+  }
+
+  // Returns the latency of the last call that ended on the calling thread, as measured by its
+  // TrackingOperation.
+  static long lastCallLatencyNs() {
+    return operationStacks.get().lastLatencyNs;
+  }
+
+  // Attaches the counter of a connection to the innermost TrackingOperation in flight on the
+  // calling thread, see TrackingOperation.attachWireCounter.
+  static void attachWireCounter(WireCounter wireCounter) {
+    TrackingOperation current = operationStacks.get().current();
+    if (current != null) current.attachWireCounter(wireCounter);
+  }
+
+  // Starts a TrackingOperation that isn't tied to the calling thread, for operations such as the
+  // batches of a pipeline that outlive the call that starts them.
+  static TrackingOperation startDetachedOperation(CommandDescriptor command) {
+    TrackingOperation operation = new TrackingOperation(statsRecorder, tagger, tracer, null);
+    operation.start(command, null, null, null);
+    return operation;
+  }
+
+  // Starts a detached TrackingOperation on behalf of a call that started at startTimeNs on another
+  // thread, whose current span was parent.
+  static TrackingOperation startDetachedOperation(
+      CommandDescriptor command, @Nullable Span parent, long startTimeNs) {
+    TrackingOperation operation = new TrackingOperation(statsRecorder, tagger, tracer, null);
+    operation.start(command, parent, startTimeNs);
+    return operation;
+  }
+
+  // Returns the span of the calling thread, to be used as the parent of a detached operation.
+  @Nullable
+  static Span currentSpan() {
+    return tracer.getCurrentSpan();
+  }
+
+  // Makes span, or no span if null, the current span until the returned scope is closed, e.g. to
+  // run the continuations of an asynchronous call in the context of its caller.
+  @SuppressWarnings("MustBeClosedChecker")
+  static Scope withSpan(@Nullable Span span) {
+    return tracer.withSpan(span != null ? span : BlankSpan.INSTANCE);
+  }
+
+  static TrackingOperation createRoundtripTrackingSpan(CommandDescriptor command) {
+    return startOperation(command, null, null, null);
+  }
+
+  static TrackingOperation createRoundtripTrackingSpan(CommandDescriptor command, String key) {
+    return startOperation(command, key, null, null);
+  }
+
+  static TrackingOperation createRoundtripTrackingSpan(
+      CommandDescriptor command, String key, String secondKey) {
+    return startOperation(command, key, secondKey, null);
+  }
+
+  static TrackingOperation createRoundtripTrackingSpan(CommandDescriptor command, String... keys) {
+    return startOperation(command, null, null, keys);
   }
 
-  static TrackingOperation createRoundtripTrackingSpan(String method) {
-    return new TrackingOperation(method);
+  static TrackingOperation createRoundtripTrackingSpan(CommandDescriptor command, byte[] key) {
+    return startOperation(command, key, null, null);
   }
 
-  static TrackingOperation createRoundtripTrackingSpan(String method, String key) {
-    return new TrackingOperation(method, key);
+  static TrackingOperation createRoundtripTrackingSpan(
+      CommandDescriptor command, byte[] key, byte[] secondKey) {
+    return startOperation(command, key, secondKey, null);
   }
 
-  static TrackingOperation createRoundtripTrackingSpan(String method, String... keys) {
-    return new TrackingOperation(method, keys);
+  static TrackingOperation createRoundtripTrackingSpan(CommandDescriptor command, byte[]... keys) {
+    return startOperation(command, null, null, keys);
   }
 }
@@ -0,0 +1,487 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.common.Scope;
+import io.opencensus.trace.Span;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import io.orijtech.integrations.ocjedis.OcClient.WireCounter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * An asynchronous Redis client whose commands return a {@link CompletableFuture} of their reply
+ * instead of blocking the calling thread.
+ *
+ * <p>The client is thread-safe. All its commands are pipelined over a single non-blocking
+ * connection, driven by a {@link Selector} on a thread of its own, which also completes the
+ * futures. The futures are completed with the caller's span as the current span, so that the
+ * actions depending on them are traced as part of the caller's work. They should be quick or run
+ * asynchronously.
+ *
+ * <p>A command whose reply doesn't arrive within the socket timeout of the client fails with a
+ * {@link JedisConnectionException}. The connection is then closed, which fails the other pending
+ * commands too.
+ *
+ * <p>Every command is traced and recorded with the same measures and views as {@link OcWrapJedis},
+ * including the exact number of bytes it wrote and read.
+ */
+public class OcAsyncJedis implements Closeable {
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_GATHERED_WRITES = 64;
+
+  private final SocketChannel channel;
+  // The time to wait for a reply once its command is written, 0 to wait forever.
+  private final long soTimeoutNs;
+  private final Selector selector;
+  private final SelectionKey selectionKey;
+  private final Thread ioThread;
+
+  // The commands submitted but not written yet.
+  private final Queue<PendingReply<?>> submitted = new ConcurrentLinkedQueue<PendingReply<?>>();
+  private final AtomicBoolean wakeupPending = new AtomicBoolean();
+  private volatile boolean closed;
+
+  // The following are only used by the I/O thread.
+  private final ArrayDeque<ByteBuffer> unwritten = new ArrayDeque<ByteBuffer>();
+  private final ByteBuffer[] gatheredWrites = new ByteBuffer[MAX_GATHERED_WRITES];
+  private final ArrayDeque<PendingReply<?>> awaitingReplies = new ArrayDeque<PendingReply<?>>();
+  private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+  private final RespCodec.Decoder decoder = new RespCodec.Decoder();
+
+  public OcAsyncJedis(String host, int port) {
+    this(host, port, Protocol.DEFAULT_TIMEOUT);
+  }
+
+  public OcAsyncJedis(String host, int port, int timeout) {
+    this(host, port, timeout, timeout);
+  }
+
+  public OcAsyncJedis(String host, int port, int connectionTimeout, int soTimeout) {
+    this.soTimeoutNs = TimeUnit.MILLISECONDS.toNanos(soTimeout);
+    SocketChannel channel = null;
+    Selector selector = null;
+    try {
+      channel = SocketChannel.open();
+      channel.socket().setTcpNoDelay(true);
+      channel.socket().setKeepAlive(true);
+      channel.socket().connect(new InetSocketAddress(host, port), connectionTimeout);
+      channel.configureBlocking(false);
+      selector = Selector.open();
+      this.selectionKey = channel.register(selector, SelectionKey.OP_READ);
+    } catch (IOException e) {
+      closeQuietly(channel);
+      closeQuietly(selector);
+      throw new JedisConnectionException(e);
+    }
+    this.channel = channel;
+    this.selector = selector;
+    this.ioThread =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                runIoLoop();
+              }
+            },
+            "ocjedis-async-" + host + ":" + port);
+    this.ioThread.setDaemon(true);
+    this.ioThread.start();
+  }
+
+  /** Authenticates the connection, see {@code Jedis.auth}. */
+  public CompletableFuture<String> auth(String password) {
+    return execute(
+        Commands.ASYNC_AUTH, BuilderFactory.STRING, Command.AUTH, SafeEncoder.encode(password));
+  }
+
+  /** Selects the database of the connection, see {@code Jedis.select}. */
+  public CompletableFuture<String> select(int index) {
+    return execute(
+        Commands.ASYNC_SELECT, BuilderFactory.STRING, Command.SELECT, Protocol.toByteArray(index));
+  }
+
+  public CompletableFuture<String> ping() {
+    return execute(Commands.ASYNC_PING, BuilderFactory.STRING, Command.PING);
+  }
+
+  public CompletableFuture<String> get(String key) {
+    return execute(Commands.ASYNC_GET, BuilderFactory.STRING, Command.GET, SafeEncoder.encode(key));
+  }
+
+  public CompletableFuture<String> set(String key, String value) {
+    return execute(
+        Commands.ASYNC_SET,
+        BuilderFactory.STRING,
+        Command.SET,
+        SafeEncoder.encode(key),
+        SafeEncoder.encode(value));
+  }
+
+  public CompletableFuture<List<String>> mget(String... keys) {
+    return execute(
+        Commands.ASYNC_MGET,
+        BuilderFactory.STRING_LIST,
+        Command.MGET,
+        SafeEncoder.encodeMany(keys));
+  }
+
+  public CompletableFuture<Long> del(String... keys) {
+    return execute(
+        Commands.ASYNC_DEL, BuilderFactory.LONG, Command.DEL, SafeEncoder.encodeMany(keys));
+  }
+
+  public CompletableFuture<Boolean> exists(String key) {
+    return execute(
+        Commands.ASYNC_EXISTS, BuilderFactory.BOOLEAN, Command.EXISTS, SafeEncoder.encode(key));
+  }
+
+  public CompletableFuture<Long> expire(String key, int seconds) {
+    return execute(
+        Commands.ASYNC_EXPIRE,
+        BuilderFactory.LONG,
+        Command.EXPIRE,
+        SafeEncoder.encode(key),
+        Protocol.toByteArray(seconds));
+  }
+
+  public CompletableFuture<Long> incr(String key) {
+    return execute(Commands.ASYNC_INCR, BuilderFactory.LONG, Command.INCR, SafeEncoder.encode(key));
+  }
+
+  public CompletableFuture<String> hget(String key, String field) {
+    return execute(
+        Commands.ASYNC_HGET,
+        BuilderFactory.STRING,
+        Command.HGET,
+        SafeEncoder.encode(key),
+        SafeEncoder.encode(field));
+  }
+
+  public CompletableFuture<Long> hset(String key, String field, String value) {
+    return execute(
+        Commands.ASYNC_HSET,
+        BuilderFactory.LONG,
+        Command.HSET,
+        SafeEncoder.encode(key),
+        SafeEncoder.encode(field),
+        SafeEncoder.encode(value));
+  }
+
+  public CompletableFuture<Map<String, String>> hgetAll(String key) {
+    return execute(
+        Commands.ASYNC_HGET_ALL,
+        BuilderFactory.STRING_MAP,
+        Command.HGETALL,
+        SafeEncoder.encode(key));
+  }
+
+  public CompletableFuture<Long> lpush(String key, String... values) {
+    return execute(
+        Commands.ASYNC_LPUSH, BuilderFactory.LONG, Command.LPUSH, keyAndValues(key, values));
+  }
+
+  public CompletableFuture<Long> rpush(String key, String... values) {
+    return execute(
+        Commands.ASYNC_RPUSH, BuilderFactory.LONG, Command.RPUSH, keyAndValues(key, values));
+  }
+
+  public CompletableFuture<List<String>> lrange(String key, long start, long stop) {
+    return execute(
+        Commands.ASYNC_LRANGE,
+        BuilderFactory.STRING_LIST,
+        Command.LRANGE,
+        SafeEncoder.encode(key),
+        Protocol.toByteArray(start),
+        Protocol.toByteArray(stop));
+  }
+
+  public CompletableFuture<Long> sadd(String key, String... members) {
+    return execute(
+        Commands.ASYNC_SADD, BuilderFactory.LONG, Command.SADD, keyAndValues(key, members));
+  }
+
+  public CompletableFuture<Set<String>> smembers(String key) {
+    return execute(
+        Commands.ASYNC_SMEMBERS,
+        BuilderFactory.STRING_SET,
+        Command.SMEMBERS,
+        SafeEncoder.encode(key));
+  }
+
+  public CompletableFuture<Long> zadd(String key, double score, String member) {
+    return execute(
+        Commands.ASYNC_ZADD,
+        BuilderFactory.LONG,
+        Command.ZADD,
+        SafeEncoder.encode(key),
+        Protocol.toByteArray(score),
+        SafeEncoder.encode(member));
+  }
+
+  public CompletableFuture<Set<Tuple>> zrangeWithScores(String key, long start, long stop) {
+    return execute(
+        Commands.ASYNC_ZRANGE_WITH_SCORES,
+        BuilderFactory.TUPLE_ZSET,
+        Command.ZRANGE,
+        SafeEncoder.encode(key),
+        Protocol.toByteArray(start),
+        Protocol.toByteArray(stop),
+        Protocol.Keyword.WITHSCORES.raw);
+  }
+
+  /**
+   * Sends any command and returns its raw reply, decoded as by {@code Connection.getOne}, e.g. a
+   * {@code byte[]}, a {@code Long} or a {@code List<Object>}.
+   */
+  public CompletableFuture<Object> sendCommand(ProtocolCommand command, byte[]... args) {
+    return execute(Commands.ASYNC_SEND_COMMAND, RAW, command, args);
+  }
+
+  /** Closes the connection, failing the commands that didn't get their reply yet. */
+  @Override
+  public void close() {
+    closed = true;
+    selector.wakeup();
+    if (Thread.currentThread() != ioThread) {
+      try {
+        ioThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private <T> CompletableFuture<T> execute(
+      CommandDescriptor descriptor, Builder<T> builder, ProtocolCommand command, byte[]... args) {
+    PendingReply<T> pending = new PendingReply<T>(descriptor, builder);
+    try {
+      pending.request = RespCodec.encode(command, args);
+    } catch (RuntimeException e) {
+      pending.fail(e);
+      return pending.future;
+    }
+    pending.wireCounter.addBytesWritten(pending.request.remaining());
+
+    if (closed) {
+      pending.fail(new JedisConnectionException("The client is closed"));
+      return pending.future;
+    }
+    submitted.add(pending);
+    // Don't strand the command if the client was closed concurrently.
+    if (closed && submitted.remove(pending)) {
+      pending.fail(new JedisConnectionException("The client is closed"));
+    } else if (wakeupPending.compareAndSet(false, true)) {
+      selector.wakeup();
+    }
+    return pending.future;
+  }
+
+  private void runIoLoop() {
+    JedisConnectionException failure = new JedisConnectionException("The client is closed");
+    try {
+      while (!closed) {
+        selector.select(selectTimeoutMs());
+        wakeupPending.set(false);
+        selector.selectedKeys().clear();
+        if (selectionKey.isReadable()) read();
+        checkReplyDeadline();
+        write();
+      }
+    } catch (IOException e) {
+      failure = new JedisConnectionException(e);
+    } catch (RuntimeException e) {
+      failure =
+          e instanceof JedisConnectionException
+              ? (JedisConnectionException) e
+              : new JedisConnectionException(e);
+    } finally {
+      closed = true;
+      closeQuietly(channel);
+      closeQuietly(selector);
+      PendingReply<?> pending;
+      while ((pending = awaitingReplies.poll()) != null) {
+        pending.fail(failure);
+      }
+      while ((pending = submitted.poll()) != null) {
+        pending.fail(failure);
+      }
+    }
+  }
+
+  // Returns how long the selector can wait before the oldest reply is overdue, 0 to wait until
+  // woken up.
+  private long selectTimeoutMs() {
+    PendingReply<?> oldest = awaitingReplies.peek();
+    if (soTimeoutNs == 0 || oldest == null) return 0;
+    // Round up, a timeout of 0 would wait forever.
+    return Math.max(1, TimeUnit.NANOSECONDS.toMillis(oldest.deadlineNs - System.nanoTime()) + 1);
+  }
+
+  // Replies arrive in the order of their commands, so only the oldest can be the first overdue.
+  private void checkReplyDeadline() {
+    PendingReply<?> oldest = awaitingReplies.peek();
+    if (soTimeoutNs != 0 && oldest != null && System.nanoTime() - oldest.deadlineNs >= 0) {
+      throw new JedisConnectionException(new SocketTimeoutException("Read timed out"));
+    }
+  }
+
+  private void write() throws IOException {
+    PendingReply<?> pending;
+    long deadlineNs = System.nanoTime() + soTimeoutNs;
+    while ((pending = submitted.poll()) != null) {
+      pending.deadlineNs = deadlineNs;
+      unwritten.add(pending.request);
+      awaitingReplies.add(pending);
+    }
+
+    // Write as much as the socket takes, gathering the buffers of many commands per system call.
+    while (!unwritten.isEmpty()) {
+      int count = 0;
+      for (ByteBuffer buffer : unwritten) {
+        if (count == gatheredWrites.length) break;
+        gatheredWrites[count++] = buffer;
+      }
+      long written = channel.write(gatheredWrites, 0, count);
+      Arrays.fill(gatheredWrites, 0, count, null);
+      while (!unwritten.isEmpty() && !unwritten.peek().hasRemaining()) {
+        unwritten.poll();
+      }
+      // A buffer left with remaining bytes, whether partially written or not at all, means the
+      // socket buffer is full: wait for OP_WRITE rather than spin, so that replies are still read.
+      if (written == 0 || (!unwritten.isEmpty() && unwritten.peek().hasRemaining())) break;
+    }
+    selectionKey.interestOps(
+        unwritten.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+  }
+
+  private void read() throws IOException {
+    int read;
+    while ((read = channel.read(readBuffer)) > 0) {
+      readBuffer.flip();
+      decoder.feed(readBuffer);
+      readBuffer.clear();
+
+      Object reply;
+      while ((reply = decoder.next()) != RespCodec.Decoder.INCOMPLETE) {
+        PendingReply<?> pending = awaitingReplies.poll();
+        if (pending == null) throw new JedisConnectionException("Received an unexpected reply");
+        pending.complete(reply, decoder.lastReplyLength());
+      }
+    }
+    if (read < 0) throw new EOFException("The connection was closed by the server");
+  }
+
+  private static byte[][] keyAndValues(String key, String... values) {
+    byte[][] args = new byte[values.length + 1][];
+    args[0] = SafeEncoder.encode(key);
+    for (int i = 0; i < values.length; i++) {
+      args[i + 1] = SafeEncoder.encode(values[i]);
+    }
+    return args;
+  }
+
+  private static void closeQuietly(@Nullable Closeable closeable) {
+    if (closeable == null) return;
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      // Nothing more can be done.
+    }
+  }
+
+  private static final Builder<Object> RAW =
+      new Builder<Object>() {
+        @Override
+        public Object build(Object data) {
+          return data;
+        }
+      };
+
+  // PendingReply is a command on its way to and back from the server. It is created by the calling
+  // thread and then only used by the I/O thread.
+  private static final class PendingReply<T> {
+    private final Builder<T> builder;
+    private final CompletableFuture<T> future = new CompletableFuture<T>();
+    @Nullable private final Span parent;
+    private final TrackingOperation trackingOperation;
+    private final WireCounter wireCounter = new WireCounter();
+    private ByteBuffer request;
+    // When the reply is overdue, set once the I/O thread takes the command to write it.
+    private long deadlineNs;
+
+    private PendingReply(CommandDescriptor descriptor, Builder<T> builder) {
+      this.builder = builder;
+      this.parent = Observability.currentSpan();
+      this.trackingOperation = Observability.startDetachedOperation(descriptor);
+      this.trackingOperation.attachWireCounter(wireCounter);
+    }
+
+    private void complete(@Nullable Object reply, int replyLength) {
+      wireCounter.addBytesRead(replyLength);
+      if (reply instanceof JedisDataException) {
+        fail((JedisDataException) reply);
+        return;
+      }
+
+      T value;
+      try {
+        value = builder.build(reply);
+      } catch (RuntimeException e) {
+        fail(e);
+        return;
+      }
+      trackingOperation.end();
+      try (Scope ws = Observability.withSpan(parent)) {
+        future.complete(value);
+      }
+    }
+
+    private void fail(RuntimeException e) {
+      trackingOperation.recordException(e);
+      trackingOperation.end();
+      try (Scope ws = Observability.withSpan(parent)) {
+        future.completeExceptionally(e);
+      }
+    }
+  }
+}
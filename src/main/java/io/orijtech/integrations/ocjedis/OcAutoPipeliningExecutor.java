@@ -0,0 +1,264 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.trace.Span;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.ProtocolCommand;
+
+/**
+ * A thread-safe executor that coalesces the commands submitted by many threads into pipelined
+ * batches over a few connections borrowed from an {@link OcJedisPool}.
+ *
+ * <p>Every connection is driven by its own thread, which sends the commands queued for it as a
+ * single pipelined write once {@code maxBatchSize} commands are queued or the oldest queued command
+ * has waited for {@code maxDelay}, whichever comes first, and then completes the future of every
+ * command with its reply. The commands submitted by a thread are always sent over the same
+ * connection, in the order they were submitted. A single thread therefore only ever uses one
+ * connection, however many the executor has: more connections only help when many threads submit
+ * commands. The futures are completed by the executor's threads, so actions that depend on them
+ * should be quick or run asynchronously.
+ *
+ * <p>Every command is traced as a child of the span that was current when it was submitted, and its
+ * latency, from its submission to its reply, is recorded like that of any other call.
+ */
+public final class OcAutoPipeliningExecutor implements Closeable {
+  private final Lane[] lanes;
+  private final int laneMask;
+  private volatile boolean closed;
+
+  /**
+   * Creates an executor that sends its commands over {@code connections} connections of the pool,
+   * rounded up to a power of two.
+   */
+  public OcAutoPipeliningExecutor(
+      OcJedisPool pool, int connections, int maxBatchSize, long maxDelay, TimeUnit unit) {
+    if (connections < 1) throw new IllegalArgumentException("connections must be positive");
+    if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be positive");
+    if (maxDelay < 0) throw new IllegalArgumentException("maxDelay must not be negative");
+
+    int size = Integer.highestOneBit(connections * 2 - 1);
+    this.lanes = new Lane[size];
+    this.laneMask = size - 1;
+    for (int i = 0; i < size; i++) {
+      lanes[i] = new Lane(pool, maxBatchSize, unit.toNanos(maxDelay), "ocjedis-autopipeline-" + i);
+      lanes[i].thread.start();
+    }
+  }
+
+  /**
+   * Queues a single command, which {@code command} adds to the given pipeline, e.g. {@code
+   * executor.submit(pipeline -> pipeline.get("key"))}, and returns the future of its reply. The
+   * future fails with an {@code IllegalArgumentException} if {@code command} doesn't queue exactly
+   * one command or returns no response.
+   */
+  public <T> CompletableFuture<T> submit(Function<? super Pipeline, Response<T>> command) {
+    PendingCommand<T> pending =
+        new PendingCommand<T>(command, Observability.currentSpan(), System.nanoTime());
+    if (closed) {
+      pending.future.completeExceptionally(new IllegalStateException("The executor is closed"));
+      return pending.future;
+    }
+
+    long id = Thread.currentThread().getId();
+    Lane lane = lanes[(int) (id ^ (id >>> 16)) & laneMask];
+    lane.queue.add(pending);
+    // Don't strand the command if the executor was closed concurrently.
+    if (closed && lane.queue.remove(pending)) {
+      pending.future.completeExceptionally(new IllegalStateException("The executor is closed"));
+    }
+    return pending.future;
+  }
+
+  /**
+   * Stops the executor once the commands already queued were sent, and returns its connections to
+   * the pool.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Lane lane : lanes) {
+      lane.thread.interrupt();
+    }
+    for (Lane lane : lanes) {
+      try {
+        lane.thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private final class Lane implements Runnable {
+    private final OcJedisPool pool;
+    private final int maxBatchSize;
+    private final long maxDelayNs;
+    private final BlockingQueue<PendingCommand<?>> queue =
+        new LinkedBlockingQueue<PendingCommand<?>>();
+    private final List<PendingCommand<?>> batch = new ArrayList<PendingCommand<?>>();
+    private final Thread thread;
+    @Nullable private Jedis jedis;
+
+    private Lane(OcJedisPool pool, int maxBatchSize, long maxDelayNs, String name) {
+      this.pool = pool;
+      this.maxBatchSize = maxBatchSize;
+      this.maxDelayNs = maxDelayNs;
+      this.thread = new Thread(this, name);
+      this.thread.setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!closed) {
+          try {
+            collectBatch();
+          } catch (InterruptedException e) {
+            // Closed, send what was already queued.
+          }
+          queue.drainTo(batch, maxBatchSize - batch.size());
+          if (!batch.isEmpty()) sendBatch();
+        }
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+          sendBatch();
+        }
+      } finally {
+        if (jedis != null) jedis.close();
+      }
+    }
+
+    // Waits for a first command and then for more until the batch is full or the first command
+    // has waited for maxDelayNs.
+    private void collectBatch() throws InterruptedException {
+      PendingCommand<?> first = queue.take();
+      batch.add(first);
+      long deadlineNs = first.submitTimeNs + maxDelayNs;
+      while (batch.size() < maxBatchSize) {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long remainingNs = deadlineNs - System.nanoTime();
+        if (batch.size() == maxBatchSize || remainingNs <= 0) return;
+        PendingCommand<?> next = queue.poll(remainingNs, TimeUnit.NANOSECONDS);
+        if (next == null) return;
+        batch.add(next);
+      }
+    }
+
+    private void sendBatch() {
+      try {
+        if (jedis == null) jedis = pool.getResource();
+        Pipeline pipeline = jedis.pipelined();
+        Client client = jedis.getClient();
+        for (PendingCommand<?> pending : batch) {
+          pending.queue(pipeline, client);
+        }
+        pipeline.sync();
+        for (PendingCommand<?> pending : batch) {
+          pending.complete();
+        }
+      } catch (RuntimeException e) {
+        for (PendingCommand<?> pending : batch) {
+          pending.fail(e);
+        }
+        // The connection may be left with unread replies, so have the pool dispose of it even
+        // when its client wasn't marked as broken, which close would return as healthy.
+        if (jedis != null) {
+          pool.returnBrokenResource(jedis);
+          jedis = null;
+        }
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private static final class PendingCommand<T> {
+    private final Function<? super Pipeline, Response<T>> command;
+    @Nullable private final Span parent;
+    private final long submitTimeNs;
+    private final CompletableFuture<T> future = new CompletableFuture<T>();
+    @Nullable private Response<T> response;
+    @Nullable private TrackingOperation trackingOperation;
+
+    private PendingCommand(
+        Function<? super Pipeline, Response<T>> command, @Nullable Span parent, long submitTimeNs) {
+      this.command = command;
+      this.parent = parent;
+      this.submitTimeNs = submitTimeNs;
+    }
+
+    private void queue(Pipeline pipeline, Client client) {
+      OcPipeline ocPipeline = pipeline instanceof OcPipeline ? (OcPipeline) pipeline : null;
+      int queuedBefore = ocPipeline != null ? ocPipeline.queuedCommands() : 0;
+      try {
+        response = command.apply(pipeline);
+      } catch (RuntimeException e) {
+        fail(e);
+        return;
+      }
+      // The command is named after the last one sent, and completed with the response returned,
+      // so anything but a single queued command would be misreported.
+      int queued = ocPipeline != null ? ocPipeline.queuedCommands() - queuedBefore : 1;
+      if (response == null || queued != 1) {
+        response = null;
+        fail(
+            new IllegalArgumentException(
+                "The command must queue exactly one command and return its response, it queued "
+                    + queued));
+        return;
+      }
+      ProtocolCommand sent =
+          client instanceof OcClient ? ((OcClient) client).getLastCommand() : null;
+      trackingOperation =
+          Observability.startDetachedOperation(
+              sent != null ? Commands.pipelined(sent) : Commands.PIPELINE_COMMAND,
+              parent,
+              submitTimeNs);
+    }
+
+    private void complete() {
+      if (response == null) return;
+      try {
+        T reply = response.get();
+        if (trackingOperation != null) trackingOperation.end();
+        future.complete(reply);
+      } catch (RuntimeException e) {
+        fail(e);
+      }
+    }
+
+    private void fail(RuntimeException e) {
+      if (future.isDone()) return;
+      if (trackingOperation != null) {
+        trackingOperation.recordException(e);
+        trackingOperation.end();
+      }
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.Socket;
+import javax.annotation.Nullable;
+import redis.clients.jedis.BinaryClient;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.RedisInputStream;
+import redis.clients.jedis.util.RedisOutputStream;
+
+// OcClient is the Client used by OcWrapJedis. Once connected it wraps the socket streams so that
+// every byte written to and read from the socket is counted, and it attaches those counts to the
+// TrackingOperation in flight on the calling thread, which records them as the data transferred.
+//
+// Jedis doesn't expose a hook for the socket streams, so they are swapped in through reflection.
+// If that isn't possible the client simply keeps working without counting.
+class OcClient extends Client {
+  private final WireCounter wireCounter = new WireCounter();
+  // The last command sent, which lets a pipeline tell which command it's queueing.
+  @Nullable private ProtocolCommand lastCommand;
+
+  OcClient() {
+    super();
+  }
+
+  // Returns an OcClient with the same configuration as the given client, which must not be
+  // connected yet, or the client itself if its state can't be copied.
+  static Client wrap(Client client) {
+    if (client instanceof OcClient || client.isConnected()) return client;
+
+    OcClient ocClient = new OcClient();
+    try {
+      copyFields(Connection.class, client, ocClient);
+      copyFields(BinaryClient.class, client, ocClient);
+      copyFields(Client.class, client, ocClient);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return client;
+    }
+    return ocClient;
+  }
+
+  WireCounter getWireCounter() {
+    return wireCounter;
+  }
+
+  @Nullable
+  ProtocolCommand getLastCommand() {
+    return lastCommand;
+  }
+
+  @Override
+  public void connect() {
+    boolean wasConnected = isConnected();
+    super.connect();
+    if (!wasConnected && isConnected()) {
+      countSocketStreams();
+    }
+  }
+
+  @Override
+  public void sendCommand(ProtocolCommand cmd, byte[]... args) {
+    lastCommand = cmd;
+    Observability.attachWireCounter(wireCounter);
+    super.sendCommand(cmd, args);
+  }
+
+  private void countSocketStreams() {
+    Socket socket = getSocket();
+    try {
+      OutputStream out = new CountingOutputStream(socket.getOutputStream(), wireCounter);
+      InputStream in = new CountingInputStream(socket.getInputStream(), wireCounter);
+      setField(Connection.class, "outputStream", new RedisOutputStream(out));
+      setField(Connection.class, "inputStream", new RedisInputStream(in));
+    } catch (IOException e) {
+      throw new JedisConnectionException(e);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Keep using the uncounted streams.
+    }
+  }
+
+  private void setField(Class<?> clazz, String name, Object value)
+      throws ReflectiveOperationException {
+    Field field = clazz.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(this, value);
+  }
+
+  private static void copyFields(Class<?> clazz, Object from, Object to)
+      throws ReflectiveOperationException {
+    for (Field field : clazz.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())) continue;
+      field.setAccessible(true);
+      field.set(to, field.get(from));
+    }
+  }
+
+  // WireCounter holds the total number of bytes written to and read from a connection. It is only
+  // updated by one thread at a time.
+  static final class WireCounter {
+    private long bytesWritten;
+    private long bytesRead;
+
+    // Counts bytes that weren't transferred through the counting streams, e.g. by OcAsyncJedis.
+    void addBytesWritten(long bytes) {
+      bytesWritten += bytes;
+    }
+
+    void addBytesRead(long bytes) {
+      bytesRead += bytes;
+    }
+
+    long getBytesWritten() {
+      return bytesWritten;
+    }
+
+    long getBytesRead() {
+      return bytesRead;
+    }
+  }
+
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private final WireCounter wireCounter;
+
+    private CountingOutputStream(OutputStream out, WireCounter wireCounter) {
+      super(out);
+      this.wireCounter = wireCounter;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      wireCounter.bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      wireCounter.bytesWritten += len;
+    }
+  }
+
+  private static final class CountingInputStream extends FilterInputStream {
+    private final WireCounter wireCounter;
+
+    private CountingInputStream(InputStream in, WireCounter wireCounter) {
+      super(in);
+      this.wireCounter = wireCounter;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b != -1) wireCounter.bytesRead++;
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = in.read(b, off, len);
+      if (n > 0) wireCounter.bytesRead += n;
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = in.skip(n);
+      wireCounter.bytesRead += skipped;
+      return skipped;
+    }
+  }
+}
@@ -0,0 +1,601 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.common.Scope;
+import io.opencensus.trace.Span;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisClusterMaxAttemptsException;
+import redis.clients.jedis.exceptions.JedisClusterOperationException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisNoReachableClusterNodeException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * A client of a Redis Cluster, with an {@link OcJedisPool} per node.
+ *
+ * <p>The client caches which node serves each slot, as read with {@code CLUSTER SLOTS}, and hashes
+ * keys to their slot locally, so that commands go straight to the node serving their keys. The slot
+ * map is read again when a node redirects a command with {@code MOVED}.
+ *
+ * <p>The keys of {@code mget}, {@code mset} and {@code del} are split by node, and each node is
+ * sent a pipeline of one command per slot, in parallel with the other nodes. The replies are
+ * reassembled in the order of the keys. Each of these calls is traced as a span, with a child span
+ * per node annotated with the node and its number of keys, so that the node that dominates the
+ * latency of a call stands out.
+ */
+public final class OcJedisCluster implements Closeable {
+  private static final int SLOTS = 16384;
+  private static final int MAX_ATTEMPTS = 5;
+  // The number of fan-out threads per node, beyond which the calling thread runs its batches.
+  private static final int FAN_OUT_THREADS_PER_NODE = 2;
+
+  private final GenericObjectPoolConfig poolConfig;
+  private final int timeout;
+  @Nullable private final String password;
+  private final Set<HostAndPort> seeds;
+  private final ConcurrentMap<HostAndPort, OcJedisPool> pools =
+      new ConcurrentHashMap<HostAndPort, OcJedisPool>();
+  private final ThreadPoolExecutor executor;
+  // The node serving each slot, replaced as a whole when the slot map is read again.
+  private volatile HostAndPort[] slotOwners = new HostAndPort[SLOTS];
+  @Nullable private volatile OcScriptRegistry scriptRegistry;
+  private volatile boolean closed;
+
+  public OcJedisCluster(Set<HostAndPort> nodes) {
+    this(nodes, new GenericObjectPoolConfig(), Protocol.DEFAULT_TIMEOUT, null);
+  }
+
+  public OcJedisCluster(
+      Set<HostAndPort> nodes,
+      GenericObjectPoolConfig poolConfig,
+      int timeout,
+      @Nullable String password) {
+    if (nodes.isEmpty()) throw new IllegalArgumentException("nodes must not be empty");
+    this.poolConfig = poolConfig;
+    this.timeout = timeout;
+    this.password = password;
+    this.seeds = new LinkedHashSet<HostAndPort>(nodes);
+    // Threads are only started up to the bound, the batches that find them all busy run on the
+    // calling thread instead of queueing behind other calls.
+    this.executor =
+        new ThreadPoolExecutor(
+            0,
+            seeds.size() * FAN_OUT_THREADS_PER_NODE,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(),
+            new ThreadFactory() {
+              @Override
+              public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "ocjedis-cluster-fan-out");
+                thread.setDaemon(true);
+                return thread;
+              }
+            },
+            // Unlike CallerRunsPolicy, which drops the batches of a closed client and leaves their
+            // callers waiting, this fails them.
+            new RejectedExecutionHandler() {
+              @Override
+              public void rejectedExecution(Runnable r, ThreadPoolExecutor threadPool) {
+                if (threadPool.isShutdown()) {
+                  throw new JedisException("The cluster client is closed");
+                }
+                r.run();
+              }
+            });
+    try {
+      refreshSlots(slotOwners);
+    } catch (RuntimeException e) {
+      // Close the pools already created for the seeds.
+      close();
+      throw e;
+    }
+  }
+
+  /** Returns the value of key, like {@code Jedis.get}. */
+  @Nullable
+  public String get(final String key) {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.JEDIS_CLUSTER_GET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return execute(
+          key,
+          new KeyCall<String>() {
+            @Override
+            public String call(OcWrapJedis jedis) {
+              return jedis.get(key);
+            }
+          });
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  /** Sets the value of key, like {@code Jedis.set}. */
+  public String set(final String key, final String value) {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.JEDIS_CLUSTER_SET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return execute(
+          key,
+          new KeyCall<String>() {
+            @Override
+            public String call(OcWrapJedis jedis) {
+              return jedis.set(key, value);
+            }
+          });
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  /** Returns the values of keys, in their order, like {@code Jedis.mget}. */
+  public List<String> mget(String... keys) {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.JEDIS_CLUSTER_MGET, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      final String[] values = new String[keys.length];
+      scatterGather(
+          trackingOperation,
+          keys,
+          1,
+          new BatchCall<List<String>>() {
+            @Override
+            public Response<List<String>> queue(Pipeline pipeline, String[] args) {
+              return pipeline.mget(args);
+            }
+
+            @Override
+            public void complete(int[] indices, List<String> reply) {
+              for (int i = 0; i < indices.length; i++) {
+                values[indices[i]] = reply.get(i);
+              }
+            }
+          });
+      return Arrays.asList(values);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  /** Sets the values of keys, given as alternating keys and values, like {@code Jedis.mset}. */
+  public String mset(String... keysvalues) {
+    if (keysvalues.length % 2 != 0) {
+      throw new IllegalArgumentException("keysvalues must alternate keys and values");
+    }
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.JEDIS_CLUSTER_MSET, keysvalues);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      scatterGather(
+          trackingOperation,
+          keysvalues,
+          2,
+          new BatchCall<String>() {
+            @Override
+            public Response<String> queue(Pipeline pipeline, String[] args) {
+              return pipeline.mset(args);
+            }
+
+            @Override
+            public void complete(int[] indices, String reply) {}
+          });
+      return "OK";
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  /** Deletes keys and returns the number of keys that existed, like {@code Jedis.del}. */
+  public Long del(String... keys) {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.JEDIS_CLUSTER_DEL, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      final AtomicLong deleted = new AtomicLong();
+      scatterGather(
+          trackingOperation,
+          keys,
+          1,
+          new BatchCall<Long>() {
+            @Override
+            public Response<Long> queue(Pipeline pipeline, String[] args) {
+              return pipeline.del(args);
+            }
+
+            @Override
+            public void complete(int[] indices, Long reply) {
+              deleted.addAndGet(reply);
+            }
+          });
+      return deleted.get();
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  /**
+   * Sets the scripts that every connection to every node loads into its node, unless the node
+   * already knows them, see {@link OcJedisPool#setScriptRegistry}.
+   */
+  public void setScriptRegistry(@Nullable OcScriptRegistry scriptRegistry) {
+    this.scriptRegistry = scriptRegistry;
+    for (OcJedisPool pool : pools.values()) {
+      pool.setScriptRegistry(scriptRegistry);
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    executor.shutdown();
+    for (OcJedisPool pool : pools.values()) {
+      pool.close();
+    }
+  }
+
+  // Runs a command on the node serving key, following its redirections.
+  private <T> T execute(String key, KeyCall<T> call) {
+    int slot = JedisClusterCRC16.getSlot(key);
+    @Nullable HostAndPort asking = null;
+    JedisRedirectionException redirection = null;
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      HostAndPort[] owners = slotOwners;
+      HostAndPort node = asking != null ? asking : ownerOf(owners, slot);
+      try (OcWrapJedis jedis = pool(node).getResource()) {
+        if (asking != null) jedis.asking();
+        return call.call(jedis);
+      } catch (JedisAskDataException e) {
+        redirection = e;
+        asking = e.getTargetNode();
+      } catch (JedisMovedDataException e) {
+        redirection = e;
+        asking = null;
+        refreshSlots(owners);
+      }
+    }
+    throw new JedisClusterMaxAttemptsException("Too many cluster redirections", redirection);
+  }
+
+  // Splits keys, whose every stride-th element is a key, by the node serving them, runs call on
+  // every node, and retries the slots that were redirected.
+  private <T> void scatterGather(
+      TrackingOperation trackingOperation, String[] keys, int stride, BatchCall<T> call) {
+    Span parent = Observability.currentSpan();
+    List<SlotGroup> pending = groupBySlot(keys, stride);
+    JedisRedirectionException redirection = null;
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      HostAndPort[] owners = slotOwners;
+      Map<HostAndPort, List<SlotGroup>> batches = new LinkedHashMap<HostAndPort, List<SlotGroup>>();
+      for (SlotGroup group : pending) {
+        HostAndPort node = group.asking != null ? group.asking : ownerOf(owners, group.slot);
+        List<SlotGroup> batch = batches.get(node);
+        if (batch == null) {
+          batch = new ArrayList<SlotGroup>();
+          batches.put(node, batch);
+        }
+        batch.add(group);
+      }
+      if (attempt == 0) trackingOperation.recordClusterFanOut(batches.size());
+
+      List<SlotGroup> redirected = runBatches(batches, keys, stride, call, parent);
+      if (redirected.isEmpty()) return;
+
+      boolean moved = false;
+      for (SlotGroup group : redirected) {
+        redirection = group.redirection;
+        moved |= redirection instanceof JedisMovedDataException;
+      }
+      trackingOperation.addAnnotation(redirected.size() + " slots redirected");
+      if (moved) refreshSlots(owners);
+      pending = redirected;
+    }
+    throw new JedisClusterMaxAttemptsException("Too many cluster redirections", redirection);
+  }
+
+  // Runs the batch of every node, in parallel, and returns the slots that were redirected.
+  private <T> List<SlotGroup> runBatches(
+      Map<HostAndPort, List<SlotGroup>> batches,
+      final String[] keys,
+      final int stride,
+      final BatchCall<T> call,
+      @Nullable Span parent) {
+    List<SlotGroup> redirected = new ArrayList<SlotGroup>();
+    if (batches.size() == 1) {
+      // With a single node there is nothing to run in parallel, so skip the hand off.
+      Map.Entry<HostAndPort, List<SlotGroup>> batch = batches.entrySet().iterator().next();
+      runBatch(batch.getKey(), batch.getValue(), keys, stride, call, parent, redirected);
+      return redirected;
+    }
+
+    List<Future<List<SlotGroup>>> futures = new ArrayList<Future<List<SlotGroup>>>();
+    for (Map.Entry<HostAndPort, List<SlotGroup>> batch : batches.entrySet()) {
+      final HostAndPort node = batch.getKey();
+      final List<SlotGroup> groups = batch.getValue();
+      final Span batchParent = parent;
+      futures.add(
+          executor.submit(
+              new Callable<List<SlotGroup>>() {
+                @Override
+                public List<SlotGroup> call() {
+                  List<SlotGroup> batchRedirected = new ArrayList<SlotGroup>();
+                  runBatch(node, groups, keys, stride, call, batchParent, batchRedirected);
+                  return batchRedirected;
+                }
+              }));
+    }
+
+    // Wait for every node before failing, so that no batch is still running when the call returns.
+    RuntimeException failure = null;
+    for (Future<List<SlotGroup>> future : futures) {
+      try {
+        redirected.addAll(future.get());
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure =
+              e.getCause() instanceof RuntimeException
+                  ? (RuntimeException) e.getCause()
+                  : new JedisException(e.getCause());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JedisException("Interrupted while waiting for the nodes of the cluster", e);
+      }
+    }
+    if (failure != null) throw failure;
+    return redirected;
+  }
+
+  // Sends the commands of groups, all on keys served by node, in a pipeline, and adds the groups
+  // that were redirected to redirected.
+  private <T> void runBatch(
+      HostAndPort node,
+      List<SlotGroup> groups,
+      String[] keys,
+      int stride,
+      BatchCall<T> call,
+      @Nullable Span parent,
+      List<SlotGroup> redirected) {
+    TrackingOperation trackingOperation =
+        Observability.startDetachedOperation(
+            Commands.JEDIS_CLUSTER_NODE_BATCH, parent, System.nanoTime());
+    int keyCount = 0;
+    for (SlotGroup group : groups) {
+      keyCount += group.indices.length;
+    }
+    trackingOperation.recordClusterNode(node.toString(), keyCount);
+
+    try (Scope ws = trackingOperation.withSpan();
+        OcWrapJedis jedis = pool(node).getResource()) {
+      List<SlotGroup> queued = new ArrayList<SlotGroup>(groups.size());
+      List<Response<T>> responses = new ArrayList<Response<T>>(groups.size());
+      for (SlotGroup group : groups) {
+        if (group.asking != null) {
+          // ASKING only applies to the command right after it, which a pipeline can't interleave.
+          jedis.asking();
+          Pipeline pipeline = jedis.pipelined();
+          Response<T> response = call.queue(pipeline, group.args(keys, stride));
+          pipeline.sync();
+          complete(group, response, call, redirected);
+        } else {
+          queued.add(group);
+        }
+      }
+      if (queued.isEmpty()) return;
+
+      Pipeline pipeline = jedis.pipelined();
+      for (SlotGroup group : queued) {
+        responses.add(call.queue(pipeline, group.args(keys, stride)));
+      }
+      pipeline.sync();
+      for (int i = 0; i < queued.size(); i++) {
+        complete(queued.get(i), responses.get(i), call, redirected);
+      }
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  private static <T> void complete(
+      SlotGroup group, Response<T> response, BatchCall<T> call, List<SlotGroup> redirected) {
+    try {
+      call.complete(group.indices, response.get());
+    } catch (JedisRedirectionException e) {
+      group.redirection = e;
+      group.asking = e instanceof JedisAskDataException ? e.getTargetNode() : null;
+      redirected.add(group);
+    }
+  }
+
+  // Groups the indices of the keys by their slot, in the order of the keys.
+  private static List<SlotGroup> groupBySlot(String[] keys, int stride) {
+    Map<Integer, List<Integer>> slots = new LinkedHashMap<Integer, List<Integer>>();
+    for (int i = 0; i < keys.length; i += stride) {
+      Integer slot = JedisClusterCRC16.getSlot(keys[i]);
+      List<Integer> indices = slots.get(slot);
+      if (indices == null) {
+        indices = new ArrayList<Integer>();
+        slots.put(slot, indices);
+      }
+      indices.add(i);
+    }
+
+    List<SlotGroup> groups = new ArrayList<SlotGroup>(slots.size());
+    for (Map.Entry<Integer, List<Integer>> entry : slots.entrySet()) {
+      List<Integer> indices = entry.getValue();
+      int[] array = new int[indices.size()];
+      for (int i = 0; i < array.length; i++) {
+        array[i] = indices.get(i);
+      }
+      groups.add(new SlotGroup(entry.getKey(), array));
+    }
+    return groups;
+  }
+
+  private static HostAndPort ownerOf(HostAndPort[] owners, int slot) {
+    HostAndPort owner = owners[slot];
+    if (owner == null) throw new JedisClusterOperationException("No node serves slot " + slot);
+    return owner;
+  }
+
+  private OcJedisPool pool(HostAndPort node) {
+    OcJedisPool pool = pools.get(node);
+    if (pool == null) {
+      if (closed) throw new JedisException("The cluster client is closed");
+      OcJedisPool created =
+          new OcJedisPool(poolConfig, node.getHost(), node.getPort(), timeout, password);
+      // The scripts are loaded by the first connection to the node.
+      created.useScriptRegistry(scriptRegistry);
+      pool = pools.putIfAbsent(node, created);
+      if (pool == null) {
+        pool = created;
+      } else {
+        created.close();
+      }
+    }
+    return pool;
+  }
+
+  // Reads the slot map again, unless it was already read since stale was.
+  private synchronized void refreshSlots(HostAndPort[] stale) {
+    if (slotOwners != stale) return;
+
+    // Prefer the nodes already known over the seeds, which may have left the cluster since.
+    Set<HostAndPort> nodes = new LinkedHashSet<HostAndPort>(pools.keySet());
+    nodes.addAll(seeds);
+    JedisException failure = null;
+    for (HostAndPort node : nodes) {
+      try (OcWrapJedis jedis = pool(node).getResource()) {
+        HostAndPort[] owners = parseSlots(jedis.clusterSlots(), node);
+        executor.setMaximumPoolSize(Math.max(1, nodeCount(owners)) * FAN_OUT_THREADS_PER_NODE);
+        slotOwners = owners;
+        return;
+      } catch (JedisException e) {
+        failure = e;
+      }
+    }
+    throw new JedisNoReachableClusterNodeException("No node could report the slots", failure);
+  }
+
+  private static int nodeCount(HostAndPort[] owners) {
+    Set<HostAndPort> nodes = new HashSet<HostAndPort>(Arrays.asList(owners));
+    nodes.remove(null);
+    return nodes.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HostAndPort[] parseSlots(List<Object> ranges, HostAndPort queried) {
+    HostAndPort[] owners = new HostAndPort[SLOTS];
+    for (Object range : ranges) {
+      List<Object> fields = (List<Object>) range;
+      int start = ((Long) fields.get(0)).intValue();
+      int end = ((Long) fields.get(1)).intValue();
+      List<Object> master = (List<Object>) fields.get(2);
+      String host = SafeEncoder.encode((byte[]) master.get(0));
+      int port = ((Long) master.get(1)).intValue();
+      // A node that doesn't know its own address reports an empty host.
+      HostAndPort owner = new HostAndPort(host.isEmpty() ? queried.getHost() : host, port);
+      Arrays.fill(owners, start, end + 1, owner);
+    }
+    return owners;
+  }
+
+  private interface KeyCall<T> {
+    T call(OcWrapJedis jedis);
+  }
+
+  // BatchCall queues the command of a slot's keys on a pipeline, and consumes its reply.
+  private interface BatchCall<T> {
+    Response<T> queue(Pipeline pipeline, String[] args);
+
+    void complete(int[] indices, T reply);
+  }
+
+  // SlotGroup holds the indices of the keys of a call that hash to the same slot, and whether they
+  // were redirected.
+  private static final class SlotGroup {
+    private final int slot;
+    private final int[] indices;
+    @Nullable private HostAndPort asking;
+    @Nullable private JedisRedirectionException redirection;
+
+    private SlotGroup(int slot, int[] indices) {
+      this.slot = slot;
+      this.indices = indices;
+    }
+
+    // Returns the arguments of the command on the keys of this slot, with the stride - 1 arguments
+    // following each key.
+    private String[] args(String[] keys, int stride) {
+      String[] args = new String[indices.length * stride];
+      for (int i = 0; i < indices.length; i++) {
+        System.arraycopy(keys, indices[i], args, i * stride, stride);
+      }
+      return args;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.common.Scope;
+import io.opencensus.tags.TagValue;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.net.URI;
+import javax.annotation.Nullable;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocketFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.InvalidURIException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.JedisURIHelper;
+
+// OcJedisFactory creates the OcWrapJedis connections of an OcJedisPool. It behaves like Jedis's
+// own, package-private, JedisFactory and also traces and records the creation and destruction of
+// every connection.
+class OcJedisFactory implements PooledObjectFactory<Jedis> {
+  private final String host;
+  private final int port;
+  private final int connectionTimeout;
+  private final int soTimeout;
+  private final String password;
+  private final int database;
+  private final String clientName;
+  private final boolean ssl;
+  private final SSLSocketFactory sslSocketFactory;
+  private final SSLParameters sslParameters;
+  private final HostnameVerifier hostnameVerifier;
+  // The value of the POOL tag of the connections' metrics, the server's host:port.
+  private final TagValue poolTagValue;
+  @Nullable private volatile OcScriptRegistry scriptRegistry;
+
+  OcJedisFactory(
+      String host,
+      int port,
+      int connectionTimeout,
+      int soTimeout,
+      String password,
+      int database,
+      String clientName,
+      boolean ssl,
+      SSLSocketFactory sslSocketFactory,
+      SSLParameters sslParameters,
+      HostnameVerifier hostnameVerifier) {
+    this.host = host;
+    this.port = port;
+    this.connectionTimeout = connectionTimeout;
+    this.soTimeout = soTimeout;
+    this.password = password;
+    this.database = database;
+    this.clientName = clientName;
+    this.ssl = ssl;
+    this.sslSocketFactory = sslSocketFactory;
+    this.sslParameters = sslParameters;
+    this.hostnameVerifier = hostnameVerifier;
+    this.poolTagValue = Observability.sanitizedTagValue(host + ":" + port);
+  }
+
+  static OcJedisFactory create(
+      URI uri,
+      int connectionTimeout,
+      int soTimeout,
+      String clientName,
+      SSLSocketFactory sslSocketFactory,
+      SSLParameters sslParameters,
+      HostnameVerifier hostnameVerifier) {
+    // A URI without a port connects to the default one.
+    int port = uri.getPort() == -1 ? Protocol.DEFAULT_PORT : uri.getPort();
+    if (uri.getScheme() == null || uri.getHost() == null) {
+      throw new InvalidURIException(
+          String.format("Cannot open Redis connection due invalid URI. %s", uri.toString()));
+    }
+    return new OcJedisFactory(
+        uri.getHost(),
+        port,
+        connectionTimeout,
+        soTimeout,
+        JedisURIHelper.getPassword(uri),
+        JedisURIHelper.getDBIndex(uri),
+        clientName,
+        JedisURIHelper.isRedisSSLScheme(uri),
+        sslSocketFactory,
+        sslParameters,
+        hostnameVerifier);
+  }
+
+  TagValue poolTagValue() {
+    return poolTagValue;
+  }
+
+  void setScriptRegistry(@Nullable OcScriptRegistry scriptRegistry) {
+    this.scriptRegistry = scriptRegistry;
+  }
+
+  @Override
+  public PooledObject<Jedis> makeObject() throws Exception {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.POOL_MAKE_OBJECT);
+
+    Jedis jedis;
+    try (Scope ws = trackingOperation.withSpan()) {
+      jedis =
+          new OcWrapJedis(
+              host,
+              port,
+              connectionTimeout,
+              soTimeout,
+              ssl,
+              sslSocketFactory,
+              sslParameters,
+              hostnameVerifier);
+      try {
+        jedis.connect();
+        if (password != null) jedis.auth(password);
+        if (database != 0) jedis.select(database);
+        if (clientName != null) jedis.clientSetname(clientName);
+      } catch (JedisException e) {
+        jedis.close();
+        throw e;
+      }
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.recordConnectionLatency(poolTagValue);
+      trackingOperation.end();
+    }
+    // Loading the scripts isn't part of creating the connection, it records its own latency.
+    OcScriptRegistry registry = scriptRegistry;
+    if (registry != null) {
+      try {
+        registry.preload(jedis);
+      } catch (JedisException e) {
+        // The connection is still usable, calls load the scripts they miss themselves.
+      }
+    }
+    return new DefaultPooledObject<Jedis>(jedis);
+  }
+
+  @Override
+  public void destroyObject(PooledObject<Jedis> pooledJedis) throws Exception {
+    Jedis jedis = pooledJedis.getObject();
+    if (!jedis.isConnected()) return;
+
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.POOL_DESTROY_OBJECT);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      try {
+        jedis.quit();
+      } catch (Exception e) {
+        // The connection is closed below regardless.
+      }
+      jedis.disconnect();
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+    } finally {
+      trackingOperation.recordConnectionLatency(poolTagValue);
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public boolean validateObject(PooledObject<Jedis> pooledJedis) {
+    Jedis jedis = pooledJedis.getObject();
+    try {
+      return host.equals(jedis.getClient().getHost())
+          && port == jedis.getClient().getPort()
+          && jedis.isConnected()
+          && jedis.ping().equals("PONG");
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public void activateObject(PooledObject<Jedis> pooledJedis) throws Exception {
+    Jedis jedis = pooledJedis.getObject();
+    if (jedis.getDB() != database) jedis.select(database);
+  }
+
+  @Override
+  public void passivateObject(PooledObject<Jedis> pooledJedis) throws Exception {}
+}
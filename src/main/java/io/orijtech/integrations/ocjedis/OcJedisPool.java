@@ -0,0 +1,199 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagValue;
+import java.net.URI;
+import javax.annotation.Nullable;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocketFactory;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPoolAbstract;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A pool of {@link OcWrapJedis} connections, used like a {@code JedisPool}.
+ *
+ * <p>In addition to the calls made on its connections, the pool records the time spent borrowing
+ * connections, the borrows that failed because the pool was exhausted, the number of borrowed and
+ * idle connections, and the latency of creating and destroying connections. These are tagged with
+ * the {@code pool} tag, the host and port of the pool's server.
+ */
+public class OcJedisPool extends JedisPoolAbstract {
+  // The value of the POOL tag of the pool's metrics, its server's host:port.
+  private final TagValue poolTagValue;
+  @Nullable private volatile OcValueCompression valueCompression;
+
+  public OcJedisPool(String host, int port) {
+    this(new GenericObjectPoolConfig(), host, port);
+  }
+
+  public OcJedisPool(GenericObjectPoolConfig poolConfig, String host, int port) {
+    this(poolConfig, host, port, Protocol.DEFAULT_TIMEOUT, null);
+  }
+
+  public OcJedisPool(
+      GenericObjectPoolConfig poolConfig, String host, int port, int timeout, String password) {
+    this(poolConfig, host, port, timeout, password, Protocol.DEFAULT_DATABASE);
+  }
+
+  public OcJedisPool(
+      GenericObjectPoolConfig poolConfig,
+      String host,
+      int port,
+      int timeout,
+      String password,
+      int database) {
+    this(
+        poolConfig,
+        host,
+        port,
+        timeout,
+        timeout,
+        password,
+        database,
+        null,
+        false,
+        null,
+        null,
+        null);
+  }
+
+  public OcJedisPool(
+      GenericObjectPoolConfig poolConfig,
+      String host,
+      int port,
+      int connectionTimeout,
+      int soTimeout,
+      String password,
+      int database,
+      String clientName,
+      boolean ssl,
+      SSLSocketFactory sslSocketFactory,
+      SSLParameters sslParameters,
+      HostnameVerifier hostnameVerifier) {
+    this(
+        poolConfig,
+        new OcJedisFactory(
+            host,
+            port,
+            connectionTimeout,
+            soTimeout,
+            password,
+            database,
+            clientName,
+            ssl,
+            sslSocketFactory,
+            sslParameters,
+            hostnameVerifier));
+  }
+
+  public OcJedisPool(GenericObjectPoolConfig poolConfig, URI uri) {
+    this(poolConfig, uri, Protocol.DEFAULT_TIMEOUT, Protocol.DEFAULT_TIMEOUT, null, null, null);
+  }
+
+  public OcJedisPool(
+      GenericObjectPoolConfig poolConfig,
+      URI uri,
+      int connectionTimeout,
+      int soTimeout,
+      SSLSocketFactory sslSocketFactory,
+      SSLParameters sslParameters,
+      HostnameVerifier hostnameVerifier) {
+    this(
+        poolConfig,
+        OcJedisFactory.create(
+            uri,
+            connectionTimeout,
+            soTimeout,
+            null,
+            sslSocketFactory,
+            sslParameters,
+            hostnameVerifier));
+  }
+
+  private OcJedisPool(GenericObjectPoolConfig poolConfig, OcJedisFactory factory) {
+    super(poolConfig, factory);
+    this.poolTagValue = factory.poolTagValue();
+  }
+
+  /**
+   * Sets the scripts that every connection created by the pool loads into the server, unless it
+   * already knows them. They are also loaded right away, the connections the pool already holds
+   * share the same server.
+   */
+  public void setScriptRegistry(@Nullable OcScriptRegistry scriptRegistry) {
+    useScriptRegistry(scriptRegistry);
+    if (scriptRegistry == null) return;
+    try (Jedis jedis = getResource()) {
+      scriptRegistry.preload(jedis);
+    }
+  }
+
+  // Sets the scripts loaded by the connections created from now on, without loading them now.
+  void useScriptRegistry(@Nullable OcScriptRegistry scriptRegistry) {
+    ((OcJedisFactory) internalPool.getFactory()).setScriptRegistry(scriptRegistry);
+  }
+
+  /**
+   * Sets how the connections borrowed from now on compress values, or disables compressing them
+   * when null, see {@link OcWrapJedis#setValueCompression}.
+   */
+  public void setValueCompression(@Nullable OcValueCompression valueCompression) {
+    this.valueCompression = valueCompression;
+  }
+
+  @Override
+  public OcWrapJedis getResource() {
+    long startNs = System.nanoTime();
+    try {
+      OcWrapJedis jedis = (OcWrapJedis) super.getResource();
+      jedis.setDataSource(this);
+      jedis.setValueCompression(valueCompression);
+      Observability.recordPoolBorrow(
+          poolTagValue, System.nanoTime() - startNs, null, getNumActive(), getNumIdle());
+      return jedis;
+    } catch (JedisException e) {
+      Observability.recordPoolBorrow(
+          poolTagValue, System.nanoTime() - startNs, e, getNumActive(), getNumIdle());
+      throw e;
+    }
+  }
+
+  @Override
+  protected void returnBrokenResource(Jedis resource) {
+    if (resource != null) {
+      returnBrokenResourceObject(resource);
+      Observability.recordPoolSize(poolTagValue, getNumActive(), getNumIdle());
+    }
+  }
+
+  @Override
+  protected void returnResource(Jedis resource) {
+    if (resource != null) {
+      try {
+        resource.resetState();
+        returnResourceObject(resource);
+      } catch (Exception e) {
+        returnBrokenResource(resource);
+        throw new JedisException("Resource is returned to the pool as broken", e);
+      }
+      Observability.recordPoolSize(poolTagValue, getNumActive(), getNumIdle());
+    }
+  }
+}
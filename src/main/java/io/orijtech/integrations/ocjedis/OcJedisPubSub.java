@@ -0,0 +1,237 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagValue;
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A {@link JedisPubSub} that records the messages it receives and the time spent handling them, and
+ * that can hand them to workers instead of handling them on the subscribing thread.
+ *
+ * <p>Subclasses handle messages in {@link #handleMessage} and {@link #handlePMessage} rather than
+ * in {@code onMessage} and {@code onPMessage}. The messages received, their size and the latency of
+ * their handling, by whether the handler threw, are recorded by channel, or by pattern for the
+ * messages of a {@code psubscribe}.
+ *
+ * <p>By default messages are handled on the subscribing thread, one after the other, like {@code
+ * JedisPubSub} does. Given a number of workers, each channel is assigned a worker and its messages
+ * are queued for it, so that the messages of a channel are still handled in order while a slow
+ * handler only holds back the channels of its worker. When the queue of a worker is full, the
+ * subscribing thread waits for room, which leaves the messages that follow buffered by the server.
+ * The time messages waited in the queues is recorded too. Exceptions thrown by handlers running on
+ * workers are recorded and dropped. Close the subscriber once it is no longer subscribed to stop
+ * its workers.
+ */
+public abstract class OcJedisPubSub extends JedisPubSub implements Closeable {
+  // Beyond this many channels and patterns, messages are recorded under "other".
+  private static final int MAX_CHANNELS = 1024;
+  private static final long OFFER_INTERVAL_MS = 100;
+
+  private final ConcurrentMap<String, ChannelStats> channelStats =
+      new ConcurrentHashMap<String, ChannelStats>();
+  private final ChannelStats otherStats = new ChannelStats(Observability.VALUE_OTHER);
+  @Nullable private final Worker[] workers;
+  private volatile boolean closed;
+
+  /** Handles messages on the subscribing thread. */
+  protected OcJedisPubSub() {
+    this.workers = null;
+  }
+
+  /** Handles messages on workers, each queuing up to queueCapacity messages. */
+  protected OcJedisPubSub(int workers, int queueCapacity) {
+    if (workers < 1) throw new IllegalArgumentException("workers must be positive");
+    if (queueCapacity < 1) throw new IllegalArgumentException("queueCapacity must be positive");
+    this.workers = new Worker[workers];
+    for (int i = 0; i < workers; i++) {
+      this.workers[i] = new Worker(queueCapacity, "ocjedis-pubsub-worker-" + i);
+      this.workers[i].start();
+    }
+  }
+
+  /** Handles a message received on a subscribed channel. */
+  protected void handleMessage(String channel, String message) {}
+
+  /** Handles a message received on a channel matching a subscribed pattern. */
+  protected void handlePMessage(String pattern, String channel, String message) {}
+
+  @Override
+  public final void onMessage(String channel, String message) {
+    receive(stats(channel), null, channel, message);
+  }
+
+  @Override
+  public final void onPMessage(String pattern, String channel, String message) {
+    receive(stats(pattern), pattern, channel, message);
+  }
+
+  /** Stops the workers once they handled the messages already queued. */
+  @Override
+  public void close() {
+    if (closed) return;
+    closed = true;
+    if (workers == null) return;
+    for (Worker worker : workers) {
+      worker.interrupt();
+    }
+  }
+
+  private void receive(
+      ChannelStats stats, @Nullable String pattern, String channel, String message) {
+    long receivedNs = System.nanoTime();
+    Observability.recordPubSubMessage(stats.received, utf8Length(message));
+    if (workers == null || closed) {
+      handle(stats, pattern, channel, message);
+      return;
+    }
+
+    // All the messages of a channel go to the same worker, to be handled in order.
+    int hash = channel.hashCode();
+    Worker worker = workers[((hash ^ (hash >>> 16)) & 0x7fffffff) % workers.length];
+    Message queued = new Message(stats, pattern, channel, message, receivedNs);
+    try {
+      // Wait for room a little at a time, since a worker closed meanwhile may never make any.
+      while (!worker.queue.offer(queued, OFFER_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+        if (closed) {
+          handle(stats, pattern, channel, message);
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JedisException("Interrupted while queuing a message", e);
+    }
+    // Don't strand the message if the worker was closed concurrently and may have exited already.
+    if (closed && worker.queue.remove(queued)) handle(stats, pattern, channel, message);
+  }
+
+  private void handle(
+      ChannelStats stats, @Nullable String pattern, String channel, String message) {
+    long startNs = System.nanoTime();
+    boolean succeeded = false;
+    try {
+      if (pattern == null) {
+        handleMessage(channel, message);
+      } else {
+        handlePMessage(pattern, channel, message);
+      }
+      succeeded = true;
+    } finally {
+      Observability.recordPubSubHandler(
+          succeeded ? stats.succeeded : stats.failed, System.nanoTime() - startNs);
+    }
+  }
+
+  private ChannelStats stats(String channel) {
+    ChannelStats stats = channelStats.get(channel);
+    if (stats != null) return stats;
+    if (channelStats.size() >= MAX_CHANNELS) return otherStats;
+    ChannelStats created = new ChannelStats(Observability.sanitizedTagValue(channel));
+    stats = channelStats.putIfAbsent(channel, created);
+    return stats == null ? created : stats;
+  }
+
+  // Returns the number of bytes of s encoded as UTF-8, without encoding it.
+  private static long utf8Length(String s) {
+    long length = s.length();
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= 0x800) {
+        // Surrogate pairs take 4 bytes, or 2 for each of their chars.
+        length += Character.isSurrogate(c) ? 1 : 2;
+      } else if (c >= 0x80) {
+        length++;
+      }
+    }
+    return length;
+  }
+
+  // ChannelStats holds the tag contexts recorded for the messages of a channel or a pattern.
+  private static final class ChannelStats {
+    private final TagContext received;
+    private final TagContext succeeded;
+    private final TagContext failed;
+
+    private ChannelStats(TagValue channel) {
+      this.received = Observability.pubSubTagContext(channel, null);
+      this.succeeded = Observability.pubSubTagContext(channel, Observability.VALUE_OK);
+      this.failed = Observability.pubSubTagContext(channel, Observability.VALUE_ERROR);
+    }
+  }
+
+  private static final class Message {
+    private final ChannelStats stats;
+    @Nullable private final String pattern;
+    private final String channel;
+    private final String message;
+    private final long receivedNs;
+
+    private Message(
+        ChannelStats stats,
+        @Nullable String pattern,
+        String channel,
+        String message,
+        long receivedNs) {
+      this.stats = stats;
+      this.pattern = pattern;
+      this.channel = channel;
+      this.message = message;
+      this.receivedNs = receivedNs;
+    }
+  }
+
+  // Worker handles the messages of its channels in the order they were received, until it is
+  // closed and has drained its queue.
+  private final class Worker extends Thread {
+    private final BlockingQueue<Message> queue;
+
+    private Worker(int queueCapacity, String name) {
+      super(name);
+      this.queue = new ArrayBlockingQueue<Message>(queueCapacity);
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        Message message;
+        try {
+          message = closed ? queue.poll() : queue.take();
+        } catch (InterruptedException e) {
+          // Interrupted by close, drain the queue.
+          continue;
+        }
+        if (message == null) return;
+        Observability.recordPubSubDispatch(
+            message.stats.received, System.nanoTime() - message.receivedNs);
+        try {
+          handle(message.stats, message.pattern, message.channel, message.message);
+        } catch (RuntimeException e) {
+          // Recorded by handle, the worker moves on to the next message.
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,473 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagValue;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * A client-side cache of the replies of {@code get}, {@code hget} and {@code hgetAll}, in front of
+ * an {@link OcJedisPool}.
+ *
+ * <p>The cache holds up to {@code maximumSize} keys, evicting the least recently used ones with a
+ * segmented LRU policy: keys enter a probation segment and are promoted to a protected segment when
+ * read again, so that a scan of many keys read once doesn't flush the keys that are read often.
+ *
+ * <p>Entries are invalidated through keyspace notifications, received on a connection of the pool
+ * dedicated to them, so the server must have them enabled, e.g. with {@code CONFIG SET
+ * notify-keyspace-events KA}. Entries also expire with their key, as read with {@code PTTL}
+ * alongside their value, and after {@code maxTtl} at the latest, which bounds how stale they can
+ * get if a notification is lost. Keyspace notifications aren't sent for {@code FLUSHDB} and {@code
+ * FLUSHALL}, call {@link #invalidateAll} after them. Nothing is cached while the notifications
+ * aren't being received, e.g. until the subscription is established or while it reconnects.
+ *
+ * <p>The lookups, by whether they hit or missed, the evictions, by their reason, and the size of
+ * the cache are recorded with their own views.
+ */
+public final class OcNearCache implements Closeable {
+  private static final String KEYSPACE_PATTERN = "__keyspace@*__:*";
+  private static final long RESUBSCRIBE_DELAY_MS = 1000;
+  private static final int MAX_SEGMENTS = 64;
+  // The share of a segment that is protected from the keys read only once.
+  private static final double PROTECTED_RATIO = 0.8;
+  // Marks a missing key or hash field, cached like any other reply.
+  private static final Object NIL = new Object();
+
+  private final OcJedisPool pool;
+  private final long maxTtlNs;
+  private final Segment[] segments;
+  private final int segmentMask;
+  private final AtomicLong size = new AtomicLong();
+  private final TagContext[] hitTagContexts;
+  private final TagContext[] missTagContexts;
+
+  private final InvalidationListener listener = new InvalidationListener();
+  private final Thread subscriber;
+  private volatile boolean subscribed;
+  private volatile boolean closed;
+
+  public OcNearCache(OcJedisPool pool, int maximumSize, long maxTtl, TimeUnit unit) {
+    if (maximumSize < 1) throw new IllegalArgumentException("maximumSize must be positive");
+    if (maxTtl <= 0) throw new IllegalArgumentException("maxTtl must be positive");
+    this.pool = pool;
+    this.maxTtlNs = unit.toNanos(maxTtl);
+
+    int size = Integer.highestOneBit(Math.min(MAX_SEGMENTS, Math.max(1, maximumSize / 16)));
+    this.segments = new Segment[size];
+    this.segmentMask = size - 1;
+    for (int i = 0; i < size; i++) {
+      // Spread the remainder so that the segments hold exactly maximumSize keys in total.
+      segments[i] = new Segment(maximumSize / size + (i < maximumSize % size ? 1 : 0));
+    }
+
+    CommandDescriptor[] commands = {
+      Commands.NEAR_CACHE_GET, Commands.NEAR_CACHE_HGET, Commands.NEAR_CACHE_HGET_ALL
+    };
+    this.hitTagContexts = new TagContext[commands.length];
+    this.missTagContexts = new TagContext[commands.length];
+    for (int i = 0; i < commands.length; i++) {
+      hitTagContexts[i] = Observability.nearCacheLookupTagContext(commands[i], true);
+      missTagContexts[i] = Observability.nearCacheLookupTagContext(commands[i], false);
+    }
+
+    this.subscriber =
+        new Thread(
+            new Runnable() {
+              @Override
+              public void run() {
+                receiveInvalidations();
+              }
+            },
+            "ocjedis-near-cache-invalidations");
+    this.subscriber.setDaemon(true);
+    this.subscriber.start();
+  }
+
+  /** Returns the value of key, like {@code Jedis.get}. */
+  @Nullable
+  public String get(String key) {
+    Segment segment = segmentFor(key);
+    Entry entry = segment.get(key);
+    if (entry != null && entry.value != null) {
+      Observability.recordNearCacheLookup(hitTagContexts[0]);
+      return entry.value == NIL ? null : (String) entry.value;
+    }
+    Observability.recordNearCacheLookup(missTagContexts[0]);
+
+    Object token = startLoad(segment, key);
+    String value;
+    long pttl;
+    try (OcWrapJedis jedis = pool.getResource()) {
+      OcValueCompression compression = jedis.getValueCompression();
+      Pipeline pipeline = jedis.pipelined();
+      if (compression == null) {
+        Response<String> valueResponse = pipeline.get(key);
+        Response<Long> pttlResponse = pipeline.pttl(key);
+        pipeline.sync();
+        value = valueResponse.get();
+        pttl = pttlResponse.get();
+      } else {
+        Response<byte[]> valueResponse = pipeline.get(SafeEncoder.encode(key));
+        Response<Long> pttlResponse = pipeline.pttl(key);
+        pipeline.sync();
+        value = compression.decodeString(Commands.NEAR_CACHE_GET, valueResponse.get());
+        pttl = pttlResponse.get();
+      }
+    }
+    if (token != null) {
+      Entry loaded = new Entry(expiresAtNs(pttl));
+      loaded.value = value == null ? NIL : value;
+      segment.finishLoad(key, token, loaded);
+    }
+    return value;
+  }
+
+  /** Returns the value of a field of the hash at key, like {@code Jedis.hget}. */
+  @Nullable
+  public String hget(String key, String field) {
+    Segment segment = segmentFor(key);
+    Entry entry = segment.get(key);
+    if (entry != null) {
+      Object value = entry.field(field);
+      if (value != null) {
+        Observability.recordNearCacheLookup(hitTagContexts[1]);
+        return value == NIL ? null : (String) value;
+      }
+    }
+    Observability.recordNearCacheLookup(missTagContexts[1]);
+
+    Object token = startLoad(segment, key);
+    String value;
+    long pttl;
+    try (OcWrapJedis jedis = pool.getResource()) {
+      OcValueCompression compression = jedis.getValueCompression();
+      Pipeline pipeline = jedis.pipelined();
+      if (compression == null) {
+        Response<String> valueResponse = pipeline.hget(key, field);
+        Response<Long> pttlResponse = pipeline.pttl(key);
+        pipeline.sync();
+        value = valueResponse.get();
+        pttl = pttlResponse.get();
+      } else {
+        Response<byte[]> valueResponse =
+            pipeline.hget(SafeEncoder.encode(key), SafeEncoder.encode(field));
+        Response<Long> pttlResponse = pipeline.pttl(key);
+        pipeline.sync();
+        value = compression.decodeString(Commands.NEAR_CACHE_HGET, valueResponse.get());
+        pttl = pttlResponse.get();
+      }
+    }
+    if (token != null) {
+      Entry loaded = new Entry(expiresAtNs(pttl));
+      loaded.fields = new HashMap<String, Object>();
+      loaded.fields.put(field, value == null ? NIL : value);
+      segment.finishLoad(key, token, loaded);
+    }
+    return value;
+  }
+
+  /** Returns all the fields of the hash at key, like {@code Jedis.hgetAll}, in a read-only map. */
+  public Map<String, String> hgetAll(String key) {
+    Segment segment = segmentFor(key);
+    Entry entry = segment.get(key);
+    if (entry != null && entry.hash != null) {
+      Observability.recordNearCacheLookup(hitTagContexts[2]);
+      return entry.hash;
+    }
+    Observability.recordNearCacheLookup(missTagContexts[2]);
+
+    Object token = startLoad(segment, key);
+    Map<String, String> hash;
+    long pttl;
+    try (OcWrapJedis jedis = pool.getResource()) {
+      OcValueCompression compression = jedis.getValueCompression();
+      Pipeline pipeline = jedis.pipelined();
+      if (compression == null) {
+        Response<Map<String, String>> hashResponse = pipeline.hgetAll(key);
+        Response<Long> pttlResponse = pipeline.pttl(key);
+        pipeline.sync();
+        hash = Collections.unmodifiableMap(hashResponse.get());
+        pttl = pttlResponse.get();
+      } else {
+        Response<Map<byte[], byte[]>> hashResponse = pipeline.hgetAll(SafeEncoder.encode(key));
+        Response<Long> pttlResponse = pipeline.pttl(key);
+        pipeline.sync();
+        hash =
+            Collections.unmodifiableMap(
+                compression.decodeStrings(Commands.NEAR_CACHE_HGET_ALL, hashResponse.get()));
+        pttl = pttlResponse.get();
+      }
+    }
+    if (token != null) {
+      Entry loaded = new Entry(expiresAtNs(pttl));
+      loaded.hash = hash;
+      segment.finishLoad(key, token, loaded);
+    }
+    return hash;
+  }
+
+  /** Drops the cached replies of key, e.g. right after writing it. */
+  public void invalidate(String key) {
+    segmentFor(key).invalidate(key);
+  }
+
+  /** Drops all the cached replies, e.g. after a {@code FLUSHDB}. */
+  public void invalidateAll() {
+    for (Segment segment : segments) {
+      segment.clear(Observability.VALUE_INVALIDATED);
+    }
+  }
+
+  /** Returns the number of keys in the cache. */
+  public long size() {
+    return size.get();
+  }
+
+  /** Stops receiving invalidations, and releases the connection they were received on. */
+  @Override
+  public void close() {
+    closed = true;
+    subscribed = false;
+    try {
+      listener.punsubscribe();
+    } catch (RuntimeException e) {
+      // Not subscribed.
+    }
+    subscriber.interrupt();
+    try {
+      subscriber.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    invalidateAll();
+  }
+
+  // VisibleForTesting
+  boolean isSubscribed() {
+    return subscribed;
+  }
+
+  private Segment segmentFor(String key) {
+    int hash = key.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & segmentMask];
+  }
+
+  // Starts loading key, unless the replies can't be cached because the invalidations aren't being
+  // received.
+  @Nullable
+  private Object startLoad(Segment segment, String key) {
+    return subscribed ? segment.startLoad(key) : null;
+  }
+
+  // Returns when an entry loaded now expires, given the PTTL of its key.
+  private long expiresAtNs(long pttlMs) {
+    // PTTL is negative for the keys that don't exist or don't expire.
+    long ttlNs = pttlMs < 0 ? maxTtlNs : Math.min(maxTtlNs, TimeUnit.MILLISECONDS.toNanos(pttlMs));
+    return System.nanoTime() + ttlNs;
+  }
+
+  private void receiveInvalidations() {
+    while (!closed) {
+      try (OcWrapJedis jedis = pool.getResource()) {
+        jedis.psubscribe(listener, KEYSPACE_PATTERN);
+      } catch (JedisException e) {
+        // Reconnect below.
+      }
+      // Whatever was cached may have missed invalidations while not subscribed.
+      subscribed = false;
+      invalidateAll();
+      if (closed) return;
+      try {
+        Thread.sleep(RESUBSCRIBE_DELAY_MS);
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private final class InvalidationListener extends JedisPubSub {
+    @Override
+    public void onPSubscribe(String pattern, int subscribedChannels) {
+      // Drop what may have been cached before.
+      invalidateAll();
+      subscribed = !closed;
+      if (closed) punsubscribe();
+    }
+
+    @Override
+    public void onPMessage(String pattern, String channel, String message) {
+      // The channel is __keyspace@<db>__:<key>.
+      int keyStart = channel.indexOf("__:");
+      if (keyStart >= 0) invalidate(channel.substring(keyStart + 3));
+    }
+  }
+
+  // Entry holds the cached replies for a key: the value of the string, all the fields of the hash
+  // or some of them. Absent replies are null, nil replies are NIL.
+  private static final class Entry {
+    private final long expiresAtNs;
+    @Nullable private Object value;
+    @Nullable private Map<String, String> hash;
+    @Nullable private Map<String, Object> fields;
+
+    private Entry(long expiresAtNs) {
+      this.expiresAtNs = expiresAtNs;
+    }
+
+    @Nullable
+    private Object field(String field) {
+      if (hash != null) {
+        String value = hash.get(field);
+        return value == null ? NIL : value;
+      }
+      return fields == null ? null : fields.get(field);
+    }
+
+    // Adds the replies of a later load of the same key.
+    private Entry merge(Entry loaded) {
+      Entry merged = new Entry(loaded.expiresAtNs);
+      merged.value = loaded.value != null ? loaded.value : value;
+      merged.hash = loaded.hash != null ? loaded.hash : hash;
+      if (fields != null || loaded.fields != null) {
+        merged.fields = new HashMap<String, Object>();
+        if (fields != null) merged.fields.putAll(fields);
+        if (loaded.fields != null) merged.fields.putAll(loaded.fields);
+      }
+      return merged;
+    }
+  }
+
+  // Segment is a segmented LRU cache of a share of the keys. Entries are immutable once cached, so
+  // they can be read outside of the lock.
+  private final class Segment {
+    private final int capacity;
+    private final int protectedCapacity;
+    // Both are in access order, their eldest entry is the least recently used.
+    private final LinkedHashMap<String, Entry> probation =
+        new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> protectedEntries =
+        new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    // The keys being loaded, by the token of their latest load. A load is only cached if its token
+    // wasn't removed by an invalidation in the meantime.
+    private final Map<String, Object> loading = new HashMap<String, Object>();
+
+    private Segment(int capacity) {
+      this.capacity = capacity;
+      this.protectedCapacity = (int) (capacity * PROTECTED_RATIO);
+    }
+
+    @Nullable
+    private synchronized Entry get(String key) {
+      Entry entry = protectedEntries.get(key);
+      if (entry == null) {
+        entry = probation.remove(key);
+        if (entry == null) return null;
+        // Read again while on probation, promote it.
+        if (entry.expiresAtNs - System.nanoTime() > 0) {
+          protectedEntries.put(key, entry);
+          demoteProtected();
+        }
+      }
+      if (entry.expiresAtNs - System.nanoTime() <= 0) {
+        protectedEntries.remove(key);
+        removed(Observability.VALUE_EXPIRED, 1);
+        return null;
+      }
+      return entry;
+    }
+
+    private synchronized Object startLoad(String key) {
+      Object token = new Object();
+      loading.put(key, token);
+      return token;
+    }
+
+    private synchronized void finishLoad(String key, Object token, Entry loaded) {
+      if (!loading.remove(key, token)) return;
+
+      Entry cached = protectedEntries.get(key);
+      if (cached != null) {
+        protectedEntries.put(key, cached.merge(loaded));
+        return;
+      }
+      cached = probation.get(key);
+      probation.put(key, cached != null ? cached.merge(loaded) : loaded);
+      if (cached == null) size.incrementAndGet();
+      long evicted = 0;
+      Iterator<Entry> eldest = probation.values().iterator();
+      while (probation.size() + protectedEntries.size() > capacity && eldest.hasNext()) {
+        eldest.next();
+        eldest.remove();
+        evicted++;
+      }
+      if (probation.size() + protectedEntries.size() > capacity) {
+        // Only protected entries are left to evict.
+        Iterator<Entry> eldestProtected = protectedEntries.values().iterator();
+        eldestProtected.next();
+        eldestProtected.remove();
+        evicted++;
+      }
+      if (evicted > 0) {
+        removed(Observability.VALUE_SIZE, evicted);
+      } else if (cached == null) {
+        Observability.recordNearCacheSize(size.get());
+      }
+    }
+
+    private synchronized void invalidate(String key) {
+      loading.remove(key);
+      if (protectedEntries.remove(key) != null || probation.remove(key) != null) {
+        removed(Observability.VALUE_INVALIDATED, 1);
+      }
+    }
+
+    private synchronized void clear(TagValue reason) {
+      loading.clear();
+      long evicted = probation.size() + protectedEntries.size();
+      if (evicted == 0) return;
+      probation.clear();
+      protectedEntries.clear();
+      removed(reason, evicted);
+    }
+
+    private void removed(TagValue reason, long count) {
+      Observability.recordNearCacheEvictions(reason, count, size.addAndGet(-count));
+    }
+
+    // Moves the least recently used protected entries back to probation, once over capacity.
+    private void demoteProtected() {
+      Iterator<Map.Entry<String, Entry>> eldest = protectedEntries.entrySet().iterator();
+      while (protectedEntries.size() > protectedCapacity && eldest.hasNext()) {
+        Map.Entry<String, Entry> demoted = eldest.next();
+        eldest.remove();
+        probation.put(demoted.getKey(), demoted.getValue());
+      }
+    }
+  }
+}
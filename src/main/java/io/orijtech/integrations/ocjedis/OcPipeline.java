@@ -0,0 +1,94 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.util.List;
+import javax.annotation.Nullable;
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+// OcPipeline is the Pipeline returned by OcWrapJedis.pipelined. Every batch of commands, from the
+// first queued command to the sync or syncAndReturnAll that reads their replies, is traced as a
+// single span annotated with each queued command. The batch is recorded with its latency, the
+// bytes it transferred and its depth, the number of replies read by the sync.
+final class OcPipeline extends Pipeline {
+  // The batch being queued, null until its first command.
+  @Nullable private TrackingOperation batch;
+
+  @Override
+  protected <T> Response<T> getResponse(Builder<T> builder) {
+    // Every queued command ends with a call to getResponse, right after it was sent to the client.
+    OcClient ocClient = client instanceof OcClient ? (OcClient) client : null;
+    if (batch == null) {
+      batch = Observability.startDetachedOperation(Commands.PIPELINE_SYNC);
+      if (ocClient != null) batch.attachWireCounter(ocClient.getWireCounter());
+    }
+    ProtocolCommand command = ocClient != null ? ocClient.getLastCommand() : null;
+    if (command != null) batch.addAnnotation(SafeEncoder.encode(command.getRaw()));
+    return super.getResponse(builder);
+  }
+
+  @Override
+  public void sync() {
+    TrackingOperation batch = finishBatch();
+    if (batch == null) {
+      super.sync();
+      return;
+    }
+
+    try {
+      super.sync();
+    } catch (Exception e) {
+      batch.recordException(e);
+      throw e;
+    } finally {
+      batch.end();
+    }
+  }
+
+  @Override
+  public List<Object> syncAndReturnAll() {
+    TrackingOperation batch = finishBatch();
+    if (batch == null) return super.syncAndReturnAll();
+
+    try {
+      return super.syncAndReturnAll();
+    } catch (Exception e) {
+      batch.recordException(e);
+      throw e;
+    } finally {
+      batch.end();
+    }
+  }
+
+  // Returns the number of commands queued since the previous sync.
+  int queuedCommands() {
+    return getPipelinedResponseLength();
+  }
+
+  // Returns the batch that the next sync reads the replies of, after recording its depth, or null
+  // if no command was queued since the previous sync.
+  @Nullable
+  private TrackingOperation finishBatch() {
+    TrackingOperation finished = batch;
+    batch = null;
+    if (finished != null) finished.recordPipelineDepth(getPipelinedResponseLength());
+    return finished;
+  }
+}
@@ -0,0 +1,423 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+/**
+ * A client of a Redis primary and its replicas, with an {@link OcJedisPool} per node, that sends
+ * the read-only commands to the replicas and every other command to the primary.
+ *
+ * <p>Each read goes to the faster of two replicas picked at random, as measured by a peak-sensitive
+ * exponentially weighted moving average of the latencies of the calls it served, times its number
+ * of calls in flight. The average jumps to a latency above it and otherwise decays towards the
+ * latest latencies over {@code decayTime}, and the cost of a replica that served no call for a
+ * while decays towards zero so that it's tried again. A read whose replica can't be reached is sent
+ * to the primary instead.
+ *
+ * <p>Replicas lag behind the primary, so a read may not see a write that was just acknowledged.
+ * Reads that must see their writes should use a connection of the primary's pool instead.
+ *
+ * <p>The calls are recorded with the node that served them, so that the share of the reads served
+ * by replicas stands out.
+ */
+public final class OcReplicaRouter {
+  private static final long DEFAULT_DECAY_TIME_NS = TimeUnit.SECONDS.toNanos(10);
+  // The latency assumed of a replica that couldn't be reached, until it decays.
+  private static final double PENALTY_NS = TimeUnit.SECONDS.toNanos(1);
+
+  private final OcJedisPool primary;
+  private final Replica[] replicas;
+  private final double decayNs;
+
+  public OcReplicaRouter(OcJedisPool primary, List<OcJedisPool> replicas) {
+    this(primary, replicas, DEFAULT_DECAY_TIME_NS, TimeUnit.NANOSECONDS);
+  }
+
+  public OcReplicaRouter(
+      OcJedisPool primary, List<OcJedisPool> replicas, long decayTime, TimeUnit unit) {
+    if (decayTime <= 0) throw new IllegalArgumentException("decayTime must be positive");
+    this.primary = primary;
+    this.replicas = new Replica[replicas.size()];
+    for (int i = 0; i < this.replicas.length; i++) {
+      this.replicas[i] = new Replica(replicas.get(i));
+    }
+    this.decayNs = unit.toNanos(decayTime);
+  }
+
+  /** Returns the value of key, like {@code Jedis.get}. */
+  @Nullable
+  public String get(final String key) {
+    return route(
+        Commands.GET,
+        new Call<String>() {
+          @Override
+          public String call(OcWrapJedis jedis) {
+            return jedis.get(key);
+          }
+        });
+  }
+
+  /** Returns the values of keys, in their order, like {@code Jedis.mget}. */
+  public List<String> mget(final String... keys) {
+    return route(
+        Commands.MGET,
+        new Call<List<String>>() {
+          @Override
+          public List<String> call(OcWrapJedis jedis) {
+            return jedis.mget(keys);
+          }
+        });
+  }
+
+  /** Returns the number of keys that exist, like {@code Jedis.exists}. */
+  public Long exists(final String... keys) {
+    return route(
+        Commands.EXISTS,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.exists(keys);
+          }
+        });
+  }
+
+  /** Returns the time to live of key in seconds, like {@code Jedis.ttl}. */
+  public Long ttl(final String key) {
+    return route(
+        Commands.TTL,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.ttl(key);
+          }
+        });
+  }
+
+  /** Returns the value of a field of the hash at key, like {@code Jedis.hget}. */
+  @Nullable
+  public String hget(final String key, final String field) {
+    return route(
+        Commands.HGET,
+        new Call<String>() {
+          @Override
+          public String call(OcWrapJedis jedis) {
+            return jedis.hget(key, field);
+          }
+        });
+  }
+
+  /** Returns the values of fields of the hash at key, like {@code Jedis.hmget}. */
+  public List<String> hmget(final String key, final String... fields) {
+    return route(
+        Commands.HMGET,
+        new Call<List<String>>() {
+          @Override
+          public List<String> call(OcWrapJedis jedis) {
+            return jedis.hmget(key, fields);
+          }
+        });
+  }
+
+  /** Returns the fields and values of the hash at key, like {@code Jedis.hgetAll}. */
+  public Map<String, String> hgetAll(final String key) {
+    return route(
+        Commands.HGET_ALL,
+        new Call<Map<String, String>>() {
+          @Override
+          public Map<String, String> call(OcWrapJedis jedis) {
+            return jedis.hgetAll(key);
+          }
+        });
+  }
+
+  /** Returns the members of the set at key, like {@code Jedis.smembers}. */
+  public Set<String> smembers(final String key) {
+    return route(
+        Commands.SMEMBERS,
+        new Call<Set<String>>() {
+          @Override
+          public Set<String> call(OcWrapJedis jedis) {
+            return jedis.smembers(key);
+          }
+        });
+  }
+
+  /** Returns whether member is a member of the set at key, like {@code Jedis.sismember}. */
+  public Boolean sismember(final String key, final String member) {
+    return route(
+        Commands.SISMEMBER,
+        new Call<Boolean>() {
+          @Override
+          public Boolean call(OcWrapJedis jedis) {
+            return jedis.sismember(key, member);
+          }
+        });
+  }
+
+  /**
+   * Returns the members of the sorted set at key within a range of ranks, like {@code
+   * Jedis.zrange}.
+   */
+  public Set<String> zrange(final String key, final long start, final long stop) {
+    return route(
+        Commands.ZRANGE,
+        new Call<Set<String>>() {
+          @Override
+          public Set<String> call(OcWrapJedis jedis) {
+            return jedis.zrange(key, start, stop);
+          }
+        });
+  }
+
+  /**
+   * Returns the members of the sorted set at key within a range of scores, like {@code
+   * Jedis.zrangeByScore}.
+   */
+  public Set<String> zrangeByScore(final String key, final double min, final double max) {
+    return route(
+        Commands.ZRANGE_BY_SCORE,
+        new Call<Set<String>>() {
+          @Override
+          public Set<String> call(OcWrapJedis jedis) {
+            return jedis.zrangeByScore(key, min, max);
+          }
+        });
+  }
+
+  /** Returns the score of member in the sorted set at key, like {@code Jedis.zscore}. */
+  @Nullable
+  public Double zscore(final String key, final String member) {
+    return route(
+        Commands.ZSCORE,
+        new Call<Double>() {
+          @Override
+          public Double call(OcWrapJedis jedis) {
+            return jedis.zscore(key, member);
+          }
+        });
+  }
+
+  /**
+   * Returns a page of the keys, like {@code Jedis.scan}. The pages of an iteration may be read from
+   * different replicas, whose cursors only agree while they hold the same keys, so iterations that
+   * must not miss keys should use an {@link OcScanIterator} over the pool of a single node.
+   */
+  public ScanResult<String> scan(final String cursor, final ScanParams params) {
+    return route(
+        Commands.SCAN,
+        new Call<ScanResult<String>>() {
+          @Override
+          public ScanResult<String> call(OcWrapJedis jedis) {
+            return jedis.scan(cursor, params);
+          }
+        });
+  }
+
+  /** Sets the value of key, like {@code Jedis.set}. */
+  public String set(final String key, final String value) {
+    return route(
+        Commands.SET,
+        new Call<String>() {
+          @Override
+          public String call(OcWrapJedis jedis) {
+            return jedis.set(key, value);
+          }
+        });
+  }
+
+  /** Sets the value and the time to live in seconds of key, like {@code Jedis.setex}. */
+  public String setex(final String key, final int seconds, final String value) {
+    return route(
+        Commands.SETEX,
+        new Call<String>() {
+          @Override
+          public String call(OcWrapJedis jedis) {
+            return jedis.setex(key, seconds, value);
+          }
+        });
+  }
+
+  /** Deletes keys and returns how many existed, like {@code Jedis.del}. */
+  public Long del(final String... keys) {
+    return route(
+        Commands.DEL,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.del(keys);
+          }
+        });
+  }
+
+  /** Sets the time to live in seconds of key, like {@code Jedis.expire}. */
+  public Long expire(final String key, final int seconds) {
+    return route(
+        Commands.EXPIRE,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.expire(key, seconds);
+          }
+        });
+  }
+
+  /** Increments the value of key, like {@code Jedis.incr}. */
+  public Long incr(final String key) {
+    return route(
+        Commands.INCR,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.incr(key);
+          }
+        });
+  }
+
+  /** Sets a field of the hash at key, like {@code Jedis.hset}. */
+  public Long hset(final String key, final String field, final String value) {
+    return route(
+        Commands.HSET,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.hset(key, field, value);
+          }
+        });
+  }
+
+  /** Adds members to the set at key, like {@code Jedis.sadd}. */
+  public Long sadd(final String key, final String... members) {
+    return route(
+        Commands.SADD,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.sadd(key, members);
+          }
+        });
+  }
+
+  /** Removes members from the set at key, like {@code Jedis.srem}. */
+  public Long srem(final String key, final String... members) {
+    return route(
+        Commands.SREM,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.srem(key, members);
+          }
+        });
+  }
+
+  /** Adds member with score to the sorted set at key, like {@code Jedis.zadd}. */
+  public Long zadd(final String key, final double score, final String member) {
+    return route(
+        Commands.ZADD,
+        new Call<Long>() {
+          @Override
+          public Long call(OcWrapJedis jedis) {
+            return jedis.zadd(key, score, member);
+          }
+        });
+  }
+
+  // Runs call on a replica if command only reads, and on the primary otherwise or if the replica
+  // couldn't be reached.
+  private <T> T route(CommandDescriptor command, Call<T> call) {
+    if (command.getMetadata().isReadOnly() && replicas.length > 0) {
+      Replica replica = choose(System.nanoTime());
+      replica.inFlight.incrementAndGet();
+      try (OcWrapJedis jedis = replica.pool.getResource()) {
+        T result = call.call(jedis);
+        // Read before closing the connection, whose close is traced too.
+        replica.observe(Observability.lastCallLatencyNs(), System.nanoTime(), decayNs);
+        Observability.recordRoutedCall(command, Observability.VALUE_REPLICA);
+        return result;
+      } catch (JedisConnectionException e) {
+        replica.observe(PENALTY_NS, System.nanoTime(), decayNs);
+      } finally {
+        replica.inFlight.decrementAndGet();
+      }
+      Observability.recordRoutedCall(command, Observability.VALUE_FALLBACK);
+    } else {
+      Observability.recordRoutedCall(command, Observability.VALUE_PRIMARY);
+    }
+    try (OcWrapJedis jedis = primary.getResource()) {
+      return call.call(jedis);
+    }
+  }
+
+  // Returns the cheaper of two distinct replicas picked at random.
+  private Replica choose(long nowNs) {
+    if (replicas.length == 1) return replicas[0];
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(replicas.length);
+    int second = random.nextInt(replicas.length - 1);
+    if (second >= first) second++;
+    Replica a = replicas[first];
+    Replica b = replicas[second];
+    return a.cost(nowNs, decayNs) <= b.cost(nowNs, decayNs) ? a : b;
+  }
+
+  // VisibleForTesting
+  double cost(int replica) {
+    return replicas[replica].cost(System.nanoTime(), decayNs);
+  }
+
+  // Call runs a command on a connection of the node it was routed to.
+  private interface Call<T> {
+    T call(OcWrapJedis jedis);
+  }
+
+  // Replica keeps the moving average of the latencies of a replica and its calls in flight.
+  private static final class Replica {
+    private final OcJedisPool pool;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Guarded by this.
+    private double ewmaNs;
+    private long stampNs = System.nanoTime();
+
+    private Replica(OcJedisPool pool) {
+      this.pool = pool;
+    }
+
+    private synchronized void observe(double latencyNs, long nowNs, double decayNs) {
+      if (latencyNs > ewmaNs) {
+        ewmaNs = latencyNs;
+      } else {
+        double weight = Math.exp(-Math.max(0, nowNs - stampNs) / decayNs);
+        ewmaNs = ewmaNs * weight + latencyNs * (1 - weight);
+      }
+      stampNs = nowNs;
+    }
+
+    // Returns the average decayed towards zero since it was last updated, times the calls in
+    // flight, the waiting call included.
+    private synchronized double cost(long nowNs, double decayNs) {
+      double weight = Math.exp(-Math.max(0, nowNs - stampNs) / decayNs);
+      return ewmaNs * weight * (inFlight.get() + 1);
+    }
+  }
+}
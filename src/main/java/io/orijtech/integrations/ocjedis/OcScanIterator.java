@@ -0,0 +1,345 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.common.Scope;
+import io.opencensus.trace.Span;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * An iterator over all the elements of a {@code SCAN}, {@code HSCAN}, {@code SSCAN} or {@code
+ * ZSCAN}, which follows the cursor from page to page.
+ *
+ * <p>Every page is read on a connection borrowed from an {@link OcJedisPool} for that page only.
+ * The next page is requested as soon as a page arrives, so that it is read while the caller
+ * consumes the current one instead of after it.
+ *
+ * <p>The {@code COUNT} hint of the pages is the one of the {@code ScanParams}, unless an {@link
+ * AdaptiveScanCount} adapts it from page to page to a target latency.
+ *
+ * <p>The whole iteration is traced as a single span, with an annotation per page and the spans of
+ * the {@code SCAN} calls as children. It ends when the last element was returned or when the
+ * iterator is closed, which callers that stop early should do. The count of every page and the rate
+ * at which pages are read are recorded with their own views.
+ */
+public final class OcScanIterator<T> implements Iterator<T>, Closeable {
+  private static final ExecutorService prefetcher =
+      Executors.newCachedThreadPool(
+          new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+              Thread thread = new Thread(r, "ocjedis-scan-prefetch");
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
+  private final OcJedisPool pool;
+  private final CommandDescriptor command;
+  private final PageReader<T> reader;
+  @Nullable private final byte[] match;
+  @Nullable private final AdaptiveScanCount adaptiveCount;
+  private final TrackingOperation trackingOperation;
+  private final long startNs;
+  // The span the pages are read under, the span of the iteration unless it was sampled out.
+  @Nullable private final Span span;
+
+  // The count of the next page, 0 to leave it to the server.
+  private int count;
+  // The page being read, null once the last page was received.
+  @Nullable private CompletableFuture<Page<T>> nextPage;
+  private Iterator<T> page = Collections.<T>emptyList().iterator();
+  private int pages;
+  private boolean ended;
+
+  private OcScanIterator(
+      OcJedisPool pool,
+      CommandDescriptor command,
+      @Nullable ScanParams params,
+      @Nullable AdaptiveScanCount adaptiveCount,
+      PageReader<T> reader) {
+    this.pool = pool;
+    this.command = command;
+    this.reader = reader;
+    this.adaptiveCount = adaptiveCount;
+
+    // ScanParams only exposes its arguments, read its pattern and count back from them.
+    byte[] match = null;
+    int count = 0;
+    if (params != null) {
+      Iterator<byte[]> args = params.getParams().iterator();
+      while (args.hasNext()) {
+        String name = SafeEncoder.encode(args.next());
+        byte[] value = args.next();
+        if (name.equalsIgnoreCase("MATCH")) match = value;
+        if (name.equalsIgnoreCase("COUNT")) count = Integer.parseInt(SafeEncoder.encode(value));
+      }
+    }
+    this.match = match;
+    this.count = adaptiveCount != null ? adaptiveCount.initialCount(count) : count;
+
+    this.startNs = System.nanoTime();
+    this.trackingOperation = Observability.startDetachedOperation(command);
+    try (Scope ws = trackingOperation.withSpan()) {
+      this.span = Observability.currentSpan();
+    }
+    this.nextPage = readPage(ScanParams.SCAN_POINTER_START);
+  }
+
+  /** Iterates over the keys matching params, like {@code Jedis.scan}. */
+  public static OcScanIterator<String> scan(OcJedisPool pool, @Nullable ScanParams params) {
+    return scan(pool, params, null);
+  }
+
+  /** Iterates over the keys matching params, adapting the count of the pages to adaptiveCount. */
+  public static OcScanIterator<String> scan(
+      OcJedisPool pool, @Nullable ScanParams params, @Nullable AdaptiveScanCount adaptiveCount) {
+    return new OcScanIterator<String>(
+        pool,
+        Commands.SCAN_ITERATOR_SCAN,
+        params,
+        adaptiveCount,
+        new PageReader<String>() {
+          @Override
+          public ScanResult<String> read(OcWrapJedis jedis, String cursor, ScanParams params) {
+            return jedis.scan(cursor, params);
+          }
+        });
+  }
+
+  /** Iterates over the fields of the hash at key matching params, like {@code Jedis.hscan}. */
+  public static OcScanIterator<Map.Entry<String, String>> hscan(
+      OcJedisPool pool, String key, @Nullable ScanParams params) {
+    return hscan(pool, key, params, null);
+  }
+
+  /**
+   * Iterates over the fields of the hash at key matching params, adapting the count of the pages to
+   * adaptiveCount.
+   */
+  public static OcScanIterator<Map.Entry<String, String>> hscan(
+      OcJedisPool pool,
+      final String key,
+      @Nullable ScanParams params,
+      @Nullable AdaptiveScanCount adaptiveCount) {
+    return new OcScanIterator<Map.Entry<String, String>>(
+        pool,
+        Commands.SCAN_ITERATOR_HSCAN,
+        params,
+        adaptiveCount,
+        new PageReader<Map.Entry<String, String>>() {
+          @Override
+          public ScanResult<Map.Entry<String, String>> read(
+              OcWrapJedis jedis, String cursor, ScanParams params) {
+            return jedis.hscan(key, cursor, params);
+          }
+        });
+  }
+
+  /** Iterates over the members of the set at key matching params, like {@code Jedis.sscan}. */
+  public static OcScanIterator<String> sscan(
+      OcJedisPool pool, String key, @Nullable ScanParams params) {
+    return sscan(pool, key, params, null);
+  }
+
+  /**
+   * Iterates over the members of the set at key matching params, adapting the count of the pages to
+   * adaptiveCount.
+   */
+  public static OcScanIterator<String> sscan(
+      OcJedisPool pool,
+      final String key,
+      @Nullable ScanParams params,
+      @Nullable AdaptiveScanCount adaptiveCount) {
+    return new OcScanIterator<String>(
+        pool,
+        Commands.SCAN_ITERATOR_SSCAN,
+        params,
+        adaptiveCount,
+        new PageReader<String>() {
+          @Override
+          public ScanResult<String> read(OcWrapJedis jedis, String cursor, ScanParams params) {
+            return jedis.sscan(key, cursor, params);
+          }
+        });
+  }
+
+  /**
+   * Iterates over the members of the sorted set at key matching params, with their scores, like
+   * {@code Jedis.zscan}.
+   */
+  public static OcScanIterator<Tuple> zscan(
+      OcJedisPool pool, String key, @Nullable ScanParams params) {
+    return zscan(pool, key, params, null);
+  }
+
+  /**
+   * Iterates over the members of the sorted set at key matching params, with their scores, adapting
+   * the count of the pages to adaptiveCount.
+   */
+  public static OcScanIterator<Tuple> zscan(
+      OcJedisPool pool,
+      final String key,
+      @Nullable ScanParams params,
+      @Nullable AdaptiveScanCount adaptiveCount) {
+    return new OcScanIterator<Tuple>(
+        pool,
+        Commands.SCAN_ITERATOR_ZSCAN,
+        params,
+        adaptiveCount,
+        new PageReader<Tuple>() {
+          @Override
+          public ScanResult<Tuple> read(OcWrapJedis jedis, String cursor, ScanParams params) {
+            return jedis.zscan(key, cursor, params);
+          }
+        });
+  }
+
+  /** Returns a sequential stream of the remaining elements, which closes this iterator. */
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+        .onClose(
+            new Runnable() {
+              @Override
+              public void run() {
+                close();
+              }
+            });
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!page.hasNext()) {
+      CompletableFuture<Page<T>> current = nextPage;
+      if (current == null) {
+        end();
+        return false;
+      }
+
+      Page<T> read = await(current);
+      ScanResult<T> result = read.result;
+      pages++;
+      trackingOperation.addAnnotation(
+          "Page " + pages + " with " + result.getResult().size() + " elements");
+      double elapsedSeconds = (System.nanoTime() - startNs) / 1e9;
+      Observability.recordScanPage(command, read.count, pages / elapsedSeconds);
+      if (adaptiveCount != null) count = adaptiveCount.adjust(read.count, read.latencyNs);
+      // Request the next page right away, it's read while this one is consumed.
+      String cursor = result.getCursor();
+      nextPage = ScanParams.SCAN_POINTER_START.equals(cursor) ? null : readPage(cursor);
+      page = result.getResult().iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) throw new NoSuchElementException();
+    return page.next();
+  }
+
+  /** Stops the iteration, which can't be resumed. */
+  @Override
+  public void close() {
+    page = Collections.<T>emptyList().iterator();
+    nextPage = null;
+    end();
+  }
+
+  private CompletableFuture<Page<T>> readPage(final String cursor) {
+    final int pageCount = count;
+    final ScanParams params = new ScanParams();
+    if (match != null) params.match(match);
+    if (pageCount > 0) params.count(pageCount);
+    return CompletableFuture.supplyAsync(
+        new Supplier<Page<T>>() {
+          @Override
+          public Page<T> get() {
+            try (Scope ws = Observability.withSpan(span);
+                OcWrapJedis jedis = pool.getResource()) {
+              ScanResult<T> result = reader.read(jedis, cursor, params);
+              return new Page<T>(result, pageCount, Observability.lastCallLatencyNs());
+            }
+          }
+        },
+        prefetcher);
+  }
+
+  private Page<T> await(CompletableFuture<Page<T>> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      RuntimeException failure =
+          e.getCause() instanceof RuntimeException
+              ? (RuntimeException) e.getCause()
+              : new JedisException(e.getCause());
+      trackingOperation.recordException(failure);
+      close();
+      throw failure;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      JedisException failure = new JedisException("Interrupted while reading a page", e);
+      trackingOperation.recordException(failure);
+      close();
+      throw failure;
+    }
+  }
+
+  private void end() {
+    if (ended) return;
+    ended = true;
+    trackingOperation.end();
+  }
+
+  // PageReader reads the page of a scan at cursor.
+  private interface PageReader<T> {
+    ScanResult<T> read(OcWrapJedis jedis, String cursor, ScanParams params);
+  }
+
+  // Page is a page read with the given count, and the latency of the call that read it.
+  private static final class Page<T> {
+    private final ScanResult<T> result;
+    private final int count;
+    private final long latencyNs;
+
+    private Page(ScanResult<T> result, int count, long latencyNs) {
+      this.result = result;
+      this.count = count;
+      this.latencyNs = latencyNs;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.common.Scope;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Lua scripts that are loaded into the server ahead of their first {@code EVALSHA}, see {@link
+ * OcJedisPool#setScriptRegistry}.
+ *
+ * <p>Every connection the pool creates, e.g. after a restart or a failover, checks which of the
+ * registered scripts the server knows with a single {@code SCRIPT EXISTS}, and loads the missing
+ * ones with {@code SCRIPT LOAD} in a single pipelined batch. The calls that follow find their
+ * scripts already loaded instead of falling back to loading them one {@code NOSCRIPT} at a time.
+ *
+ * <p>The latency of these loads and the number of scripts found missing are recorded with their own
+ * views, along with the {@code NOSCRIPT} replies to {@code EVALSHA}.
+ */
+public final class OcScriptRegistry {
+  // The registered scripts, by their SHA1.
+  private final ConcurrentMap<String, String> scripts = new ConcurrentHashMap<String, String>();
+
+  /** Registers script and returns its SHA1, for {@code evalsha}. */
+  public String register(String script) {
+    String sha1 = Scripts.sha1(script);
+    scripts.put(sha1, script);
+    return sha1;
+  }
+
+  // Loads the registered scripts that the server of jedis doesn't know.
+  void preload(Jedis jedis) {
+    List<String> sha1s = new ArrayList<String>();
+    List<String> sources = new ArrayList<String>();
+    for (Map.Entry<String, String> script : scripts.entrySet()) {
+      sha1s.add(script.getKey());
+      sources.add(script.getValue());
+    }
+    if (sha1s.isEmpty()) return;
+
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.SCRIPT_REGISTRY_PRELOAD);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      List<Boolean> exists = jedis.scriptExists(sha1s.toArray(new String[0]));
+      List<String> missing = new ArrayList<String>();
+      for (int i = 0; i < sources.size(); i++) {
+        if (!exists.get(i)) missing.add(sources.get(i));
+      }
+      if (missing.isEmpty()) return;
+
+      // Pipeline doesn't offer SCRIPT LOAD, so the batch is sent on the client directly.
+      long startNs = System.nanoTime();
+      Client client = jedis.getClient();
+      for (String script : missing) {
+        client.scriptLoad(script);
+      }
+      for (Object reply : client.getMany(missing.size())) {
+        if (reply instanceof JedisDataException) throw (JedisDataException) reply;
+      }
+      Observability.recordScriptLoad(
+          Commands.SCRIPT_REGISTRY_PRELOAD, missing.size(), System.nanoTime() - startNs);
+      trackingOperation.addAnnotation("Loaded " + missing.size() + " scripts");
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+}
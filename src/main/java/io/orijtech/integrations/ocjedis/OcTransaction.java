@@ -0,0 +1,82 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.common.Scope;
+import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import java.util.List;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+
+// OcTransaction is the Transaction returned by OcWrapJedis.multi. Its EXEC is traced like any
+// other call and also recorded with the number of commands the transaction queued and whether it
+// was committed or aborted, which happens when a key it WATCHed was modified.
+final class OcTransaction extends Transaction {
+  OcTransaction(Client client) {
+    super(client);
+  }
+
+  @Override
+  public List<Object> exec() {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.TRANSACTION_EXEC);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      int size = getPipelinedResponseLength();
+      List<Object> replies = super.exec();
+      trackingOperation.recordTransaction(size, replies == null);
+      return replies;
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<Response<?>> execGetResponse() {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.TRANSACTION_EXEC_GET_RESPONSE);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      int size = getPipelinedResponseLength();
+      List<Response<?>> responses = super.execGetResponse();
+      trackingOperation.recordTransaction(size, responses == null);
+      return responses;
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String discard() {
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.TRANSACTION_DISCARD);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.discard();
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+}
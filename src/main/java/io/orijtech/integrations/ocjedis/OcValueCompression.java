@@ -0,0 +1,272 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nullable;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.JedisByteHashMap;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Compresses the values that an {@link OcWrapJedis} writes once they reach a size threshold, and
+ * decompresses them when they are read back, see {@link OcWrapJedis#setValueCompression} and {@link
+ * OcJedisPool#setValueCompression}.
+ *
+ * <p>Compressed values start with a short header that names their codec, so values written before
+ * compression was enabled, or below the threshold, are read as they are. Values are compressed by
+ * {@code set}, {@code setex} and {@code hset}, and decompressed by {@code get}, {@code hget},
+ * {@code mget}, {@code hmget} and {@code hgetAll}, for both {@code String} and {@code byte[]}
+ * values, as well as by the loads of an {@link OcNearCache}. The other commands, pipelines and
+ * transactions send and read values as they are.
+ *
+ * <p>The compression ratio of the values compressed, the time spent compressing and decompressing
+ * them, and the bytes saved are recorded by command with their own views.
+ */
+public final class OcValueCompression {
+  // Compressed values start with MAGIC followed by the id of their codec. The zero byte keeps the
+  // header out of text values, and the values that start with it anyway are stored behind a header
+  // naming STORED, so that they aren't mistaken for compressed ones.
+  private static final byte[] MAGIC = {0, 'o', 'c'};
+  private static final int HEADER_LENGTH = MAGIC.length + 1;
+  private static final byte STORED = 0;
+
+  /** Compresses and decompresses the values of an {@link OcValueCompression}. */
+  public interface Codec {
+    /**
+     * Returns the id written in the header of the values compressed by this codec, between 1 and
+     * 127. The values compressed by one codec can't be read with another.
+     */
+    byte id();
+
+    byte[] compress(byte[] value);
+
+    byte[] decompress(byte[] compressed);
+  }
+
+  private final int thresholdBytes;
+  private final Codec codec;
+
+  private OcValueCompression(int thresholdBytes, Codec codec) {
+    this.thresholdBytes = thresholdBytes;
+    this.codec = codec;
+  }
+
+  /** Compresses the values of at least thresholdBytes with {@link Deflater#BEST_SPEED}. */
+  public static OcValueCompression create(int thresholdBytes) {
+    return create(thresholdBytes, DeflateCodec.INSTANCE);
+  }
+
+  /** Compresses the values of at least thresholdBytes with codec. */
+  public static OcValueCompression create(int thresholdBytes, Codec codec) {
+    if (thresholdBytes < 0)
+      throw new IllegalArgumentException("thresholdBytes must be non-negative");
+    if (codec.id() <= STORED) throw new IllegalArgumentException("The codec id must be positive");
+    return new OcValueCompression(thresholdBytes, codec);
+  }
+
+  // Returns value as written by command.
+  byte[] encode(CommandDescriptor command, byte[] value) {
+    if (value.length < thresholdBytes) {
+      return hasHeader(value) ? withHeader(STORED, value) : value;
+    }
+
+    long startNs = System.nanoTime();
+    byte[] compressed = codec.compress(value);
+    long elapsedNs = System.nanoTime() - startNs;
+
+    byte[] encoded;
+    if (compressed.length + HEADER_LENGTH < value.length) {
+      encoded = withHeader(codec.id(), compressed);
+    } else {
+      // Compressing didn't pay off, e.g. the value was already compressed.
+      encoded = hasHeader(value) ? withHeader(STORED, value) : value;
+    }
+    Observability.recordCompression(
+        command, value.length, compressed.length, value.length - encoded.length, elapsedNs);
+    return encoded;
+  }
+
+  byte[] encode(CommandDescriptor command, String value) {
+    return encode(command, SafeEncoder.encode(value));
+  }
+
+  // Returns value as read by command.
+  @Nullable
+  byte[] decode(CommandDescriptor command, @Nullable byte[] value) {
+    if (value == null || !hasHeader(value)) return value;
+
+    byte id = value[MAGIC.length];
+    byte[] payload = Arrays.copyOfRange(value, HEADER_LENGTH, value.length);
+    if (id == STORED) return payload;
+    if (id != codec.id()) {
+      throw new JedisDataException("The value was compressed by the unknown codec " + id);
+    }
+
+    long startNs = System.nanoTime();
+    byte[] decompressed = codec.decompress(payload);
+    Observability.recordDecompression(command, System.nanoTime() - startNs);
+    return decompressed;
+  }
+
+  @Nullable
+  String decodeString(CommandDescriptor command, @Nullable byte[] value) {
+    byte[] decoded = decode(command, value);
+    return decoded == null ? null : SafeEncoder.encode(decoded);
+  }
+
+  List<byte[]> decode(CommandDescriptor command, List<byte[]> values) {
+    List<byte[]> decoded = new ArrayList<byte[]>(values.size());
+    for (byte[] value : values) {
+      decoded.add(decode(command, value));
+    }
+    return decoded;
+  }
+
+  List<String> decodeStrings(CommandDescriptor command, List<byte[]> values) {
+    List<String> decoded = new ArrayList<String>(values.size());
+    for (byte[] value : values) {
+      decoded.add(decodeString(command, value));
+    }
+    return decoded;
+  }
+
+  Map<byte[], byte[]> decode(CommandDescriptor command, Map<byte[], byte[]> values) {
+    Map<byte[], byte[]> decoded = new JedisByteHashMap();
+    for (Map.Entry<byte[], byte[]> entry : values.entrySet()) {
+      decoded.put(entry.getKey(), decode(command, entry.getValue()));
+    }
+    return decoded;
+  }
+
+  Map<String, String> decodeStrings(CommandDescriptor command, Map<byte[], byte[]> values) {
+    Map<String, String> decoded = new HashMap<String, String>(values.size() * 2);
+    for (Map.Entry<byte[], byte[]> entry : values.entrySet()) {
+      decoded.put(SafeEncoder.encode(entry.getKey()), decodeString(command, entry.getValue()));
+    }
+    return decoded;
+  }
+
+  private static boolean hasHeader(byte[] value) {
+    if (value.length < HEADER_LENGTH) return false;
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (value[i] != MAGIC[i]) return false;
+    }
+    return true;
+  }
+
+  private static byte[] withHeader(byte id, byte[] payload) {
+    byte[] value = new byte[HEADER_LENGTH + payload.length];
+    System.arraycopy(MAGIC, 0, value, 0, MAGIC.length);
+    value[MAGIC.length] = id;
+    System.arraycopy(payload, 0, value, HEADER_LENGTH, payload.length);
+    return value;
+  }
+
+  // DeflateCodec compresses values with raw deflate, after the length of the value as 4 bytes so
+  // that it can be decompressed in a single buffer. Setting up zlib costs more than compressing a
+  // small value, so every thread reuses its own Deflater and Inflater.
+  private static final class DeflateCodec implements Codec {
+    private static final DeflateCodec INSTANCE = new DeflateCodec();
+    private static final int LENGTH_BYTES = 4;
+    // Redis values are at most 512MB, and deflate can't compress by more than 1032 to 1.
+    private static final long MAX_VALUE_BYTES = 512L * 1024 * 1024;
+    private static final long MAX_RATIO = 1032;
+
+    private static final ThreadLocal<Deflater> deflaters =
+        new ThreadLocal<Deflater>() {
+          @Override
+          protected Deflater initialValue() {
+            return new Deflater(Deflater.BEST_SPEED, true);
+          }
+        };
+
+    private static final ThreadLocal<Inflater> inflaters =
+        new ThreadLocal<Inflater>() {
+          @Override
+          protected Inflater initialValue() {
+            return new Inflater(true);
+          }
+        };
+
+    @Override
+    public byte id() {
+      return 1;
+    }
+
+    @Override
+    public byte[] compress(byte[] value) {
+      Deflater deflater = deflaters.get();
+      deflater.reset();
+      deflater.setInput(value);
+      deflater.finish();
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream(value.length / 4 + 64);
+      out.write(value.length >>> 24);
+      out.write(value.length >>> 16);
+      out.write(value.length >>> 8);
+      out.write(value.length);
+      byte[] buffer = new byte[Math.min(value.length + 64, 64 * 1024)];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    }
+
+    @Override
+    public byte[] decompress(byte[] compressed) {
+      if (compressed.length < LENGTH_BYTES) {
+        throw new JedisDataException("The compressed value is truncated");
+      }
+      int length =
+          (compressed[0] & 0xff) << 24
+              | (compressed[1] & 0xff) << 16
+              | (compressed[2] & 0xff) << 8
+              | (compressed[3] & 0xff);
+      // The value may not have been written by this codec at all, e.g. a foreign value that
+      // happens to start with the header, so don't trust its length.
+      if (length < 0
+          || length > MAX_VALUE_BYTES
+          || length > (compressed.length - LENGTH_BYTES) * MAX_RATIO) {
+        throw new JedisDataException("The compressed value has an invalid length " + length);
+      }
+
+      Inflater inflater = inflaters.get();
+      inflater.reset();
+      inflater.setInput(compressed, LENGTH_BYTES, compressed.length - LENGTH_BYTES);
+      byte[] value = new byte[length];
+      try {
+        int read = 0;
+        while (read < length) {
+          int inflated = inflater.inflate(value, read, length - read);
+          if (inflated == 0 && (inflater.finished() || inflater.needsInput())) break;
+          read += inflated;
+        }
+        if (read != length) throw new JedisDataException("The compressed value is truncated");
+      } catch (DataFormatException e) {
+        throw new JedisDataException("The compressed value is corrupt", e);
+      }
+      return value;
+    }
+  }
+}
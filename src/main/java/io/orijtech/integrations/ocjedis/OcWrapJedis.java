@@ -17,12 +17,15 @@ package io.orijtech.integrations.ocjedis;
 import io.opencensus.common.Scope;
 import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import javax.annotation.Nullable;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
+import redis.clients.jedis.BinaryJedisPubSub;
 import redis.clients.jedis.BitOP;
 import redis.clients.jedis.BitPosParams;
 import redis.clients.jedis.ClusterReset;
@@ -34,19 +37,31 @@ import redis.clients.jedis.JedisPoolAbstract;
 import redis.clients.jedis.JedisPubSub;
 import redis.clients.jedis.JedisShardInfo;
 import redis.clients.jedis.ListPosition;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.ScanParams;
 import redis.clients.jedis.ScanResult;
 import redis.clients.jedis.SortingParams;
+import redis.clients.jedis.Transaction;
 import redis.clients.jedis.Tuple;
 import redis.clients.jedis.ZParams;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
 import redis.clients.jedis.params.GeoRadiusParam;
+import redis.clients.jedis.params.MigrateParams;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.params.ZAddParams;
 import redis.clients.jedis.params.ZIncrByParams;
+import redis.clients.jedis.util.SafeEncoder;
 import redis.clients.jedis.util.Slowlog;
 
 public class OcWrapJedis extends Jedis {
 
+  {
+    // Count the bytes that each call writes to and reads from the socket.
+    client = OcClient.wrap(client);
+  }
+
+  @Nullable private OcValueCompression valueCompression;
+
   public OcWrapJedis() {
     super();
   }
@@ -168,7 +183,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#append-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.append", key);
+        Observability.createRoundtripTrackingSpan(Commands.APPEND, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.append(key, value);
@@ -185,7 +200,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#bitcount-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.bitcount", key);
+        Observability.createRoundtripTrackingSpan(Commands.BITCOUNT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.bitcount(key);
@@ -202,7 +217,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#bitcount-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.bitcount", key);
+        Observability.createRoundtripTrackingSpan(Commands.BITCOUNT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.bitcount(key, start, end);
@@ -219,7 +234,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#bitfield-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.bitfield", key);
+        Observability.createRoundtripTrackingSpan(Commands.BITFIELD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.bitfield(key, arguments);
@@ -236,7 +251,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#bitop-redis.clients.jedis.BitOP-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.bitop", srcKeys);
+        Observability.createRoundtripTrackingSpan(Commands.BITOP, srcKeys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.bitop(op, destKey, srcKeys);
@@ -253,7 +268,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#bitpos-java.lang.String-boolean-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.bitpos", key);
+        Observability.createRoundtripTrackingSpan(Commands.BITPOS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.bitpos(key, value);
@@ -270,7 +285,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#bitpos-java.lang.String-boolean-redis.clients.jedis.BitPosParams-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.bitpos", key);
+        Observability.createRoundtripTrackingSpan(Commands.BITPOS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.bitpos(key, value, params);
@@ -287,7 +302,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#blpop-int-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.blpop", keys);
+        Observability.createRoundtripTrackingSpan(Commands.BLPOP, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.blpop(timeout, keys);
@@ -304,7 +319,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#blpop-int-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.blpop", key);
+        Observability.createRoundtripTrackingSpan(Commands.BLPOP, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.blpop(timeout, key);
@@ -320,8 +335,7 @@ public class OcWrapJedis extends Jedis {
   public List<String> blpop(String... args) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#blpop-java.lang.String...-
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.blpop");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.BLPOP);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.blpop(args);
@@ -338,7 +352,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#brpop-int-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.brpop", keys);
+        Observability.createRoundtripTrackingSpan(Commands.BRPOP, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.brpop(timeout, keys);
@@ -355,7 +369,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#brpop-int-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.brpop", key);
+        Observability.createRoundtripTrackingSpan(Commands.BRPOP, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.brpop(timeout, key);
@@ -371,8 +385,7 @@ public class OcWrapJedis extends Jedis {
   public List<String> brpop(String... args) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#brpop-java.lang.String...-
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.brpop");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.BRPOP);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.brpop(args);
@@ -389,7 +402,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#brpoplpush-java.lang.String-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.brpoplpush");
+        Observability.createRoundtripTrackingSpan(Commands.BRPOPLPUSH);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.brpoplpush(source, destination, timeout);
@@ -406,7 +419,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clientKill-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clientKill");
+        Observability.createRoundtripTrackingSpan(Commands.CLIENT_KILL);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clientKill(client);
@@ -423,7 +436,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clientSetname-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clientSetname");
+        Observability.createRoundtripTrackingSpan(Commands.CLIENT_SETNAME);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clientSetname(name);
@@ -439,8 +452,7 @@ public class OcWrapJedis extends Jedis {
   public void close() {
     // This method makes a call over the network or at least we need to track closes.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#close--
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.close");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.CLOSE);
 
     try (Scope ws = trackingOperation.withSpan()) {
       super.close();
@@ -457,7 +469,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterAddSlots-int...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterAddSlots");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_ADD_SLOTS);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterAddSlots(slots);
@@ -474,8 +486,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterCountKeysInSlot-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.clusterCountKeysInSlot");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_COUNT_KEYS_IN_SLOT);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterCountKeysInSlot(slot);
@@ -492,7 +503,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterDelSlots-int...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterDelSlots");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_DEL_SLOTS);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterDelSlots(slots);
@@ -509,7 +520,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterFailover--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterFailover");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_FAILOVER);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterFailover();
@@ -526,7 +537,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterFlushSlots--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterFlushSlots");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_FLUSH_SLOTS);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterFlushSlots();
@@ -543,7 +554,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterForget-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterForget");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_FORGET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterForget(nodeId);
@@ -560,7 +571,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterGetKeysInSlot-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterGetKeysInSlot");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_GET_KEYS_IN_SLOT);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterGetKeysInSlot(slot, count);
@@ -577,7 +588,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterInfo--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterInfo");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_INFO);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterInfo();
@@ -594,7 +605,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterKeySlot-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterKeySlot", key);
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_KEY_SLOT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterKeySlot(key);
@@ -611,7 +622,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterMeet-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterMeet");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_MEET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterMeet(ip, port);
@@ -628,7 +639,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterNodes--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterNodes");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_NODES);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterNodes();
@@ -645,7 +656,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterReplicate-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterReplicate");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_REPLICATE);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterReplicate(nodeId);
@@ -662,7 +673,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterReset-redis.clients.jedis.ClusterReset-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterReset");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_RESET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterReset(resetType);
@@ -679,7 +690,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSaveConfig--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterSaveConfig");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SAVE_CONFIG);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSaveConfig();
@@ -696,8 +707,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSetSlotImporting-int-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.clusterSetSlotImporting");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SET_SLOT_IMPORTING);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSetSlotImporting(slot, nodeId);
@@ -714,8 +724,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSetSlotMigrating-int-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.clusterSetSlotMigrating");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SET_SLOT_MIGRATING);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSetSlotMigrating(slot, nodeId);
@@ -732,7 +741,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSetSlotNode-int-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterSetSlotNode");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SET_SLOT_NODE);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSetSlotNode(slot, nodeId);
@@ -749,7 +758,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSetSlotStable-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterSetSlotStable");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SET_SLOT_STABLE);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSetSlotStable(slot);
@@ -766,7 +775,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSlaves-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterSlaves");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SLAVES);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSlaves(nodeId);
@@ -783,7 +792,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#clusterSlots--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.clusterSlots");
+        Observability.createRoundtripTrackingSpan(Commands.CLUSTER_SLOTS);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.clusterSlots();
@@ -800,7 +809,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#configGet-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.configGet");
+        Observability.createRoundtripTrackingSpan(Commands.CONFIG_GET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.configGet(pattern);
@@ -817,7 +826,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#configSet-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.configSet");
+        Observability.createRoundtripTrackingSpan(Commands.CONFIG_SET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.configSet(parameter, value);
@@ -833,8 +842,7 @@ public class OcWrapJedis extends Jedis {
   public Long decr(String key) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#decr-java.lang.String-
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.decr");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.DECR);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.decr(key);
@@ -851,7 +859,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#decrBy-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.decrBy");
+        Observability.createRoundtripTrackingSpan(Commands.DECR_BY);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.decrBy(key, integer);
@@ -868,7 +876,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#decrBy-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.del", keys);
+        Observability.createRoundtripTrackingSpan(Commands.DEL, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.del(keys);
@@ -884,8 +892,7 @@ public class OcWrapJedis extends Jedis {
   public Long del(String key) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#del-java.lang.String-
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.del");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.DEL);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.del(key);
@@ -902,7 +909,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#dump-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.dump", key);
+        Observability.createRoundtripTrackingSpan(Commands.DUMP, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.dump(key);
@@ -919,7 +926,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#echo-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.echo", key);
+        Observability.createRoundtripTrackingSpan(Commands.ECHO, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.echo(key);
@@ -935,11 +942,13 @@ public class OcWrapJedis extends Jedis {
   public Object eval(String script) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#eval-java.lang.String-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    String sha1 = Scripts.sha1(script);
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.eval", script);
+        Observability.createRoundtripTrackingSpan(Commands.EVAL, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.eval(script);
+      return evalScript(trackingOperation, script, sha1, 0);
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -952,11 +961,13 @@ public class OcWrapJedis extends Jedis {
   public Object eval(String script, int keyCount, String... params) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#eval-java.lang.String-int-java.lang.String...-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    String sha1 = Scripts.sha1(script);
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.eval", script);
+        Observability.createRoundtripTrackingSpan(Commands.EVAL, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.eval(script, keyCount, params);
+      return evalScript(trackingOperation, script, sha1, keyCount, params);
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -969,11 +980,14 @@ public class OcWrapJedis extends Jedis {
   public Object eval(String script, List<String> keys, List<String> args) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#eval-java.lang.String-java.util.List-java.util.List-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    String sha1 = Scripts.sha1(script);
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.eval", script);
+        Observability.createRoundtripTrackingSpan(Commands.EVAL, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.eval(script, keys, args);
+      return evalScript(
+          trackingOperation, script, sha1, keys.size(), evalParams(keys, args, new String[0]));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -982,12 +996,57 @@ public class OcWrapJedis extends Jedis {
     }
   }
 
+  // Evaluates script with EVALSHA, and only sends its source with SCRIPT LOAD when the server
+  // replies that it doesn't know the script, e.g. after a restart or a SCRIPT FLUSH. Scripts are
+  // cached by the server rather than per connection, so once any connection loaded a script, the
+  // calls of every connection only send its SHA1.
+  private Object evalScript(
+      TrackingOperation trackingOperation,
+      String script,
+      String sha1,
+      int keyCount,
+      String... params) {
+    try {
+      return super.evalsha(sha1, keyCount, params);
+    } catch (JedisNoScriptException e) {
+      trackingOperation.addAnnotation("Script loaded");
+      long startNs = System.nanoTime();
+      super.scriptLoad(script);
+      Observability.recordScriptLoad(Commands.EVAL, 1, System.nanoTime() - startNs);
+      return super.evalsha(sha1, keyCount, params);
+    }
+  }
+
+  private Object evalScript(
+      TrackingOperation trackingOperation,
+      byte[] script,
+      byte[] sha1,
+      int keyCount,
+      byte[]... params) {
+    try {
+      return super.evalsha(sha1, keyCount, params);
+    } catch (JedisNoScriptException e) {
+      trackingOperation.addAnnotation("Script loaded");
+      long startNs = System.nanoTime();
+      super.scriptLoad(script);
+      Observability.recordScriptLoad(Commands.BINARY_EVAL, 1, System.nanoTime() - startNs);
+      return super.evalsha(sha1, keyCount, params);
+    }
+  }
+
+  private static <T> T[] evalParams(List<T> keys, List<T> args, T[] empty) {
+    List<T> params = new ArrayList<T>(keys.size() + args.size());
+    params.addAll(keys);
+    params.addAll(args);
+    return params.toArray(empty);
+  }
+
   @Override
   public Object evalsha(String sha1) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#evalsha-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.evalsha", sha1);
+        Observability.createRoundtripTrackingSpan(Commands.EVALSHA, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.evalsha(sha1);
@@ -1004,7 +1063,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#evalsha-java.lang.String-int-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.evalsha", sha1);
+        Observability.createRoundtripTrackingSpan(Commands.EVALSHA, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.evalsha(sha1, keyCount, params);
@@ -1021,7 +1080,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#evalsha-java.lang.String-java.util.List-java.util.List-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.evalsha", sha1);
+        Observability.createRoundtripTrackingSpan(Commands.EVALSHA, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.evalsha(sha1, keys, args);
@@ -1038,7 +1097,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#exists-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.exists", keys);
+        Observability.createRoundtripTrackingSpan(Commands.EXISTS, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.exists(keys);
@@ -1055,7 +1114,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#exists-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.exists", key);
+        Observability.createRoundtripTrackingSpan(Commands.EXISTS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.exists(key);
@@ -1072,7 +1131,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#expire-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.expire", key);
+        Observability.createRoundtripTrackingSpan(Commands.EXPIRE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.expire(key, seconds);
@@ -1089,7 +1148,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#expireAt-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.expireAt", key);
+        Observability.createRoundtripTrackingSpan(Commands.EXPIRE_AT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.expireAt(key, unixTime);
@@ -1106,7 +1165,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#geoadd-java.lang.String-double-double-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.geoadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEOADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.geoadd(key, longitude, latitude, member);
@@ -1123,7 +1182,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#geoadd-java.lang.String-double-double-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.geoadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEOADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.geoadd(key, memberCoordinateMap);
@@ -1140,7 +1199,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#geodist-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.geodist", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEODIST, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.geodist(key, member1, member2);
@@ -1157,7 +1216,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#geodist-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.geodist", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEODIST, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.geodist(key, member1, member2, unit);
@@ -1174,7 +1233,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#geohash-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.geohash", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEOHASH, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.geohash(key, members);
@@ -1191,7 +1250,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#geopos-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.geopos", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEOPOS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.geopos(key, members);
@@ -1209,7 +1268,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#georadius-java.lang.String-double-double-double-redis.clients.jedis.GeoUnit-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.georadius", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEORADIUS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.georadius(key, longitude, latitude, radius, unit);
@@ -1232,7 +1291,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#georadius-java.lang.String-double-double-double-redis.clients.jedis.GeoUnit-redis.clients.jedis.params.geo.GeoRadiusParam-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.georadius", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEORADIUS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.georadius(key, longitude, latitude, radius, unit, param);
@@ -1250,8 +1309,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#georadiusByMember-java.lang.String-java.lang.String-double-redis.clients.jedis.GeoUnit-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.georadiusByMember", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEORADIUS_BY_MEMBER, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.georadiusByMember(key, member, radius, unit);
@@ -1269,8 +1327,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#georadiusByMember-java.lang.String-java.lang.String-double-redis.clients.jedis.GeoUnit-redis.clients.jedis.params.geo.GeoRadiusParam-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.georadiusByMember", key);
+        Observability.createRoundtripTrackingSpan(Commands.GEORADIUS_BY_MEMBER, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.georadiusByMember(key, member, radius, unit, param);
@@ -1287,10 +1344,12 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#get-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.get", key);
+        Observability.createRoundtripTrackingSpan(Commands.GET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.get(key);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.get(key);
+      return compression.decodeString(Commands.GET, super.get(SafeEncoder.encode(key)));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -1304,7 +1363,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#getbit-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.getbit", key);
+        Observability.createRoundtripTrackingSpan(Commands.GETBIT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.getbit(key, offset);
@@ -1321,7 +1380,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#getrange-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.getrange", key);
+        Observability.createRoundtripTrackingSpan(Commands.GETRANGE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.getrange(key, startOffset, endOffset);
@@ -1338,7 +1397,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#getSet-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.getSet", key);
+        Observability.createRoundtripTrackingSpan(Commands.GET_SET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.getSet(key, value);
@@ -1355,7 +1414,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hdel-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hdel", key);
+        Observability.createRoundtripTrackingSpan(Commands.HDEL, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hdel(key, fields);
@@ -1372,7 +1431,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hexists-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hexists", key);
+        Observability.createRoundtripTrackingSpan(Commands.HEXISTS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hexists(key, field);
@@ -1389,10 +1448,13 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hget-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hget", key);
+        Observability.createRoundtripTrackingSpan(Commands.HGET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.hget(key, field);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hget(key, field);
+      return compression.decodeString(
+          Commands.HGET, super.hget(SafeEncoder.encode(key), SafeEncoder.encode(field)));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -1406,10 +1468,12 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hgetAll-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hgetAll", key);
+        Observability.createRoundtripTrackingSpan(Commands.HGET_ALL, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.hgetAll(key);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hgetAll(key);
+      return compression.decodeStrings(Commands.HGET_ALL, super.hgetAll(SafeEncoder.encode(key)));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -1423,7 +1487,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hincrBy-java.lang.String-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hincrBy", key);
+        Observability.createRoundtripTrackingSpan(Commands.HINCR_BY, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hincrBy(key, field, value);
@@ -1440,7 +1504,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hincrByFloat-java.lang.String-java.lang.String-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hincrByFloat", key);
+        Observability.createRoundtripTrackingSpan(Commands.HINCR_BY_FLOAT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hincrByFloat(key, field, value);
@@ -1457,7 +1521,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hkeys-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hkeys", key);
+        Observability.createRoundtripTrackingSpan(Commands.HKEYS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hkeys(key);
@@ -1474,7 +1538,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hlen-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hlen", key);
+        Observability.createRoundtripTrackingSpan(Commands.HLEN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hlen(key);
@@ -1491,10 +1555,13 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hmget-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hmget", key);
+        Observability.createRoundtripTrackingSpan(Commands.HMGET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.hmget(key, fields);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hmget(key, fields);
+      return compression.decodeStrings(
+          Commands.HMGET, super.hmget(SafeEncoder.encode(key), SafeEncoder.encodeMany(fields)));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -1508,7 +1575,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hscan-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hscan", key);
+        Observability.createRoundtripTrackingSpan(Commands.HSCAN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hscan(key, cursor);
@@ -1525,7 +1592,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hscan-java.lang.String-java.lang.String-redis.clients.jedis.ScanParams-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hscan", key);
+        Observability.createRoundtripTrackingSpan(Commands.HSCAN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hscan(key, cursor, params);
@@ -1542,10 +1609,15 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hset-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hset", key);
+        Observability.createRoundtripTrackingSpan(Commands.HSET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.hset(key, field, value);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hset(key, field, value);
+      return super.hset(
+          SafeEncoder.encode(key),
+          SafeEncoder.encode(field),
+          compression.encode(Commands.HSET, value));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -1559,7 +1631,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hsetnx-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hsetnx", key);
+        Observability.createRoundtripTrackingSpan(Commands.HSETNX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hsetnx(key, field, value);
@@ -1576,7 +1648,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#hvals-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.hvals", key);
+        Observability.createRoundtripTrackingSpan(Commands.HVALS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.hvals(key);
@@ -1593,7 +1665,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#incr-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.incr", key);
+        Observability.createRoundtripTrackingSpan(Commands.INCR, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.incr(key);
@@ -1610,7 +1682,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#incrBy-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.incrBy", key);
+        Observability.createRoundtripTrackingSpan(Commands.INCR_BY, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.incrBy(key, integer);
@@ -1627,7 +1699,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#incrByFloat-java.lang.String-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.incrByFloat", key);
+        Observability.createRoundtripTrackingSpan(Commands.INCR_BY_FLOAT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.incrByFloat(key, value);
@@ -1644,7 +1716,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#keys-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.keys", pattern);
+        Observability.createRoundtripTrackingSpan(Commands.KEYS, pattern);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.keys(pattern);
@@ -1661,7 +1733,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lindex-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lindex", key);
+        Observability.createRoundtripTrackingSpan(Commands.LINDEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lindex(key, index);
@@ -1678,7 +1750,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#linsert-java.lang.String-redis.clients.jedis.ListPosition-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.linsert", key);
+        Observability.createRoundtripTrackingSpan(Commands.LINSERT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.linsert(key, where, pivot, value);
@@ -1695,7 +1767,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#llen-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.llen", key);
+        Observability.createRoundtripTrackingSpan(Commands.LLEN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.llen(key);
@@ -1712,7 +1784,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lpop-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lpop", key);
+        Observability.createRoundtripTrackingSpan(Commands.LPOP, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lpop(key);
@@ -1729,7 +1801,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lpush-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lpush", key);
+        Observability.createRoundtripTrackingSpan(Commands.LPUSH, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lpush(key, strings);
@@ -1746,7 +1818,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lpushx-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lpushx", key);
+        Observability.createRoundtripTrackingSpan(Commands.LPUSHX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lpushx(key, strings);
@@ -1763,7 +1835,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lrange-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lrange", key);
+        Observability.createRoundtripTrackingSpan(Commands.LRANGE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lrange(key, start, end);
@@ -1780,7 +1852,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lrem-java.lang.String-long-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lrem", key);
+        Observability.createRoundtripTrackingSpan(Commands.LREM, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lrem(key, count, value);
@@ -1797,7 +1869,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#lset-java.lang.String-long-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.lset", key);
+        Observability.createRoundtripTrackingSpan(Commands.LSET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.lset(key, index, value);
@@ -1814,7 +1886,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#ltrim-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.ltrim", key);
+        Observability.createRoundtripTrackingSpan(Commands.LTRIM, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.ltrim(key, start, end);
@@ -1831,10 +1903,12 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#mget-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.mget", keys);
+        Observability.createRoundtripTrackingSpan(Commands.MGET, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.mget(keys);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.mget(keys);
+      return compression.decodeStrings(Commands.MGET, super.mget(SafeEncoder.encodeMany(keys)));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -1848,7 +1922,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#migrate-java.lang.String-int-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.migrate", key);
+        Observability.createRoundtripTrackingSpan(Commands.MIGRATE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.migrate(host, port, key, destinationDb, timeout);
@@ -1865,7 +1939,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#move-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.move", key);
+        Observability.createRoundtripTrackingSpan(Commands.MOVE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.move(key, dbIndex);
@@ -1882,7 +1956,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#mset-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.mset", keysvalues);
+        Observability.createRoundtripTrackingSpan(Commands.MSET, keysvalues);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.mset(keysvalues);
@@ -1899,7 +1973,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#msetnx-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.msetnx", keysvalues);
+        Observability.createRoundtripTrackingSpan(Commands.MSETNX, keysvalues);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.msetnx(keysvalues);
@@ -1911,13 +1985,32 @@ public class OcWrapJedis extends Jedis {
     }
   }
 
+  @Override
+  public Transaction multi() {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#multi--
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.MULTI);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      // Same as BinaryJedis.multi, except that the transaction traces its EXEC, see OcTransaction.
+      client.multi();
+      client.getOne();
+      transaction = new OcTransaction(client);
+      return transaction;
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
   @Override
   public String objectEncoding(String string) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#objectEncoding-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.objectEncoding", string);
+        Observability.createRoundtripTrackingSpan(Commands.OBJECT_ENCODING, string);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.objectEncoding(string);
@@ -1934,8 +2027,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#objectIdletime-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.objectIdletime", string);
+        Observability.createRoundtripTrackingSpan(Commands.OBJECT_IDLETIME, string);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.objectIdletime(string);
@@ -1952,8 +2044,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#objectRefcount-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.objectRefcount", string);
+        Observability.createRoundtripTrackingSpan(Commands.OBJECT_REFCOUNT, string);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.objectRefcount(string);
@@ -1970,7 +2061,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#persist-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.persist", key);
+        Observability.createRoundtripTrackingSpan(Commands.PERSIST, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.persist(key);
@@ -1987,7 +2078,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pexpire-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pexpire", key);
+        Observability.createRoundtripTrackingSpan(Commands.PEXPIRE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pexpire(key, milliseconds);
@@ -2004,7 +2095,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pexpireAt-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pexpireAt", key);
+        Observability.createRoundtripTrackingSpan(Commands.PEXPIRE_AT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pexpireAt(key, millisecondsTimestamp);
@@ -2021,7 +2112,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pfadd-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pfadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.PFADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pfadd(key, elements);
@@ -2038,7 +2129,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pfcount-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pfcount", keys);
+        Observability.createRoundtripTrackingSpan(Commands.PFCOUNT, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pfcount(keys);
@@ -2055,7 +2146,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pfcount-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pfcount", key);
+        Observability.createRoundtripTrackingSpan(Commands.PFCOUNT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pfcount(key);
@@ -2072,7 +2163,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pfmerge-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pfmerge", destkey);
+        Observability.createRoundtripTrackingSpan(Commands.PFMERGE, destkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pfmerge(destkey, sourcekeys);
@@ -2084,12 +2175,20 @@ public class OcWrapJedis extends Jedis {
     }
   }
 
+  @Override
+  public Pipeline pipelined() {
+    // The pipeline traces each batch of queued commands itself, see OcPipeline.
+    pipeline = new OcPipeline();
+    pipeline.setClient(client);
+    return pipeline;
+  }
+
   @Override
   public String psetex(String key, long milliseconds, String value) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#psetex-java.lang.String-long-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.psetex", key);
+        Observability.createRoundtripTrackingSpan(Commands.PSETEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.psetex(key, milliseconds, value);
@@ -2106,7 +2205,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#psubscribe-redis.clients.jedis.JedisPubSub-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.psubscribe", patterns);
+        Observability.createRoundtripTrackingSpan(Commands.PSUBSCRIBE, patterns);
 
     try (Scope ws = trackingOperation.withSpan()) {
       super.psubscribe(jedisPubSub, patterns);
@@ -2123,7 +2222,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pttl-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pttl", key);
+        Observability.createRoundtripTrackingSpan(Commands.PTTL, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pttl(key);
@@ -2140,8 +2239,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#publish-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.publish", channel, message);
+        Observability.createRoundtripTrackingSpan(Commands.PUBLISH, channel, message);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.publish(channel, message);
@@ -2158,8 +2256,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pubsubChannels-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.pubsubChannels", pattern);
+        Observability.createRoundtripTrackingSpan(Commands.PUBSUB_CHANNELS, pattern);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pubsubChannels(pattern);
@@ -2176,7 +2273,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pubsubNumPat--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.pubsubNumPat");
+        Observability.createRoundtripTrackingSpan(Commands.PUBSUB_NUM_PAT);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pubsubNumPat();
@@ -2193,8 +2290,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#pubsubNumSub-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.pubsubNumSub", channels);
+        Observability.createRoundtripTrackingSpan(Commands.PUBSUB_NUM_SUB, channels);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.pubsubNumSub(channels);
@@ -2211,7 +2307,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#randomKey--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.randomKey");
+        Observability.createRoundtripTrackingSpan(Commands.RANDOM_KEY);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.randomKey();
@@ -2228,7 +2324,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#readonly--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.readonly");
+        Observability.createRoundtripTrackingSpan(Commands.READONLY);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.readonly();
@@ -2245,8 +2341,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#rename-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.rename", oldkey, newkey);
+        Observability.createRoundtripTrackingSpan(Commands.RENAME, oldkey, newkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.rename(oldkey, newkey);
@@ -2263,8 +2358,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#renamenx-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.renamenx", oldkey, newkey);
+        Observability.createRoundtripTrackingSpan(Commands.RENAMENX, oldkey, newkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.renamenx(oldkey, newkey);
@@ -2281,7 +2375,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#restore-java.lang.String-int-byte:A-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.restore", key);
+        Observability.createRoundtripTrackingSpan(Commands.RESTORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.restore(key, ttl, serializedValue);
@@ -2298,8 +2392,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#rpoplpush-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.rpoplpush", srckey, dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.RPOPLPUSH, srckey, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.rpoplpush(srckey, dstkey);
@@ -2316,7 +2409,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#rpush-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.rpush", key);
+        Observability.createRoundtripTrackingSpan(Commands.RPUSH, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.rpush(key, strings);
@@ -2333,7 +2426,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#rpushx-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.rpushx", key);
+        Observability.createRoundtripTrackingSpan(Commands.RPUSHX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.rpushx(key, strings);
@@ -2350,7 +2443,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sadd-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.SADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sadd(key, members);
@@ -2367,7 +2460,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#scan-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.scan", cursor);
+        Observability.createRoundtripTrackingSpan(Commands.SCAN, cursor);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.scan(cursor);
@@ -2384,7 +2477,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#scan-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.scan", cursor);
+        Observability.createRoundtripTrackingSpan(Commands.SCAN, cursor);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.scan(cursor, params);
@@ -2401,7 +2494,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#scard-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.scard", key);
+        Observability.createRoundtripTrackingSpan(Commands.SCARD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.scard(key);
@@ -2418,7 +2511,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#scriptExists-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.scriptExists", sha1s);
+        Observability.createRoundtripTrackingSpan(Commands.SCRIPT_EXISTS, sha1s);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.scriptExists(sha1s);
@@ -2435,7 +2528,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#scriptExists-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.scriptExists", sha1);
+        Observability.createRoundtripTrackingSpan(Commands.SCRIPT_EXISTS, sha1);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.scriptExists(sha1);
@@ -2452,7 +2545,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#scriptLoad-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.scriptLoad", script);
+        Observability.createRoundtripTrackingSpan(Commands.SCRIPT_LOAD, script);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.scriptLoad(script);
@@ -2469,7 +2562,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sdiff-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sdiff", keys);
+        Observability.createRoundtripTrackingSpan(Commands.SDIFF, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sdiff(keys);
@@ -2486,7 +2579,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sdiffstore-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sdiffstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.SDIFFSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sdiffstore(dstkey, keys);
@@ -2503,8 +2596,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelFailover-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelFailover", masterName);
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_FAILOVER, masterName);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelFailover(masterName);
@@ -2522,7 +2614,7 @@ public class OcWrapJedis extends Jedis {
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelGetMasterAddrByName-java.lang.String-
     TrackingOperation trackingOperation =
         Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelGetMasterAddrByName", masterName);
+            Commands.SENTINEL_GET_MASTER_ADDR_BY_NAME, masterName);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelGetMasterAddrByName(masterName);
@@ -2539,7 +2631,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelMasters--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sentinelMasters");
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_MASTERS);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelMasters();
@@ -2556,8 +2648,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelMonitor-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelMonitor", masterName);
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_MONITOR, masterName);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelMonitor(masterName, ip, port, quorum);
@@ -2574,8 +2665,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelRemove-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelRemove", masterName);
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_REMOVE, masterName);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelRemove(masterName);
@@ -2592,8 +2682,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelReset-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelReset", pattern);
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_RESET, pattern);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelReset(pattern);
@@ -2610,8 +2699,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelSet-java.lang.String-java.util.Map-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelSet", masterName);
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_SET, masterName);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelSet(masterName, parameterMap);
@@ -2628,8 +2716,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sentinelSlaves-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.sentinelSlaves", masterName);
+        Observability.createRoundtripTrackingSpan(Commands.SENTINEL_SLAVES, masterName);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sentinelSlaves(masterName);
@@ -2646,10 +2733,12 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#set-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.set", key);
+        Observability.createRoundtripTrackingSpan(Commands.SET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.set(key, value);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.set(key, value);
+      return super.set(SafeEncoder.encode(key), compression.encode(Commands.SET, value));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -2663,10 +2752,12 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#set-java.lang.String-java.lang.String-redis.clients.jedis.params.SetParams-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.set", key);
+        Observability.createRoundtripTrackingSpan(Commands.SET, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.set(key, value, params);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.set(key, value, params);
+      return super.set(SafeEncoder.encode(key), compression.encode(Commands.SET, value), params);
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -2680,7 +2771,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#setbit-java.lang.String-long-boolean-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.setbit", key);
+        Observability.createRoundtripTrackingSpan(Commands.SETBIT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.setbit(key, offset, value);
@@ -2697,7 +2788,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#setbit-java.lang.String-long-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.setbit", key);
+        Observability.createRoundtripTrackingSpan(Commands.SETBIT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.setbit(key, offset, value);
@@ -2709,12 +2800,27 @@ public class OcWrapJedis extends Jedis {
     }
   }
 
+  /**
+   * Sets how the values of {@code set}, {@code get} and their likes are compressed, or disables
+   * compressing them when null, see {@link OcValueCompression}.
+   */
+  public void setValueCompression(@Nullable OcValueCompression valueCompression) {
+    this.valueCompression = valueCompression;
+  }
+
+  // Returns how values are compressed, for the callers that read them with a Pipeline, which
+  // doesn't decode them.
+  @Nullable
+  OcValueCompression getValueCompression() {
+    return valueCompression;
+  }
+
   @Override
   public void setDataSource(JedisPoolAbstract jedisPool) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#setDataSource-redis.clients.jedis.JedisPoolAbstract-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.setDataSource");
+        Observability.createRoundtripTrackingSpan(Commands.SET_DATA_SOURCE);
 
     try (Scope ws = trackingOperation.withSpan()) {
       super.setDataSource(jedisPool);
@@ -2730,11 +2836,13 @@ public class OcWrapJedis extends Jedis {
   public String setex(String key, int seconds, String value) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#setex-java.lang.String-int-java.lang.String-
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.setex");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.SETEX);
 
     try (Scope ws = trackingOperation.withSpan()) {
-      return super.setex(key, seconds, value);
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.setex(key, seconds, value);
+      return super.setex(
+          SafeEncoder.encode(key), seconds, compression.encode(Commands.SETEX, value));
     } catch (Exception e) {
       trackingOperation.recordException(e);
       throw e;
@@ -2747,8 +2855,7 @@ public class OcWrapJedis extends Jedis {
   public Long setnx(String key, String value) {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#setnx-java.lang.String-java.lang.String-
-    TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.setnx");
+    TrackingOperation trackingOperation = Observability.createRoundtripTrackingSpan(Commands.SETNX);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.setnx(key, value);
@@ -2765,7 +2872,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#setrange-java.lang.String-long-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.setrange", key);
+        Observability.createRoundtripTrackingSpan(Commands.SETRANGE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.setrange(key, offset, value);
@@ -2782,7 +2889,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sinter-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sinter", keys);
+        Observability.createRoundtripTrackingSpan(Commands.SINTER, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sinter(keys);
@@ -2799,7 +2906,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sinterstore-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sinterstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.SINTERSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sinterstore(dstkey, keys);
@@ -2816,7 +2923,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sismember-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sismember", key);
+        Observability.createRoundtripTrackingSpan(Commands.SISMEMBER, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sismember(key, member);
@@ -2833,7 +2940,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#slowlogGet--
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.slowlogGet");
+        Observability.createRoundtripTrackingSpan(Commands.SLOWLOG_GET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.slowlogGet();
@@ -2850,7 +2957,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#slowlogGet-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.slowlogGet");
+        Observability.createRoundtripTrackingSpan(Commands.SLOWLOG_GET);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.slowlogGet(entries);
@@ -2867,7 +2974,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#smembers-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.smembers", key);
+        Observability.createRoundtripTrackingSpan(Commands.SMEMBERS, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.smembers(key);
@@ -2884,8 +2991,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#smove-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.smove", srckey, dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.SMOVE, srckey, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.smove(srckey, dstkey, member);
@@ -2902,7 +3008,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sort-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sort", key);
+        Observability.createRoundtripTrackingSpan(Commands.SORT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sort(key);
@@ -2919,7 +3025,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sort-java.lang.String-redis.clients.jedis.SortingParams-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sort", key);
+        Observability.createRoundtripTrackingSpan(Commands.SORT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sort(key, sortingParameters);
@@ -2936,7 +3042,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sort-java.lang.String-redis.clients.jedis.SortingParams-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sort", key, dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.SORT, key, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sort(key, sortingParameters, dstkey);
@@ -2953,7 +3059,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sort-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sort", key, dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.SORT, key, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sort(key, dstkey);
@@ -2970,7 +3076,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#spop-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.spop", key);
+        Observability.createRoundtripTrackingSpan(Commands.SPOP, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.spop(key);
@@ -2987,7 +3093,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#spop-java.lang.String-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.spop", key);
+        Observability.createRoundtripTrackingSpan(Commands.SPOP, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.spop(key, count);
@@ -3004,7 +3110,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#srandmember-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.srandmember", key);
+        Observability.createRoundtripTrackingSpan(Commands.SRANDMEMBER, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.srandmember(key);
@@ -3021,7 +3127,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#srandmember-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.srandmember", key);
+        Observability.createRoundtripTrackingSpan(Commands.SRANDMEMBER, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.srandmember(key, count);
@@ -3038,7 +3144,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#srem-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.srem", key);
+        Observability.createRoundtripTrackingSpan(Commands.SREM, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.srem(key, members);
@@ -3055,7 +3161,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sscan-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sscan", key);
+        Observability.createRoundtripTrackingSpan(Commands.SSCAN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sscan(key, cursor);
@@ -3072,7 +3178,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sscan-java.lang.String-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sscan", key);
+        Observability.createRoundtripTrackingSpan(Commands.SSCAN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sscan(key, cursor, params);
@@ -3089,7 +3195,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#strlen-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.strlen", key);
+        Observability.createRoundtripTrackingSpan(Commands.STRLEN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.strlen(key);
@@ -3106,7 +3212,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#subscribe-redis.clients.jedis.JedisPubSub-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.subscribe", channels);
+        Observability.createRoundtripTrackingSpan(Commands.SUBSCRIBE, channels);
 
     try (Scope ws = trackingOperation.withSpan()) {
       super.subscribe(jedisPubSub, channels);
@@ -3123,7 +3229,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#substr-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.substr", key);
+        Observability.createRoundtripTrackingSpan(Commands.SUBSTR, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.substr(key, start, end);
@@ -3140,7 +3246,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sunion-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sunion", keys);
+        Observability.createRoundtripTrackingSpan(Commands.SUNION, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sunion(keys);
@@ -3157,7 +3263,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#sunionstore-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.sunionstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.SUNIONSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.sunionstore(dstkey, keys);
@@ -3174,7 +3280,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#ttl-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.ttl", key);
+        Observability.createRoundtripTrackingSpan(Commands.TTL, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.ttl(key);
@@ -3191,7 +3297,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#type-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.type", key);
+        Observability.createRoundtripTrackingSpan(Commands.TYPE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.type(key);
@@ -3208,7 +3314,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#watch-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.watch", keys);
+        Observability.createRoundtripTrackingSpan(Commands.WATCH, keys);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.watch(keys);
@@ -3225,7 +3331,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zadd-java.lang.String-double-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zadd(key, score, member);
@@ -3242,7 +3348,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zadd-java.lang.String-double-java.lang.String-redis.clients.jedis.params.sortedset.ZAddParams-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zadd(key, score, member, params);
@@ -3259,7 +3365,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zadd-java.lang.String-java.util.Map-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zadd(key, scoreMembers);
@@ -3276,7 +3382,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zadd-java.lang.String-java.util.Map-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zadd", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZADD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zadd(key, scoreMembers, params);
@@ -3293,7 +3399,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zcard-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zcard", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZCARD, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zcard(key);
@@ -3310,7 +3416,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zcount-java.lang.String-double-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zcount", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZCOUNT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zcount(key, min, max);
@@ -3327,7 +3433,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zcount-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zcount", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZCOUNT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zcount(key, min, max);
@@ -3344,7 +3450,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zincrby-java.lang.String-double-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zincrby", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZINCRBY, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zincrby(key, score, member);
@@ -3361,7 +3467,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zincrby-java.lang.String-double-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zincrby", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZINCRBY, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zincrby(key, score, member, params);
@@ -3378,7 +3484,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zinterstore-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zinterstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.ZINTERSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zinterstore(dstkey, sets);
@@ -3395,7 +3501,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zinterstore-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zinterstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.ZINTERSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zinterstore(dstkey, params, sets);
@@ -3412,7 +3518,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zlexcount-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zlexcount", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZLEXCOUNT, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zlexcount(key, min, max);
@@ -3429,7 +3535,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrange-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrange", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrange(key, start, end);
@@ -3446,7 +3552,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByLex-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrangeByLex", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_LEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByLex(key, min, max);
@@ -3463,7 +3569,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByLex-java.lang.String-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrangeByLex", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_LEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByLex(key, min, max, offset, count);
@@ -3480,7 +3586,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByScore-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByScore(key, min, max);
@@ -3497,7 +3603,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByScore-java.lang.String-double-double-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByScore(key, min, max, offset, count);
@@ -3514,8 +3620,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByScoreWithScores-java.lang.String-double-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByScoreWithScores(key, min, max);
@@ -3533,8 +3638,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByScoreWithScores-java.lang.String-double-double-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -3551,8 +3655,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByScoreWithScores-java.lang.String-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByScoreWithScores(key, min, max);
@@ -3570,8 +3673,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeByScoreWithScores-java.lang.String-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -3588,8 +3690,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrangeWithScores-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrangeWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANGE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrangeWithScores(key, start, end);
@@ -3606,7 +3707,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrank-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrank", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZRANK, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrank(key, member);
@@ -3623,7 +3724,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrem-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrem", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREM, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrem(key, members);
@@ -3640,7 +3741,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zremrangeByLex-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zremrangeByLex", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREMRANGE_BY_LEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zremrangeByLex(key, min, max);
@@ -3657,7 +3758,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zremrangeByRank-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zremrangeByRank", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREMRANGE_BY_RANK, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zremrangeByRank(key, start, end);
@@ -3674,8 +3775,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zremrangeByScore-java.lang.String-double-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zremrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREMRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zremrangeByScore(key, start, end);
@@ -3692,8 +3792,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zremrangeByScore-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zremrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREMRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zremrangeByScore(key, start, end);
@@ -3710,7 +3809,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrange-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrevrange", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrange(key, start, end);
@@ -3727,7 +3826,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByLex-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrevrangeByLex", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_LEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByLex(key, max, min);
@@ -3744,7 +3843,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByLex-java.lang.String-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrevrangeByLex", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_LEX, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByLex(key, max, min, offset, count);
@@ -3761,8 +3860,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScore-java.lang.String-double-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScore(key, max, min);
@@ -3779,8 +3877,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScore-java.lang.String-double-double-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScore(key, max, min, offset, count);
@@ -3797,8 +3894,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScore-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScore(key, max, min);
@@ -3815,8 +3911,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByLex-java.lang.String-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScore(key, max, min, offset, count);
@@ -3833,8 +3928,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScoreWithScores-java.lang.String-double-double-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScoreWithScores(key, max, min);
@@ -3852,8 +3946,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScoreWithScores-java.lang.String-double-double-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -3870,8 +3963,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScoreWithScores-java.lang.String-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScoreWithScores(key, max, min);
@@ -3889,8 +3981,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeByScoreWithScores-java.lang.String-java.lang.String-java.lang.String-int-int-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeByScoreWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_BY_SCORE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -3907,8 +3998,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrangeWithScores-java.lang.String-long-long-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan(
-            "redis.clients.jedis.Jedis.zrevrangeWithScores", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANGE_WITH_SCORES, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrangeByScoreWithScores(key, start, end);
@@ -3925,7 +4015,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zrevrank-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zrevrank", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZREVRANK, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zrevrank(key, member);
@@ -3942,7 +4032,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zscan-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zscan", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZSCAN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zscan(key, cursor);
@@ -3959,7 +4049,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zscan-java.lang.String-java.lang.String-redis.clients.jedis.ScanParams-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zscan", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZSCAN, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zscan(key, cursor, params);
@@ -3976,7 +4066,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zscore-java.lang.String-java.lang.String-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zscore", key);
+        Observability.createRoundtripTrackingSpan(Commands.ZSCORE, key);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zscore(key, member);
@@ -3993,7 +4083,7 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zunionstore-java.lang.String-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zunionstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.ZUNIONSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zunionstore(dstkey, sets);
@@ -4010,7 +4100,3515 @@ public class OcWrapJedis extends Jedis {
     // This method makes a call over the network.
     // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/Jedis.html#zunionstore-java.lang.String-redis.clients.jedis.ZParams-java.lang.String...-
     TrackingOperation trackingOperation =
-        Observability.createRoundtripTrackingSpan("redis.clients.jedis.Jedis.zunionstore", dstkey);
+        Observability.createRoundtripTrackingSpan(Commands.ZUNIONSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zunionstore(dstkey, params, sets);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long append(byte[] key, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#append-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_APPEND, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.append(key, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long bitcount(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#bitcount-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BITCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.bitcount(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long bitcount(byte[] key, long start, long end) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#bitcount-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BITCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.bitcount(key, start, end);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<Long> bitfield(byte[] key, byte[]... arguments) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#bitfield-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BITFIELD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.bitfield(key, arguments);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long bitop(BitOP op, byte[] destKey, byte[]... srcKeys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#bitop-redis.clients.jedis.BitOP-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BITOP, srcKeys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.bitop(op, destKey, srcKeys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long bitpos(byte[] key, boolean value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#bitpos-byte:A-boolean-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BITPOS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.bitpos(key, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long bitpos(byte[] key, boolean value, BitPosParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#bitpos-byte:A-boolean-redis.clients.jedis.BitPosParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BITPOS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.bitpos(key, value, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> blpop(byte[]... args) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#blpop-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BLPOP);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.blpop(args);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> blpop(int timeout, byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#blpop-int-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BLPOP, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.blpop(timeout, keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> brpop(byte[]... args) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#brpop-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BRPOP);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.brpop(args);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> brpop(int timeout, byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#brpop-int-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BRPOP, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.brpop(timeout, keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] brpoplpush(byte[] source, byte[] destination, int timeout) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#brpoplpush-byte:A-byte:A-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_BRPOPLPUSH, source, destination);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.brpoplpush(source, destination, timeout);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String clientKill(byte[] ipPort) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#clientKill-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_CLIENT_KILL);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.clientKill(ipPort);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String clientSetname(byte[] name) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#clientSetname-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_CLIENT_SETNAME);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.clientSetname(name);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> configGet(byte[] pattern) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#configGet-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_CONFIG_GET);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.configGet(pattern);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] configSet(byte[] parameter, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#configSet-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_CONFIG_SET);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.configSet(parameter, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long decr(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#decr-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_DECR, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.decr(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long decrBy(byte[] key, long decrement) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#decrBy-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_DECR_BY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.decrBy(key, decrement);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long del(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#del-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_DEL, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.del(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long del(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#del-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_DEL, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.del(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] dump(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#dump-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_DUMP, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.dump(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] echo(byte[] string) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#echo-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ECHO, string);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.echo(string);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object eval(byte[] script) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#eval-byte:A-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    byte[] sha1 = Scripts.sha1(script);
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVAL, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return evalScript(trackingOperation, script, sha1, 0);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object eval(byte[] script, byte[] keyCount, byte[]... params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#eval-byte:A-byte:A-byte:A...-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    byte[] sha1 = Scripts.sha1(script);
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVAL, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return evalScript(
+          trackingOperation, script, sha1, Integer.parseInt(SafeEncoder.encode(keyCount)), params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object eval(byte[] script, int keyCount, byte[]... params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#eval-byte:A-int-byte:A...-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    byte[] sha1 = Scripts.sha1(script);
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVAL, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return evalScript(trackingOperation, script, sha1, keyCount, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object eval(byte[] script, List<byte[]> keys, List<byte[]> args) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#eval-byte:A-java.util.List-java.util.List-
+    // The script is sent by its SHA1 rather than in full, see evalScript.
+    byte[] sha1 = Scripts.sha1(script);
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVAL, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return evalScript(
+          trackingOperation, script, sha1, keys.size(), evalParams(keys, args, new byte[0][]));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object evalsha(byte[] sha1) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#evalsha-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVALSHA, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.evalsha(sha1);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object evalsha(byte[] sha1, int keyCount, byte[]... params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#evalsha-byte:A-int-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVALSHA, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.evalsha(sha1, keyCount, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Object evalsha(byte[] sha1, List<byte[]> keys, List<byte[]> args) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#evalsha-byte:A-java.util.List-java.util.List-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EVALSHA, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.evalsha(sha1, keys, args);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Boolean exists(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#exists-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EXISTS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.exists(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long exists(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#exists-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EXISTS, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.exists(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long expire(byte[] key, int seconds) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#expire-byte:A-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EXPIRE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.expire(key, seconds);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long expireAt(byte[] key, long unixTime) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#expireAt-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_EXPIRE_AT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.expireAt(key, unixTime);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long geoadd(byte[] key, Map<byte[], GeoCoordinate> memberCoordinateMap) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#geoadd-byte:A-java.util.Map-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEOADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.geoadd(key, memberCoordinateMap);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long geoadd(byte[] key, double longitude, double latitude, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#geoadd-byte:A-double-double-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEOADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.geoadd(key, longitude, latitude, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double geodist(byte[] key, byte[] member1, byte[] member2) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#geodist-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEODIST, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.geodist(key, member1, member2);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double geodist(byte[] key, byte[] member1, byte[] member2, GeoUnit unit) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#geodist-byte:A-byte:A-byte:A-redis.clients.jedis.GeoUnit-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEODIST, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.geodist(key, member1, member2, unit);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> geohash(byte[] key, byte[]... members) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#geohash-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEOHASH, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.geohash(key, members);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoCoordinate> geopos(byte[] key, byte[]... members) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#geopos-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEOPOS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.geopos(key, members);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadius(
+      byte[] key, double longitude, double latitude, double radius, GeoUnit unit) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadius-byte:A-double-double-double-redis.clients.jedis.GeoUnit-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEORADIUS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadius(key, longitude, latitude, radius, unit);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadius(
+      byte[] key,
+      double longitude,
+      double latitude,
+      double radius,
+      GeoUnit unit,
+      GeoRadiusParam param) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadius-byte:A-double-double-double-redis.clients.jedis.GeoUnit-redis.clients.jedis.params.GeoRadiusParam-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEORADIUS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadius(key, longitude, latitude, radius, unit, param);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMember(
+      byte[] key, byte[] member, double radius, GeoUnit unit) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadiusByMember-byte:A-byte:A-double-redis.clients.jedis.GeoUnit-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEORADIUS_BY_MEMBER, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadiusByMember(key, member, radius, unit);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMember(
+      byte[] key, byte[] member, double radius, GeoUnit unit, GeoRadiusParam param) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadiusByMember-byte:A-byte:A-double-redis.clients.jedis.GeoUnit-redis.clients.jedis.params.GeoRadiusParam-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEORADIUS_BY_MEMBER, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadiusByMember(key, member, radius, unit, param);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMemberReadonly(
+      byte[] key, byte[] member, double radius, GeoUnit unit) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadiusByMemberReadonly-byte:A-byte:A-double-redis.clients.jedis.GeoUnit-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(
+            Commands.BINARY_GEORADIUS_BY_MEMBER_READONLY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadiusByMemberReadonly(key, member, radius, unit);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusByMemberReadonly(
+      byte[] key, byte[] member, double radius, GeoUnit unit, GeoRadiusParam param) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadiusByMemberReadonly-byte:A-byte:A-double-redis.clients.jedis.GeoUnit-redis.clients.jedis.params.GeoRadiusParam-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(
+            Commands.BINARY_GEORADIUS_BY_MEMBER_READONLY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadiusByMemberReadonly(key, member, radius, unit, param);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusReadonly(
+      byte[] key, double longitude, double latitude, double radius, GeoUnit unit) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadiusReadonly-byte:A-double-double-double-redis.clients.jedis.GeoUnit-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEORADIUS_READONLY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadiusReadonly(key, longitude, latitude, radius, unit);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<GeoRadiusResponse> georadiusReadonly(
+      byte[] key,
+      double longitude,
+      double latitude,
+      double radius,
+      GeoUnit unit,
+      GeoRadiusParam param) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#georadiusReadonly-byte:A-double-double-double-redis.clients.jedis.GeoUnit-redis.clients.jedis.params.GeoRadiusParam-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GEORADIUS_READONLY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.georadiusReadonly(key, longitude, latitude, radius, unit, param);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#get-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.get(key);
+      return compression.decode(Commands.BINARY_GET, super.get(key));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Boolean getbit(byte[] key, long offset) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#getbit-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GETBIT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.getbit(key, offset);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] getrange(byte[] key, long startOffset, long endOffset) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#getrange-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GETRANGE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.getrange(key, startOffset, endOffset);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] getSet(byte[] key, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#getSet-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_GET_SET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.getSet(key, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hdel(byte[] key, byte[]... fields) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hdel-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HDEL, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hdel(key, fields);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Boolean hexists(byte[] key, byte[] field) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hexists-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HEXISTS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hexists(key, field);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] hget(byte[] key, byte[] field) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hget-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HGET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hget(key, field);
+      return compression.decode(Commands.BINARY_HGET, super.hget(key, field));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Map<byte[], byte[]> hgetAll(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hgetAll-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HGET_ALL, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hgetAll(key);
+      return compression.decode(Commands.BINARY_HGET_ALL, super.hgetAll(key));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hincrBy(byte[] key, byte[] field, long value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hincrBy-byte:A-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HINCR_BY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hincrBy(key, field, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double hincrByFloat(byte[] key, byte[] field, double value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hincrByFloat-byte:A-byte:A-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HINCR_BY_FLOAT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hincrByFloat(key, field, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> hkeys(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hkeys-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HKEYS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hkeys(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hlen(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hlen-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HLEN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hlen(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> hmget(byte[] key, byte[]... fields) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hmget-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HMGET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hmget(key, fields);
+      return compression.decode(Commands.BINARY_HMGET, super.hmget(key, fields));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String hmset(byte[] key, Map<byte[], byte[]> hash) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hmset-byte:A-java.util.Map-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HMSET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hmset(key, hash);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<Map.Entry<byte[], byte[]>> hscan(byte[] key, byte[] cursor) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hscan-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HSCAN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hscan(key, cursor);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<Map.Entry<byte[], byte[]>> hscan(byte[] key, byte[] cursor, ScanParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hscan-byte:A-byte:A-redis.clients.jedis.ScanParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HSCAN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hscan(key, cursor, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hset(byte[] key, Map<byte[], byte[]> hash) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hset-byte:A-java.util.Map-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HSET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hset(key, hash);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hset(byte[] key, byte[] field, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hset-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HSET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.hset(key, field, value);
+      return super.hset(key, field, compression.encode(Commands.BINARY_HSET, value));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hsetnx(byte[] key, byte[] field, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hsetnx-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HSETNX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hsetnx(key, field, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long hstrlen(byte[] key, byte[] field) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hstrlen-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HSTRLEN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hstrlen(key, field);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> hvals(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#hvals-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_HVALS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.hvals(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long incr(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#incr-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_INCR, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.incr(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long incrBy(byte[] key, long increment) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#incrBy-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_INCR_BY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.incrBy(key, increment);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double incrByFloat(byte[] key, double increment) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#incrByFloat-byte:A-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_INCR_BY_FLOAT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.incrByFloat(key, increment);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> keys(byte[] pattern) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#keys-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_KEYS, pattern);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.keys(pattern);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] lindex(byte[] key, long index) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lindex-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LINDEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lindex(key, index);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long linsert(byte[] key, ListPosition where, byte[] pivot, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#linsert-byte:A-redis.clients.jedis.ListPosition-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LINSERT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.linsert(key, where, pivot, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long llen(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#llen-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LLEN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.llen(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] lpop(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lpop-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LPOP, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lpop(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long lpush(byte[] key, byte[]... strings) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lpush-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LPUSH, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lpush(key, strings);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long lpushx(byte[] key, byte[]... string) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lpushx-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LPUSHX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lpushx(key, string);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> lrange(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lrange-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LRANGE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lrange(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long lrem(byte[] key, long count, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lrem-byte:A-long-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LREM, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lrem(key, count, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String lset(byte[] key, long index, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#lset-byte:A-long-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LSET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.lset(key, index, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String ltrim(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#ltrim-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_LTRIM, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.ltrim(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> mget(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#mget-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_MGET, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.mget(keys);
+      return compression.decode(Commands.BINARY_MGET, super.mget(keys));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String migrate(String host, int port, byte[] key, int destinationDb, int timeout) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#migrate-java.lang.String-int-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_MIGRATE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.migrate(host, port, key, destinationDb, timeout);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String migrate(
+      String host, int port, int destinationDB, int timeout, MigrateParams params, byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#migrate-java.lang.String-int-int-int-redis.clients.jedis.params.MigrateParams-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_MIGRATE, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.migrate(host, port, destinationDB, timeout, params, keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long move(byte[] key, int dbIndex) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#move-byte:A-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_MOVE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.move(key, dbIndex);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String mset(byte[]... keysvalues) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#mset-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_MSET, keysvalues);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.mset(keysvalues);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long msetnx(byte[]... keysvalues) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#msetnx-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_MSETNX, keysvalues);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.msetnx(keysvalues);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] objectEncoding(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#objectEncoding-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_OBJECT_ENCODING, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.objectEncoding(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long objectIdletime(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#objectIdletime-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_OBJECT_IDLETIME, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.objectIdletime(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long objectRefcount(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#objectRefcount-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_OBJECT_REFCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.objectRefcount(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long persist(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#persist-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PERSIST, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.persist(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long pexpire(byte[] key, long milliseconds) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pexpire-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PEXPIRE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pexpire(key, milliseconds);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long pexpireAt(byte[] key, long millisecondsTimestamp) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pexpireAt-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PEXPIRE_AT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pexpireAt(key, millisecondsTimestamp);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long pfadd(byte[] key, byte[]... elements) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pfadd-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PFADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pfadd(key, elements);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public long pfcount(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pfcount-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PFCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pfcount(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long pfcount(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pfcount-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PFCOUNT, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pfcount(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String pfmerge(byte[] destkey, byte[]... sourcekeys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pfmerge-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PFMERGE, destkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pfmerge(destkey, sourcekeys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] ping(byte[] message) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#ping-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PING);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.ping(message);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String psetex(byte[] key, long milliseconds, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#psetex-byte:A-long-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PSETEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.psetex(key, milliseconds, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public void psubscribe(BinaryJedisPubSub jedisPubSub, byte[]... patterns) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#psubscribe-redis.clients.jedis.BinaryJedisPubSub-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PSUBSCRIBE, patterns);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      super.psubscribe(jedisPubSub, patterns);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long pttl(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#pttl-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PTTL, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.pttl(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long publish(byte[] channel, byte[] message) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#publish-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_PUBLISH, channel, message);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.publish(channel, message);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String rename(byte[] oldkey, byte[] newkey) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#rename-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RENAME, oldkey, newkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.rename(oldkey, newkey);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long renamenx(byte[] oldkey, byte[] newkey) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#renamenx-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RENAMENX, oldkey, newkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.renamenx(oldkey, newkey);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String restore(byte[] key, int ttl, byte[] serializedValue) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#restore-byte:A-int-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RESTORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.restore(key, ttl, serializedValue);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String restoreReplace(byte[] key, int ttl, byte[] serializedValue) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#restoreReplace-byte:A-int-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RESTORE_REPLACE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.restoreReplace(key, ttl, serializedValue);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] rpop(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#rpop-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RPOP, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.rpop(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] rpoplpush(byte[] srckey, byte[] dstkey) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#rpoplpush-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RPOPLPUSH, srckey, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.rpoplpush(srckey, dstkey);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long rpush(byte[] key, byte[]... strings) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#rpush-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RPUSH, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.rpush(key, strings);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long rpushx(byte[] key, byte[]... string) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#rpushx-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_RPUSHX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.rpushx(key, string);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long sadd(byte[] key, byte[]... members) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sadd-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sadd(key, members);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<byte[]> scan(byte[] cursor) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#scan-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SCAN, cursor);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.scan(cursor);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<byte[]> scan(byte[] cursor, ScanParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#scan-byte:A-redis.clients.jedis.ScanParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SCAN, cursor);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.scan(cursor, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long scard(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#scard-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SCARD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.scard(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long scriptExists(byte[] sha1) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#scriptExists-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SCRIPT_EXISTS, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.scriptExists(sha1);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<Long> scriptExists(byte[]... sha1) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#scriptExists-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SCRIPT_EXISTS, sha1);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.scriptExists(sha1);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] scriptLoad(byte[] script) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#scriptLoad-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SCRIPT_LOAD, script);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.scriptLoad(script);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> sdiff(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sdiff-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SDIFF, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sdiff(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long sdiffstore(byte[] dstkey, byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sdiffstore-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SDIFFSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sdiffstore(dstkey, keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String set(byte[] key, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#set-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.set(key, value);
+      return super.set(key, compression.encode(Commands.BINARY_SET, value));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String set(byte[] key, byte[] value, SetParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#set-byte:A-byte:A-redis.clients.jedis.params.SetParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SET, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.set(key, value, params);
+      return super.set(key, compression.encode(Commands.BINARY_SET, value), params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Boolean setbit(byte[] key, long offset, boolean value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#setbit-byte:A-long-boolean-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SETBIT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.setbit(key, offset, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Boolean setbit(byte[] key, long offset, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#setbit-byte:A-long-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SETBIT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.setbit(key, offset, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String setex(byte[] key, int seconds, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#setex-byte:A-int-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SETEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      OcValueCompression compression = valueCompression;
+      if (compression == null) return super.setex(key, seconds, value);
+      return super.setex(key, seconds, compression.encode(Commands.BINARY_SETEX, value));
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long setnx(byte[] key, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#setnx-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SETNX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.setnx(key, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long setrange(byte[] key, long offset, byte[] value) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#setrange-byte:A-long-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SETRANGE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.setrange(key, offset, value);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> sinter(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sinter-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SINTER, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sinter(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long sinterstore(byte[] dstkey, byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sinterstore-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SINTERSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sinterstore(dstkey, keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Boolean sismember(byte[] key, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sismember-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SISMEMBER, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sismember(key, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> smembers(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#smembers-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SMEMBERS, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.smembers(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long smove(byte[] srckey, byte[] dstkey, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#smove-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SMOVE, srckey, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.smove(srckey, dstkey, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> sort(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sort-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SORT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sort(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long sort(byte[] key, byte[] dstkey) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sort-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SORT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sort(key, dstkey);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> sort(byte[] key, SortingParams sortingParameters) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sort-byte:A-redis.clients.jedis.SortingParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SORT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sort(key, sortingParameters);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long sort(byte[] key, SortingParams sortingParameters, byte[] dstkey) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sort-byte:A-redis.clients.jedis.SortingParams-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SORT, key, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sort(key, sortingParameters, dstkey);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] spop(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#spop-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SPOP, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.spop(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> spop(byte[] key, long count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#spop-byte:A-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SPOP, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.spop(key, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] srandmember(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#srandmember-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SRANDMEMBER, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.srandmember(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public List<byte[]> srandmember(byte[] key, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#srandmember-byte:A-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SRANDMEMBER, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.srandmember(key, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long srem(byte[] key, byte[]... member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#srem-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SREM, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.srem(key, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<byte[]> sscan(byte[] key, byte[] cursor) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sscan-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SSCAN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sscan(key, cursor);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<byte[]> sscan(byte[] key, byte[] cursor, ScanParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sscan-byte:A-byte:A-redis.clients.jedis.ScanParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SSCAN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sscan(key, cursor, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long strlen(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#strlen-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_STRLEN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.strlen(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public void subscribe(BinaryJedisPubSub jedisPubSub, byte[]... channels) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#subscribe-redis.clients.jedis.BinaryJedisPubSub-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SUBSCRIBE, channels);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      super.subscribe(jedisPubSub, channels);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public byte[] substr(byte[] key, int start, int end) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#substr-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SUBSTR, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.substr(key, start, end);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> sunion(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sunion-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SUNION, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sunion(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long sunionstore(byte[] dstkey, byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#sunionstore-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_SUNIONSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.sunionstore(dstkey, keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long touch(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#touch-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_TOUCH, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.touch(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long touch(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#touch-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_TOUCH, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.touch(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long ttl(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#ttl-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_TTL, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.ttl(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String type(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#type-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_TYPE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.type(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long unlink(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#unlink-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_UNLINK, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.unlink(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long unlink(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#unlink-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_UNLINK, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.unlink(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public String watch(byte[]... keys) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#watch-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_WATCH, keys);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.watch(keys);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zadd(byte[] key, Map<byte[], Double> scoreMembers) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zadd-byte:A-java.util.Map-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zadd(key, scoreMembers);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zadd(byte[] key, double score, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zadd-byte:A-double-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zadd(key, score, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zadd(byte[] key, Map<byte[], Double> scoreMembers, ZAddParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zadd-byte:A-java.util.Map-redis.clients.jedis.params.ZAddParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zadd(key, scoreMembers, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zadd(byte[] key, double score, byte[] member, ZAddParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zadd-byte:A-double-byte:A-redis.clients.jedis.params.ZAddParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZADD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zadd(key, score, member, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zcard(byte[] key) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zcard-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZCARD, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zcard(key);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zcount(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zcount-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zcount(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zcount(byte[] key, double min, double max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zcount-byte:A-double-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zcount(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double zincrby(byte[] key, double increment, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zincrby-byte:A-double-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZINCRBY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zincrby(key, increment, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double zincrby(byte[] key, double increment, byte[] member, ZIncrByParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zincrby-byte:A-double-byte:A-redis.clients.jedis.params.ZIncrByParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZINCRBY, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zincrby(key, increment, member, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zinterstore(byte[] dstkey, byte[]... sets) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zinterstore-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZINTERSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zinterstore(dstkey, sets);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zinterstore(byte[] dstkey, ZParams params, byte[]... sets) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zinterstore-byte:A-redis.clients.jedis.ZParams-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZINTERSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zinterstore(dstkey, params, sets);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zlexcount(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zlexcount-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZLEXCOUNT, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zlexcount(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrange(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrange-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrange(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrangeByLex(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByLex-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_LEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByLex(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrangeByLex(byte[] key, byte[] min, byte[] max, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByLex-byte:A-byte:A-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_LEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByLex(key, min, max, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScore-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScore(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrangeByScore(byte[] key, double min, double max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScore-byte:A-double-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScore(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrangeByScore(byte[] key, byte[] min, byte[] max, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScore-byte:A-byte:A-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScore(key, min, max, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrangeByScore(byte[] key, double min, double max, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScore-byte:A-double-double-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScore(key, min, max, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScoreWithScores-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScoreWithScores(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(byte[] key, double min, double max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScoreWithScores-byte:A-double-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScoreWithScores(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(
+      byte[] key, byte[] min, byte[] max, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScoreWithScores-byte:A-byte:A-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScoreWithScores(key, min, max, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrangeByScoreWithScores(
+      byte[] key, double min, double max, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeByScoreWithScores-byte:A-double-double-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeByScoreWithScores(key, min, max, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrangeWithScores(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrangeWithScores-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANGE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrangeWithScores(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zrank(byte[] key, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrank-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZRANK, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrank(key, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zrem(byte[] key, byte[]... members) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrem-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREM, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrem(key, members);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zremrangeByLex(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zremrangeByLex-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREMRANGE_BY_LEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zremrangeByLex(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zremrangeByRank(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zremrangeByRank-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREMRANGE_BY_RANK, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zremrangeByRank(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zremrangeByScore(byte[] key, byte[] min, byte[] max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zremrangeByScore-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREMRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zremrangeByScore(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zremrangeByScore(byte[] key, double min, double max) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zremrangeByScore-byte:A-double-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREMRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zremrangeByScore(key, min, max);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrange(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrange-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrange(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrangeByLex(byte[] key, byte[] max, byte[] min) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByLex-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_BY_LEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByLex(key, max, min);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrangeByLex(byte[] key, byte[] max, byte[] min, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByLex-byte:A-byte:A-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_BY_LEX, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByLex(key, max, min, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScore-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScore(key, max, min);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScore-byte:A-double-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScore(key, max, min);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrangeByScore(byte[] key, byte[] max, byte[] min, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScore-byte:A-byte:A-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScore(key, max, min, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<byte[]> zrevrangeByScore(byte[] key, double max, double min, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScore-byte:A-double-double-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_BY_SCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScore(key, max, min, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, byte[] max, byte[] min) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScoreWithScores-byte:A-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(
+            Commands.BINARY_ZREVRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScoreWithScores(key, max, min);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(byte[] key, double max, double min) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScoreWithScores-byte:A-double-double-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(
+            Commands.BINARY_ZREVRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScoreWithScores(key, max, min);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(
+      byte[] key, byte[] max, byte[] min, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScoreWithScores-byte:A-byte:A-byte:A-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(
+            Commands.BINARY_ZREVRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScoreWithScores(key, max, min, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeByScoreWithScores(
+      byte[] key, double max, double min, int offset, int count) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeByScoreWithScores-byte:A-double-double-int-int-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(
+            Commands.BINARY_ZREVRANGE_BY_SCORE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeByScoreWithScores(key, max, min, offset, count);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Set<Tuple> zrevrangeWithScores(byte[] key, long start, long stop) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrangeWithScores-byte:A-long-long-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANGE_WITH_SCORES, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrangeWithScores(key, start, stop);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zrevrank(byte[] key, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zrevrank-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZREVRANK, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zrevrank(key, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<Tuple> zscan(byte[] key, byte[] cursor) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zscan-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZSCAN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zscan(key, cursor);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public ScanResult<Tuple> zscan(byte[] key, byte[] cursor, ScanParams params) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zscan-byte:A-byte:A-redis.clients.jedis.ScanParams-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZSCAN, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zscan(key, cursor, params);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Double zscore(byte[] key, byte[] member) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zscore-byte:A-byte:A-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZSCORE, key);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zscore(key, member);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zunionstore(byte[] dstkey, byte[]... sets) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zunionstore-byte:A-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZUNIONSTORE, dstkey);
+
+    try (Scope ws = trackingOperation.withSpan()) {
+      return super.zunionstore(dstkey, sets);
+    } catch (Exception e) {
+      trackingOperation.recordException(e);
+      throw e;
+    } finally {
+      trackingOperation.end();
+    }
+  }
+
+  @Override
+  public Long zunionstore(byte[] dstkey, ZParams params, byte[]... sets) {
+    // This method makes a call over the network.
+    // https://static.javadoc.io/redis.clients/jedis/3.0.1/redis/clients/jedis/BinaryJedis.html#zunionstore-byte:A-redis.clients.jedis.ZParams-byte:A...-
+    TrackingOperation trackingOperation =
+        Observability.createRoundtripTrackingSpan(Commands.BINARY_ZUNIONSTORE, dstkey);
 
     try (Scope ws = trackingOperation.withSpan()) {
       return super.zunionstore(dstkey, params, sets);
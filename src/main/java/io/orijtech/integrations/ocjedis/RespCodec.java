@@ -0,0 +1,215 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+// RespCodec encodes commands to, and decodes replies from, the REdis Serialization Protocol for
+// the connection of OcAsyncJedis. Replies are decoded into the same objects as Jedis's
+// Protocol.read, i.e. byte[], Long, List<Object>, null and JedisDataException, so that Jedis's
+// builders can convert them.
+final class RespCodec {
+  private RespCodec() {}
+
+  // Encodes a command as a RESP array of bulk strings.
+  static ByteBuffer encode(ProtocolCommand command, byte[]... args) {
+    byte[] raw = command.getRaw();
+    int size = headerLength(args.length + 1) + headerLength(raw.length) + raw.length + 2;
+    for (byte[] arg : args) {
+      size += headerLength(arg.length) + arg.length + 2;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    putHeader(buffer, (byte) '*', args.length + 1);
+    putBulk(buffer, raw);
+    for (byte[] arg : args) {
+      putBulk(buffer, arg);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  // The length of a header such as "*3\r\n".
+  private static int headerLength(int value) {
+    return 1 + Integer.toString(value).length() + 2;
+  }
+
+  private static void putHeader(ByteBuffer buffer, byte type, int value) {
+    buffer.put(type);
+    String digits = Integer.toString(value);
+    for (int i = 0; i < digits.length(); i++) {
+      buffer.put((byte) digits.charAt(i));
+    }
+    buffer.put((byte) '\r').put((byte) '\n');
+  }
+
+  private static void putBulk(ByteBuffer buffer, byte[] bulk) {
+    putHeader(buffer, (byte) '$', bulk.length);
+    buffer.put(bulk).put((byte) '\r').put((byte) '\n');
+  }
+
+  // Decoder decodes replies from the bytes read from a connection, in whatever chunks they arrive.
+  // It first scans a reply's framing, resuming where the previous chunk left off, and only parses
+  // the reply once it was completely received, so a large multi-bulk reply is read in linear time.
+  static final class Decoder {
+    // Returned by next when the bytes received so far don't hold a complete reply.
+    static final Object INCOMPLETE = new Object();
+
+    private byte[] buffer = new byte[16 * 1024];
+    // The received bytes not decoded yet are buffer[start:end].
+    private int start;
+    private int end;
+    private int position;
+    private int lastReplyLength;
+    // The scan of the reply at start has checked buffer[start:scanned], and still expects
+    // pendingValues values, counting the elements of arrays. Zero when no scan is in progress.
+    private int scanned;
+    private int pendingValues;
+
+    void feed(ByteBuffer data) {
+      int length = data.remaining();
+      if (end + length > buffer.length) {
+        int pending = end - start;
+        byte[] target = buffer;
+        if (pending + length > buffer.length) {
+          target = new byte[Math.max(buffer.length * 2, pending + length)];
+        }
+        System.arraycopy(buffer, start, target, 0, pending);
+        buffer = target;
+        scanned -= start;
+        start = 0;
+        end = pending;
+      }
+      data.get(buffer, end, length);
+      end += length;
+    }
+
+    // Returns the next reply, which may be null, or INCOMPLETE.
+    Object next() {
+      if (!scan()) return INCOMPLETE;
+      position = start;
+      Object reply = parse();
+      if (reply == INCOMPLETE) return INCOMPLETE;
+      lastReplyLength = position - start;
+      start = position;
+      return reply;
+    }
+
+    // The number of bytes of the reply last returned by next.
+    int lastReplyLength() {
+      return lastReplyLength;
+    }
+
+    // Returns whether the reply at start was completely received.
+    private boolean scan() {
+      if (pendingValues == 0) {
+        scanned = start;
+        pendingValues = 1;
+      }
+      while (pendingValues > 0) {
+        if (scanned >= end) return false;
+        byte type = buffer[scanned];
+        int lineEnd = lineEnd(scanned + 1);
+        if (lineEnd < 0) return false;
+        int next = lineEnd + 2;
+        switch (type) {
+          case '+':
+          case '-':
+          case ':':
+            break;
+          case '$':
+            long length = parseLong(scanned + 1, lineEnd);
+            if (length >= 0) {
+              if (end - next < length + 2) return false;
+              next += (int) length + 2;
+            }
+            break;
+          case '*':
+            long count = parseLong(scanned + 1, lineEnd);
+            if (count > 0) pendingValues += (int) count;
+            break;
+          default:
+            pendingValues = 0;
+            throw new JedisConnectionException("Unknown reply: " + (char) type);
+        }
+        scanned = next;
+        pendingValues--;
+      }
+      return true;
+    }
+
+    private Object parse() {
+      if (position >= end) return INCOMPLETE;
+      byte type = buffer[position++];
+      int lineEnd = lineEnd(position);
+      if (lineEnd < 0) return INCOMPLETE;
+      int lineStart = position;
+      position = lineEnd + 2;
+
+      switch (type) {
+        case '+':
+          return Arrays.copyOfRange(buffer, lineStart, lineEnd);
+        case '-':
+          return new JedisDataException(
+              new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+        case ':':
+          return parseLong(lineStart, lineEnd);
+        case '$':
+          int length = (int) parseLong(lineStart, lineEnd);
+          if (length < 0) return null;
+          if (end - position < length + 2) return INCOMPLETE;
+          byte[] bulk = Arrays.copyOfRange(buffer, position, position + length);
+          position += length + 2;
+          return bulk;
+        case '*':
+          int count = (int) parseLong(lineStart, lineEnd);
+          if (count < 0) return null;
+          List<Object> elements = new ArrayList<Object>(count);
+          for (int i = 0; i < count; i++) {
+            Object element = parse();
+            if (element == INCOMPLETE) return INCOMPLETE;
+            elements.add(element);
+          }
+          return elements;
+        default:
+          throw new JedisConnectionException("Unknown reply: " + (char) type);
+      }
+    }
+
+    // Returns the index of the \r ending the line at from, or -1 if it wasn't received yet.
+    private int lineEnd(int from) {
+      for (int i = from; i < end - 1; i++) {
+        if (buffer[i] == '\r' && buffer[i + 1] == '\n') return i;
+      }
+      return -1;
+    }
+
+    private long parseLong(int from, int to) {
+      boolean negative = buffer[from] == '-';
+      long value = 0;
+      for (int i = negative ? from + 1 : from; i < to; i++) {
+        value = value * 10 + (buffer[i] - '0');
+      }
+      return negative ? -value : value;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import redis.clients.jedis.util.SafeEncoder;
+
+// Scripts computes the SHA1 digests that EVALSHA identifies Lua scripts by, the same way the server
+// does. The digests are cached, so that a script evaluated over and over is hashed once rather than
+// on every call. Applications that generate scripts on the fly could fill the cache, which is
+// cleared when it reaches MAX_CACHED scripts.
+final class Scripts {
+  private static final int MAX_CACHED = 1024;
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private static final ConcurrentMap<String, String> digests =
+      new ConcurrentHashMap<String, String>();
+  private static final ConcurrentMap<ByteBuffer, byte[]> binaryDigests =
+      new ConcurrentHashMap<ByteBuffer, byte[]>();
+
+  private Scripts() {}
+
+  // Returns the SHA1 of script, as lowercase hex digits.
+  static String sha1(String script) {
+    String sha1 = digests.get(script);
+    if (sha1 == null) {
+      sha1 = digest(SafeEncoder.encode(script));
+      if (digests.size() >= MAX_CACHED) digests.clear();
+      digests.put(script, sha1);
+    }
+    return sha1;
+  }
+
+  // Returns the SHA1 of script, as the bytes of lowercase hex digits.
+  static byte[] sha1(byte[] script) {
+    byte[] sha1 = binaryDigests.get(ByteBuffer.wrap(script));
+    if (sha1 == null) {
+      sha1 = SafeEncoder.encode(digest(script));
+      if (binaryDigests.size() >= MAX_CACHED) binaryDigests.clear();
+      // The caller may reuse its array, so the cache keeps a copy.
+      binaryDigests.put(ByteBuffer.wrap(script.clone()), sha1);
+    }
+    return sha1;
+  }
+
+  private static String digest(byte[] script) {
+    byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1").digest(script);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-1.
+      throw new AssertionError(e);
+    }
+    char[] hex = new char[digest.length * 2];
+    for (int i = 0; i < digest.length; i++) {
+      hex[2 * i] = HEX[(digest[i] >> 4) & 0xf];
+      hex[2 * i + 1] = HEX[digest[i] & 0xf];
+    }
+    return new String(hex);
+  }
+}
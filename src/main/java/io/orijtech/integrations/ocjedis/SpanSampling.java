@@ -0,0 +1,164 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which commands get a span, as set by {@link Observability#setSpanSampling}.
+ *
+ * <p>A command whose caller is traced follows its caller's sampling decision when {@link
+ * Builder#setParentBased} is enabled, which is the default. Other commands are sampled with the
+ * probability set for their method, or else the default probability, which is 1. Commands that are
+ * not sampled don't create a span at all, unless they take longer than the slow threshold set for
+ * their method, or else the default threshold: their span is then created when they end, so that
+ * slow calls are always traced.
+ *
+ * <p>The commands this sampling keeps are exported regardless of the sampler of OpenCensus.
+ *
+ * <p>Methods are named like the spans and the {@code method} tag, e.g. {@code
+ * redis.clients.jedis.Jedis.get}.
+ */
+public final class SpanSampling {
+  private static final long NO_THRESHOLD = Long.MAX_VALUE;
+
+  private final double defaultProbability;
+  private final Map<String, Double> probabilities;
+  private final long defaultSlowThresholdNs;
+  private final Map<String, Long> slowThresholdsNs;
+  private final boolean parentBased;
+
+  private SpanSampling(Builder builder) {
+    this.defaultProbability = builder.defaultProbability;
+    this.probabilities = Collections.unmodifiableMap(new HashMap<>(builder.probabilities));
+    this.defaultSlowThresholdNs = builder.defaultSlowThresholdNs;
+    this.slowThresholdsNs = Collections.unmodifiableMap(new HashMap<>(builder.slowThresholdsNs));
+    this.parentBased = builder.parentBased;
+  }
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  boolean isParentBased() {
+    return parentBased;
+  }
+
+  // Resolves the sampling of a method, cached by its CommandDescriptor.
+  CommandSampling resolve(String method) {
+    Double probability = probabilities.get(method);
+    Long slowThresholdNs = slowThresholdsNs.get(method);
+    return new CommandSampling(
+        this,
+        probability != null ? probability : defaultProbability,
+        slowThresholdNs != null ? slowThresholdNs : defaultSlowThresholdNs);
+  }
+
+  // CommandSampling is the sampling of a single method.
+  static final class CommandSampling {
+    private final SpanSampling owner;
+    private final double probability;
+    private final long slowThresholdNs;
+
+    private CommandSampling(SpanSampling owner, double probability, long slowThresholdNs) {
+      this.owner = owner;
+      this.probability = probability;
+      this.slowThresholdNs = slowThresholdNs;
+    }
+
+    SpanSampling getOwner() {
+      return owner;
+    }
+
+    double getProbability() {
+      return probability;
+    }
+
+    // Whether the calls that aren't sampled are traced when they are slow.
+    boolean keepsSlowCalls() {
+      return slowThresholdNs != NO_THRESHOLD;
+    }
+
+    boolean isSlow(long latencyNs) {
+      return latencyNs >= slowThresholdNs;
+    }
+  }
+
+  /** A builder of {@link SpanSampling}. */
+  public static final class Builder {
+    private double defaultProbability = 1;
+    private final Map<String, Double> probabilities = new HashMap<>();
+    private long defaultSlowThresholdNs = NO_THRESHOLD;
+    private final Map<String, Long> slowThresholdsNs = new HashMap<>();
+    private boolean parentBased = true;
+
+    private Builder() {}
+
+    /**
+     * Sets the probability, from 0 to 1, that the commands without a probability of their own are
+     * sampled.
+     */
+    public Builder setProbability(double probability) {
+      this.defaultProbability = checkProbability(probability);
+      return this;
+    }
+
+    /** Sets the probability, from 0 to 1, that the commands of method are sampled. */
+    public Builder setProbability(String method, double probability) {
+      probabilities.put(method, checkProbability(probability));
+      return this;
+    }
+
+    /** Sets whether commands follow the sampling decision of their caller's span, if any. */
+    public Builder setParentBased(boolean parentBased) {
+      this.parentBased = parentBased;
+      return this;
+    }
+
+    /**
+     * Traces the commands that are not sampled but take at least {@code threshold}, unless their
+     * method has a threshold of its own.
+     */
+    public Builder setSlowThreshold(long threshold, TimeUnit unit) {
+      this.defaultSlowThresholdNs = checkThreshold(threshold, unit);
+      return this;
+    }
+
+    /** Traces the commands of method that are not sampled but take at least {@code threshold}. */
+    public Builder setSlowThreshold(String method, long threshold, TimeUnit unit) {
+      slowThresholdsNs.put(method, checkThreshold(threshold, unit));
+      return this;
+    }
+
+    public SpanSampling build() {
+      return new SpanSampling(this);
+    }
+
+    private static double checkProbability(double probability) {
+      if (!(probability >= 0 && probability <= 1)) {
+        throw new IllegalArgumentException("probability must be in [0, 1]");
+      }
+      return probability;
+    }
+
+    private static long checkThreshold(long threshold, TimeUnit unit) {
+      if (threshold < 0) throw new IllegalArgumentException("threshold must not be negative");
+      return unit.toNanos(threshold);
+    }
+  }
+}
@@ -0,0 +1,328 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import io.opencensus.stats.Aggregation;
+import io.opencensus.stats.StatsRecorder;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+import javax.annotation.Nullable;
+
+// StripedStatsAggregator accumulates the latency and data transferred of successful calls into
+// striped histograms that share the bucket boundaries of DEFAULT_MILLISECONDS_DISTRIBUTION and
+// DEFAULT_BYTES_DISTRIBUTION. Callers only pay for a shared read lock and a few uncontended atomic
+// increments, and flush replays the accumulated buckets into the StatsRecorder from a single
+// thread.
+//
+// Each bucket keeps both the count and the sum of its values. A flush empties a stripe under its
+// write lock, so it never sees the sum of a value without its count, and records every bucket at
+// the mean of its values, which lands in the same bucket and preserves the sum. LATENCY_VIEW,
+// CALLS_VIEW and DATA_TRANSFER_VIEW thus report the same counts, buckets and means as synchronous
+// recording. Calls whose keys are tagged with a namespace, see KeyNamespaces, are accumulated
+// apart from the others and flushed with their KEY_NAMESPACE tag.
+//
+// This moves the cost of recording off the calling threads, it doesn't cut it: StatsRecorder has no
+// way to record a value with a weight, so a flush still records every aggregated value on its own,
+// one MeasureMap per call for the latency and one per direction for the bytes. 200k calls with
+// their bytes counted on the wire make a flush of 600k records, which the flushing thread must keep
+// up with between two flushes. The aggregator helps when the calling threads are latency sensitive
+// and a core is left for flushing, not when the process is short of CPU overall.
+final class StripedStatsAggregator {
+  private static final double NANOS_PER_MILLISECOND = 1e6;
+  private static final int MAX_STRIPES = 64;
+
+  private static final double[] LATENCY_BOUNDARIES_MS =
+      boundaries(Observability.DEFAULT_MILLISECONDS_DISTRIBUTION);
+  private static final double[] BYTES_BOUNDARIES =
+      boundaries(Observability.DEFAULT_BYTES_DISTRIBUTION);
+
+  private final StatsRecorder statsRecorder;
+  private final Tagger tagger;
+  private final int stripeMask;
+  private final Map<CommandDescriptor, CommandStats> commandStats =
+      new ConcurrentHashMap<CommandDescriptor, CommandStats>();
+
+  StripedStatsAggregator(StatsRecorder statsRecorder, Tagger tagger) {
+    this(statsRecorder, tagger, Runtime.getRuntime().availableProcessors());
+  }
+
+  // VisibleForTesting
+  StripedStatsAggregator(StatsRecorder statsRecorder, Tagger tagger, int parallelism) {
+    this.statsRecorder = statsRecorder;
+    this.tagger = tagger;
+    int stripes = Integer.highestOneBit(Math.max(1, Math.min(parallelism, MAX_STRIPES)) * 2 - 1);
+    this.stripeMask = stripes - 1;
+  }
+
+  // The namespace is the KEY_NAMESPACE tag of the call, null if it has none.
+  void recordLatency(CommandDescriptor command, @Nullable TagValue namespace, long latencyNs) {
+    Stripe stripe = stripe(command, namespace);
+    stripe.add(stripe.latency, latencyNs / NANOS_PER_MILLISECOND, latencyNs);
+  }
+
+  void recordBytesWritten(CommandDescriptor command, @Nullable TagValue namespace, long bytes) {
+    Stripe stripe = stripe(command, namespace);
+    stripe.add(stripe.bytesWritten, bytes, bytes);
+  }
+
+  void recordBytesRead(CommandDescriptor command, @Nullable TagValue namespace, long bytes) {
+    Stripe stripe = stripe(command, namespace);
+    stripe.add(stripe.bytesRead, bytes, bytes);
+  }
+
+  // Replays everything accumulated since the previous flush into the StatsRecorder.
+  void flush() {
+    for (Map.Entry<CommandDescriptor, CommandStats> entry : commandStats.entrySet()) {
+      CommandDescriptor command = entry.getKey();
+      CommandStats stats = entry.getValue();
+      drain(
+          stats.stripes,
+          command.okTagContext(tagger),
+          command.writeTagContext(tagger),
+          command.readTagContext(tagger));
+      for (Map.Entry<TagValue, AtomicReferenceArray<Stripe>> namespace :
+          stats.namespaces.entrySet()) {
+        drain(
+            namespace.getValue(),
+            namespacedTagContext(
+                command, namespace.getKey(), Observability.STATUS, Observability.VALUE_OK),
+            namespacedTagContext(
+                command, namespace.getKey(), Observability.DIRECTION, Observability.VALUE_WRITE),
+            namespacedTagContext(
+                command, namespace.getKey(), Observability.DIRECTION, Observability.VALUE_READ));
+      }
+    }
+  }
+
+  private void drain(
+      AtomicReferenceArray<Stripe> stripes,
+      TagContext okTagContext,
+      TagContext writeTagContext,
+      TagContext readTagContext) {
+    for (int i = 0; i < stripes.length(); i++) {
+      Stripe stripe = stripes.get(i);
+      if (stripe == null) continue;
+      Buckets latency;
+      Buckets bytesWritten;
+      Buckets bytesRead;
+      long stamp = stripe.lock.writeLock();
+      try {
+        latency = stripe.latency.drain();
+        bytesWritten = stripe.bytesWritten.drain();
+        bytesRead = stripe.bytesRead.drain();
+      } finally {
+        stripe.lock.unlockWrite(stamp);
+      }
+      recordLatency(latency, okTagContext);
+      recordBytes(bytesWritten, writeTagContext);
+      recordBytes(bytesRead, readTagContext);
+    }
+  }
+
+  // Returns the tag context of command's calls in namespace, with the tag of their status or
+  // direction.
+  private TagContext namespacedTagContext(
+      CommandDescriptor command, TagValue namespace, TagKey key, TagValue value) {
+    return tagger
+        .emptyBuilder()
+        .put(Observability.METHOD, command.getMethodTagValue())
+        .put(Observability.COMMAND_KIND, command.getMetadata().getKindTagValue())
+        .put(key, value)
+        .put(Observability.KEY_NAMESPACE, namespace)
+        .build();
+  }
+
+  private void recordLatency(Buckets buckets, TagContext tagContext) {
+    for (int bucket = 0; bucket < buckets.counts.length; bucket++) {
+      long count = buckets.counts[bucket];
+      if (count == 0) continue;
+      long sumNs = buckets.sums[bucket];
+
+      double meanMs = clamp(LATENCY_BOUNDARIES_MS, bucket, sumNs / NANOS_PER_MILLISECOND / count);
+      for (long i = 0; i < count; i++) {
+        statsRecorder
+            .newMeasureMap()
+            .put(Observability.MEASURE_LATENCY_MS, meanMs)
+            .record(tagContext);
+      }
+    }
+  }
+
+  private void recordBytes(Buckets buckets, TagContext tagContext) {
+    for (int bucket = 0; bucket < buckets.counts.length; bucket++) {
+      long count = buckets.counts[bucket];
+      if (count == 0) continue;
+      long sum = buckets.sums[bucket];
+
+      // MEASURE_DATA_TRANSFERRED is a long, so spread the remainder of the mean over the first
+      // values to keep the sum exact.
+      long mean = sum / count;
+      long remainder = sum % count;
+      for (long i = 0; i < count; i++) {
+        long value = i < remainder ? mean + 1 : mean;
+        statsRecorder
+            .newMeasureMap()
+            .put(Observability.MEASURE_DATA_TRANSFERRED, value)
+            .record(tagContext);
+      }
+    }
+  }
+
+  private Stripe stripe(CommandDescriptor command, @Nullable TagValue namespace) {
+    CommandStats stats = commandStats.get(command);
+    if (stats == null) {
+      CommandStats created = new CommandStats(stripeMask + 1);
+      stats = commandStats.putIfAbsent(command, created);
+      if (stats == null) stats = created;
+    }
+    AtomicReferenceArray<Stripe> stripes =
+        namespace == null ? stats.stripes : stats.namespaceStripes(namespace);
+
+    // Threads are spread over the stripes by their id, so that threads running on different cores
+    // mostly update different cache lines.
+    long id = Thread.currentThread().getId();
+    int index = (int) (id ^ (id >>> 16)) & stripeMask;
+    Stripe stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new Stripe());
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  // Returns the index of the bucket holding value, where bucket i + 1 starts at boundaries[i] and
+  // bucket 0 holds the values below the first boundary.
+  private static int bucketOf(double[] boundaries, double value) {
+    int low = 0;
+    int high = boundaries.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (value >= boundaries[mid]) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  // Keeps a bucket's mean inside the bucket despite the rounding of its conversion to milliseconds.
+  private static double clamp(double[] boundaries, int bucket, double value) {
+    if (bucket > 0 && value < boundaries[bucket - 1]) return boundaries[bucket - 1];
+    if (bucket < boundaries.length && value >= boundaries[bucket]) {
+      return Math.nextDown(boundaries[bucket]);
+    }
+    return value;
+  }
+
+  private static double[] boundaries(Aggregation aggregation) {
+    List<Double> boundaries =
+        ((Aggregation.Distribution) aggregation).getBucketBoundaries().getBoundaries();
+    double[] result = new double[boundaries.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = boundaries.get(i);
+    }
+    return result;
+  }
+
+  private static final class CommandStats {
+    private final AtomicReferenceArray<Stripe> stripes;
+    // The stripes of the calls tagged with a namespace, by namespace.
+    private final ConcurrentMap<TagValue, AtomicReferenceArray<Stripe>> namespaces =
+        new ConcurrentHashMap<TagValue, AtomicReferenceArray<Stripe>>();
+
+    private CommandStats(int stripes) {
+      this.stripes = new AtomicReferenceArray<Stripe>(stripes);
+    }
+
+    private AtomicReferenceArray<Stripe> namespaceStripes(TagValue namespace) {
+      AtomicReferenceArray<Stripe> namespaceStripes = namespaces.get(namespace);
+      if (namespaceStripes == null) {
+        AtomicReferenceArray<Stripe> created = new AtomicReferenceArray<Stripe>(stripes.length());
+        namespaceStripes = namespaces.putIfAbsent(namespace, created);
+        if (namespaceStripes == null) namespaceStripes = created;
+      }
+      return namespaceStripes;
+    }
+  }
+
+  private static final class Stripe {
+    // Shared by the callers adding values, and taken exclusively by a flush to empty the stripe.
+    private final StampedLock lock = new StampedLock();
+    private final Histogram latency = new Histogram(LATENCY_BOUNDARIES_MS);
+    private final Histogram bytesWritten = new Histogram(BYTES_BOUNDARIES);
+    private final Histogram bytesRead = new Histogram(BYTES_BOUNDARIES);
+
+    private void add(Histogram histogram, double scaledValue, long value) {
+      long stamp = lock.readLock();
+      try {
+        histogram.add(scaledValue, value);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+  }
+
+  // Histogram keeps the count and the sum of the values added to each of its buckets.
+  private static final class Histogram {
+    private final double[] boundaries;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray sums;
+
+    private Histogram(double[] boundaries) {
+      this.boundaries = boundaries;
+      this.counts = new AtomicLongArray(boundaries.length + 1);
+      this.sums = new AtomicLongArray(boundaries.length + 1);
+    }
+
+    // Adds a value, bucketed by its scaled value and summed by its raw value.
+    private void add(double scaledValue, long value) {
+      int bucket = bucketOf(boundaries, scaledValue);
+      sums.addAndGet(bucket, value);
+      counts.incrementAndGet(bucket);
+    }
+
+    // Empties the histogram and returns what it held. Only called under the write lock of its
+    // stripe, when no value is being added.
+    private Buckets drain() {
+      Buckets buckets = new Buckets(counts.length());
+      for (int bucket = 0; bucket < buckets.counts.length; bucket++) {
+        buckets.counts[bucket] = counts.getAndSet(bucket, 0);
+        buckets.sums[bucket] = sums.getAndSet(bucket, 0);
+      }
+      return buckets;
+    }
+  }
+
+  // Buckets holds the counts and sums drained from a histogram.
+  private static final class Buckets {
+    private final long[] counts;
+    private final long[] sums;
+
+    private Buckets(int size) {
+      this.counts = new long[size];
+      this.sums = new long[size];
+    }
+  }
+}
@@ -0,0 +1,55 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link AdaptiveScanCount}. */
+@RunWith(JUnit4.class)
+public class AdaptiveScanCountTest {
+  private final AdaptiveScanCount adaptiveCount =
+      AdaptiveScanCount.create(10, TimeUnit.MILLISECONDS, 10, 1000);
+
+  @Test
+  public void adjust_scalesTowardsTarget() {
+    assertThat(adaptiveCount.adjust(100, TimeUnit.MILLISECONDS.toNanos(8))).isEqualTo(125);
+    assertThat(adaptiveCount.adjust(100, TimeUnit.MILLISECONDS.toNanos(16))).isEqualTo(63);
+  }
+
+  @Test
+  public void adjust_keepsCountCloseToTarget() {
+    assertThat(adaptiveCount.adjust(100, TimeUnit.MICROSECONDS.toNanos(10500))).isEqualTo(100);
+  }
+
+  @Test
+  public void adjust_limitsStepAndBounds() {
+    assertThat(adaptiveCount.adjust(100, TimeUnit.MICROSECONDS.toNanos(10))).isEqualTo(200);
+    assertThat(adaptiveCount.adjust(100, TimeUnit.SECONDS.toNanos(1))).isEqualTo(50);
+    assertThat(adaptiveCount.adjust(800, 0)).isEqualTo(1000);
+    assertThat(adaptiveCount.adjust(15, TimeUnit.SECONDS.toNanos(1))).isEqualTo(10);
+  }
+
+  @Test
+  public void initialCount() {
+    assertThat(adaptiveCount.initialCount(0)).isEqualTo(10);
+    assertThat(adaptiveCount.initialCount(500)).isEqualTo(500);
+    assertThat(adaptiveCount.initialCount(5000)).isEqualTo(1000);
+  }
+}
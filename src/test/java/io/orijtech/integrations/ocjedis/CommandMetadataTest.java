@@ -0,0 +1,94 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link CommandMetadata}. */
+@RunWith(JUnit4.class)
+public class CommandMetadataTest {
+
+  // The wrapped methods that send no command of their own, or many different ones.
+  private static final List<String> LOCAL_METHODS =
+      Arrays.asList("close", "setDataSource", "sendCommand", "nodeBatch");
+
+  @Test
+  public void forMethod_coversEveryJedisMethod() throws Exception {
+    List<String> unknown = new ArrayList<String>();
+    for (Field field : Commands.class.getDeclaredFields()) {
+      if (!Modifier.isStatic(field.getModifiers()) || field.getType() != CommandDescriptor.class) {
+        continue;
+      }
+      field.setAccessible(true);
+      String method = ((CommandDescriptor) field.get(null)).getMethod();
+      String name = method.substring(method.lastIndexOf('.') + 1);
+      if (!method.startsWith("redis.clients.jedis.Jedis.")
+          && !method.startsWith("redis.clients.jedis.BinaryJedis.")) {
+        continue;
+      }
+      if (!LOCAL_METHODS.contains(name) && CommandMetadata.forMethod(method).getName() == null) {
+        unknown.add(method);
+      }
+    }
+    assertThat(unknown).isEmpty();
+  }
+
+  @Test
+  public void forMethod_classifiesCommands() {
+    assertThat(Commands.GET.getMetadata().isReadOnly()).isTrue();
+    assertThat(Commands.SET.getMetadata().isReadOnly()).isFalse();
+    assertThat(Commands.SET.getMetadata().getKindTagValue()).isEqualTo(CommandMetadata.VALUE_WRITE);
+    assertThat(CommandMetadata.forMethod("redis.clients.jedis.Jedis.zrangeByScoreWithScores"))
+        .isSameAs(CommandMetadata.forCommand("ZRANGEBYSCORE"));
+    assertThat(
+            CommandMetadata.forMethod("redis.clients.jedis.Jedis.georadiusReadonly").isReadOnly())
+        .isTrue();
+    assertThat(CommandMetadata.forMethod("redis.clients.jedis.Jedis.clusterNodes").getName())
+        .isEqualTo("CLUSTER");
+    assertThat(CommandMetadata.forMethod("redis.clients.jedis.Pipeline.HGETALL").isReadOnly())
+        .isTrue();
+    assertThat(CommandMetadata.forMethod("redis.clients.jedis.Pipeline.sync"))
+        .isSameAs(CommandMetadata.OTHER);
+    assertThat(CommandMetadata.forCommand("BLPOP").getKindTagValue())
+        .isEqualTo(CommandMetadata.VALUE_BLOCKING);
+    assertThat(CommandMetadata.forCommand("FLUSHALL").getKindTagValue())
+        .isEqualTo(CommandMetadata.VALUE_ADMIN);
+  }
+
+  @Test
+  public void keys_followKeyPositions() {
+    assertThat(CommandMetadata.forCommand("MSET").keys(Arrays.asList("k1", "v1", "k2", "v2")))
+        .containsExactly("k1", "k2")
+        .inOrder();
+    assertThat(CommandMetadata.forCommand("BLPOP").keys(Arrays.asList("k1", "k2", "0")))
+        .containsExactly("k1", "k2")
+        .inOrder();
+    assertThat(CommandMetadata.forCommand("BITOP").keys(Arrays.asList("AND", "dest", "src")))
+        .containsExactly("dest", "src")
+        .inOrder();
+    assertThat(CommandMetadata.forCommand("MSET").isMultiKey()).isTrue();
+    assertThat(CommandMetadata.forCommand("GET").isMultiKey()).isFalse();
+    assertThat(CommandMetadata.forCommand("PING").keys(Arrays.asList("hello"))).isEmpty();
+  }
+}
@@ -0,0 +1,1311 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+// EmbeddedRedisServer is an in-process server speaking the Redis protocol over loopback, so that
+// tests and benchmarks can drive the instrumented clients end to end without a Redis server.
+//
+// It keeps strings, hashes, lists, sets and sorted sets in memory and supports expiry, SCAN,
+// MULTI/EXEC with WATCH, pub/sub, keyspace notifications and script stubs: scripts are cached by
+// their SHA1 like Redis does, and evaluate to whatever handler was registered for them, or to nil.
+// Artificial latency and a throughput cap can be set to reproduce a slow or saturated server. Once
+// slots are assigned it acts as a node of a cluster: CLUSTER SLOTS reports the assignment, and the
+// commands on keys of slots served by another node are redirected to it with MOVED. Until then
+// CLUSTER SLOTS fails, as on a server with cluster support disabled.
+//
+// Keys and values are kept as ISO-8859-1 strings, which map one to one to bytes, so that binary
+// commands round trip too. Every command runs under a single lock, like Redis runs them on a
+// single thread. Each connection is served by a thread of its own, and replies are flushed once
+// all the pipelined requests read so far are answered.
+final class EmbeddedRedisServer implements Closeable {
+  // ScriptHandler evaluates a script registered with registerScript, and returns its reply as a
+  // Long, a String, a List of replies, a status, an error or null.
+  interface ScriptHandler {
+    @Nullable
+    Object evaluate(List<String> keys, List<String> args);
+  }
+
+  private static final byte[] CRLF = {'\r', '\n'};
+  private static final Object QUEUED = status("QUEUED");
+  private static final Object OK = status("OK");
+
+  private static final Set<String> WRITE_COMMANDS =
+      new HashSet<String>(
+          Arrays.asList(
+              "SET", "SETEX", "GETSET", "MSET", "MSETNX", "APPEND", "INCR", "INCRBY", "DECR",
+              "DECRBY", "DEL", "EXPIRE", "PEXPIRE", "PERSIST", "HSET", "HMSET", "HDEL", "HINCRBY",
+              "LPUSH", "RPUSH", "LPOP", "RPOP", "SADD", "SREM", "ZADD", "ZREM", "ZINCRBY"));
+
+  // The commands that don't take keys, which every node of a cluster runs.
+  private static final Set<String> KEYLESS_COMMANDS =
+      new HashSet<String>(
+          Arrays.asList(
+              "PING",
+              "ECHO",
+              "CONFIG",
+              "AUTH",
+              "SELECT",
+              "FLUSHDB",
+              "FLUSHALL",
+              "DBSIZE",
+              "KEYS",
+              "SCAN",
+              "SCRIPT",
+              "EVAL",
+              "EVALSHA",
+              "CLUSTER"));
+
+  // The commands whose arguments are all keys, or pairs of keys and values for MSET and MSETNX.
+  private static final Set<String> MULTI_KEY_COMMANDS =
+      new HashSet<String>(Arrays.asList("MGET", "MSET", "MSETNX", "DEL", "EXISTS"));
+
+  private final ServerSocket serverSocket;
+  private final Set<Connection> connections =
+      Collections.newSetFromMap(new ConcurrentHashMap<Connection, Boolean>());
+  private final Map<String, AtomicLong> commandCounts = new ConcurrentHashMap<String, AtomicLong>();
+  private final List<String> scriptsEvaluated = new CopyOnWriteArrayList<String>();
+
+  // Guarded by this.
+  private final Map<String, Object> data = new HashMap<String, Object>();
+  private final Map<String, Long> expiresAtMs = new HashMap<String, Long>();
+  private final Map<String, Long> versions = new HashMap<String, Long>();
+  private final Map<String, String> scripts = new HashMap<String, String>();
+  private final Map<String, ScriptHandler> scriptHandlers = new HashMap<String, ScriptHandler>();
+  private final List<SlotRange> slotRanges = new ArrayList<SlotRange>();
+  private long version;
+
+  private volatile boolean keyspaceNotifications;
+  private volatile long latencyNs;
+  private volatile long commandIntervalNs;
+  private final AtomicLong nextCommandSlotNs = new AtomicLong();
+
+  EmbeddedRedisServer() throws IOException {
+    this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "embedded-redis-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  String getHost() {
+    return serverSocket.getInetAddress().getHostAddress();
+  }
+
+  int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  // Publishes the keyspace notifications of the written keys, as with notify-keyspace-events KA.
+  void setKeyspaceNotifications(boolean enabled) {
+    keyspaceNotifications = enabled;
+  }
+
+  // Delays the reply of every command by latency, e.g. to simulate a remote server.
+  void setLatency(long latency, TimeUnit unit) {
+    latencyNs = unit.toNanos(latency);
+  }
+
+  // Caps the number of commands executed per second across all connections, 0 for no cap.
+  void setMaxCommandsPerSecond(long commandsPerSecond) {
+    commandIntervalNs =
+        commandsPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / commandsPerSecond;
+  }
+
+  // Makes EVAL and EVALSHA of script reply with what handler returns.
+  synchronized void registerScript(String script, ScriptHandler handler) {
+    scriptHandlers.put(script, handler);
+  }
+
+  // Returns the number of times command, e.g. "GET", was received.
+  long getCommandCount(String command) {
+    AtomicLong count = commandCounts.get(command.toUpperCase(Locale.ROOT));
+    return count == null ? 0 : count.get();
+  }
+
+  // Returns the scripts run by EVAL and EVALSHA, in order.
+  List<String> getScriptsEvaluated() {
+    return new ArrayList<String>(scriptsEvaluated);
+  }
+
+  // Returns the SHA1 digest of a script, as used by EVALSHA.
+  static String sha1(String script) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-1").digest(script.getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder();
+      for (byte b : digest) {
+        hex.append(String.format("%02x", b & 0xff));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  static Object status(String status) {
+    return new StatusReply(status);
+  }
+
+  static Object error(String message) {
+    return new ErrorReply(message);
+  }
+
+  // Assigns the slots from start to end to owner, which may be this server or another node of the
+  // cluster.
+  synchronized void assignSlots(int start, int end, EmbeddedRedisServer owner) {
+    slotRanges.add(new SlotRange(start, end, owner.getHost(), owner.getPort()));
+  }
+
+  // Unassigns all the slots, e.g. to reassign them as if they were migrated.
+  synchronized void clearSlots() {
+    slotRanges.clear();
+  }
+
+  // Drops all the data, as FLUSHALL does.
+  synchronized void flushAll() {
+    data.clear();
+    expiresAtMs.clear();
+    version++;
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    for (Connection connection : connections) {
+      connection.close();
+    }
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+      } catch (IOException e) {
+        return;
+      }
+      final Connection connection;
+      try {
+        connection = new Connection(socket);
+      } catch (IOException e) {
+        continue;
+      }
+      connections.add(connection);
+      Thread thread = new Thread(() -> serve(connection), "embedded-redis-connection");
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  private void serve(Connection connection) {
+    try {
+      InputStream in = new BufferedInputStream(connection.socket.getInputStream());
+      while (true) {
+        List<String> request = readRequest(in);
+        String command = request.get(0).toUpperCase(Locale.ROOT);
+        commandCounts.computeIfAbsent(command, c -> new AtomicLong()).incrementAndGet();
+        pace();
+        Object reply = dispatch(connection, command, request);
+        synchronized (connection) {
+          if (reply != NO_REPLY) writeReply(connection.out, reply);
+          if (in.available() == 0) connection.out.flush();
+        }
+        if (command.equals("QUIT")) return;
+      }
+    } catch (IOException e) {
+      // The client disconnected.
+    } finally {
+      connections.remove(connection);
+      connection.close();
+    }
+  }
+
+  // Sleeps for the artificial latency and until the throughput cap allows another command.
+  private void pace() {
+    long waitNs = latencyNs;
+    long intervalNs = commandIntervalNs;
+    if (intervalNs > 0) {
+      long now = System.nanoTime();
+      long slot;
+      long current;
+      do {
+        current = nextCommandSlotNs.get();
+        slot = Math.max(now, current);
+      } while (!nextCommandSlotNs.compareAndSet(current, slot + intervalNs));
+      waitNs = Math.max(waitNs, slot - now);
+    }
+    if (waitNs > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static final Object NO_REPLY = new Object();
+
+  @Nullable
+  private Object dispatch(Connection connection, String command, List<String> request)
+      throws IOException {
+    List<String> args = request.subList(1, request.size());
+    if (connection.isSubscribed()) {
+      switch (command) {
+        case "SUBSCRIBE":
+        case "UNSUBSCRIBE":
+        case "PSUBSCRIBE":
+        case "PUNSUBSCRIBE":
+        case "PING":
+        case "QUIT":
+          break;
+        default:
+          return error(
+              "ERR only (P)SUBSCRIBE / (P)UNSUBSCRIBE / PING / QUIT allowed in this context");
+      }
+    }
+    switch (command) {
+      case "MULTI":
+        if (connection.queued != null) return error("ERR MULTI calls can not be nested");
+        connection.queued = new ArrayList<List<String>>();
+        return OK;
+      case "EXEC":
+        return exec(connection);
+      case "DISCARD":
+        if (connection.queued == null) return error("ERR DISCARD without MULTI");
+        connection.queued = null;
+        connection.watched.clear();
+        return OK;
+      case "WATCH":
+        synchronized (this) {
+          for (String key : args) {
+            connection.watched.put(key, versionOf(key));
+          }
+        }
+        return OK;
+      case "UNWATCH":
+        connection.watched.clear();
+        return OK;
+      case "SUBSCRIBE":
+      case "PSUBSCRIBE":
+        subscribe(connection, command.equals("PSUBSCRIBE"), args);
+        return NO_REPLY;
+      case "UNSUBSCRIBE":
+      case "PUNSUBSCRIBE":
+        unsubscribe(connection, command.equals("PUNSUBSCRIBE"), args);
+        return NO_REPLY;
+      case "PUBLISH":
+        return publish(args.get(0), args.get(1));
+      case "QUIT":
+        return OK;
+      default:
+        if (connection.queued != null) {
+          connection.queued.add(request);
+          return QUEUED;
+        }
+        synchronized (this) {
+          return execute(command, args);
+        }
+    }
+  }
+
+  private Object exec(Connection connection) {
+    List<List<String>> queued = connection.queued;
+    if (queued == null) return error("ERR EXEC without MULTI");
+    connection.queued = null;
+    synchronized (this) {
+      boolean aborted = false;
+      for (Map.Entry<String, Long> watched : connection.watched.entrySet()) {
+        aborted |= versionOf(watched.getKey()) != watched.getValue();
+      }
+      connection.watched.clear();
+      if (aborted) return null;
+      List<Object> replies = new ArrayList<Object>();
+      for (List<String> request : queued) {
+        String command = request.get(0).toUpperCase(Locale.ROOT);
+        replies.add(execute(command, request.subList(1, request.size())));
+      }
+      return replies;
+    }
+  }
+
+  // Runs a data command, holding the lock.
+  @Nullable
+  private Object execute(String command, List<String> args) {
+    try {
+      Object redirection = redirection(command, args);
+      if (redirection != null) return redirection;
+      Object reply = executeUnchecked(command, args);
+      if (WRITE_COMMANDS.contains(command) && !(reply instanceof ErrorReply)) {
+        touch(command, args);
+      }
+      return reply;
+    } catch (IndexOutOfBoundsException e) {
+      return error("ERR wrong number of arguments for '" + command.toLowerCase(Locale.ROOT) + "'");
+    } catch (NumberFormatException e) {
+      return error("ERR value is not an integer or out of range");
+    } catch (ClassCastException e) {
+      return error("WRONGTYPE Operation against a key holding the wrong kind of value");
+    }
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private Object executeUnchecked(String command, List<String> args) {
+    switch (command) {
+      case "PING":
+        return args.isEmpty() ? status("PONG") : args.get(0);
+      case "ECHO":
+        return args.get(0);
+      case "CONFIG":
+        if (args.get(0).equalsIgnoreCase("SET")
+            && args.get(1).equalsIgnoreCase("notify-keyspace-events")) {
+          setKeyspaceNotifications(!args.get(2).isEmpty());
+        }
+        return OK;
+      case "AUTH":
+      case "SELECT":
+        return OK;
+      case "FLUSHDB":
+      case "FLUSHALL":
+        flushAll();
+        return OK;
+      case "DBSIZE":
+        return (long) liveKeys().size();
+
+        // Keys.
+      case "DEL":
+        {
+          long deleted = 0;
+          for (String key : args) {
+            if (get(key) != null) deleted++;
+            remove(key);
+          }
+          return deleted;
+        }
+      case "EXISTS":
+        {
+          long exists = 0;
+          for (String key : args) {
+            if (get(key) != null) exists++;
+          }
+          return exists;
+        }
+      case "TYPE":
+        return status(typeOf(get(args.get(0))));
+      case "EXPIRE":
+      case "PEXPIRE":
+        {
+          if (get(args.get(0)) == null) return 0L;
+          long ttl = Long.parseLong(args.get(1));
+          expiresAtMs.put(
+              args.get(0),
+              System.currentTimeMillis() + (command.equals("EXPIRE") ? ttl * 1000 : ttl));
+          return 1L;
+        }
+      case "PERSIST":
+        return expiresAtMs.remove(args.get(0)) != null ? 1L : 0L;
+      case "TTL":
+      case "PTTL":
+        {
+          if (get(args.get(0)) == null) return -2L;
+          Long expiresAt = expiresAtMs.get(args.get(0));
+          if (expiresAt == null) return -1L;
+          long ttlMs = expiresAt - System.currentTimeMillis();
+          return command.equals("TTL") ? (ttlMs + 999) / 1000 : ttlMs;
+        }
+      case "KEYS":
+        {
+          Pattern pattern = glob(args.get(0));
+          List<Object> keys = new ArrayList<Object>();
+          for (String key : liveKeys()) {
+            if (pattern.matcher(key).matches()) keys.add(key);
+          }
+          return keys;
+        }
+      case "SCAN":
+        return scan(new ArrayList<String>(liveKeys()), args, 0, false);
+
+        // Strings.
+      case "GET":
+        return (String) get(args.get(0));
+      case "SET":
+        return set(args);
+      case "SETEX":
+        put(args.get(0), args.get(2));
+        expiresAtMs.put(
+            args.get(0), System.currentTimeMillis() + Long.parseLong(args.get(1)) * 1000);
+        return OK;
+      case "GETSET":
+        {
+          String previous = (String) get(args.get(0));
+          put(args.get(0), args.get(1));
+          return previous;
+        }
+      case "MGET":
+        {
+          List<Object> values = new ArrayList<Object>();
+          for (String key : args) {
+            Object value = get(key);
+            values.add(value instanceof String ? value : null);
+          }
+          return values;
+        }
+      case "MSET":
+        for (int i = 0; i < args.size(); i += 2) {
+          put(args.get(i), args.get(i + 1));
+        }
+        return OK;
+      case "MSETNX":
+        for (int i = 0; i < args.size(); i += 2) {
+          if (get(args.get(i)) != null) return 0L;
+        }
+        for (int i = 0; i < args.size(); i += 2) {
+          put(args.get(i), args.get(i + 1));
+        }
+        return 1L;
+      case "APPEND":
+        {
+          String value = (String) get(args.get(0));
+          String appended = (value == null ? "" : value) + args.get(1);
+          data.put(args.get(0), appended);
+          return (long) appended.length();
+        }
+      case "STRLEN":
+        {
+          String value = (String) get(args.get(0));
+          return value == null ? 0L : (long) value.length();
+        }
+      case "INCR":
+        return incrBy(args.get(0), 1);
+      case "DECR":
+        return incrBy(args.get(0), -1);
+      case "INCRBY":
+        return incrBy(args.get(0), Long.parseLong(args.get(1)));
+      case "DECRBY":
+        return incrBy(args.get(0), -Long.parseLong(args.get(1)));
+
+        // Hashes.
+      case "HSET":
+      case "HMSET":
+        {
+          Map<String, String> hash = hash(args.get(0), true);
+          long added = 0;
+          for (int i = 1; i < args.size(); i += 2) {
+            if (hash.put(args.get(i), args.get(i + 1)) == null) added++;
+          }
+          return command.equals("HSET") ? (Object) added : OK;
+        }
+      case "HGET":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          return hash == null ? null : hash.get(args.get(1));
+        }
+      case "HMGET":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          List<Object> values = new ArrayList<Object>();
+          for (String field : args.subList(1, args.size())) {
+            values.add(hash == null ? null : hash.get(field));
+          }
+          return values;
+        }
+      case "HGETALL":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          List<Object> entries = new ArrayList<Object>();
+          if (hash != null) {
+            for (Map.Entry<String, String> entry : hash.entrySet()) {
+              entries.add(entry.getKey());
+              entries.add(entry.getValue());
+            }
+          }
+          return entries;
+        }
+      case "HDEL":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          long deleted = 0;
+          for (String field : args.subList(1, args.size())) {
+            if (hash != null && hash.remove(field) != null) deleted++;
+          }
+          removeIfEmpty(args.get(0));
+          return deleted;
+        }
+      case "HEXISTS":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          return hash != null && hash.containsKey(args.get(1)) ? 1L : 0L;
+        }
+      case "HLEN":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          return hash == null ? 0L : (long) hash.size();
+        }
+      case "HKEYS":
+      case "HVALS":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          if (hash == null) return Collections.emptyList();
+          return new ArrayList<Object>(command.equals("HKEYS") ? hash.keySet() : hash.values());
+        }
+      case "HINCRBY":
+        {
+          Map<String, String> hash = hash(args.get(0), true);
+          String value = hash.get(args.get(1));
+          long incremented =
+              (value == null ? 0 : Long.parseLong(value)) + Long.parseLong(args.get(2));
+          hash.put(args.get(1), Long.toString(incremented));
+          return incremented;
+        }
+      case "HSCAN":
+        {
+          Map<String, String> hash = hash(args.get(0), false);
+          List<String> entries = new ArrayList<String>();
+          if (hash != null) {
+            for (Map.Entry<String, String> entry : hash.entrySet()) {
+              entries.add(entry.getKey());
+              entries.add(entry.getValue());
+            }
+          }
+          return scan(entries, args, 1, true);
+        }
+
+        // Lists.
+      case "LPUSH":
+      case "RPUSH":
+        {
+          LinkedList<String> list = list(args.get(0), true);
+          for (String value : args.subList(1, args.size())) {
+            if (command.equals("LPUSH")) {
+              list.addFirst(value);
+            } else {
+              list.addLast(value);
+            }
+          }
+          return (long) list.size();
+        }
+      case "LPOP":
+      case "RPOP":
+        {
+          LinkedList<String> list = list(args.get(0), false);
+          if (list == null) return null;
+          String value = command.equals("LPOP") ? list.pollFirst() : list.pollLast();
+          removeIfEmpty(args.get(0));
+          return value;
+        }
+      case "LLEN":
+        {
+          LinkedList<String> list = list(args.get(0), false);
+          return list == null ? 0L : (long) list.size();
+        }
+      case "LINDEX":
+        {
+          LinkedList<String> list = list(args.get(0), false);
+          if (list == null) return null;
+          int index = index(Integer.parseInt(args.get(1)), list.size());
+          return index >= 0 && index < list.size() ? list.get(index) : null;
+        }
+      case "LRANGE":
+        {
+          LinkedList<String> list = list(args.get(0), false);
+          if (list == null) return Collections.emptyList();
+          return new ArrayList<Object>(range(list, args.get(1), args.get(2)));
+        }
+
+        // Sets.
+      case "SADD":
+        {
+          Set<String> set = set(args.get(0), true);
+          long added = 0;
+          for (String member : args.subList(1, args.size())) {
+            if (set.add(member)) added++;
+          }
+          return added;
+        }
+      case "SREM":
+        {
+          Set<String> set = set(args.get(0), false);
+          long removed = 0;
+          for (String member : args.subList(1, args.size())) {
+            if (set != null && set.remove(member)) removed++;
+          }
+          removeIfEmpty(args.get(0));
+          return removed;
+        }
+      case "SMEMBERS":
+        {
+          Set<String> set = set(args.get(0), false);
+          return set == null ? Collections.emptyList() : new ArrayList<Object>(set);
+        }
+      case "SISMEMBER":
+        {
+          Set<String> set = set(args.get(0), false);
+          return set != null && set.contains(args.get(1)) ? 1L : 0L;
+        }
+      case "SCARD":
+        {
+          Set<String> set = set(args.get(0), false);
+          return set == null ? 0L : (long) set.size();
+        }
+      case "SSCAN":
+        {
+          Set<String> set = set(args.get(0), false);
+          return scan(
+              set == null ? new ArrayList<String>() : new ArrayList<String>(set), args, 1, false);
+        }
+
+        // Sorted sets.
+      case "ZADD":
+        {
+          Map<String, Double> zset = zset(args.get(0), true);
+          long added = 0;
+          for (int i = 1; i < args.size(); i += 2) {
+            if (zset.put(args.get(i + 1), Double.parseDouble(args.get(i))) == null) added++;
+          }
+          return added;
+        }
+      case "ZINCRBY":
+        {
+          Map<String, Double> zset = zset(args.get(0), true);
+          Double score = zset.get(args.get(2));
+          double incremented = (score == null ? 0 : score) + Double.parseDouble(args.get(1));
+          zset.put(args.get(2), incremented);
+          return formatScore(incremented);
+        }
+      case "ZREM":
+        {
+          Map<String, Double> zset = zset(args.get(0), false);
+          long removed = 0;
+          for (String member : args.subList(1, args.size())) {
+            if (zset != null && zset.remove(member) != null) removed++;
+          }
+          removeIfEmpty(args.get(0));
+          return removed;
+        }
+      case "ZSCORE":
+        {
+          Map<String, Double> zset = zset(args.get(0), false);
+          Double score = zset == null ? null : zset.get(args.get(1));
+          return score == null ? null : formatScore(score);
+        }
+      case "ZCARD":
+        {
+          Map<String, Double> zset = zset(args.get(0), false);
+          return zset == null ? 0L : (long) zset.size();
+        }
+      case "ZRANGE":
+      case "ZREVRANGE":
+        {
+          List<String> members = sortedMembers(zset(args.get(0), false));
+          if (command.equals("ZREVRANGE")) Collections.reverse(members);
+          boolean withScores = args.size() > 3 && args.get(3).equalsIgnoreCase("WITHSCORES");
+          return withScores(
+              zset(args.get(0), false), range(members, args.get(1), args.get(2)), withScores);
+        }
+      case "ZRANGEBYSCORE":
+        {
+          Map<String, Double> zset = zset(args.get(0), false);
+          double min = parseScore(args.get(1));
+          double max = parseScore(args.get(2));
+          List<String> members = new ArrayList<String>();
+          for (String member : sortedMembers(zset)) {
+            double score = zset.get(member);
+            if (score >= min && score <= max) members.add(member);
+          }
+          boolean withScores = args.size() > 3 && args.get(3).equalsIgnoreCase("WITHSCORES");
+          return withScores(zset, members, withScores);
+        }
+      case "ZSCAN":
+        {
+          Map<String, Double> zset = zset(args.get(0), false);
+          List<String> entries = new ArrayList<String>();
+          for (String member : sortedMembers(zset)) {
+            entries.add(member);
+            entries.add(formatScore(zset.get(member)));
+          }
+          return scan(entries, args, 1, true);
+        }
+
+        // Scripting.
+      case "SCRIPT":
+        return script(args);
+      case "CLUSTER":
+        return cluster(args);
+      case "EVAL":
+        {
+          String script = args.get(0);
+          scripts.put(sha1(script), script);
+          return evaluate(script, args.subList(1, args.size()));
+        }
+      case "EVALSHA":
+        {
+          String script = scripts.get(args.get(0).toLowerCase(Locale.ROOT));
+          if (script == null) return error("NOSCRIPT No matching script. Please use EVAL.");
+          return evaluate(script, args.subList(1, args.size()));
+        }
+
+      default:
+        return error("ERR unknown command '" + command.toLowerCase(Locale.ROOT) + "'");
+    }
+  }
+
+  private Object set(List<String> args) {
+    String key = args.get(0);
+    Long expiresAt = null;
+    boolean nx = false;
+    boolean xx = false;
+    for (int i = 2; i < args.size(); i++) {
+      String option = args.get(i).toUpperCase(Locale.ROOT);
+      if (option.equals("NX")) {
+        nx = true;
+      } else if (option.equals("XX")) {
+        xx = true;
+      } else if (option.equals("EX")) {
+        expiresAt = System.currentTimeMillis() + Long.parseLong(args.get(++i)) * 1000;
+      } else if (option.equals("PX")) {
+        expiresAt = System.currentTimeMillis() + Long.parseLong(args.get(++i));
+      } else {
+        return error("ERR syntax error");
+      }
+    }
+    boolean exists = get(key) != null;
+    if ((nx && exists) || (xx && !exists)) return null;
+    put(key, args.get(1));
+    if (expiresAt != null) expiresAtMs.put(key, expiresAt);
+    return OK;
+  }
+
+  private long incrBy(String key, long increment) {
+    String value = (String) get(key);
+    long incremented = (value == null ? 0 : Long.parseLong(value)) + increment;
+    data.put(key, Long.toString(incremented));
+    return incremented;
+  }
+
+  private Object script(List<String> args) {
+    switch (args.get(0).toUpperCase(Locale.ROOT)) {
+      case "LOAD":
+        {
+          String sha = sha1(args.get(1));
+          scripts.put(sha, args.get(1));
+          return sha;
+        }
+      case "EXISTS":
+        {
+          List<Object> exists = new ArrayList<Object>();
+          for (String sha : args.subList(1, args.size())) {
+            exists.add(scripts.containsKey(sha.toLowerCase(Locale.ROOT)) ? 1L : 0L);
+          }
+          return exists;
+        }
+      case "FLUSH":
+        scripts.clear();
+        return OK;
+      default:
+        return error("ERR unknown SCRIPT subcommand");
+    }
+  }
+
+  @Nullable
+  private Object evaluate(String script, List<String> args) {
+    int numKeys = Integer.parseInt(args.get(0));
+    List<String> keys = args.subList(1, 1 + numKeys);
+    List<String> scriptArgs = args.subList(1 + numKeys, args.size());
+    scriptsEvaluated.add(script);
+    ScriptHandler handler = scriptHandlers.get(script);
+    return handler == null ? null : handler.evaluate(keys, scriptArgs);
+  }
+
+  // Replies to SCAN, HSCAN, SSCAN and ZSCAN, where the cursor, at args[cursorIndex], is an index
+  // into elements or into their pairs. The MATCH and COUNT options follow the cursor.
+  private static Object scan(
+      List<String> elements, List<String> args, int cursorIndex, boolean pairs) {
+    int cursor = Integer.parseInt(args.get(cursorIndex));
+    Pattern pattern = null;
+    int count = 10;
+    for (int i = cursorIndex + 1; i + 1 < args.size(); i += 2) {
+      String option = args.get(i).toUpperCase(Locale.ROOT);
+      if (option.equals("MATCH")) {
+        pattern = glob(args.get(i + 1));
+      } else if (option.equals("COUNT")) {
+        count = Integer.parseInt(args.get(i + 1));
+      }
+    }
+
+    int step = pairs ? 2 : 1;
+    List<Object> batch = new ArrayList<Object>();
+    int next = cursor * step;
+    for (int visited = 0; next < elements.size() && visited < count; next += step, visited++) {
+      if (pattern == null || pattern.matcher(elements.get(next)).matches()) {
+        batch.addAll(elements.subList(next, next + step));
+      }
+    }
+    String nextCursor = next >= elements.size() ? "0" : Integer.toString(next / step);
+    return Arrays.<Object>asList(nextCursor, batch);
+  }
+
+  private void subscribe(Connection connection, boolean patterns, List<String> names)
+      throws IOException {
+    synchronized (connection) {
+      for (String name : names) {
+        (patterns ? connection.patterns : connection.channels).add(name);
+        writeReply(
+            connection.out,
+            Arrays.<Object>asList(
+                patterns ? "psubscribe" : "subscribe", name, (long) connection.subscriptions()));
+      }
+    }
+  }
+
+  private void unsubscribe(Connection connection, boolean patterns, List<String> names)
+      throws IOException {
+    synchronized (connection) {
+      Set<String> subscribed = patterns ? connection.patterns : connection.channels;
+      List<String> unsubscribed = names.isEmpty() ? new ArrayList<String>(subscribed) : names;
+      if (unsubscribed.isEmpty()) unsubscribed = Collections.singletonList(null);
+      for (String name : unsubscribed) {
+        if (name != null) subscribed.remove(name);
+        writeReply(
+            connection.out,
+            Arrays.<Object>asList(
+                patterns ? "punsubscribe" : "unsubscribe",
+                name,
+                (long) connection.subscriptions()));
+      }
+    }
+  }
+
+  private long publish(String channel, String message) {
+    long receivers = 0;
+    for (Connection connection : connections) {
+      synchronized (connection) {
+        List<Object> delivery = null;
+        if (connection.channels.contains(channel)) {
+          delivery = Arrays.<Object>asList("message", channel, message);
+        } else {
+          for (String pattern : connection.patterns) {
+            if (glob(pattern).matcher(channel).matches()) {
+              delivery = Arrays.<Object>asList("pmessage", pattern, channel, message);
+              break;
+            }
+          }
+        }
+        if (delivery == null) continue;
+        receivers++;
+        try {
+          writeReply(connection.out, delivery);
+          connection.out.flush();
+        } catch (IOException e) {
+          connection.close();
+        }
+      }
+    }
+    return receivers;
+  }
+
+  // The helpers below run holding the lock.
+
+  @Nullable
+  private Object get(String key) {
+    Long expiresAt = expiresAtMs.get(key);
+    if (expiresAt != null && expiresAt <= System.currentTimeMillis()) {
+      remove(key);
+      version++;
+      touch(key, "expired");
+    }
+    return data.get(key);
+  }
+
+  private void put(String key, Object value) {
+    data.put(key, value);
+    expiresAtMs.remove(key);
+  }
+
+  private void remove(String key) {
+    data.remove(key);
+    expiresAtMs.remove(key);
+  }
+
+  private void removeIfEmpty(String key) {
+    Object value = data.get(key);
+    if ((value instanceof Map && ((Map<?, ?>) value).isEmpty())
+        || (value instanceof java.util.Collection && ((java.util.Collection<?>) value).isEmpty())) {
+      remove(key);
+    }
+  }
+
+  private Set<String> liveKeys() {
+    Set<String> keys = new TreeSet<String>();
+    for (String key : new ArrayList<String>(data.keySet())) {
+      if (get(key) != null) keys.add(key);
+    }
+    return keys;
+  }
+
+  private long versionOf(String key) {
+    Long keyVersion = versions.get(key);
+    return keyVersion == null ? 0 : keyVersion;
+  }
+
+  // Replies to CLUSTER SLOTS and CLUSTER KEYSLOT, with the slots assigned by assignSlots.
+  private Object cluster(List<String> args) {
+    switch (args.get(0).toUpperCase(Locale.ROOT)) {
+      case "SLOTS":
+        if (slotRanges.isEmpty()) return error("ERR This instance has cluster support disabled");
+        List<Object> slots = new ArrayList<Object>();
+        for (SlotRange range : slotRanges) {
+          slots.add(
+              Arrays.asList(
+                  (long) range.start,
+                  (long) range.end,
+                  Arrays.asList(range.host, (long) range.port, range.host + ":" + range.port)));
+        }
+        return slots;
+      case "KEYSLOT":
+        return (long) slotOf(args.get(1));
+      default:
+        return error("ERR unknown subcommand '" + args.get(0) + "'");
+    }
+  }
+
+  // Returns the MOVED or CROSSSLOT error of a command on keys this node doesn't serve, or null when
+  // it serves them or isn't part of a cluster.
+  @Nullable
+  private Object redirection(String command, List<String> args) {
+    if (slotRanges.isEmpty() || KEYLESS_COMMANDS.contains(command) || args.isEmpty()) return null;
+    int stride = command.equals("MSET") || command.equals("MSETNX") ? 2 : 1;
+    int keys = MULTI_KEY_COMMANDS.contains(command) ? args.size() : 1;
+    int slot = slotOf(args.get(0));
+    for (int i = stride; i < keys; i += stride) {
+      if (slotOf(args.get(i)) != slot) {
+        return error("CROSSSLOT Keys in request don't hash to the same slot");
+      }
+    }
+    for (SlotRange range : slotRanges) {
+      if (slot < range.start || slot > range.end) continue;
+      if (range.port == getPort()) return null;
+      return error("MOVED " + slot + " " + range.host + ":" + range.port);
+    }
+    return error("CLUSTERDOWN Hash slot not served");
+  }
+
+  private static int slotOf(String key) {
+    return JedisClusterCRC16.getSlot(key.getBytes(StandardCharsets.ISO_8859_1));
+  }
+
+  // Bumps the version of the keys written by a command, which aborts the transactions watching
+  // them.
+  private void touch(String command, List<String> args) {
+    version++;
+    String event = command.toLowerCase(Locale.ROOT);
+    if (command.equals("DEL")) {
+      for (String key : args) {
+        touch(key, event);
+      }
+    } else if (command.equals("MSET")) {
+      for (int i = 0; i < args.size(); i += 2) {
+        touch(args.get(i), event);
+      }
+    } else {
+      touch(args.get(0), event);
+    }
+  }
+
+  private void touch(String key, String event) {
+    versions.put(key, version);
+    if (keyspaceNotifications) publish("__keyspace@0__:" + key, event);
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private Map<String, String> hash(String key, boolean create) {
+    Object value = get(key);
+    if (value == null && create) {
+      value = new LinkedHashMap<String, String>();
+      data.put(key, value);
+    }
+    if (value instanceof ZSet) throw new ClassCastException();
+    return (Map<String, String>) value;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private LinkedList<String> list(String key, boolean create) {
+    Object value = get(key);
+    if (value == null && create) {
+      value = new LinkedList<String>();
+      data.put(key, value);
+    }
+    return (LinkedList<String>) value;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private Set<String> set(String key, boolean create) {
+    Object value = get(key);
+    if (value == null && create) {
+      value = new LinkedHashSet<String>();
+      data.put(key, value);
+    }
+    return (Set<String>) value;
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private Map<String, Double> zset(String key, boolean create) {
+    Object value = get(key);
+    if (value == null && create) {
+      value = new ZSet();
+      data.put(key, value);
+    }
+    return (ZSet) value;
+  }
+
+  private static String typeOf(@Nullable Object value) {
+    if (value == null) return "none";
+    if (value instanceof String) return "string";
+    if (value instanceof ZSet) return "zset";
+    if (value instanceof Map) return "hash";
+    if (value instanceof LinkedList) return "list";
+    return "set";
+  }
+
+  private static List<String> sortedMembers(@Nullable Map<String, Double> zset) {
+    if (zset == null) return new ArrayList<String>();
+    List<String> members = new ArrayList<String>(zset.keySet());
+    members.sort(
+        (a, b) -> {
+          int byScore = Double.compare(zset.get(a), zset.get(b));
+          return byScore != 0 ? byScore : a.compareTo(b);
+        });
+    return members;
+  }
+
+  private static List<Object> withScores(
+      @Nullable Map<String, Double> zset, List<String> members, boolean withScores) {
+    List<Object> reply = new ArrayList<Object>();
+    for (String member : members) {
+      reply.add(member);
+      if (withScores) reply.add(formatScore(zset.get(member)));
+    }
+    return reply;
+  }
+
+  private static List<String> range(List<String> elements, String start, String stop) {
+    int from = Math.max(0, index(Integer.parseInt(start), elements.size()));
+    int to = Math.min(elements.size() - 1, index(Integer.parseInt(stop), elements.size()));
+    return from > to ? Collections.<String>emptyList() : elements.subList(from, to + 1);
+  }
+
+  private static int index(int index, int size) {
+    return index < 0 ? size + index : index;
+  }
+
+  private static double parseScore(String score) {
+    if (score.equals("-inf")) return Double.NEGATIVE_INFINITY;
+    if (score.equals("+inf") || score.equals("inf")) return Double.POSITIVE_INFINITY;
+    return Double.parseDouble(score);
+  }
+
+  private static String formatScore(double score) {
+    return score == Math.rint(score) && !Double.isInfinite(score)
+        ? Long.toString((long) score)
+        : Double.toString(score);
+  }
+
+  private static Pattern glob(String glob) {
+    StringBuilder regex = new StringBuilder();
+    for (int i = 0; i < glob.length(); i++) {
+      char c = glob.charAt(i);
+      if (c == '*') {
+        regex.append(".*");
+      } else if (c == '?') {
+        regex.append('.');
+      } else if (c == '[') {
+        int end = glob.indexOf(']', i);
+        if (end < 0) {
+          regex.append("\\[");
+        } else {
+          regex.append(glob, i, end + 1);
+          i = end;
+        }
+      } else if (c == '\\' && i + 1 < glob.length()) {
+        regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  private static List<String> readRequest(InputStream in) throws IOException {
+    int count = readHeader(in, '*');
+    List<String> request = new ArrayList<String>(count);
+    for (int i = 0; i < count; i++) {
+      byte[] argument = new byte[readHeader(in, '$')];
+      int read = 0;
+      while (read < argument.length) {
+        int n = in.read(argument, read, argument.length - read);
+        if (n < 0) throw new EOFException();
+        read += n;
+      }
+      if (in.read() != '\r' || in.read() != '\n') throw new IOException("Malformed request");
+      request.add(new String(argument, StandardCharsets.ISO_8859_1));
+    }
+    return request;
+  }
+
+  private static int readHeader(InputStream in, char type) throws IOException {
+    int b = in.read();
+    if (b < 0) throw new EOFException();
+    if (b != type) throw new IOException("Expected '" + type + "' but got '" + (char) b + "'");
+    int value = 0;
+    while ((b = in.read()) != '\r') {
+      if (b < 0) throw new EOFException();
+      value = value * 10 + (b - '0');
+    }
+    if (in.read() != '\n') throw new IOException("Malformed request");
+    return value;
+  }
+
+  private static void writeReply(OutputStream out, @Nullable Object reply) throws IOException {
+    if (reply == null) {
+      out.write("$-1\r\n".getBytes(StandardCharsets.ISO_8859_1));
+    } else if (reply instanceof StatusReply) {
+      writeLine(out, '+', ((StatusReply) reply).status);
+    } else if (reply instanceof ErrorReply) {
+      writeLine(out, '-', ((ErrorReply) reply).message);
+    } else if (reply instanceof Long || reply instanceof Integer) {
+      writeLine(out, ':', reply.toString());
+    } else if (reply instanceof String) {
+      byte[] bulk = ((String) reply).getBytes(StandardCharsets.ISO_8859_1);
+      writeLine(out, '$', Integer.toString(bulk.length));
+      out.write(bulk);
+      out.write(CRLF);
+    } else if (reply instanceof List) {
+      List<?> elements = (List<?>) reply;
+      writeLine(out, '*', Integer.toString(elements.size()));
+      for (Object element : elements) {
+        writeReply(out, element);
+      }
+    } else {
+      throw new IllegalArgumentException("Unsupported reply " + reply);
+    }
+  }
+
+  private static void writeLine(OutputStream out, char type, String line) throws IOException {
+    out.write(type);
+    out.write(line.getBytes(StandardCharsets.ISO_8859_1));
+    out.write(CRLF);
+  }
+
+  private static final class Connection {
+    private final Socket socket;
+    private final OutputStream out;
+    private final Set<String> channels = new LinkedHashSet<String>();
+    private final Set<String> patterns = new LinkedHashSet<String>();
+    private final Map<String, Long> watched = new HashMap<String, Long>();
+    @Nullable private List<List<String>> queued;
+
+    private Connection(Socket socket) throws IOException {
+      this.socket = socket;
+      this.out = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    private synchronized boolean isSubscribed() {
+      return subscriptions() > 0;
+    }
+
+    private int subscriptions() {
+      return channels.size() + patterns.size();
+    }
+
+    private void close() {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        // Already closed.
+      }
+    }
+  }
+
+  private static final class ZSet extends HashMap<String, Double> {
+    private static final long serialVersionUID = 1L;
+  }
+
+  private static final class SlotRange {
+    private final int start;
+    private final int end;
+    private final String host;
+    private final int port;
+
+    private SlotRange(int start, int end, String host, int port) {
+      this.start = start;
+      this.end = end;
+      this.host = host;
+      this.port = port;
+    }
+  }
+
+  private static final class StatusReply {
+    private final String status;
+
+    private StatusReply(String status) {
+      this.status = status;
+    }
+  }
+
+  private static final class ErrorReply {
+    private final String message;
+
+    private ErrorReply(String message) {
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.Tuple;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/** End to end tests of the instrumented clients against an {@link EmbeddedRedisServer}. */
+@RunWith(JUnit4.class)
+public class EndToEndTest {
+  private EmbeddedRedisServer server;
+  private OcWrapJedis jedis;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    jedis = new OcWrapJedis(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    jedis.close();
+    server.close();
+  }
+
+  @Test
+  public void dataTypes() {
+    assertThat(jedis.set("string", "value")).isEqualTo("OK");
+    assertThat(jedis.get("string")).isEqualTo("value");
+    assertThat(jedis.incr("counter")).isEqualTo(1L);
+    assertThat(jedis.hset("hash", "field", "value")).isEqualTo(1L);
+    assertThat(jedis.hgetAll("hash")).containsExactly("field", "value");
+    assertThat(jedis.rpush("list", "a", "b", "c")).isEqualTo(3L);
+    assertThat(jedis.lrange("list", 0, -1)).containsExactly("a", "b", "c").inOrder();
+    assertThat(jedis.sadd("set", "a", "b")).isEqualTo(2L);
+    assertThat(jedis.smembers("set")).containsExactly("a", "b");
+    jedis.zadd("zset", 2, "b");
+    jedis.zadd("zset", 1, "a");
+    assertThat(jedis.zrangeWithScores("zset", 0, -1))
+        .containsExactly(new Tuple("a", 1d), new Tuple("b", 2d))
+        .inOrder();
+    assertThat(jedis.del("string", "missing")).isEqualTo(1L);
+    assertThat(jedis.get("string")).isNull();
+  }
+
+  @Test
+  public void binaryValues() {
+    byte[] value = {0, (byte) 0xff, '\r', '\n'};
+    jedis.set("key".getBytes(StandardCharsets.UTF_8), value);
+
+    assertThat(jedis.get("key".getBytes(StandardCharsets.UTF_8))).isEqualTo(value);
+  }
+
+  @Test
+  public void pipeline() {
+    Pipeline pipeline = jedis.pipelined();
+    pipeline.set("key", "value");
+    Response<String> value = pipeline.get("key");
+    pipeline.sync();
+
+    assertThat(value.get()).isEqualTo("value");
+  }
+
+  @Test
+  public void transaction_abortedByWatchedWrite() {
+    jedis.watch("key");
+    try (Jedis other = new Jedis(server.getHost(), server.getPort())) {
+      other.set("key", "other");
+    }
+    Transaction transaction = jedis.multi();
+    transaction.set("key", "value");
+
+    assertThat(transaction.exec()).isNull();
+    assertThat(jedis.get("key")).isEqualTo("other");
+  }
+
+  @Test
+  public void pool() {
+    try (OcJedisPool pool = new OcJedisPool(server.getHost(), server.getPort());
+        OcWrapJedis pooled = pool.getResource()) {
+      pooled.set("key", "value");
+      assertThat(pooled.get("key")).isEqualTo("value");
+    }
+  }
+
+  @Test
+  public void asyncClient() throws Exception {
+    try (OcAsyncJedis async = new OcAsyncJedis(server.getHost(), server.getPort())) {
+      async.set("key", "value");
+      assertThat(async.mget("key", "missing").get()).containsExactly("value", null).inOrder();
+    }
+  }
+
+  @Test
+  public void pubSub() throws Exception {
+    final CountDownLatch subscribed = new CountDownLatch(1);
+    final String[] received = new String[1];
+    final JedisPubSub pubSub =
+        new JedisPubSub() {
+          @Override
+          public void onSubscribe(String channel, int subscribedChannels) {
+            subscribed.countDown();
+          }
+
+          @Override
+          public void onMessage(String channel, String message) {
+            received[0] = message;
+            unsubscribe();
+          }
+        };
+    Thread subscriber =
+        new Thread(
+            () -> {
+              try (OcWrapJedis subscriberJedis =
+                  new OcWrapJedis(server.getHost(), server.getPort())) {
+                subscriberJedis.subscribe(pubSub, "channel");
+              }
+            });
+    subscriber.start();
+    assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(jedis.publish("channel", "message")).isEqualTo(1L);
+    subscriber.join(5000);
+    assertThat(received[0]).isEqualTo("message");
+  }
+
+  @Test
+  public void scripts() {
+    String script = "return KEYS[1]";
+    server.registerScript(script, (keys, args) -> keys.get(0));
+
+    assertThat(
+            jedis.eval(script, Collections.singletonList("key"), Collections.<String>emptyList()))
+        .isEqualTo("key");
+    String sha = jedis.scriptLoad(script);
+    assertThat(sha).isEqualTo(EmbeddedRedisServer.sha1(script));
+    assertThat(jedis.evalsha(sha, 1, "other")).isEqualTo("other");
+    assertThat(server.getScriptsEvaluated()).containsExactly(script, script);
+  }
+
+  @Test
+  public void eval_sendsScriptBySha1() {
+    String script = "return ARGV[1]";
+    server.registerScript(script, (keys, args) -> args.get(0));
+
+    assertThat(jedis.eval(script, 0, "first")).isEqualTo("first");
+    assertThat(jedis.eval(script, 0, "second")).isEqualTo("second");
+    assertThat((byte[]) jedis.eval(script.getBytes(StandardCharsets.UTF_8), 0, new byte[] {'3'}))
+        .isEqualTo(new byte[] {'3'});
+    // The source is only loaded after the first EVALSHA was refused.
+    assertThat(server.getCommandCount("EVAL")).isEqualTo(0L);
+    assertThat(server.getCommandCount("SCRIPT")).isEqualTo(1L);
+    assertThat(server.getCommandCount("EVALSHA")).isEqualTo(4L);
+
+    jedis.scriptFlush();
+    assertThat(jedis.eval(script, 0, "reloaded")).isEqualTo("reloaded");
+    assertThat(server.getCommandCount("SCRIPT")).isEqualTo(3L);
+  }
+
+  @Test
+  public void scan() {
+    for (int i = 0; i < 25; i++) {
+      jedis.set("key" + i, "value");
+    }
+    jedis.set("other", "value");
+
+    List<String> keys = new ArrayList<String>();
+    String cursor = "0";
+    do {
+      ScanResult<String> result = jedis.scan(cursor, new ScanParams().match("key*").count(10));
+      keys.addAll(result.getResult());
+      cursor = result.getCursor();
+    } while (!cursor.equals("0"));
+    assertThat(keys).hasSize(25);
+  }
+
+  @Test
+  public void artificialLatency() {
+    server.setLatency(50, TimeUnit.MILLISECONDS);
+
+    long startNs = System.nanoTime();
+    jedis.get("key");
+    assertThat(System.nanoTime() - startNs).isAtLeast(TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void throughputCap() {
+    server.setMaxCommandsPerSecond(100);
+
+    long startNs = System.nanoTime();
+    Pipeline pipeline = jedis.pipelined();
+    for (int i = 0; i < 21; i++) {
+      pipeline.get("key");
+    }
+    pipeline.sync();
+    // The first command runs right away, the others 10ms apart.
+    assertThat(System.nanoTime() - startNs).isAtLeast(TimeUnit.MILLISECONDS.toNanos(200));
+    assertThat(server.getCommandCount("GET")).isEqualTo(21L);
+  }
+
+  @Test
+  public void wrongType() {
+    jedis.set("key", "value");
+    try {
+      jedis.hget("key", "field");
+      throw new AssertionError("Expected a JedisDataException");
+    } catch (JedisDataException e) {
+      assertThat(e.getMessage()).startsWith("WRONGTYPE");
+    }
+  }
+}
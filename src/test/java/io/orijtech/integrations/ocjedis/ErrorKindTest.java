@@ -0,0 +1,75 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisBusyException;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisExhaustedPoolException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+/** Tests for {@link ErrorKind}. */
+@RunWith(JUnit4.class)
+public class ErrorKindTest {
+
+  @Test
+  public void of_connectionFailures() {
+    assertThat(ErrorKind.of(new JedisConnectionException(new ConnectException("refused"))))
+        .isEqualTo(ErrorKind.CONNECTION_REFUSED);
+    assertThat(
+            ErrorKind.of(
+                new JedisConnectionException(
+                    new IOException(new SocketTimeoutException("Read timed out")))))
+        .isEqualTo(ErrorKind.TIMEOUT);
+    assertThat(ErrorKind.of(new JedisConnectionException("Unexpected end of stream.")))
+        .isEqualTo(ErrorKind.CONNECTION);
+  }
+
+  @Test
+  public void of_errorReplies() {
+    HostAndPort node = new HostAndPort("10.0.0.1", 6379);
+    assertThat(ErrorKind.of(new JedisMovedDataException("MOVED 1 10.0.0.1:6379", node, 1)))
+        .isEqualTo(ErrorKind.REDIRECT);
+    assertThat(ErrorKind.of(new JedisAskDataException("ASK 1 10.0.0.1:6379", node, 1)))
+        .isEqualTo(ErrorKind.REDIRECT);
+    assertThat(ErrorKind.of(new JedisNoScriptException("NOSCRIPT No matching script")))
+        .isEqualTo(ErrorKind.NOSCRIPT);
+    assertThat(ErrorKind.of(new JedisBusyException("BUSY Redis is busy running a script")))
+        .isEqualTo(ErrorKind.BUSY);
+    assertThat(ErrorKind.of(new JedisDataException("OOM command not allowed")))
+        .isEqualTo(ErrorKind.OOM);
+    assertThat(ErrorKind.of(new JedisDataException("WRONGTYPE Operation against a key")))
+        .isEqualTo(ErrorKind.WRONGTYPE);
+    assertThat(ErrorKind.of(new JedisDataException("ERR syntax error"))).isEqualTo(ErrorKind.OTHER);
+  }
+
+  @Test
+  public void of_otherFailures() {
+    assertThat(ErrorKind.of(new JedisExhaustedPoolException("exhausted", null)))
+        .isEqualTo(ErrorKind.POOL_EXHAUSTED);
+    assertThat(ErrorKind.of(new IllegalStateException("key user:1234"))).isEqualTo(ErrorKind.OTHER);
+  }
+}
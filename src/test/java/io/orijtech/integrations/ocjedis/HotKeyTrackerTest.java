@@ -0,0 +1,123 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.orijtech.integrations.ocjedis.HotKeyTracker.HotKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.util.SafeEncoder;
+
+/** Tests for {@link HotKeyTracker}. */
+@RunWith(JUnit4.class)
+public class HotKeyTrackerTest {
+  private HotKeyTracker tracker;
+
+  @Before
+  public void setUp() {
+    // Exported by the tests rather than on schedule.
+    tracker = HotKeyTracker.create(2, 1, TimeUnit.HOURS, null);
+  }
+
+  @After
+  public void tearDown() {
+    Observability.setHotKeyTracker(null);
+    tracker.close();
+  }
+
+  @Test
+  public void export_findsTopKeysAmongColdOnes() {
+    for (int i = 0; i < 5000; i++) {
+      tracker.record(Commands.GET, "cold" + i, 10);
+      if (i % 5 == 0) tracker.record(Commands.GET, "hot", 100);
+      if (i % 10 == 0) tracker.record(Commands.GET, "warm", 10);
+    }
+
+    List<HotKey> hotKeys = tracker.export();
+    assertThat(hotKeys).hasSize(2);
+    assertThat(hotKeys.get(0).getKey()).isEqualTo("hot");
+    assertThat(hotKeys.get(0).getMethod()).isEqualTo(Commands.GET.getMethod());
+    assertThat(hotKeys.get(1).getKey()).isEqualTo("warm");
+    // 100 bytes per call, give or take the few cold keys sharing counters with "hot".
+    assertThat(hotKeys.get(0).getBytesPerSecond())
+        .isAtLeast(90 * hotKeys.get(0).getCallsPerSecond());
+    assertThat(hotKeys.get(0).getCallsPerSecond())
+        .isGreaterThan(hotKeys.get(1).getCallsPerSecond());
+    assertThat(tracker.getHotKeys()).isEqualTo(hotKeys);
+  }
+
+  @Test
+  public void export_keepsTopKPerMethodAndStartsOver() {
+    for (int i = 0; i < 3; i++) {
+      tracker.record(Commands.GET, "a", 1);
+      tracker.record(Commands.BINARY_SET, SafeEncoder.encode("b"), 1);
+    }
+    tracker.record(Commands.GET, "c", 1);
+    tracker.record(Commands.GET, "d", 1);
+
+    List<HotKey> hotKeys = tracker.export();
+    assertThat(hotKeys).hasSize(3);
+    assertThat(hotKeys.get(0).getKey()).isAnyOf("a", "b");
+    assertThat(hotKeys.get(1).getKey()).isAnyOf("a", "b");
+
+    assertThat(tracker.export()).isEmpty();
+  }
+
+  @Test
+  public void trackingOperations_recordTheirKeys() throws Exception {
+    Observability.setHotKeyTracker(tracker);
+    try (EmbeddedRedisServer server = new EmbeddedRedisServer();
+        OcWrapJedis jedis = new OcWrapJedis(server.getHost(), server.getPort())) {
+      jedis.set("hot", "value");
+      for (int i = 0; i < 10; i++) {
+        jedis.get("hot");
+      }
+      jedis.get("cold");
+    }
+
+    List<HotKey> hotKeys = tracker.export();
+    HotKey top = hotKeys.get(0);
+    assertThat(top.getMethod()).isEqualTo(Commands.GET.getMethod());
+    assertThat(top.getKey()).isEqualTo("hot");
+    assertThat(top.getBytesPerSecond()).isGreaterThan(0.0);
+  }
+
+  @Test
+  public void trackingOperations_skipValuesAndScripts() throws Exception {
+    Observability.setHotKeyTracker(tracker);
+    String script = "return KEYS[1]";
+    try (EmbeddedRedisServer server = new EmbeddedRedisServer();
+        OcWrapJedis jedis = new OcWrapJedis(server.getHost(), server.getPort())) {
+      server.registerScript(script, (keys, args) -> keys.get(0));
+      jedis.mset("first", "value", "second", "value");
+      jedis.mset(SafeEncoder.encode("third"), SafeEncoder.encode("value"));
+      jedis.eval(script, Collections.singletonList("key"), Collections.<String>emptyList());
+    }
+
+    List<String> keys = new ArrayList<String>();
+    for (HotKey hotKey : tracker.export()) {
+      keys.add(hotKey.getKey());
+    }
+    assertThat(keys).containsExactly("first", "second", "third");
+  }
+}
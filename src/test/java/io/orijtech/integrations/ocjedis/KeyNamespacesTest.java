@@ -0,0 +1,74 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.opencensus.tags.TagValue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.util.SafeEncoder;
+
+/** Tests for {@link KeyNamespaces}. */
+@RunWith(JUnit4.class)
+public class KeyNamespacesTest {
+
+  @Test
+  public void namespaceOf_prefersLongestPrefix() {
+    KeyNamespaces namespaces =
+        KeyNamespaces.newBuilder()
+            .addPrefix("session:")
+            .addPrefix("session:admin:")
+            .setDelimiter(':')
+            .build();
+
+    assertThat(namespaces.namespaceOf("session:1234")).isEqualTo(TagValue.create("session:"));
+    assertThat(namespaces.namespaceOf("session:admin:1"))
+        .isEqualTo(TagValue.create("session:admin:"));
+    assertThat(namespaces.namespaceOf(SafeEncoder.encode("session:admin:1")))
+        .isEqualTo(TagValue.create("session:admin:"));
+    assertThat(namespaces.namespaceOf("feature:flags")).isEqualTo(TagValue.create("feature"));
+  }
+
+  @Test
+  public void namespaceOf_withoutMatch_isOther() {
+    KeyNamespaces prefixesOnly = KeyNamespaces.newBuilder().addPrefix("session:").build();
+    assertThat(prefixesOnly.namespaceOf("feature:flags")).isEqualTo(Observability.VALUE_OTHER);
+
+    KeyNamespaces delimited = KeyNamespaces.newBuilder().setDelimiter(':').build();
+    assertThat(delimited.namespaceOf("plain")).isEqualTo(Observability.VALUE_OTHER);
+    assertThat(delimited.namespaceOf(":leading")).isEqualTo(Observability.VALUE_OTHER);
+    assertThat(delimited.namespaceOf(SafeEncoder.encode("plain")))
+        .isEqualTo(Observability.VALUE_OTHER);
+  }
+
+  @Test
+  public void namespaceOf_capsDelimitedNamespaces() {
+    KeyNamespaces namespaces =
+        KeyNamespaces.newBuilder()
+            .addPrefix("fixed:")
+            .setDelimiter(':')
+            .setMaxNamespaces(2)
+            .build();
+
+    assertThat(namespaces.namespaceOf("a:1")).isEqualTo(TagValue.create("a"));
+    assertThat(namespaces.namespaceOf(SafeEncoder.encode("b:1"))).isEqualTo(TagValue.create("b"));
+    assertThat(namespaces.namespaceOf("c:1")).isEqualTo(Observability.VALUE_OVERFLOW);
+    // The namespaces seen before the cap and the prefixes are kept.
+    assertThat(namespaces.namespaceOf("a:2")).isEqualTo(TagValue.create("a"));
+    assertThat(namespaces.namespaceOf("fixed:1")).isEqualTo(TagValue.create("fixed:"));
+  }
+}
@@ -18,6 +18,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyDouble;
 import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -36,13 +37,17 @@ import io.opencensus.tags.TagKey;
 import io.opencensus.tags.TagValue;
 import io.opencensus.tags.Tagger;
 import io.opencensus.trace.AttributeValue;
+import io.opencensus.trace.Sampler;
 import io.opencensus.trace.Span;
 import io.opencensus.trace.SpanBuilder;
 import io.opencensus.trace.Status;
 import io.opencensus.trace.Tracer;
 import io.orijtech.integrations.ocjedis.Observability.TrackingOperation;
+import io.orijtech.integrations.ocjedis.OcClient.WireCounter;
 import java.io.IOException;
+import java.net.URI;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -50,6 +55,7 @@ import org.junit.runners.JUnit4;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import redis.clients.jedis.exceptions.JedisExhaustedPoolException;
 
 /** Tests for {@link Observability}. */
 @RunWith(JUnit4.class)
@@ -77,6 +83,7 @@ public class ObservabilityTest {
     Mockito.when(mockStatsRecorder.newMeasureMap()).thenReturn(mockMeasureMap);
     Mockito.when(mockMeasureMap.put(any(MeasureDouble.class), anyDouble()))
         .thenReturn(mockMeasureMap);
+    Mockito.when(mockMeasureMap.put(any(MeasureLong.class), anyLong())).thenReturn(mockMeasureMap);
     Mockito.doNothing().when(mockMeasureMap).record(any(TagContext.class));
     Mockito.when(mockTracer.spanBuilderWithExplicitParent(anyString(), anyObject()))
         .thenReturn(mockSpanBuilder);
@@ -91,6 +98,8 @@ public class ObservabilityTest {
     assertThat(Observability.ERROR).isEqualTo(TagKey.create("error"));
     assertThat(Observability.STATUS).isEqualTo(TagKey.create("status"));
     assertThat(Observability.DIRECTION).isEqualTo(TagKey.create("type"));
+    assertThat(Observability.KEY_NAMESPACE).isEqualTo(TagKey.create("key_namespace"));
+    assertThat(Observability.COMMAND_KIND).isEqualTo(TagKey.create("command_kind"));
 
     // Check the Tag values.
     assertThat(Observability.VALUE_OK).isEqualTo(TagValue.create("OK"));
@@ -141,6 +150,48 @@ public class ObservabilityTest {
     Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.CALLS_VIEW);
     Mockito.verify(mockViewManager, Mockito.times(1))
         .registerView(Observability.DATA_TRANSFER_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.PIPELINE_DEPTH_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.TRANSACTION_SIZE_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.TRANSACTION_EXEC_LATENCY_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.TRANSACTIONS_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.POOL_WAIT_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.POOL_EXHAUSTED_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.POOL_ACTIVE_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.POOL_IDLE_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.POOL_CONNECTION_LATENCY_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.NEAR_CACHE_LOOKUPS_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.NEAR_CACHE_EVICTIONS_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.NEAR_CACHE_SIZE_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.SCAN_COUNT_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.SCAN_PAGE_RATE_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.SCRIPT_LOAD_LATENCY_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.SCRIPT_MISSES_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.COMPRESSION_RATIO_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.COMPRESSION_TIME_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.COMPRESSION_BYTES_SAVED_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.PUBSUB_MESSAGES_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.PUBSUB_MESSAGE_SIZE_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.PUBSUB_DISPATCH_LATENCY_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1))
+        .registerView(Observability.PUBSUB_HANDLER_LATENCY_VIEW);
+    Mockito.verify(mockViewManager, Mockito.times(1)).registerView(Observability.ROUTED_CALLS_VIEW);
   }
 
   @Test
@@ -171,6 +222,119 @@ public class ObservabilityTest {
     Mockito.verify(mockSpan, Mockito.times(1)).end();
   }
 
+  @Test
+  public void trackingOperation_end_withKeyNamespaces() {
+    Observability.setKeyNamespaces(KeyNamespaces.newBuilder().setDelimiter(':').build());
+    try {
+      TrackingOperation trackingOperation =
+          new TrackingOperation(
+              "get", mockStatsRecorder, mockTagger, mockTracer, "session:1", "feature:2");
+      trackingOperation.attachWireCounter(new WireCounter());
+      trackingOperation.end();
+    } finally {
+      Observability.setKeyNamespaces(null);
+    }
+    // The latency and both directions of the data transferred are tagged with the first key.
+    Mockito.verify(mockTagContextBuilder, Mockito.times(3))
+        .put(eq(Observability.KEY_NAMESPACE), eq(TagValue.create("session")));
+    Mockito.verify(mockTagContextBuilder, Mockito.never())
+        .put(eq(Observability.KEY_NAMESPACE), eq(TagValue.create("feature")));
+  }
+
+  @Test
+  public void trackingOperation_end_withKeyNamespaces_skipsArgumentsThatAreNotKeys() {
+    Observability.setKeyNamespaces(KeyNamespaces.newBuilder().setDelimiter(':').build());
+    try {
+      for (CommandDescriptor command :
+          Arrays.asList(Commands.EVAL, Commands.SCRIPT_LOAD, Commands.PUBLISH)) {
+        TrackingOperation trackingOperation =
+            new TrackingOperation(
+                command.getMethod(), mockStatsRecorder, mockTagger, mockTracer, "script:1");
+        trackingOperation.end();
+      }
+    } finally {
+      Observability.setKeyNamespaces(null);
+    }
+    Mockito.verify(mockTagContextBuilder, Mockito.never())
+        .put(eq(Observability.KEY_NAMESPACE), any(TagValue.class));
+  }
+
+  @Test
+  public void trackingOperation_end_withWireCounter() {
+    TrackingOperation trackingOperation =
+        new TrackingOperation("get", mockStatsRecorder, mockTagger, mockTracer, "key1");
+    trackingOperation.attachWireCounter(new WireCounter());
+    trackingOperation.end();
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.DIRECTION), eq(Observability.VALUE_WRITE));
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.DIRECTION), eq(Observability.VALUE_READ));
+    // The counted bytes replace the key length.
+    Mockito.verify(mockMeasureMap, Mockito.times(2))
+        .put(eq(Observability.MEASURE_DATA_TRANSFERRED), eq(0L));
+    Mockito.verify(mockMeasureMap, Mockito.times(3)).record(any(TagContext.class));
+    Mockito.verify(mockSpan, Mockito.times(1)).end();
+  }
+
+  @Test
+  public void trackingOperation_recordPipelineDepth() {
+    TrackingOperation trackingOperation =
+        new TrackingOperation(
+            "redis.clients.jedis.Pipeline.sync", mockStatsRecorder, mockTagger, mockTracer);
+    trackingOperation.recordPipelineDepth(3);
+    Mockito.verify(mockSpan, Mockito.times(1))
+        .putAttribute(eq("redis.pipeline.depth"), eq(AttributeValue.longAttributeValue(3)));
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.METHOD), eq(TagValue.create("redis.clients.jedis.Pipeline.sync")));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_PIPELINE_DEPTH), eq(3L));
+    Mockito.verify(mockMeasureMap, Mockito.times(1)).record(mockTagContext);
+  }
+
+  @Test
+  public void trackingOperation_recordTransaction_aborted() {
+    TrackingOperation trackingOperation =
+        new TrackingOperation(
+            "redis.clients.jedis.Transaction.exec", mockStatsRecorder, mockTagger, mockTracer);
+    trackingOperation.recordTransaction(2, true);
+    Mockito.verify(mockSpan, Mockito.times(1))
+        .putAttribute(eq("redis.transaction.size"), eq(AttributeValue.longAttributeValue(2)));
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.OUTCOME), eq(Observability.VALUE_ABORTED));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_TRANSACTION_SIZE), eq(2L));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_TRANSACTION_EXEC_LATENCY_MS), anyDouble());
+    Mockito.verify(mockMeasureMap, Mockito.times(1)).record(mockTagContext);
+  }
+
+  @Test
+  public void recordPoolBorrow_exhausted() {
+    Mockito.when(mockTagger.emptyBuilder()).thenReturn(mockTagContextBuilder);
+    TagValue pool = TagValue.create("localhost:6379");
+    Observability.recordPoolBorrow(
+        mockStatsRecorder,
+        mockTagger,
+        pool,
+        2000000L,
+        new JedisExhaustedPoolException("exhausted", null),
+        8,
+        0);
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.STATUS), eq(Observability.VALUE_ERROR));
+    // Both the borrow and the size of the pool are tagged with it.
+    Mockito.verify(mockTagContextBuilder, Mockito.times(2)).put(eq(Observability.POOL), eq(pool));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_POOL_WAIT_MS), eq(2.0));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_POOL_EXHAUSTED), eq(1L));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_POOL_ACTIVE), eq(8L));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_POOL_IDLE), eq(0L));
+    Mockito.verify(mockMeasureMap, Mockito.times(2)).record(mockTagContext);
+  }
+
   @Test
   public void trackingOperation_end_recordException() {
     TrackingOperation trackingOperation =
@@ -181,8 +345,9 @@ public class ObservabilityTest {
     Mockito.verify(mockTagger, Mockito.times(1)).currentBuilder();
     Mockito.verify(mockTagContextBuilder, Mockito.times(1))
         .put(eq(Observability.METHOD), eq(TagValue.create("pubsub")));
+    // The ERROR tag holds the kind of the error, its message is only kept on the span.
     Mockito.verify(mockTagContextBuilder, Mockito.times(1))
-        .put(eq(Observability.ERROR), eq(TagValue.create(exception.toString())));
+        .put(eq(Observability.ERROR), eq(ErrorKind.OTHER));
     Mockito.verify(mockTagContextBuilder, Mockito.times(1))
         .put(eq(Observability.STATUS), eq(Observability.VALUE_ERROR));
     Mockito.verify(mockSpan, Mockito.times(1))
@@ -193,4 +358,150 @@ public class ObservabilityTest {
     Mockito.verify(mockMeasureMap, Mockito.times(1)).record(any(TagContext.class));
     Mockito.verify(mockSpan, Mockito.times(1)).end();
   }
+
+  @Test
+  public void trackingOperation_recordConnectionLatency() {
+    Mockito.when(mockTagger.emptyBuilder()).thenReturn(mockTagContextBuilder);
+    TagValue pool = TagValue.create("localhost:6379");
+    TrackingOperation trackingOperation =
+        new TrackingOperation("makeObject", mockStatsRecorder, mockTagger, mockTracer);
+    trackingOperation.recordConnectionLatency(pool);
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1)).put(eq(Observability.POOL), eq(pool));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_POOL_CONNECTION_LATENCY_MS), anyDouble());
+    Mockito.verify(mockMeasureMap, Mockito.times(1)).record(mockTagContext);
+  }
+
+  @Test
+  public void poolTagValue_uriWithoutPort() {
+    OcJedisFactory factory =
+        OcJedisFactory.create(URI.create("redis://localhost"), 2000, 2000, null, null, null, null);
+    assertThat(factory.poolTagValue()).isEqualTo(TagValue.create("localhost:6379"));
+  }
+
+  @Test
+  public void trackingOperation_end_withoutPropagatingCurrentTags() {
+    Mockito.when(mockTagger.emptyBuilder()).thenReturn(mockTagContextBuilder);
+    Observability.setPropagateCurrentTags(false);
+    try {
+      TrackingOperation trackingOperation =
+          new TrackingOperation("get", mockStatsRecorder, mockTagger, mockTracer, "key1");
+      trackingOperation.end();
+      Mockito.verify(mockTagger, Mockito.never()).currentBuilder();
+      Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+          .put(eq(Observability.STATUS), eq(Observability.VALUE_OK));
+      Mockito.verify(mockMeasureMap, Mockito.times(1)).record(mockTagContext);
+      Mockito.verify(mockSpan, Mockito.times(1)).end();
+    } finally {
+      Observability.setPropagateCurrentTags(true);
+    }
+  }
+
+  @Test
+  public void trackingOperation_sampledOut() {
+    Observability.setSpanSampling(SpanSampling.newBuilder().setProbability(0).build());
+    try {
+      TrackingOperation trackingOperation =
+          new TrackingOperation("get", mockStatsRecorder, mockTagger, mockTracer, "key1");
+      trackingOperation.withSpan().close();
+      trackingOperation.end();
+      Mockito.verify(mockTracer, Mockito.never())
+          .spanBuilderWithExplicitParent(anyString(), anyObject());
+      // The stats are recorded regardless.
+      Mockito.verify(mockMeasureMap, Mockito.times(1))
+          .put(eq(Observability.MEASURE_LATENCY_MS), anyDouble());
+    } finally {
+      Observability.setSpanSampling(null);
+    }
+  }
+
+  @Test
+  public void trackingOperation_sampledByCommand() {
+    Mockito.when(mockSpanBuilder.setSampler(any(Sampler.class))).thenReturn(mockSpanBuilder);
+    Observability.setSpanSampling(
+        SpanSampling.newBuilder().setProbability(0).setProbability("get", 1).build());
+    try {
+      TrackingOperation trackingOperation =
+          new TrackingOperation("get", mockStatsRecorder, mockTagger, mockTracer, "key1");
+      trackingOperation.end();
+      Mockito.verify(mockTracer, Mockito.times(1))
+          .spanBuilderWithExplicitParent(eq("get"), anyObject());
+      Mockito.verify(mockSpan, Mockito.times(1)).end();
+    } finally {
+      Observability.setSpanSampling(null);
+    }
+  }
+
+  @Test
+  public void trackingOperation_sampledOut_slowCallIsTraced() {
+    Mockito.when(mockSpanBuilder.setSampler(any(Sampler.class))).thenReturn(mockSpanBuilder);
+    Observability.setSpanSampling(
+        SpanSampling.newBuilder()
+            .setProbability(0)
+            .setSlowThreshold("redis.clients.jedis.Pipeline.sync", 0, TimeUnit.MILLISECONDS)
+            .build());
+    try {
+      TrackingOperation trackingOperation =
+          new TrackingOperation(
+              "redis.clients.jedis.Pipeline.sync", mockStatsRecorder, mockTagger, mockTracer);
+      trackingOperation.recordPipelineDepth(3);
+      // The span is only created once the operation is known to be slow.
+      Mockito.verify(mockTracer, Mockito.never())
+          .spanBuilderWithExplicitParent(anyString(), anyObject());
+
+      trackingOperation.end();
+      Mockito.verify(mockTracer, Mockito.times(1))
+          .spanBuilderWithExplicitParent(eq("redis.clients.jedis.Pipeline.sync"), anyObject());
+      Mockito.verify(mockSpan, Mockito.times(1))
+          .putAttribute(eq("redis.latency_ns"), any(AttributeValue.class));
+      Mockito.verify(mockSpan, Mockito.times(1))
+          .putAttributes(anyMapOf(String.class, AttributeValue.class));
+      Mockito.verify(mockSpan, Mockito.times(1)).end();
+    } finally {
+      Observability.setSpanSampling(null);
+    }
+  }
+
+  @Test
+  public void trackingOperation_sampledOut_fastCallIsNotTraced() {
+    Observability.setSpanSampling(
+        SpanSampling.newBuilder().setProbability(0).setSlowThreshold(1, TimeUnit.HOURS).build());
+    try {
+      TrackingOperation trackingOperation =
+          new TrackingOperation("get", mockStatsRecorder, mockTagger, mockTracer, "key1");
+      trackingOperation.end();
+      Mockito.verify(mockTracer, Mockito.never())
+          .spanBuilderWithExplicitParent(anyString(), anyObject());
+    } finally {
+      Observability.setSpanSampling(null);
+    }
+  }
+
+  @Test
+  public void commandDescriptor_reusesOkTagContext() {
+    Mockito.when(mockTagger.emptyBuilder()).thenReturn(mockTagContextBuilder);
+    CommandDescriptor command = CommandDescriptor.create("redis.clients.jedis.Jedis.get");
+    assertThat(command.getMethodTagValue())
+        .isEqualTo(TagValue.create("redis.clients.jedis.Jedis.get"));
+    assertThat(command.okTagContext(mockTagger)).isSameAs(mockTagContext);
+    assertThat(command.okTagContext(mockTagger)).isSameAs(mockTagContext);
+    assertThat(command.writeTagContext(mockTagger)).isSameAs(mockTagContext);
+    assertThat(command.readTagContext(mockTagger)).isSameAs(mockTagContext);
+    // The OK, write and read contexts are built together, once.
+    Mockito.verify(mockTagger, Mockito.times(3)).emptyBuilder();
+  }
+
+  @Test
+  public void createRoundtripTrackingSpan_recyclesEndedOperations() {
+    TrackingOperation first = Observability.createRoundtripTrackingSpan(Commands.GET, "key1");
+    first.end();
+    TrackingOperation second = Observability.createRoundtripTrackingSpan(Commands.SET, "key1");
+    assertThat(second).isSameAs(first);
+
+    // Nested calls on the same thread get their own operations.
+    TrackingOperation nested = Observability.createRoundtripTrackingSpan(Commands.GET, "key2");
+    assertThat(nested).isNotSameAs(second);
+    nested.end();
+    second.end();
+  }
 }
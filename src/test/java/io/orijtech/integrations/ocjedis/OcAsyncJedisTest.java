@@ -0,0 +1,119 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.opencensus.common.Scope;
+import io.opencensus.trace.Span;
+import io.opencensus.trace.Tracer;
+import io.opencensus.trace.Tracing;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mockito;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/** Tests for {@link OcAsyncJedis}. */
+@RunWith(JUnit4.class)
+public class OcAsyncJedisTest {
+  private static final Tracer tracer = Tracing.getTracer();
+
+  private EmbeddedRedisServer server;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.close();
+  }
+
+  @Test
+  public void completesFuturesInTheCallersSpan() throws Exception {
+    Span callerSpan = Mockito.mock(Span.class);
+    try (OcAsyncJedis async = new OcAsyncJedis(server.getHost(), server.getPort())) {
+      server.setLatency(20, TimeUnit.MILLISECONDS);
+      CompletableFuture<Span> completedIn;
+      try (Scope ws = tracer.withSpan(callerSpan)) {
+        completedIn = async.get("key").thenApply(value -> tracer.getCurrentSpan());
+      }
+      assertThat(completedIn.get(5, TimeUnit.SECONDS)).isSameAs(callerSpan);
+    }
+  }
+
+  @Test
+  public void errorReply_failsOnlyItsFuture() throws Exception {
+    try (OcAsyncJedis async = new OcAsyncJedis(server.getHost(), server.getPort())) {
+      async.set("key", "not a number");
+      CompletableFuture<Long> incr = async.incr("key");
+      CompletableFuture<String> get = async.get("key");
+      try {
+        incr.get(5, TimeUnit.SECONDS);
+        throw new AssertionError("Expected JedisDataException");
+      } catch (ExecutionException e) {
+        assertThat(e.getCause()).isInstanceOf(JedisDataException.class);
+      }
+      assertThat(get.get(5, TimeUnit.SECONDS)).isEqualTo("not a number");
+    }
+  }
+
+  @Test
+  public void close_failsPendingCommands() throws Exception {
+    server.setLatency(1, TimeUnit.SECONDS);
+    CompletableFuture<String> get;
+    try (OcAsyncJedis async = new OcAsyncJedis(server.getHost(), server.getPort())) {
+      get = async.get("key");
+    }
+    try {
+      get.get(5, TimeUnit.SECONDS);
+      throw new AssertionError("Expected JedisConnectionException");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(JedisConnectionException.class);
+    }
+  }
+
+  @Test
+  public void overdueReply_failsPendingCommandsAndClosesTheConnection() throws Exception {
+    try (OcAsyncJedis async = new OcAsyncJedis(server.getHost(), server.getPort(), 2000, 100)) {
+      assertThat(async.ping().get(5, TimeUnit.SECONDS)).isEqualTo("PONG");
+      server.setLatency(1, TimeUnit.SECONDS);
+      CompletableFuture<String> get = async.get("key");
+      try {
+        get.get(5, TimeUnit.SECONDS);
+        throw new AssertionError("Expected JedisConnectionException");
+      } catch (ExecutionException e) {
+        assertThat(e.getCause()).isInstanceOf(JedisConnectionException.class);
+        assertThat(e.getCause().getCause()).isInstanceOf(SocketTimeoutException.class);
+      }
+      // The connection was closed, later commands fail right away.
+      try {
+        async.ping().get(5, TimeUnit.SECONDS);
+        throw new AssertionError("Expected JedisConnectionException");
+      } catch (ExecutionException e) {
+        assertThat(e.getCause()).isInstanceOf(JedisConnectionException.class);
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/** Tests for {@link OcAutoPipeliningExecutor}. */
+@RunWith(JUnit4.class)
+public class OcAutoPipeliningExecutorTest {
+  private EmbeddedRedisServer server;
+  private OcJedisPool pool;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    pool = new OcJedisPool(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pool.close();
+    server.close();
+  }
+
+  @Test
+  public void submit_waitsForAFullBatch() throws Exception {
+    try (OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 1, 3, 10, TimeUnit.SECONDS)) {
+      CompletableFuture<String> first = executor.submit(pipeline -> pipeline.set("a", "1"));
+      CompletableFuture<String> second = executor.submit(pipeline -> pipeline.set("b", "2"));
+      Thread.sleep(100);
+      assertThat(first.isDone()).isFalse();
+      assertThat(server.getCommandCount("SET")).isEqualTo(0L);
+
+      CompletableFuture<String> third = executor.submit(pipeline -> pipeline.get("a"));
+      assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("OK");
+      assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("OK");
+      assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("1");
+    }
+  }
+
+  @Test
+  public void submit_completesFuturesInOrder() throws Exception {
+    try (OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 2, 8, 1, TimeUnit.MILLISECONDS)) {
+      List<CompletableFuture<Long>> futures = new ArrayList<CompletableFuture<Long>>();
+      for (int i = 0; i < 100; i++) {
+        futures.add(executor.submit(pipeline -> pipeline.incr("counter")));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i + 1L);
+      }
+    }
+  }
+
+  @Test
+  public void submit_failsOnlyTheFailedCommands() throws Exception {
+    try (OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 1, 3, 10, TimeUnit.SECONDS)) {
+      CompletableFuture<String> set = executor.submit(pipeline -> pipeline.set("text", "abc"));
+      CompletableFuture<Long> incr = executor.submit(pipeline -> pipeline.incr("text"));
+      CompletableFuture<String> thrown =
+          executor.submit(
+              pipeline -> {
+                throw new IllegalArgumentException("bad command");
+              });
+
+      assertThat(set.get(5, TimeUnit.SECONDS)).isEqualTo("OK");
+      assertThat(causeOf(incr)).isInstanceOf(JedisDataException.class);
+      assertThat(causeOf(thrown)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  public void failedBatch_discardsItsConnection() throws Exception {
+    try (OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 1, 1, 0, TimeUnit.MILLISECONDS)) {
+      assertThat(executor.submit(pipeline -> pipeline.set("a", "1")).get(5, TimeUnit.SECONDS))
+          .isEqualTo("OK");
+      assertThat(pool.getNumActive()).isEqualTo(1);
+
+      server.close();
+      assertThat(causeOf(executor.submit(pipeline -> pipeline.get("a"))))
+          .isInstanceOf(JedisConnectionException.class);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (pool.getNumActive() != 0) {
+        assertThat(System.nanoTime() < deadline).isTrue();
+        Thread.sleep(5);
+      }
+      assertThat(pool.getNumIdle()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void close_sendsQueuedCommandsAndReturnsConnections() throws Exception {
+    OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 1, 10, 10, TimeUnit.SECONDS);
+    CompletableFuture<String> queued = executor.submit(pipeline -> pipeline.set("a", "1"));
+    executor.close();
+
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("OK");
+    assertThat(pool.getNumActive()).isEqualTo(0);
+    assertThat(causeOf(executor.submit(pipeline -> pipeline.get("a"))))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void submit_failsCommandsThatQueueNothing() throws Exception {
+    try (OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 1, 2, 10, TimeUnit.SECONDS)) {
+      CompletableFuture<String> nothing = executor.submit(pipeline -> null);
+      CompletableFuture<String> set = executor.submit(pipeline -> pipeline.set("a", "1"));
+
+      assertThat(causeOf(nothing)).isInstanceOf(IllegalArgumentException.class);
+      assertThat(set.get(5, TimeUnit.SECONDS)).isEqualTo("OK");
+    }
+  }
+
+  @Test
+  public void submit_failsCommandsThatQueueSeveral() throws Exception {
+    try (OcAutoPipeliningExecutor executor =
+        new OcAutoPipeliningExecutor(pool, 1, 2, 10, TimeUnit.SECONDS)) {
+      CompletableFuture<String> two =
+          executor.submit(
+              pipeline -> {
+                pipeline.set("a", "1");
+                return pipeline.set("b", "2");
+              });
+      CompletableFuture<String> get = executor.submit(pipeline -> pipeline.get("a"));
+
+      assertThat(causeOf(two)).isInstanceOf(IllegalArgumentException.class);
+      assertThat(get.get(5, TimeUnit.SECONDS)).isEqualTo("1");
+    }
+  }
+
+  private static Throwable causeOf(CompletableFuture<?> future) throws Exception {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    }
+    throw new AssertionError("Expected the future to fail");
+  }
+}
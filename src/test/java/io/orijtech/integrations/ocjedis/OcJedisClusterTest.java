@@ -0,0 +1,191 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.exceptions.JedisNoReachableClusterNodeException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+/** Tests for {@link OcJedisCluster}. */
+@RunWith(JUnit4.class)
+public class OcJedisClusterTest {
+  private final List<EmbeddedRedisServer> nodes = new ArrayList<EmbeddedRedisServer>();
+  private OcJedisCluster cluster;
+
+  @Before
+  public void setUp() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      nodes.add(new EmbeddedRedisServer());
+    }
+    assignSlots(0, 5460, 10922);
+    EmbeddedRedisServer seed = nodes.get(0);
+    cluster =
+        new OcJedisCluster(Collections.singleton(new HostAndPort(seed.getHost(), seed.getPort())));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    cluster.close();
+    for (EmbeddedRedisServer node : nodes) {
+      node.close();
+    }
+  }
+
+  @Test
+  public void mget_splitsKeysByNode() {
+    String[] keysvalues = new String[200];
+    String[] keys = new String[100];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = "key" + i;
+      keysvalues[2 * i] = keys[i];
+      keysvalues[2 * i + 1] = "value" + i;
+    }
+    assertThat(cluster.mset(keysvalues)).isEqualTo("OK");
+
+    String[] requested = Arrays.copyOf(keys, keys.length + 1);
+    requested[keys.length] = "missing";
+    List<String> values = cluster.mget(requested);
+    for (int i = 0; i < keys.length; i++) {
+      assertThat(values.get(i)).isEqualTo("value" + i);
+    }
+    assertThat(values.get(keys.length)).isNull();
+
+    // Every node received a pipeline of its own keys only.
+    for (EmbeddedRedisServer node : nodes) {
+      assertThat(node.getCommandCount("MGET")).isGreaterThan(0L);
+    }
+    assertThat(cluster.del(requested)).isEqualTo(100L);
+    assertThat(cluster.get("key0")).isNull();
+  }
+
+  @Test
+  public void mget_keepsHashTagsTogether() {
+    cluster.mset("{user}:name", "ada", "{user}:city", "london");
+
+    assertThat(cluster.mget("{user}:city", "{user}:name"))
+        .containsExactly("london", "ada")
+        .inOrder();
+    long mgets = 0;
+    for (EmbeddedRedisServer node : nodes) {
+      mgets += node.getCommandCount("MGET");
+    }
+    assertThat(mgets).isEqualTo(1L);
+  }
+
+  @Test
+  public void followsMovedRedirections() {
+    cluster.set("key0", "before");
+
+    // Move every slot one node over, as if they were all migrated.
+    for (EmbeddedRedisServer node : nodes) {
+      node.clearSlots();
+      node.flushAll();
+    }
+    assignSlots(5461, 10923, 0);
+
+    assertThat(cluster.set("key0", "after")).isEqualTo("OK");
+    assertThat(cluster.get("key0")).isEqualTo("after");
+    cluster.mset("key1", "one", "key2", "two", "key3", "three");
+    assertThat(cluster.mget("key1", "key2", "key3"))
+        .containsExactly("one", "two", "three")
+        .inOrder();
+    // The slot map was read again after the first redirection.
+    long slotReads = 0;
+    for (EmbeddedRedisServer node : nodes) {
+      slotReads += node.getCommandCount("CLUSTER");
+    }
+    assertThat(slotReads).isAtLeast(2L);
+  }
+
+  @Test
+  public void mget_concurrentCallsBeyondTheFanOutThreads() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      cluster.set("key" + i, "value" + i);
+    }
+    final String[] keys = new String[100];
+    final List<String> expected = new ArrayList<String>();
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = "key" + i;
+      expected.add("value" + i);
+    }
+    // More calls than the two threads per node fan out at once, the rest run on their callers.
+    ExecutorService callers = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<List<String>>> replies = new ArrayList<Future<List<String>>>();
+      for (int i = 0; i < 64; i++) {
+        replies.add(callers.submit(() -> cluster.mget(keys)));
+      }
+      for (Future<List<String>> reply : replies) {
+        assertThat(reply.get(10, TimeUnit.SECONDS)).containsExactlyElementsIn(expected).inOrder();
+      }
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  @Test
+  public void constructor_closesThePoolsOfTheSeedsWhenNoNodeReportsTheSlots() throws Exception {
+    try (EmbeddedRedisServer seed = new EmbeddedRedisServer()) {
+      try {
+        new OcJedisCluster(Collections.singleton(new HostAndPort(seed.getHost(), seed.getPort())));
+        throw new AssertionError("Expected JedisNoReachableClusterNodeException");
+      } catch (JedisNoReachableClusterNodeException e) {
+        // The connection used to read the slots was closed with the pool.
+        assertThat(seed.getCommandCount("QUIT")).isEqualTo(1L);
+      }
+    }
+  }
+
+  @Test
+  public void computesSlotsLikeRedis() {
+    // The reference values of the Redis Cluster specification.
+    assertThat(JedisClusterCRC16.getSlot("123456789")).isEqualTo(12739);
+    assertThat(JedisClusterCRC16.getSlot("{user1000}.following"))
+        .isEqualTo(JedisClusterCRC16.getSlot("{user1000}.followers"));
+  }
+
+  // Assigns three ranges of slots, starting with the first node at 0, then the second node at
+  // second and the third node at third, wrapping around.
+  private void assignSlots(int first, int second, int third) {
+    int[] starts = {first, second, third};
+    for (EmbeddedRedisServer node : nodes) {
+      for (int i = 0; i < 3; i++) {
+        int start = starts[i];
+        int end = starts[(i + 1) % 3] - 1;
+        if (end < start) {
+          node.assignSlots(start, 16383, nodes.get(i));
+          if (end >= 0) node.assignSlots(0, end, nodes.get(i));
+        } else {
+          node.assignSlots(start, end, nodes.get(i));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,207 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+
+/** Tests for {@link OcJedisPubSub}. */
+@RunWith(JUnit4.class)
+public class OcJedisPubSubTest {
+  private EmbeddedRedisServer server;
+  private OcJedisPool pool;
+  private Jedis publisher;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    pool = new OcJedisPool(server.getHost(), server.getPort());
+    publisher = new Jedis(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    publisher.close();
+    pool.close();
+    server.close();
+  }
+
+  // Subscribes subscriber to channels on its own thread, and returns once it is subscribed.
+  private Thread subscribe(final RecordingPubSub subscriber, final String... channels)
+      throws InterruptedException {
+    Thread thread =
+        new Thread(
+            () -> {
+              try (Jedis jedis = pool.getResource()) {
+                jedis.subscribe(subscriber, channels);
+              }
+            });
+    thread.start();
+    assertThat(subscriber.subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+    return thread;
+  }
+
+  @Test
+  public void handlesMessagesOnSubscribingThread() throws Exception {
+    RecordingPubSub subscriber = new RecordingPubSub(3);
+    Thread thread = subscribe(subscriber, "events");
+    for (int i = 0; i < 3; i++) {
+      publisher.publish("events", "message" + i);
+    }
+
+    assertThat(subscriber.handled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(subscriber.messages)
+        .containsExactly("events:message0", "events:message1", "events:message2")
+        .inOrder();
+    assertThat(subscriber.threads).containsExactly(thread.getName());
+    subscriber.unsubscribe();
+    thread.join();
+  }
+
+  @Test
+  public void slowChannel_doesNotHoldBackOtherWorkers() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch slowHandled = new CountDownLatch(1);
+    // "slow" and "fast" are assigned different workers of the two.
+    RecordingPubSub subscriber =
+        new RecordingPubSub(2, 16, 2) {
+          @Override
+          protected void handleMessage(String channel, String message) {
+            if (channel.equals("slow")) {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                throw new AssertionError(e);
+              }
+              messages.add(channel + ":" + message);
+              slowHandled.countDown();
+              return;
+            }
+            super.handleMessage(channel, message);
+          }
+        };
+    Thread thread = subscribe(subscriber, "slow", "fast");
+    publisher.publish("slow", "blocked");
+    publisher.publish("fast", "first");
+    publisher.publish("fast", "second");
+
+    // The messages of "fast" are handled while the handler of "slow" is blocked.
+    assertThat(subscriber.handled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(subscriber.messages).containsExactly("fast:first", "fast:second").inOrder();
+
+    release.countDown();
+    assertThat(slowHandled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(subscriber.messages).contains("slow:blocked");
+    subscriber.unsubscribe();
+    thread.join();
+    subscriber.close();
+  }
+
+  @Test
+  public void workerSurvivesFailingHandler() throws Exception {
+    RecordingPubSub subscriber =
+        new RecordingPubSub(1, 16, 1) {
+          @Override
+          protected void handleMessage(String channel, String message) {
+            if (message.equals("poison")) throw new IllegalStateException("poison");
+            super.handleMessage(channel, message);
+          }
+        };
+    Thread thread = subscribe(subscriber, "events");
+    publisher.publish("events", "poison");
+    publisher.publish("events", "next");
+
+    assertThat(subscriber.handled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(subscriber.messages).containsExactly("events:next");
+    subscriber.unsubscribe();
+    thread.join();
+    subscriber.close();
+  }
+
+  @Test
+  public void close_whileWaitingForRoom_handlesEveryMessage() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    RecordingPubSub subscriber =
+        new RecordingPubSub(1, 1, 3) {
+          @Override
+          protected void handleMessage(String channel, String message) {
+            // Close interrupts the worker, keep it blocked until released anyway.
+            while (message.equals("blocked") && release.getCount() > 0) {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                // Keep waiting.
+              }
+            }
+            super.handleMessage(channel, message);
+          }
+        };
+    Thread thread = subscribe(subscriber, "events");
+    publisher.publish("events", "blocked");
+    publisher.publish("events", "queued");
+    publisher.publish("events", "waiting");
+    // Let the subscribing thread wait for room in the full queue.
+    Thread.sleep(100);
+
+    subscriber.close();
+    release.countDown();
+    assertThat(subscriber.handled.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(subscriber.messages)
+        .containsExactly("events:blocked", "events:queued", "events:waiting");
+    subscriber.unsubscribe();
+    thread.join();
+  }
+
+  private static class RecordingPubSub extends OcJedisPubSub {
+    final CountDownLatch subscribed = new CountDownLatch(1);
+    final CountDownLatch handled;
+    final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+    final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+
+    RecordingPubSub(int expected) {
+      this.handled = new CountDownLatch(expected);
+    }
+
+    RecordingPubSub(int workers, int queueCapacity, int expected) {
+      super(workers, queueCapacity);
+      this.handled = new CountDownLatch(expected);
+    }
+
+    @Override
+    public void onSubscribe(String channel, int subscribedChannels) {
+      subscribed.countDown();
+    }
+
+    @Override
+    protected void handleMessage(String channel, String message) {
+      messages.add(channel + ":" + message);
+      if (!threads.contains(Thread.currentThread().getName())) {
+        threads.add(Thread.currentThread().getName());
+      }
+      handled.countDown();
+    }
+  }
+}
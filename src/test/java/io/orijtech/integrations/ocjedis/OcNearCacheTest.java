@@ -0,0 +1,166 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+
+/** Tests for {@link OcNearCache}. */
+@RunWith(JUnit4.class)
+public class OcNearCacheTest {
+  private EmbeddedRedisServer server;
+  private OcJedisPool pool;
+  private Jedis writer;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    server.setKeyspaceNotifications(true);
+    pool = new OcJedisPool(server.getHost(), server.getPort());
+    writer = new Jedis(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    writer.close();
+    pool.close();
+    server.close();
+  }
+
+  @Test
+  public void get_cachesReplies() throws Exception {
+    writer.set("key", "value");
+    try (OcNearCache cache = newSubscribedCache(100, 1, TimeUnit.HOURS)) {
+      assertThat(cache.get("key")).isEqualTo("value");
+      assertThat(cache.get("key")).isEqualTo("value");
+      assertThat(cache.get("missing")).isNull();
+      assertThat(cache.get("missing")).isNull();
+
+      assertThat(server.getCommandCount("GET")).isEqualTo(2L);
+      assertThat(cache.size()).isEqualTo(2L);
+    }
+  }
+
+  @Test
+  public void get_invalidatedByWrites() throws Exception {
+    writer.set("key", "value");
+    try (OcNearCache cache = newSubscribedCache(100, 1, TimeUnit.HOURS)) {
+      assertThat(cache.get("key")).isEqualTo("value");
+
+      writer.set("key", "updated");
+      awaitSize(cache, 0);
+      assertThat(cache.get("key")).isEqualTo("updated");
+    }
+  }
+
+  @Test
+  public void get_expiresWithKey() throws Exception {
+    writer.set("key", "value");
+    writer.pexpire("key", 50);
+    try (OcNearCache cache = newSubscribedCache(100, 1, TimeUnit.HOURS)) {
+      assertThat(cache.get("key")).isEqualTo("value");
+      Thread.sleep(100);
+
+      assertThat(cache.get("key")).isNull();
+      assertThat(server.getCommandCount("GET")).isEqualTo(2L);
+    }
+  }
+
+  @Test
+  public void hgetAndHgetAll() throws Exception {
+    writer.hset("hash", "a", "1");
+    writer.hset("hash", "b", "2");
+    try (OcNearCache cache = newSubscribedCache(100, 1, TimeUnit.HOURS)) {
+      assertThat(cache.hget("hash", "a")).isEqualTo("1");
+      assertThat(cache.hget("hash", "a")).isEqualTo("1");
+      assertThat(server.getCommandCount("HGET")).isEqualTo(1L);
+
+      assertThat(cache.hgetAll("hash")).containsExactly("a", "1", "b", "2");
+      // The whole hash answers for any of its fields.
+      assertThat(cache.hget("hash", "b")).isEqualTo("2");
+      assertThat(cache.hget("hash", "c")).isNull();
+      assertThat(server.getCommandCount("HGET")).isEqualTo(1L);
+
+      writer.hset("hash", "c", "3");
+      awaitSize(cache, 0);
+      assertThat(cache.hget("hash", "c")).isEqualTo("3");
+    }
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsed() throws Exception {
+    try (OcNearCache cache = newSubscribedCache(4, 1, TimeUnit.HOURS)) {
+      cache.get("hot");
+      cache.get("hot");
+      for (int i = 0; i < 10; i++) {
+        cache.get("cold" + i);
+      }
+      assertThat(cache.size()).isEqualTo(4L);
+
+      // The key read twice was protected from the keys read once.
+      cache.get("hot");
+      assertThat(server.getCommandCount("GET")).isEqualTo(11L);
+    }
+  }
+
+  @Test
+  public void loads_decodeCompressedValues() throws Exception {
+    pool.setValueCompression(OcValueCompression.create(64));
+    StringBuilder large = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      large.append("compressible");
+    }
+    String value = large.toString();
+    try (Jedis jedis = pool.getResource()) {
+      jedis.set("key", value);
+      jedis.hset("hash", "field", value);
+    }
+    // The values are stored compressed.
+    assertThat(writer.get("key")).isNotEqualTo(value);
+
+    try (OcNearCache cache = newSubscribedCache(100, 1, TimeUnit.HOURS)) {
+      assertThat(cache.get("key")).isEqualTo(value);
+      assertThat(cache.get("key")).isEqualTo(value);
+      assertThat(cache.hget("hash", "field")).isEqualTo(value);
+      assertThat(cache.hgetAll("hash")).containsExactly("field", value);
+    }
+  }
+
+  private OcNearCache newSubscribedCache(int maximumSize, long maxTtl, TimeUnit unit)
+      throws InterruptedException {
+    OcNearCache cache = new OcNearCache(pool, maximumSize, maxTtl, unit);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!cache.isSubscribed()) {
+      assertThat(System.nanoTime() < deadline).isTrue();
+      Thread.sleep(5);
+    }
+    return cache;
+  }
+
+  private static void awaitSize(OcNearCache cache, long size) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (cache.size() != size) {
+      assertThat(System.nanoTime() < deadline).isTrue();
+      Thread.sleep(5);
+    }
+  }
+}
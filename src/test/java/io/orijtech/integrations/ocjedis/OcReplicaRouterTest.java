@@ -0,0 +1,115 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+
+/** Tests for {@link OcReplicaRouter}. */
+@RunWith(JUnit4.class)
+public class OcReplicaRouterTest {
+  private EmbeddedRedisServer primaryServer;
+  private EmbeddedRedisServer slowServer;
+  private EmbeddedRedisServer fastServer;
+  private OcJedisPool primary;
+  private OcJedisPool slow;
+  private OcJedisPool fast;
+  private OcReplicaRouter router;
+
+  @Before
+  public void setUp() throws Exception {
+    primaryServer = new EmbeddedRedisServer();
+    slowServer = new EmbeddedRedisServer();
+    fastServer = new EmbeddedRedisServer();
+    primary = new OcJedisPool(primaryServer.getHost(), primaryServer.getPort());
+    slow = new OcJedisPool(slowServer.getHost(), slowServer.getPort());
+    fast = new OcJedisPool(fastServer.getHost(), fastServer.getPort());
+    router = new OcReplicaRouter(primary, Arrays.asList(slow, fast));
+
+    // The embedded servers don't replicate, so every node is given the same data.
+    for (EmbeddedRedisServer server : Arrays.asList(primaryServer, slowServer, fastServer)) {
+      try (Jedis jedis = new Jedis(server.getHost(), server.getPort())) {
+        jedis.set("key", "value");
+      }
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    primary.close();
+    slow.close();
+    fast.close();
+    primaryServer.close();
+    slowServer.close();
+    fastServer.close();
+  }
+
+  @Test
+  public void readsGoToReplicas_writesToPrimary() {
+    long primaryGets = primaryServer.getCommandCount("GET");
+
+    assertThat(router.set("other", "value")).isEqualTo("OK");
+    assertThat(router.get("key")).isEqualTo("value");
+    assertThat(router.hgetAll("missing")).isEmpty();
+
+    assertThat(primaryServer.getCommandCount("SET")).isEqualTo(2L);
+    assertThat(primaryServer.getCommandCount("GET")).isEqualTo(primaryGets);
+    assertThat(primaryServer.getCommandCount("HGETALL")).isEqualTo(0L);
+    assertThat(slowServer.getCommandCount("GET") + fastServer.getCommandCount("GET")).isEqualTo(1L);
+    assertThat(slowServer.getCommandCount("HGETALL") + fastServer.getCommandCount("HGETALL"))
+        .isEqualTo(1L);
+  }
+
+  @Test
+  public void readsPreferTheFasterReplica() {
+    slowServer.setLatency(20, TimeUnit.MILLISECONDS);
+    for (int i = 0; i < 20; i++) {
+      assertThat(router.get("key")).isEqualTo("value");
+    }
+    // The slow replica served at most the read that measured it.
+    assertThat(slowServer.getCommandCount("GET")).isAtMost(1L);
+    assertThat(fastServer.getCommandCount("GET")).isAtLeast(19L);
+    assertThat(router.cost(0)).isGreaterThan(router.cost(1));
+  }
+
+  @Test
+  public void unreachableReplica_fallsBackToPrimary() throws Exception {
+    // Nothing listens on a port that was just released.
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    OcJedisPool unreachable = new OcJedisPool(primaryServer.getHost(), port);
+    try {
+      OcReplicaRouter router =
+          new OcReplicaRouter(primary, Arrays.asList(unreachable), 1, TimeUnit.MINUTES);
+
+      assertThat(router.get("key")).isEqualTo("value");
+      assertThat(primaryServer.getCommandCount("GET")).isEqualTo(1L);
+      assertThat(router.cost(0)).isAtLeast(1e8);
+    } finally {
+      unreachable.close();
+    }
+  }
+}
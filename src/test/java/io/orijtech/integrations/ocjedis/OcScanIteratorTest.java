@@ -0,0 +1,149 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.Tuple;
+
+/** Tests for {@link OcScanIterator}. */
+@RunWith(JUnit4.class)
+public class OcScanIteratorTest {
+  private EmbeddedRedisServer server;
+  private OcJedisPool pool;
+  private Jedis writer;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    pool = new OcJedisPool(server.getHost(), server.getPort());
+    writer = new Jedis(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    writer.close();
+    pool.close();
+    server.close();
+  }
+
+  @Test
+  public void scan_followsCursor() {
+    Set<String> expected = new HashSet<String>();
+    for (int i = 0; i < 95; i++) {
+      writer.set("key" + i, "value");
+      expected.add("key" + i);
+    }
+    writer.set("other", "value");
+
+    Set<String> keys = new HashSet<String>();
+    try (OcScanIterator<String> iterator =
+        OcScanIterator.scan(pool, new ScanParams().match("key*").count(10))) {
+      while (iterator.hasNext()) {
+        assertThat(keys.add(iterator.next())).isTrue();
+      }
+    }
+    assertThat(keys).isEqualTo(expected);
+    assertThat(server.getCommandCount("SCAN")).isEqualTo(10L);
+  }
+
+  @Test
+  public void hscanSscanZscan_iterateAllElements() {
+    Map<String, String> hash = new HashMap<String, String>();
+    for (int i = 0; i < 25; i++) {
+      hash.put("field" + i, "value" + i);
+      writer.sadd("set", "member" + i);
+      writer.zadd("zset", i, "member" + i);
+    }
+    writer.hmset("hash", hash);
+    ScanParams params = new ScanParams().count(4);
+
+    Map<String, String> fields = new HashMap<String, String>();
+    try (OcScanIterator<Map.Entry<String, String>> iterator =
+        OcScanIterator.hscan(pool, "hash", params)) {
+      while (iterator.hasNext()) {
+        Map.Entry<String, String> field = iterator.next();
+        fields.put(field.getKey(), field.getValue());
+      }
+    }
+    assertThat(fields).isEqualTo(hash);
+
+    try (Stream<String> members = OcScanIterator.sscan(pool, "set", params).stream()) {
+      assertThat(members.collect(Collectors.toSet())).isEqualTo(writer.smembers("set"));
+    }
+
+    try (Stream<Tuple> tuples = OcScanIterator.zscan(pool, "zset", params).stream()) {
+      List<Tuple> scanned = tuples.collect(Collectors.toList());
+      assertThat(scanned).hasSize(25);
+      assertThat(new HashSet<Tuple>(scanned))
+          .isEqualTo(new HashSet<Tuple>(writer.zrangeWithScores("zset", 0, -1)));
+    }
+  }
+
+  @Test
+  public void scan_adaptsCount() {
+    for (int i = 0; i < 1000; i++) {
+      writer.set("key" + i, "value");
+    }
+
+    // Every page is far below the target latency, so the count doubles from page to page.
+    AdaptiveScanCount adaptiveCount = AdaptiveScanCount.create(1, TimeUnit.SECONDS, 10, 1000);
+    try (Stream<String> keys = OcScanIterator.scan(pool, null, adaptiveCount).stream()) {
+      assertThat(keys.distinct().count()).isEqualTo(1000L);
+    }
+    // 10 + 20 + 40 + 80 + 160 + 320 + 640 keys.
+    assertThat(server.getCommandCount("SCAN")).isEqualTo(7L);
+  }
+
+  @Test
+  public void close_stopsIteration() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      writer.set("key" + i, "value");
+    }
+
+    try (Stream<String> keys = OcScanIterator.scan(pool, new ScanParams().count(10)).stream()) {
+      assertThat(keys.limit(15).count()).isEqualTo(15L);
+    }
+    // Only the two pages consumed and the one requested ahead of them were read.
+    assertThat(server.getCommandCount("SCAN")).isAtMost(3L);
+    long deadline = System.currentTimeMillis() + 5000;
+    while (pool.getNumActive() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(pool.getNumActive()).isEqualTo(0);
+  }
+
+  @Test
+  public void emptyScan() {
+    try (OcScanIterator<String> iterator = OcScanIterator.scan(pool, null)) {
+      assertThat(iterator.hasNext()).isFalse();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+
+/** Tests for {@link OcScriptRegistry}. */
+@RunWith(JUnit4.class)
+public class OcScriptRegistryTest {
+  private static final String FIRST = "return 1";
+  private static final String SECOND = "return 2";
+
+  private EmbeddedRedisServer server;
+  private OcJedisPool pool;
+  private Jedis admin;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    pool = new OcJedisPool(server.getHost(), server.getPort());
+    admin = new Jedis(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    admin.close();
+    pool.close();
+    server.close();
+  }
+
+  @Test
+  public void setScriptRegistry_loadsScripts() {
+    OcScriptRegistry registry = new OcScriptRegistry();
+    String first = registry.register(FIRST);
+    String second = registry.register(SECOND);
+    assertThat(first).isEqualTo(Scripts.sha1(FIRST));
+
+    pool.setScriptRegistry(registry);
+
+    assertThat(admin.scriptExists(first, second)).isEqualTo(Arrays.asList(true, true));
+    long loads = server.getCommandCount("SCRIPT");
+    try (Jedis jedis = pool.getResource()) {
+      jedis.evalsha(first);
+      jedis.eval(SECOND);
+    }
+    // Neither call missed its script, so none loaded it.
+    assertThat(server.getCommandCount("EVALSHA")).isEqualTo(2L);
+    assertThat(server.getCommandCount("SCRIPT")).isEqualTo(loads);
+  }
+
+  @Test
+  public void newConnections_loadOnlyMissingScripts() {
+    OcScriptRegistry registry = new OcScriptRegistry();
+    String first = registry.register(FIRST);
+    String second = registry.register(SECOND);
+    pool.setScriptRegistry(registry);
+
+    admin.scriptFlush();
+    admin.scriptLoad(FIRST);
+    long before = server.getCommandCount("SCRIPT");
+    try (Jedis idle = pool.getResource();
+        Jedis created = pool.getResource()) {
+      // The second connection borrowed was created for it, next to the one the registry used.
+      assertThat(created).isNotSameAs(idle);
+      assertThat(admin.scriptExists(first, second)).isEqualTo(Arrays.asList(true, true));
+    }
+    // The EXISTS of the created connection, its LOAD of the second script and the EXISTS above.
+    assertThat(server.getCommandCount("SCRIPT")).isEqualTo(before + 3);
+  }
+
+  @Test
+  public void emptyRegistry_sendsNothing() {
+    pool.setScriptRegistry(new OcScriptRegistry());
+    assertThat(server.getCommandCount("SCRIPT")).isEqualTo(0L);
+  }
+}
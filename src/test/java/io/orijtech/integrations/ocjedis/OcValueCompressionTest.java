@@ -0,0 +1,145 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.SafeEncoder;
+
+/** Tests for {@link OcValueCompression}. */
+@RunWith(JUnit4.class)
+public class OcValueCompressionTest {
+  private EmbeddedRedisServer server;
+  private OcJedisPool pool;
+  private Jedis raw;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    pool = new OcJedisPool(server.getHost(), server.getPort());
+    pool.setValueCompression(OcValueCompression.create(1024));
+    raw = new Jedis(server.getHost(), server.getPort());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    raw.close();
+    pool.close();
+    server.close();
+  }
+
+  private static String json(int items) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < items; i++) {
+      if (i > 0) json.append(',');
+      json.append("{\"id\":").append(i).append(",\"name\":\"item\",\"tags\":[\"a\",\"b\"]}");
+    }
+    return json.append(']').toString();
+  }
+
+  @Test
+  public void largeValues_areCompressed() {
+    String value = json(1000);
+    try (Jedis jedis = pool.getResource()) {
+      jedis.set("key", value);
+      jedis.hset("hash", "field", value);
+      jedis.setex("expiring", 60, value);
+
+      assertThat(jedis.get("key")).isEqualTo(value);
+      assertThat(jedis.hget("hash", "field")).isEqualTo(value);
+      assertThat(jedis.get("expiring")).isEqualTo(value);
+      assertThat(jedis.mget("key", "missing")).isEqualTo(Arrays.asList(value, null));
+      assertThat(jedis.hmget("hash", "field")).isEqualTo(Arrays.asList(value));
+    }
+
+    byte[] stored = raw.get(SafeEncoder.encode("key"));
+    assertThat(stored.length).isLessThan(value.length() / 4);
+    assertThat(stored[0]).isEqualTo((byte) 0);
+  }
+
+  @Test
+  public void smallAndExistingValues_areReadAsIs() {
+    raw.set("before", json(100));
+    try (Jedis jedis = pool.getResource()) {
+      jedis.set("small", "value");
+      assertThat(jedis.get("before")).isEqualTo(json(100));
+    }
+    assertThat(raw.get("small")).isEqualTo("value");
+  }
+
+  @Test
+  public void binaryValues_keepTheirHeaderlikeBytes() {
+    byte[] headerlike = {0, 'o', 'c', 1, 42};
+    byte[] incompressible = new byte[4096];
+    new Random(1).nextBytes(incompressible);
+    byte[] key = SafeEncoder.encode("key");
+    try (Jedis jedis = pool.getResource()) {
+      jedis.set(key, headerlike);
+      assertThat(jedis.get(key)).isEqualTo(headerlike);
+      jedis.set(key, incompressible);
+      assertThat(jedis.get(key)).isEqualTo(incompressible);
+    }
+    assertThat(raw.get(key)).isEqualTo(incompressible);
+  }
+
+  @Test
+  public void disabledCompression_readsCompressedValuesAsIs() {
+    String value = json(100);
+    try (Jedis jedis = pool.getResource()) {
+      jedis.set("key", value);
+    }
+    pool.setValueCompression(null);
+    try (Jedis jedis = pool.getResource()) {
+      assertThat(jedis.get("key")).isNotEqualTo(value);
+    }
+  }
+
+  @Test
+  public void unknownCodec_fails() {
+    byte[] key = SafeEncoder.encode("key");
+    raw.set(key, new byte[] {0, 'o', 'c', 7, 1, 2, 3});
+    try (Jedis jedis = pool.getResource()) {
+      jedis.get(key);
+      throw new AssertionError("Expected a JedisDataException");
+    } catch (JedisDataException e) {
+      assertThat(e.getMessage()).contains("unknown codec 7");
+    }
+  }
+
+  @Test
+  public void invalidLengths_areRejected() {
+    byte[] key = SafeEncoder.encode("key");
+    byte[] negative = {0, 'o', 'c', 1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 1, 2};
+    byte[] tooLarge = {0, 'o', 'c', 1, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 1, 2};
+    for (byte[] value : Arrays.asList(negative, tooLarge)) {
+      raw.set(key, value);
+      try (Jedis jedis = pool.getResource()) {
+        jedis.get(key);
+        throw new AssertionError("Expected a JedisDataException");
+      } catch (JedisDataException e) {
+        assertThat(e.getMessage()).contains("invalid length");
+      }
+    }
+  }
+}
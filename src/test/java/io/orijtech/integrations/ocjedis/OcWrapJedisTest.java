@@ -0,0 +1,201 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.orijtech.integrations.ocjedis.HotKeyTracker.HotKey;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.BinaryJedis;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.util.SafeEncoder;
+
+/** Tests for the binary methods of {@link OcWrapJedis}. */
+@RunWith(JUnit4.class)
+public class OcWrapJedisTest {
+  private static final String BINARY_JEDIS_PREFIX = "redis.clients.jedis.BinaryJedis.";
+
+  private EmbeddedRedisServer server;
+  private OcWrapJedis jedis;
+  private HotKeyTracker tracker;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new EmbeddedRedisServer();
+    jedis = new OcWrapJedis(server.getHost(), server.getPort());
+    // Exported by the tests rather than on schedule.
+    tracker = HotKeyTracker.create(10, 1, TimeUnit.HOURS, null);
+    Observability.setHotKeyTracker(tracker);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Observability.setHotKeyTracker(null);
+    tracker.close();
+    jedis.close();
+    server.close();
+  }
+
+  @Test
+  public void binaryDescriptors_nameBinaryJedisMethods() throws Exception {
+    Set<String> binaryJedisMethods = new HashSet<String>();
+    for (Method method : BinaryJedis.class.getMethods()) {
+      binaryJedisMethods.add(method.getName());
+    }
+
+    // e.g. BINARY_HGET_ALL describes BinaryJedis.hgetAll.
+    List<String> mismatched = new ArrayList<String>();
+    for (String field : binaryDescriptorFields()) {
+      String method = descriptor(field).getMethod();
+      String name = method.substring(method.lastIndexOf('.') + 1);
+      if (!method.startsWith(BINARY_JEDIS_PREFIX)
+          || !binaryJedisMethods.contains(name)
+          || !field.replace("_", "").equals("BINARY" + name.toUpperCase(Locale.ROOT))) {
+        mismatched.add(field + " " + method);
+      }
+    }
+    assertThat(mismatched).isEmpty();
+  }
+
+  @Test
+  public void binaryOverrides_haveBinaryDescriptors() throws Exception {
+    Set<String> described = new HashSet<String>();
+    for (String field : binaryDescriptorFields()) {
+      described.add(descriptor(field).getMethod());
+    }
+
+    // The overrides taking byte[] arguments are traced under the BinaryJedis method they override.
+    List<String> undescribed = new ArrayList<String>();
+    for (Method method : OcWrapJedis.class.getDeclaredMethods()) {
+      if (!Modifier.isPublic(method.getModifiers()) || !takesBytes(method)) continue;
+      if (!described.contains(BINARY_JEDIS_PREFIX + method.getName())) {
+        undescribed.add(method.toString());
+      }
+    }
+    assertThat(undescribed).isEmpty();
+  }
+
+  @Test
+  public void mset_roundTripsAndTracksOnlyKeys() {
+    assertThat(jedis.mset(bytes("k1"), bytes("v1"), bytes("k2"), bytes("v2"))).isEqualTo("OK");
+    assertThat(jedis.msetnx(bytes("k2"), bytes("other"), bytes("k3"), bytes("v3"))).isEqualTo(0L);
+    assertThat(jedis.msetnx(bytes("k3"), bytes("v3"), bytes("k4"), bytes("v4"))).isEqualTo(1L);
+
+    assertThat(strings(jedis.mget(bytes("k1"), bytes("k2"), bytes("k3"), bytes("k4"))))
+        .containsExactly("v1", "v2", "v3", "v4")
+        .inOrder();
+    List<HotKey> hotKeys = tracker.export();
+    assertThat(trackedKeys(hotKeys, Commands.BINARY_MSET)).containsExactly("k1", "k2");
+    assertThat(trackedKeys(hotKeys, Commands.BINARY_MSETNX)).containsExactly("k2", "k3", "k4");
+  }
+
+  @Test
+  public void eval_roundTripsWithoutTrackingTheScript() {
+    String script = "return ARGV[1]";
+    server.registerScript(script, (keys, args) -> args.get(0));
+
+    assertThat((byte[]) jedis.eval(bytes(script), 0, bytes("first"))).isEqualTo(bytes("first"));
+    assertThat(
+            (byte[])
+                jedis.eval(
+                    bytes(script),
+                    Collections.singletonList(bytes("key")),
+                    Collections.singletonList(bytes("second"))))
+        .isEqualTo(bytes("second"));
+    assertThat((byte[]) jedis.evalsha(bytes(EmbeddedRedisServer.sha1(script)), 0, bytes("third")))
+        .isEqualTo(bytes("third"));
+    List<HotKey> hotKeys = tracker.export();
+    assertThat(trackedKeys(hotKeys, Commands.BINARY_EVAL)).isEmpty();
+    assertThat(trackedKeys(hotKeys, Commands.BINARY_EVALSHA)).isEmpty();
+  }
+
+  @Test
+  public void scan_roundTripsWithoutTrackingTheCursor() {
+    jedis.mset(bytes("a:1"), bytes("1"), bytes("a:2"), bytes("2"), bytes("b:1"), bytes("3"));
+
+    List<String> keys = new ArrayList<String>();
+    ScanParams params = new ScanParams().match(bytes("a:*")).count(1);
+    byte[] cursor = ScanParams.SCAN_POINTER_START_BINARY;
+    do {
+      ScanResult<byte[]> page = jedis.scan(cursor, params);
+      keys.addAll(strings(page.getResult()));
+      cursor = page.getCursorAsBytes();
+    } while (!SafeEncoder.encode(cursor).equals(ScanParams.SCAN_POINTER_START));
+
+    assertThat(keys).containsExactly("a:1", "a:2");
+    assertThat(trackedKeys(tracker.export(), Commands.BINARY_SCAN)).isEmpty();
+  }
+
+  // Returns the keys of command among hotKeys.
+  private static List<String> trackedKeys(List<HotKey> hotKeys, CommandDescriptor command) {
+    List<String> keys = new ArrayList<String>();
+    for (HotKey hotKey : hotKeys) {
+      if (hotKey.getMethod().equals(command.getMethod())) keys.add(hotKey.getKey());
+    }
+    return keys;
+  }
+
+  private static List<String> strings(List<byte[]> values) {
+    List<String> strings = new ArrayList<String>();
+    for (byte[] value : values) {
+      strings.add(SafeEncoder.encode(value));
+    }
+    return strings;
+  }
+
+  private static byte[] bytes(String s) {
+    return SafeEncoder.encode(s);
+  }
+
+  private static List<String> binaryDescriptorFields() {
+    List<String> fields = new ArrayList<String>();
+    for (Field field : Commands.class.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())
+          && field.getType() == CommandDescriptor.class
+          && field.getName().startsWith("BINARY_")) {
+        fields.add(field.getName());
+      }
+    }
+    return fields;
+  }
+
+  private static CommandDescriptor descriptor(String field) throws Exception {
+    Field declared = Commands.class.getDeclaredField(field);
+    declared.setAccessible(true);
+    return (CommandDescriptor) declared.get(null);
+  }
+
+  private static boolean takesBytes(Method method) {
+    for (Class<?> type : method.getParameterTypes()) {
+      if (type == byte[].class || type == byte[][].class) return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,123 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/** Tests for {@link RespCodec}. */
+@RunWith(JUnit4.class)
+public class RespCodecTest {
+
+  @Test
+  public void encode() {
+    ByteBuffer encoded = RespCodec.encode(Command.GET, bytes("key"));
+
+    assertThat(string(encoded)).isEqualTo("*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n");
+  }
+
+  @Test
+  public void decode_replySplitAcrossChunks() {
+    RespCodec.Decoder decoder = new RespCodec.Decoder();
+    decoder.feed(buffer("$5\r\nhel"));
+    assertThat(decoder.next()).isSameAs(RespCodec.Decoder.INCOMPLETE);
+
+    decoder.feed(buffer("lo\r\n:42\r\n"));
+    assertThat((byte[]) decoder.next()).isEqualTo(bytes("hello"));
+    assertThat(decoder.lastReplyLength()).isEqualTo(11);
+    assertThat(decoder.next()).isEqualTo(42L);
+    assertThat(decoder.next()).isSameAs(RespCodec.Decoder.INCOMPLETE);
+  }
+
+  @Test
+  public void decode_nestedArrayWithNil() {
+    RespCodec.Decoder decoder = new RespCodec.Decoder();
+    decoder.feed(buffer("*2\r\n*1\r\n+OK\r\n$-1\r\n"));
+
+    List<?> reply = (List<?>) decoder.next();
+    assertThat(reply).hasSize(2);
+    assertThat((byte[]) ((List<?>) reply.get(0)).get(0)).isEqualTo(bytes("OK"));
+    assertThat(reply.get(1)).isNull();
+  }
+
+  @Test
+  public void decode_error() {
+    RespCodec.Decoder decoder = new RespCodec.Decoder();
+    decoder.feed(buffer("-ERR unknown command\r\n"));
+
+    Object reply = decoder.next();
+    assertThat(reply).isInstanceOf(JedisDataException.class);
+    assertThat(((JedisDataException) reply).getMessage()).isEqualTo("ERR unknown command");
+  }
+
+  @Test
+  public void decode_replyLargerThanBuffer() {
+    byte[] value = new byte[100 * 1024];
+    Arrays.fill(value, (byte) 'x');
+    RespCodec.Decoder decoder = new RespCodec.Decoder();
+    decoder.feed(buffer("+OK\r\n$" + value.length + "\r\n"));
+    assertThat(decoder.next()).isNotNull();
+    for (int i = 0; i < value.length; i += 4096) {
+      decoder.feed(ByteBuffer.wrap(value, i, Math.min(4096, value.length - i)));
+    }
+    decoder.feed(buffer("\r\n"));
+
+    assertThat((byte[]) decoder.next()).isEqualTo(value);
+  }
+
+  @Test
+  public void decode_largeArrayFedByteByByte() {
+    StringBuilder encoded = new StringBuilder("*1000\r\n");
+    for (int i = 0; i < 1000; i++) {
+      encoded.append("$").append(Integer.toString(i).length()).append("\r\n").append(i);
+      encoded.append("\r\n");
+    }
+    byte[] reply = bytes(encoded.toString());
+    RespCodec.Decoder decoder = new RespCodec.Decoder();
+    for (int i = 0; i < reply.length - 1; i++) {
+      decoder.feed(ByteBuffer.wrap(reply, i, 1));
+      assertThat(decoder.next()).isSameAs(RespCodec.Decoder.INCOMPLETE);
+    }
+    decoder.feed(ByteBuffer.wrap(reply, reply.length - 1, 1));
+
+    List<?> elements = (List<?>) decoder.next();
+    assertThat(elements).hasSize(1000);
+    assertThat((byte[]) elements.get(999)).isEqualTo(bytes("999"));
+    assertThat(decoder.lastReplyLength()).isEqualTo(reply.length);
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static ByteBuffer buffer(String s) {
+    return ByteBuffer.wrap(bytes(s));
+  }
+
+  private static String string(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
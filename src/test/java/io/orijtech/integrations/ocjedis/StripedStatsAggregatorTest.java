@@ -0,0 +1,158 @@
+// Copyright 2018, OpenCensus Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.orijtech.integrations.ocjedis;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+
+import io.opencensus.stats.Measure.MeasureDouble;
+import io.opencensus.stats.Measure.MeasureLong;
+import io.opencensus.stats.MeasureMap;
+import io.opencensus.stats.StatsRecorder;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagContextBuilder;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+/** Tests for {@link StripedStatsAggregator}. */
+@RunWith(JUnit4.class)
+public class StripedStatsAggregatorTest {
+
+  @Mock private Tagger mockTagger;
+  @Mock private StatsRecorder mockStatsRecorder;
+  @Mock private MeasureMap mockMeasureMap;
+  @Mock private TagContextBuilder mockTagContextBuilder;
+  @Mock private TagContext mockTagContext;
+
+  private StripedStatsAggregator aggregator;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    Mockito.when(mockTagger.emptyBuilder()).thenReturn(mockTagContextBuilder);
+    Mockito.when(mockTagContextBuilder.put(any(TagKey.class), any(TagValue.class)))
+        .thenReturn(mockTagContextBuilder);
+    Mockito.when(mockTagContextBuilder.build()).thenReturn(mockTagContext);
+    Mockito.when(mockStatsRecorder.newMeasureMap()).thenReturn(mockMeasureMap);
+    Mockito.when(mockMeasureMap.put(any(MeasureDouble.class), anyDouble()))
+        .thenReturn(mockMeasureMap);
+    Mockito.when(mockMeasureMap.put(any(MeasureLong.class), anyLong())).thenReturn(mockMeasureMap);
+    aggregator = new StripedStatsAggregator(mockStatsRecorder, mockTagger, 4);
+  }
+
+  @Test
+  public void flush_recordsBucketMeans() {
+    // 1.6ms and 1.8ms share the [1.5ms, 2ms) bucket, 30ms is alone in [25ms, 50ms).
+    aggregator.recordLatency(Commands.GET, null, 1600000L);
+    aggregator.recordLatency(Commands.GET, null, 1800000L);
+    aggregator.recordLatency(Commands.GET, null, 30000000L);
+    aggregator.flush();
+
+    Mockito.verify(mockMeasureMap, Mockito.times(2))
+        .put(eq(Observability.MEASURE_LATENCY_MS), eq(1.7));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_LATENCY_MS), eq(30.0));
+    Mockito.verify(mockMeasureMap, Mockito.times(3)).record(mockTagContext);
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.STATUS), eq(Observability.VALUE_OK));
+  }
+
+  @Test
+  public void flush_keepsBytesSumExact() {
+    aggregator.recordBytesWritten(Commands.SET, null, 3);
+    aggregator.recordBytesWritten(Commands.SET, null, 4);
+    aggregator.recordBytesWritten(Commands.SET, null, 4);
+    aggregator.flush();
+
+    Mockito.verify(mockTagContextBuilder, Mockito.times(1))
+        .put(eq(Observability.DIRECTION), eq(Observability.VALUE_WRITE));
+    // 11 bytes over 3 values in the [0B, 1KB) bucket.
+    Mockito.verify(mockMeasureMap, Mockito.times(2))
+        .put(eq(Observability.MEASURE_DATA_TRANSFERRED), eq(4L));
+    Mockito.verify(mockMeasureMap, Mockito.times(1))
+        .put(eq(Observability.MEASURE_DATA_TRANSFERRED), eq(3L));
+  }
+
+  @Test
+  public void flush_drainsAccumulatedValues() {
+    aggregator.recordLatency(Commands.GET, null, 1000000L);
+    aggregator.flush();
+    aggregator.flush();
+
+    Mockito.verify(mockStatsRecorder, Mockito.times(1)).newMeasureMap();
+  }
+
+  @Test
+  public void flush_tagsNamespacedCallsApart() {
+    TagValue namespace = TagValue.create("session");
+    aggregator.recordLatency(Commands.GET, null, 1000000L);
+    aggregator.recordLatency(Commands.GET, namespace, 1000000L);
+    aggregator.recordLatency(Commands.GET, namespace, 1000000L);
+    aggregator.flush();
+
+    Mockito.verify(mockTagContextBuilder, Mockito.times(2))
+        .put(eq(Observability.STATUS), eq(Observability.VALUE_OK));
+    Mockito.verify(mockTagContextBuilder, Mockito.times(3))
+        .put(eq(Observability.KEY_NAMESPACE), eq(namespace));
+    Mockito.verify(mockMeasureMap, Mockito.times(3)).record(mockTagContext);
+  }
+
+  @Test
+  public void flush_concurrentWithRecording_keepsMeansExact() throws Exception {
+    final AtomicLong values = new AtomicLong();
+    final AtomicLong inexact = new AtomicLong();
+    Mockito.when(mockMeasureMap.put(eq(Observability.MEASURE_DATA_TRANSFERRED), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              values.incrementAndGet();
+              if ((Long) invocation.getArguments()[1] != 7L) inexact.incrementAndGet();
+              return mockMeasureMap;
+            });
+    int threads = 4;
+    int valuesPerThread = 20000;
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      new Thread(
+              () -> {
+                for (int i = 0; i < valuesPerThread; i++) {
+                  aggregator.recordBytesRead(Commands.GET, null, 7);
+                }
+                done.countDown();
+              })
+          .start();
+    }
+    while (!done.await(1, TimeUnit.MILLISECONDS)) {
+      aggregator.flush();
+    }
+    aggregator.flush();
+
+    assertThat(values.get()).isEqualTo((long) threads * valuesPerThread);
+    assertThat(inexact.get()).isEqualTo(0L);
+  }
+}